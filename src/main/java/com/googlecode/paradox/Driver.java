@@ -23,7 +23,7 @@ import java.util.logging.Logger;
  * PARADOX JDBC Driver type 4.
  *
  * @author Leonardo Alves da Costa
- * @version 2.2
+ * @version 2.4
  * @since 1.0
  */
 @SuppressWarnings("squid:S2176")
@@ -31,6 +31,37 @@ public final class Driver implements java.sql.Driver {
 
     public static final String CHARSET_KEY = "charset";
 
+    /**
+     * Block reader property name ("channel" or "mmap").
+     */
+    public static final String BLOCK_READER_KEY = "block_reader";
+
+    /**
+     * Parallel table scan property name ("true" or "false").
+     */
+    public static final String PARALLEL_SCAN_KEY = "parallel_scan";
+
+    /**
+     * Shared block cache size property name (in bytes, zero to not use the cache). The cache is process wide and is
+     * sized once, by the first connection that sets this property.
+     */
+    public static final String BLOCK_CACHE_SIZE_KEY = "block_cache_size";
+
+    /**
+     * Blob block cache property name ("lru", "soft", "all" or "none").
+     */
+    public static final String BLOB_CACHE_KEY = "blob_cache";
+
+    /**
+     * Blob block cache size property name (in bytes, for the "lru" cache of each table).
+     */
+    public static final String BLOB_CACHE_SIZE_KEY = "blob_cache_size";
+
+    /**
+     * Memory budget property name for each query operator, like the hash join (in bytes).
+     */
+    public static final String WORK_MEMORY_KEY = "work_memory";
+
     /**
      * Logger instance for this class.
      */
@@ -104,7 +135,41 @@ public final class Driver implements java.sql.Driver {
         passwordProp.required = false;
         passwordProp.description = "Password to use for authentication";
 
-        return new DriverPropertyInfo[]{charset, passwordProp};
+        final DriverPropertyInfo blockReader = new DriverPropertyInfo(BLOCK_READER_KEY,
+                info.getProperty(BLOCK_READER_KEY));
+        blockReader.required = false;
+        blockReader.description = "How the table blocks are read";
+        blockReader.choices = new String[]{"channel", "mmap"};
+
+        final DriverPropertyInfo parallelScan = new DriverPropertyInfo(PARALLEL_SCAN_KEY,
+                info.getProperty(PARALLEL_SCAN_KEY));
+        parallelScan.required = false;
+        parallelScan.description = "Decode the table blocks in parallel";
+        parallelScan.choices = new String[]{"false", "true"};
+
+        final DriverPropertyInfo blockCacheSize = new DriverPropertyInfo(BLOCK_CACHE_SIZE_KEY,
+                info.getProperty(BLOCK_CACHE_SIZE_KEY));
+        blockCacheSize.required = false;
+        blockCacheSize.description = "Process wide table block cache size in bytes, set once by the first "
+                + "connection (zero to not use the cache)";
+
+        final DriverPropertyInfo blobCache = new DriverPropertyInfo(BLOB_CACHE_KEY, info.getProperty(BLOB_CACHE_KEY));
+        blobCache.required = false;
+        blobCache.description = "How the blob blocks are cached";
+        blobCache.choices = new String[]{"lru", "soft", "all", "none"};
+
+        final DriverPropertyInfo blobCacheSize = new DriverPropertyInfo(BLOB_CACHE_SIZE_KEY,
+                info.getProperty(BLOB_CACHE_SIZE_KEY));
+        blobCacheSize.required = false;
+        blobCacheSize.description = "Blob block cache size in bytes for each table (lru cache only)";
+
+        final DriverPropertyInfo workMemory = new DriverPropertyInfo(WORK_MEMORY_KEY,
+                info.getProperty(WORK_MEMORY_KEY));
+        workMemory.required = false;
+        workMemory.description = "Memory in bytes of each query operator before using temporary files";
+
+        return new DriverPropertyInfo[]{charset, passwordProp, blockReader, parallelScan, blockCacheSize, blobCache,
+            blobCacheSize, workMemory};
     }
 
     /**
@@ -8,7 +8,13 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.data.TableCatalog;
+import com.googlecode.paradox.data.block.BlockCache;
+import com.googlecode.paradox.data.block.BlockReaderType;
 import com.googlecode.paradox.metadata.ParadoxDatabaseMetaData;
+import com.googlecode.paradox.utils.BlobCacheType;
+import com.googlecode.paradox.utils.IBlockCache;
+import com.googlecode.paradox.utils.LruBlockCache;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.DirectoryFilter;
@@ -40,11 +46,16 @@ import java.util.concurrent.Executor;
  * JDBC Paradox connection implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.0
  */
 public final class ParadoxConnection implements Connection {
 
+    /**
+     * Default memory budget of each query operator (16 MiB).
+     */
+    public static final long DEFAULT_WORK_MEMORY = 16L * 1024 * 1024;
+
     /**
      * Database catalog.
      */
@@ -97,6 +108,34 @@ public final class ParadoxConnection implements Connection {
      * Default charset.
      */
     private Charset charset = Charset.forName("Cp437");
+    /**
+     * How the table blocks are read.
+     */
+    private BlockReaderType blockReaderType = BlockReaderType.CHANNEL;
+    /**
+     * If the table blocks are decoded in parallel.
+     */
+    private boolean parallelScan;
+    /**
+     * If the table blocks are read through the shared block cache.
+     */
+    private boolean blockCacheEnabled;
+    /**
+     * How the blob blocks are cached.
+     */
+    private BlobCacheType blobCacheType = BlobCacheType.LRU;
+    /**
+     * The blob block cache size of each table.
+     */
+    private long blobCacheSize = LruBlockCache.DEFAULT_MAX_SIZE;
+    /**
+     * The memory budget of each query operator.
+     */
+    private long workMemory = DEFAULT_WORK_MEMORY;
+    /**
+     * The parsed table headers.
+     */
+    private final TableCatalog tableCatalog = new TableCatalog(this);
 
     /**
      * Creates a new paradox connection.
@@ -118,6 +157,52 @@ public final class ParadoxConnection implements Connection {
             this.charset = Charset.forName(charsetName);
         }
 
+        final String blockReaderName = info.getProperty(Driver.BLOCK_READER_KEY);
+        if (blockReaderName != null && !blockReaderName.trim().isEmpty()) {
+            this.blockReaderType = BlockReaderType.fromName(blockReaderName);
+        }
+
+        this.parallelScan = Boolean.parseBoolean(info.getProperty(Driver.PARALLEL_SCAN_KEY));
+
+        final String blockCacheSize = info.getProperty(Driver.BLOCK_CACHE_SIZE_KEY);
+        if (blockCacheSize != null && !blockCacheSize.trim().isEmpty()) {
+            try {
+                final long size = Long.parseLong(blockCacheSize.trim());
+                if (size > 0) {
+                    // The cache is shared by all connections, only the first one sets its size.
+                    this.blockCacheEnabled = BlockCache.getInstance().configure(size);
+                }
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid block cache size: " + blockCacheSize,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+        }
+
+        final String blobCacheName = info.getProperty(Driver.BLOB_CACHE_KEY);
+        if (blobCacheName != null && !blobCacheName.trim().isEmpty()) {
+            this.blobCacheType = BlobCacheType.fromName(blobCacheName);
+        }
+
+        final String blobCacheSizeValue = info.getProperty(Driver.BLOB_CACHE_SIZE_KEY);
+        if (blobCacheSizeValue != null && !blobCacheSizeValue.trim().isEmpty()) {
+            try {
+                this.blobCacheSize = Long.parseLong(blobCacheSizeValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid blob cache size: " + blobCacheSizeValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+        }
+
+        final String workMemoryValue = info.getProperty(Driver.WORK_MEMORY_KEY);
+        if (workMemoryValue != null && !workMemoryValue.trim().isEmpty()) {
+            try {
+                this.workMemory = Long.parseLong(workMemoryValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid work memory: " + workMemoryValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+        }
+
         // Is a schema.
         this.schema = dir;
         this.catalog = dir.getParentFile();
@@ -624,6 +709,60 @@ public final class ParadoxConnection implements Connection {
         return charset;
     }
 
+    /**
+     * Gets how the table blocks are read.
+     *
+     * @return the block reader type.
+     */
+    public BlockReaderType getBlockReaderType() {
+        return blockReaderType;
+    }
+
+    /**
+     * Gets the memory budget of each query operator, like the hash join. The operators use temporary files above it.
+     *
+     * @return the memory budget in bytes.
+     */
+    public long getWorkMemory() {
+        return workMemory;
+    }
+
+    /**
+     * Gets if the table blocks are decoded in parallel.
+     *
+     * @return true if the table blocks are decoded in parallel.
+     */
+    public boolean isParallelScan() {
+        return parallelScan;
+    }
+
+    /**
+     * Gets if the table blocks are read through the shared block cache.
+     *
+     * @return true if the shared block cache is used.
+     */
+    public boolean isBlockCacheEnabled() {
+        return blockCacheEnabled;
+    }
+
+    /**
+     * Creates a new blob block cache for a table, as configured in this connection.
+     *
+     * @return the new blob block cache.
+     */
+    public IBlockCache createBlobCache() {
+        return blobCacheType.create(blobCacheSize);
+    }
+
+    /**
+     * Gets the parsed table headers of this connection.
+     *
+     * @return the table catalog.
+     */
+    public TableCatalog getTableCatalog() {
+        return tableCatalog;
+    }
+
     /**
      * {@inheritDoc}.
      */
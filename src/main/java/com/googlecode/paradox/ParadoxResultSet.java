@@ -8,19 +8,28 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
 import com.googlecode.paradox.data.table.value.ClobDescriptor;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxResultSetMetaData;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.rowset.ColumnarCursor;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import com.googlecode.paradox.rowset.ParadoxBlob;
 import com.googlecode.paradox.rowset.ParadoxClob;
+import com.googlecode.paradox.rowset.RowCursor;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -38,6 +47,7 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
@@ -48,7 +58,7 @@ import java.util.Map;
  * JDBC ResultSet implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.5
  * @since 1.0
  */
 public final class ParadoxResultSet implements ResultSet {
@@ -94,9 +104,29 @@ public final class ParadoxResultSet implements ResultSet {
      */
     private final ParadoxStatement statement;
     /**
-     * The list of all {@link ResultSet} rows.
+     * The row source of this {@link ResultSet}.
      */
-    private final List<List<FieldValue>> values;
+    private final RowCursor cursor;
+    /**
+     * The current row values (created on demand).
+     */
+    private List<FieldValue> currentRow;
+    /**
+     * If the cursor is in a valid row.
+     */
+    private boolean onRow;
+    /**
+     * If the last value read from a column vector was null.
+     */
+    private boolean lastNull;
+    /**
+     * The amount of rows (-1 while unknown).
+     */
+    private int size = -1;
+    /**
+     * The maximum number of rows (zero for no limit).
+     */
+    private final int maxRows;
 
     /**
      * Creates a new {@link ResultSet}.
@@ -108,8 +138,26 @@ public final class ParadoxResultSet implements ResultSet {
      */
     public ParadoxResultSet(final ParadoxConnection conn, final ParadoxStatement statement,
             final List<List<FieldValue>> values, final List<Column> columns) {
+        this(conn, statement, new ListRowCursor(values), columns);
+    }
+
+    /**
+     * Creates a new {@link ResultSet} reading the rows on demand.
+     *
+     * @param conn      the database connection.
+     * @param statement the {@link Statement} for this {@link ResultSet}.
+     * @param cursor    the row source.
+     * @param columns   the columns name.
+     */
+    public ParadoxResultSet(final ParadoxConnection conn, final ParadoxStatement statement, final RowCursor cursor,
+            final List<Column> columns) {
         this.statement = statement;
-        this.values = Collections.unmodifiableList(values);
+        this.cursor = cursor;
+        if (statement != null) {
+            this.maxRows = statement.getMaxRows();
+        } else {
+            this.maxRows = 0;
+        }
         this.columns = Collections.unmodifiableList(columns);
         this.conn = conn;
 
@@ -125,35 +173,34 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean absolute(final int row) {
+    public boolean absolute(final int row) throws SQLException {
         if (row < 0) {
-            if ((row + this.values.size()) < 0) {
+            final int rows = this.getSize();
+            if ((row + rows) < 0) {
                 return false;
             }
-            this.position = this.values.size() + row;
-        } else {
-            if (row > this.values.size()) {
-                return false;
-            }
-            this.position = row - 1;
+            return this.moveTo(rows + row);
         }
-        return true;
+        this.moveTo(row - 1);
+        return (row == 0) || this.onRow;
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public void afterLast() {
-        this.position = this.values.size();
+    public void afterLast() throws SQLException {
+        while (this.next()) {
+            // Reads until the end.
+        }
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public void beforeFirst() {
-        this.position = -1;
+    public void beforeFirst() throws SQLException {
+        this.moveTo(-1);
     }
 
     /**
@@ -183,6 +230,9 @@ public final class ParadoxResultSet implements ResultSet {
             }
             this.clearClob();
         }
+        this.cursor.close();
+        this.currentRow = null;
+        this.onRow = false;
         this.closed = true;
     }
 
@@ -211,13 +261,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean first() {
-        if (this.values.isEmpty()) {
-            return false;
-        }
-        this.position = 0;
-        this.clearClob();
-        return true;
+    public boolean first() throws SQLException {
+        return this.moveTo(0);
     }
 
     /**
@@ -240,7 +285,13 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public InputStream getAsciiStream(final int columnIndex) {
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        final Object val = this.getObject(columnIndex);
+        if (val instanceof ClobDescriptor) {
+            return this.getClob(columnIndex).getAsciiStream();
+        } else if (val != null) {
+            return new ByteArrayInputStream(val.toString().getBytes(StandardCharsets.US_ASCII));
+        }
         return null;
     }
 
@@ -299,7 +350,11 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public InputStream getBinaryStream(final int columnIndex) {
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        final Blob blob = this.getBlob(columnIndex);
+        if (blob != null) {
+            return blob.getBinaryStream();
+        }
         return null;
     }
 
@@ -315,7 +370,15 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public Blob getBlob(final int columnIndex) {
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        final Object val = this.getObject(columnIndex);
+        if (val != null) {
+            if (val instanceof BlobDescriptor) {
+                return new ParadoxBlob((BlobDescriptor) val);
+            } else {
+                throw new SQLException("Filed isn't blob type", SQLStates.INVALID_FIELD_VALUE.getValue());
+            }
+        }
         return null;
     }
 
@@ -323,8 +386,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public Blob getBlob(final String columnLabel) {
-        return null;
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        return this.getBlob(this.findColumn(columnLabel));
     }
 
     /**
@@ -334,7 +397,7 @@ public final class ParadoxResultSet implements ResultSet {
     public boolean getBoolean(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -360,7 +423,7 @@ public final class ParadoxResultSet implements ResultSet {
     public byte getByte(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -400,7 +463,13 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public Reader getCharacterStream(final int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        final Object val = this.getObject(columnIndex);
+        if (val instanceof ClobDescriptor) {
+            return this.getClob(columnIndex).getCharacterStream();
+        } else if (val != null) {
+            return new StringReader(val.toString());
+        }
+        return null;
     }
 
     /**
@@ -469,7 +538,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Date getDate(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -507,8 +576,15 @@ public final class ParadoxResultSet implements ResultSet {
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
         this.verifyRow();
+        final ColumnVector vector = this.getVector(columnIndex);
+        if (vector != null) {
+            if (this.lastNull) {
+                return 0;
+            }
+            return vector.getDouble(((ColumnarCursor) this.cursor).getBatchRow());
+        }
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -550,7 +626,7 @@ public final class ParadoxResultSet implements ResultSet {
     public float getFloat(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -583,8 +659,15 @@ public final class ParadoxResultSet implements ResultSet {
     @Override
     public int getInt(final int columnIndex) throws SQLException {
         this.verifyRow();
+        final ColumnVector vector = this.getVector(columnIndex);
+        if (vector != null) {
+            if (this.lastNull) {
+                return 0;
+            }
+            return vector.getInt(((ColumnarCursor) this.cursor).getBatchRow());
+        }
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -609,8 +692,15 @@ public final class ParadoxResultSet implements ResultSet {
     @Override
     public long getLong(final int columnIndex) throws SQLException {
         this.verifyRow();
+        final ColumnVector vector = this.getVector(columnIndex);
+        if (vector != null) {
+            if (this.lastNull) {
+                return 0;
+            }
+            return vector.getLong(((ColumnarCursor) this.cursor).getBatchRow());
+        }
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -692,7 +782,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Object getObject(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -789,7 +879,7 @@ public final class ParadoxResultSet implements ResultSet {
     public short getShort(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -839,7 +929,7 @@ public final class ParadoxResultSet implements ResultSet {
     public String getString(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -871,7 +961,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Time getTime(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -910,7 +1000,7 @@ public final class ParadoxResultSet implements ResultSet {
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
@@ -992,11 +1082,21 @@ public final class ParadoxResultSet implements ResultSet {
 
     /**
      * Gets the all row values.
+     * <p>
+     * This method reads all rows of the source, so avoid it in large results.
      *
      * @return the row values.
-     */
-    public List<List<FieldValue>> getValues() {
-        return Collections.unmodifiableList(this.values);
+     * @throws SQLException in case of reading errors.
+     */
+    public List<List<FieldValue>> getValues() throws SQLException {
+        final int current = this.position;
+        final List<List<FieldValue>> ret = new ArrayList<>();
+        this.moveTo(-1);
+        while (this.next()) {
+            ret.add(this.getCurrentRow());
+        }
+        this.moveTo(current);
+        return Collections.unmodifiableList(ret);
     }
 
     /**
@@ -1020,7 +1120,7 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public boolean isAfterLast() {
-        return this.position >= this.values.size();
+        return (this.size >= 0) && (this.position >= this.size);
     }
 
     /**
@@ -1051,8 +1151,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean isLast() {
-        return (this.position + 1) == this.values.size();
+    public boolean isLast() throws SQLException {
+        return this.onRow && ((this.position + 1) == this.getSize());
     }
 
     /**
@@ -1067,13 +1167,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean last() {
-        if (this.values.isEmpty()) {
-            return false;
-        }
-        this.position = this.values.size() - 1;
-        this.clearClob();
-        return true;
+    public boolean last() throws SQLException {
+        return this.moveTo(this.getSize() - 1);
     }
 
     /**
@@ -1096,12 +1191,21 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean next() {
-        this.position++;
-        if (this.hasNext()) {
-            this.clearClob();
+    public boolean next() throws SQLException {
+        if (this.isAfterLast()) {
+            return false;
+        }
+        this.clearClob();
+        if (((this.maxRows == 0) || ((this.position + 1) < this.maxRows)) && this.cursor.next()) {
+            this.position++;
+            this.currentRow = null;
+            this.onRow = true;
             return true;
         }
+        this.size = this.position + 1;
+        this.position = this.size;
+        this.currentRow = null;
+        this.onRow = false;
         return false;
     }
 
@@ -1109,11 +1213,9 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean previous() {
+    public boolean previous() throws SQLException {
         if (this.position > -1) {
-            this.position--;
-            this.clearClob();
-            return true;
+            return this.moveTo(this.position - 1);
         }
         return false;
     }
@@ -1854,6 +1956,9 @@ public final class ParadoxResultSet implements ResultSet {
         if (this.closed) {
             throw new SQLException("Closed result set.", SQLStates.RESULTSET_CLOSED.getValue());
         }
+        if (this.lastValue == null) {
+            return this.lastNull;
+        }
         return this.lastValue.isNull();
     }
 
@@ -1866,8 +1971,40 @@ public final class ParadoxResultSet implements ResultSet {
         }
     }
 
-    private boolean hasNext() {
-        return (this.values != null) && (this.position < this.values.size());
+    /**
+     * Moves the cursor to the row index, rewinding the source if needed.
+     *
+     * @param target the zero based row index (-1 is before first row).
+     * @return true if the cursor is in a valid row.
+     * @throws SQLException in case of reading errors.
+     */
+    private boolean moveTo(final int target) throws SQLException {
+        if ((target < this.position) || (target < 0)) {
+            this.clearClob();
+            this.cursor.reset();
+            this.position = -1;
+            this.currentRow = null;
+            this.onRow = false;
+        }
+        while ((this.position < target) && this.next()) {
+            // Advances until the target row.
+        }
+        return this.onRow;
+    }
+
+    /**
+     * Gets the amount of rows in this {@link ResultSet}. The rows are read if the size is still unknown.
+     *
+     * @return the amount of rows.
+     * @throws SQLException in case of reading errors.
+     */
+    private int getSize() throws SQLException {
+        if (this.size < 0) {
+            final int current = this.position;
+            this.afterLast();
+            this.moveTo(current);
+        }
+        return this.size;
     }
 
     /**
@@ -1876,10 +2013,43 @@ public final class ParadoxResultSet implements ResultSet {
      * @throws SQLException in case of errors.
      */
     private void verifyRow() throws SQLException {
-        if (!this.hasNext()) {
-            throw new SQLDataException("Result do not have more rows.", SQLStates.INVALID_ROW.getValue());
-        } else if (this.closed) {
+        if (this.closed) {
             throw new SQLException("Closed result set.", SQLStates.RESULTSET_CLOSED.getValue());
+        } else if (!this.onRow) {
+            throw new SQLDataException("Result do not have more rows.", SQLStates.INVALID_ROW.getValue());
+        }
+    }
+
+    /**
+     * Gets the current row values. Columnar sources only create the row when a value is requested as object.
+     *
+     * @return the current row values.
+     */
+    private List<FieldValue> getCurrentRow() {
+        if (this.currentRow == null) {
+            this.currentRow = this.cursor.getRow();
+        }
+        return this.currentRow;
+    }
+
+    /**
+     * Gets the column vector of a columnar source, so primitive values can be read without creating the row.
+     *
+     * @param columnIndex the column index (one based).
+     * @return the column vector or null if the source is not columnar.
+     * @throws SQLException in case of invalid column.
+     */
+    private ColumnVector getVector(final int columnIndex) throws SQLException {
+        if (!(this.cursor instanceof ColumnarCursor)) {
+            return null;
+        }
+        if (columnIndex > this.columns.size()) {
+            throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        final ColumnarCursor columnar = (ColumnarCursor) this.cursor;
+        final ColumnVector vector = columnar.getColumn(columnIndex - 1);
+        this.lastValue = null;
+        this.lastNull = vector.isNull(columnar.getBatchRow());
+        return vector;
     }
 }
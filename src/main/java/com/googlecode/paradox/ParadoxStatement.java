@@ -31,7 +31,7 @@ import java.util.List;
  * JDBC statement implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.0
  */
 final class ParadoxStatement implements Statement {
@@ -332,7 +332,10 @@ final class ParadoxStatement implements Statement {
      * {@inheritDoc}.
      */
     @Override
-    public void setMaxRows(final int max) {
+    public void setMaxRows(final int max) throws SQLException {
+        if (max < 0) {
+            throw new SQLException("Negative max rows.", SQLStates.INVALID_PARAMETER.getValue());
+        }
         this.maxRows = max;
     }
 
@@ -475,8 +478,9 @@ final class ParadoxStatement implements Statement {
     private void executeSelect(final SelectNode node) throws SQLException {
         final Planner planner = new Planner(this.conn);
         final SelectPlan plan = (SelectPlan) planner.create(node, this.conn.getCurrentSchema());
+        plan.setMaxRows(this.maxRows);
         plan.execute();
-        this.rs = new ParadoxResultSet(this.conn, this, plan.getValues(), plan.getColumns());
+        this.rs = new ParadoxResultSet(this.conn, this, plan.getCursor(), plan.getColumns());
     }
 
     /**
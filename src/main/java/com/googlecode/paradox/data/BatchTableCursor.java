@@ -0,0 +1,310 @@
+/*
+ * BatchTableCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.batch.RowFilter;
+import com.googlecode.paradox.data.block.BlockReader;
+import com.googlecode.paradox.data.block.BlockReaderFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.ColumnarCursor;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the table rows in column batches. Each batch decodes up to {@link ColumnBatch#DEFAULT_CAPACITY} rows into
+ * primitive vectors, and the rows rejected by the filter are overwritten before being exposed. The records rejected
+ * by the record filter are not decoded at all. The blocks are read in the table block list order, or only the blocks
+ * given (found by an index, for instance), optionally with the rows of each block in reverse order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+public final class BatchTableCursor implements ColumnarCursor {
+
+    /**
+     * The table to read of.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The row decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The block reader.
+     */
+    private final BlockReader reader;
+
+    /**
+     * The current batch.
+     */
+    private final ColumnBatch batch;
+
+    /**
+     * The batch column of each result column.
+     */
+    private final int[] columns;
+
+    /**
+     * The row filter (can be null).
+     */
+    private final RowFilter filter;
+
+    /**
+     * The encoded record filter, checked before decoding (can be null).
+     */
+    private final RecordFilter recordFilter;
+
+    /**
+     * The blocks to read (null to follow the table block list).
+     */
+    private final int[] blocks;
+
+    /**
+     * If the rows of each block are read last to first.
+     */
+    private final boolean reverse;
+
+    /**
+     * The position of the next block in block list.
+     */
+    private int blockIndex;
+
+    /**
+     * The current block data.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The next block to read (zero if there is no more blocks).
+     */
+    private int nextBlock;
+
+    /**
+     * Rows in the current block.
+     */
+    private int rowsInBlock;
+
+    /**
+     * Rows already read from the current block.
+     */
+    private int rowsRead;
+
+    /**
+     * The current row in batch.
+     */
+    private int batchRow;
+
+    /**
+     * The current row values, created on demand.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table        the table to read.
+     * @param fields       the fields to read.
+     * @param columns      the field index of each result column (null to use the fields order).
+     * @param filter       the row filter (null to keep all rows).
+     * @param recordFilter the encoded record filter (null to decode all rows).
+     * @param blocks       the blocks to read (null to read all table blocks).
+     * @param reverse      if the rows of each block are read last to first.
+     * @throws SQLException if a field is not in the table.
+     */
+    BatchTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columns,
+            final RowFilter filter, final RecordFilter recordFilter, final int[] blocks, final boolean reverse)
+            throws SQLException {
+        this.table = table;
+        this.decoder = new RowDecoder(table, fields);
+        this.batch = new ColumnBatch(this.decoder.getProjection(), ColumnBatch.DEFAULT_CAPACITY);
+        if (columns == null) {
+            this.columns = new int[fields.size()];
+            for (int i = 0; i < this.columns.length; i++) {
+                this.columns[i] = i;
+            }
+        } else {
+            this.columns = columns.clone();
+        }
+        this.filter = filter;
+        this.recordFilter = recordFilter;
+        if (blocks == null) {
+            this.blocks = null;
+        } else {
+            this.blocks = blocks.clone();
+        }
+        this.reverse = reverse;
+        this.reader = BlockReaderFactory.create(table);
+        this.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        this.row = null;
+        this.batchRow++;
+        if (this.batchRow < this.batch.getSize()) {
+            return true;
+        }
+
+        this.fill();
+        this.batchRow = 0;
+        if (this.batch.getSize() == 0) {
+            this.close();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fills the batch with the next rows.
+     *
+     * @throws SQLException in case of I/O or parse errors.
+     */
+    private void fill() throws SQLException {
+        this.batch.clear();
+        int size = 0;
+        while (size < this.batch.getCapacity()) {
+            if (this.rowsRead >= this.rowsInBlock) {
+                if (this.nextBlock == 0) {
+                    break;
+                }
+                this.readBlock();
+                continue;
+            }
+
+            int record = this.rowsRead;
+            if (this.reverse) {
+                record = this.rowsInBlock - 1 - this.rowsRead;
+            }
+            if ((this.recordFilter != null) && !this.recordFilter.accept(this.buffer,
+                    RowDecoder.BLOCK_HEADER_SIZE + (record * this.table.getRecordSize()))) {
+                // Rejected without decoding.
+                this.rowsRead++;
+                continue;
+            }
+
+            this.decoder.decode(this.buffer, record, this.batch, size);
+            this.rowsRead++;
+            if ((this.filter == null) || this.filter.accept(this.batch, size)) {
+                size++;
+            }
+        }
+        this.batch.setSize(size);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        if ((this.row == null) && (this.batchRow < this.batch.getSize())) {
+            final List<FieldValue> values = new ArrayList<>(this.columns.length);
+            for (final int column : this.columns) {
+                values.add(this.batch.getColumn(column).getFieldValue(this.batchRow));
+            }
+            this.row = values;
+        }
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ColumnVector getColumn(final int column) {
+        return this.batch.getColumn(this.columns[column]);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getBatchRow() {
+        return this.batchRow;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.blockIndex = 0;
+        if (this.blocks != null) {
+            this.nextBlock = this.nextListedBlock();
+        } else if (this.table.getUsedBlocks() == 0) {
+            this.nextBlock = 0;
+        } else {
+            this.nextBlock = this.table.getFirstBlock();
+        }
+        this.rowsInBlock = 0;
+        this.rowsRead = 0;
+        this.batch.clear();
+        this.batchRow = -1;
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.buffer = null;
+        this.reader.close();
+    }
+
+    /**
+     * Reads the next block in the block list.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void readBlock() throws SQLException {
+        try {
+            this.buffer = this.reader.read(this.nextBlock);
+        } catch (final SQLException e) {
+            this.close();
+            throw e;
+        }
+
+        if (this.blocks != null) {
+            this.nextBlock = this.nextListedBlock();
+        } else {
+            this.nextBlock = RowDecoder.getNextBlock(this.buffer);
+        }
+        this.rowsInBlock = this.decoder.getRowCount(this.buffer);
+        this.rowsRead = 0;
+    }
+
+    /**
+     * Gets the next block in block list.
+     *
+     * @return the next block or zero if there is no more blocks.
+     */
+    private int nextListedBlock() {
+        if (this.blockIndex < this.blocks.length) {
+            final int block = this.blocks[this.blockIndex];
+            this.blockIndex++;
+            return block;
+        }
+        return 0;
+    }
+}
@@ -32,7 +32,7 @@ import java.util.List;
  * Handles field parsers.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class FieldFactory {
@@ -57,6 +57,29 @@ public final class FieldFactory {
         FieldFactory.ALL_PARSES.add(new VarcharField());
     }
 
+    /**
+     * Parser of field types without support. The error is only raised when a value is read.
+     */
+    private static final FieldParser UNSUPPORTED = new FieldParser() {
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean match(final int type) {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
+                throws SQLException {
+            throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+        }
+    };
+
     /**
      * Utility class.
      */
@@ -79,11 +102,22 @@ public final class FieldFactory {
      */
     public static FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
             throws SQLException {
+        return FieldFactory.getParser(field).parse(table, buffer, field);
+    }
+
+    /**
+     * Gets the parser of a field, so the parser can be resolved once per field instead of once per value.
+     *
+     * @param field
+     *            the paradox field.
+     * @return the field parser.
+     */
+    public static FieldParser getParser(final ParadoxField field) {
         for (final FieldParser parser : FieldFactory.ALL_PARSES) {
             if (parser.match(field.getType())) {
-                return parser.parse(table, buffer, field);
+                return parser;
             }
         }
-        throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+        return FieldFactory.UNSUPPORTED;
     }
 }
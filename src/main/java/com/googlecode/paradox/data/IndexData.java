@@ -9,9 +9,15 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.batch.ValueFilter;
+import com.googlecode.paradox.data.block.BlockReader;
+import com.googlecode.paradox.data.block.BlockReaderFactory;
 import com.googlecode.paradox.metadata.ParadoxDataFile;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxPK;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.RowCursor;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.SecondaryIndexFilter;
 
@@ -23,6 +29,8 @@ import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
 import static com.googlecode.paradox.utils.Utils.flip;
@@ -32,7 +40,7 @@ import static com.googlecode.paradox.utils.Utils.position;
  * Reads index data files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public final class IndexData extends AbstractParadoxData {
@@ -71,6 +79,198 @@ public final class IndexData extends AbstractParadoxData {
         return indexes;
     }
 
+    /**
+     * Finds the table blocks with the rows whose key in a secondary index is accepted by a filter. The index
+     * records (.Xnn) hold the key fields, the primary key and the table block of the row. When the key bounds are
+     * given, the index tree (.Ynn) is used to read only the index blocks in range.
+     *
+     * @param table  the indexed table.
+     * @param index  the secondary index.
+     * @param filter the first key field filter.
+     * @param low    the encoded lower bound of the first key field (null for no bound).
+     * @param high   the encoded upper bound of the first key field (null for no bound).
+     * @return the table blocks in ascending order, or null if the index is stale.
+     * @throws SQLException in case of I/O errors.
+     */
+    public static int[] findBlocks(final ParadoxTable table, final ParadoxIndex index, final ValueFilter filter,
+            final byte[] low, final byte[] high) throws SQLException {
+        final List<ParadoxField> indexFields = index.getFields();
+        if ((index.getRowCount() != table.getRowCount()) || (indexFields.size() < 2)) {
+            // Index out of sync with table.
+            return null;
+        }
+        final ParadoxField field = table.findField(indexFields.get(0).getName());
+        final ParadoxField blockField = indexFields.get(indexFields.size() - 1);
+        if ((field == null) || (field.getSize() != indexFields.get(0).getSize()) || (blockField.getType() != 3)) {
+            return null;
+        }
+
+        int[] indexBlocks = null;
+        if ((low != null) || (high != null)) {
+            final ParadoxPK tree = IndexData.loadTree(index);
+            if (tree != null) {
+                indexBlocks = new IndexNavigator(tree).findBlocks(low, high);
+            }
+        }
+
+        final BitSet blocks = new BitSet(table.getTotalBlocks() + 1);
+        final FieldParser parser = FieldFactory.getParser(field);
+        final int recordSize = index.getRecordSize();
+        try (BlockReader reader = BlockReaderFactory.create(index)) {
+            int position = 0;
+            int block = IndexData.nextBlock(index, indexBlocks, position++, null);
+            while (block != 0) {
+                final ByteBuffer buffer = reader.read(block);
+                final int count = IndexData.getRecordCount(buffer, recordSize);
+                for (int i = 0; i < count; i++) {
+                    final int recordStart = RowDecoder.BLOCK_HEADER_SIZE + (i * recordSize);
+                    position(buffer, recordStart);
+                    if (filter.accept(parser.parse(table, buffer, field))) {
+                        final int tableBlock = (buffer.getShort(recordStart + recordSize - 2) ^ 0x8000) & 0xFFFF;
+                        if ((tableBlock < 1) || (tableBlock > table.getTotalBlocks())) {
+                            return null;
+                        }
+                        blocks.set(tableBlock);
+                    }
+                }
+                block = IndexData.nextBlock(index, indexBlocks, position++, buffer);
+            }
+        }
+
+        final int[] ret = new int[blocks.cardinality()];
+        int i = 0;
+        for (int block = blocks.nextSetBit(0); block >= 0; block = blocks.nextSetBit(block + 1)) {
+            ret[i++] = block;
+        }
+        return ret;
+    }
+
+    /**
+     * Opens a cursor reading the table rows in the order of a secondary index. The index must start with the order
+     * fields and be in sync with the table.
+     *
+     * @param table       the indexed table.
+     * @param index       the secondary index.
+     * @param orderFields the order fields.
+     * @param fields      the fields to read.
+     * @param descending  if the rows are read in descending order.
+     * @return the cursor or null if the index can not be used.
+     * @throws SQLException in case of I/O errors.
+     */
+    public static RowCursor openOrderedCursor(final ParadoxTable table, final ParadoxIndex index,
+            final List<ParadoxField> orderFields, final Collection<ParadoxField> fields, final boolean descending)
+            throws SQLException {
+        final List<ParadoxField> indexFields = index.getFields();
+        final int keyCount = indexFields.size() - 1 - table.getPrimaryFieldCount();
+        if ((index.getRowCount() != table.getRowCount()) || (keyCount < orderFields.size())
+                || (indexFields.get(indexFields.size() - 1).getType() != 3)) {
+            return null;
+        }
+
+        int keySize = 0;
+        for (int i = 0; i < keyCount; i++) {
+            final ParadoxField indexField = indexFields.get(i);
+            if ((i < orderFields.size()) && !indexField.getName().equalsIgnoreCase(orderFields.get(i).getName())) {
+                return null;
+            }
+            keySize += indexField.getSize();
+        }
+        int primaryKeySize = 0;
+        for (int i = 0; i < table.getPrimaryFieldCount(); i++) {
+            primaryKeySize += table.getFields().get(i).getSize();
+        }
+        if (index.getRecordSize() != (keySize + primaryKeySize + 2)) {
+            return null;
+        }
+
+        int[] indexBlocks = null;
+        final ParadoxPK tree = IndexData.loadTree(index);
+        if (tree != null) {
+            indexBlocks = new IndexNavigator(tree).findBlocks(null, null);
+        }
+        if ((indexBlocks == null) || (indexBlocks.length == 0)) {
+            indexBlocks = TableData.readBlockChain(index);
+        }
+        if (descending) {
+            for (int i = 0, j = indexBlocks.length - 1; i < j; i++, j--) {
+                final int block = indexBlocks[i];
+                indexBlocks[i] = indexBlocks[j];
+                indexBlocks[j] = block;
+            }
+        }
+        return new IndexOrderCursor(table, index, fields, indexBlocks, keySize, primaryKeySize, descending);
+    }
+
+    /**
+     * Gets the next index block to read.
+     *
+     * @param index       the secondary index.
+     * @param indexBlocks the blocks found in index tree (null to follow the block list).
+     * @param position    the position in index tree blocks.
+     * @param current     the current block data (null in the first block).
+     * @return the next block or zero if there is no more blocks.
+     */
+    private static int nextBlock(final ParadoxIndex index, final int[] indexBlocks, final int position,
+            final ByteBuffer current) {
+        if (indexBlocks != null) {
+            if (position < indexBlocks.length) {
+                return indexBlocks[position];
+            }
+            return 0;
+        } else if (current == null) {
+            if (index.getUsedBlocks() == 0) {
+                return 0;
+            }
+            return index.getFirstBlock();
+        }
+        return RowDecoder.getNextBlock(current);
+    }
+
+    /**
+     * Gets the amount of records in an index block.
+     *
+     * @param buffer     the block data.
+     * @param recordSize the record size.
+     * @return the amount of records.
+     */
+    static int getRecordCount(final ByteBuffer buffer, final int recordSize) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int addDataSize = buffer.getShort(4);
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (addDataSize < 0) {
+            // Empty block.
+            return 0;
+        }
+        return (addDataSize / recordSize) + 1;
+    }
+
+    /**
+     * Loads the index tree (.Ynn) of a secondary index.
+     *
+     * @param index the secondary index.
+     * @return the index tree or null if there is no tree.
+     * @throws SQLException in case of I/O errors.
+     */
+    private static ParadoxPK loadTree(final ParadoxIndex index) throws SQLException {
+        final String name = index.getFile().getName();
+        final int extension = name.length() - 3;
+        File file = new File(index.getFile().getParentFile(), name.substring(0, extension) + 'Y'
+                + name.substring(extension + 1));
+        if (!file.isFile()) {
+            file = new File(index.getFile().getParentFile(), name.substring(0, extension) + 'y'
+                    + name.substring(extension + 1));
+        }
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try {
+            return PrimaryKeyData.loadPKHeader(file, index.getConnection());
+        } catch (final IOException ex) {
+            throw new SQLException("Error loading Paradox index.", ex);
+        }
+    }
+
     /**
      * Loads the database file header.
      *
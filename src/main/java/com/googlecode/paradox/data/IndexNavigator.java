@@ -0,0 +1,214 @@
+/*
+ * IndexNavigator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.block.BlockReader;
+import com.googlecode.paradox.data.block.BlockReaderFactory;
+import com.googlecode.paradox.metadata.ParadoxDataFile;
+import com.googlecode.paradox.metadata.ParadoxPK;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Walks the index blocks from the root to the table blocks that can hold a key range.
+ * <p>
+ * Each index entry has the key fields of the first row in a child block, followed by the child block number, the
+ * child row count and two unused bytes. The entries in the last level point to the table blocks. The keys are
+ * compared in their encoded form, so only fields whose stored bytes sort as the values can be used.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class IndexNavigator {
+
+    /**
+     * The bytes after the key fields in each entry.
+     */
+    private static final int ENTRY_TRAILER_SIZE = 6;
+
+    /**
+     * The index file.
+     */
+    private final ParadoxDataFile index;
+
+    /**
+     * The index root block.
+     */
+    private final int rootBlock;
+
+    /**
+     * The amount of index levels.
+     */
+    private final int levels;
+
+    /**
+     * Creates a navigator for a primary key.
+     *
+     * @param pk the primary key.
+     */
+    public IndexNavigator(final ParadoxPK pk) {
+        this(pk, pk.getRootBlock(), pk.getIndexLevels());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index     the index file.
+     * @param rootBlock the index root block.
+     * @param levels    the amount of index levels.
+     */
+    IndexNavigator(final ParadoxDataFile index, final int rootBlock, final int levels) {
+        this.index = index;
+        this.rootBlock = rootBlock;
+        this.levels = levels;
+    }
+
+    /**
+     * Finds the table blocks that can hold the keys in a range. The bounds are compared with the key prefix of the
+     * same size, as unsigned bytes.
+     *
+     * @param low  the encoded lower bound, inclusive (null for no bound).
+     * @param high the encoded upper bound, inclusive (null for no bound).
+     * @return the table block numbers in key order.
+     * @throws SQLException in case of I/O errors.
+     */
+    public int[] findBlocks(final byte[] low, final byte[] high) throws SQLException {
+        final List<Integer> blocks = new ArrayList<>();
+        if ((this.rootBlock > 0) && (this.levels > 0)) {
+            try (BlockReader reader = BlockReaderFactory.create(this.index)) {
+                this.collect(reader, this.rootBlock, this.levels, low, high, blocks);
+            }
+        }
+
+        final int[] ret = new int[blocks.size()];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = blocks.get(i);
+        }
+        return ret;
+    }
+
+    /**
+     * Collects the table blocks under an index block.
+     *
+     * @param reader the index block reader.
+     * @param block  the index block number.
+     * @param level  the index block level (one for the last level).
+     * @param low    the encoded lower bound (null for no bound).
+     * @param high   the encoded upper bound (null for no bound).
+     * @param blocks the table blocks found.
+     * @throws SQLException in case of I/O errors.
+     */
+    private void collect(final BlockReader reader, final int block, final int level, final byte[] low,
+            final byte[] high, final List<Integer> blocks) throws SQLException {
+        final ByteBuffer buffer = reader.read(block);
+        final int recordSize = this.index.getRecordSize();
+        final int count = IndexNavigator.getEntryCount(buffer, recordSize);
+        if (count == 0) {
+            return;
+        }
+
+        // The first entry also covers the keys lower than it. A key prefix can repeat in the previous block, but a
+        // whole key can not.
+        int first = 0;
+        if (low != null) {
+            final boolean wholeKey = low.length == (recordSize - ENTRY_TRAILER_SIZE);
+            first = Math.max(0, IndexNavigator.countLower(buffer, recordSize, count, low, wholeKey) - 1);
+        }
+        int last = count - 1;
+        if (high != null) {
+            last = Math.max(0, IndexNavigator.countLower(buffer, recordSize, count, high, true) - 1);
+        }
+        if (last < first) {
+            return;
+        }
+
+        // The buffer is reused by the reader, so the children are read before going down.
+        final int[] children = new int[(last - first) + 1];
+        for (int i = 0; i < children.length; i++) {
+            final int entryEnd = RowDecoder.BLOCK_HEADER_SIZE + ((first + i + 1) * recordSize);
+            children[i] = (buffer.getShort(entryEnd - ENTRY_TRAILER_SIZE) ^ 0x8000) & 0xFFFF;
+        }
+
+        for (final int child : children) {
+            if (level > 1) {
+                this.collect(reader, child, level - 1, low, high, blocks);
+            } else {
+                blocks.add(child);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of entries in an index block.
+     *
+     * @param buffer     the block data.
+     * @param recordSize the entry size.
+     * @return the amount of entries.
+     */
+    private static int getEntryCount(final ByteBuffer buffer, final int recordSize) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int addDataSize = buffer.getShort(4);
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (addDataSize < 0) {
+            // Empty block.
+            return 0;
+        }
+        return (addDataSize / recordSize) + 1;
+    }
+
+    /**
+     * Counts the entries lower than a key, with a binary search.
+     *
+     * @param buffer     the block data.
+     * @param recordSize the entry size.
+     * @param count      the amount of entries.
+     * @param key        the encoded key.
+     * @param inclusive  if the entries equal to the key are also counted.
+     * @return the amount of entries lower than the key.
+     */
+    private static int countLower(final ByteBuffer buffer, final int recordSize, final int count, final byte[] key,
+            final boolean inclusive) {
+        int lower = 0;
+        int upper = count;
+        while (lower < upper) {
+            final int middle = (lower + upper) >>> 1;
+            final int comparison = IndexNavigator.compare(buffer,
+                    RowDecoder.BLOCK_HEADER_SIZE + (middle * recordSize), key);
+            if ((comparison < 0) || (inclusive && (comparison == 0))) {
+                lower = middle + 1;
+            } else {
+                upper = middle;
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Compares the entry key prefix with a key, as unsigned bytes.
+     *
+     * @param buffer the block data.
+     * @param start  the entry start.
+     * @param key    the key to compare.
+     * @return the comparison result.
+     */
+    private static int compare(final ByteBuffer buffer, final int start, final byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            final int comparison = (buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+}
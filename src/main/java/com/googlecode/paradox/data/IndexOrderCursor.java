@@ -0,0 +1,249 @@
+/*
+ * IndexOrderCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.block.BlockReader;
+import com.googlecode.paradox.data.block.BlockReaderFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.RowCursor;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the table rows in the order of a secondary index. Each index record has the row primary key and table block,
+ * so the row is found in that block by its primary key. The last table block read is kept, and only one row is held
+ * at a time.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class IndexOrderCursor implements RowCursor {
+
+    /**
+     * The table to read of.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The secondary index.
+     */
+    private final ParadoxIndex index;
+
+    /**
+     * The row decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The index blocks in key order.
+     */
+    private final int[] indexBlocks;
+
+    /**
+     * If the index is read last to first.
+     */
+    private final boolean reverse;
+
+    /**
+     * The primary key position in the index records.
+     */
+    private final int keyOffset;
+
+    /**
+     * The primary key size.
+     */
+    private final int keySize;
+
+    /**
+     * The index block reader.
+     */
+    private final BlockReader indexReader;
+
+    /**
+     * The table block reader.
+     */
+    private final BlockReader tableReader;
+
+    /**
+     * The current index block data.
+     */
+    private ByteBuffer indexBuffer;
+
+    /**
+     * The position of the next index block.
+     */
+    private int blockPosition;
+
+    /**
+     * The records in the current index block.
+     */
+    private int records;
+
+    /**
+     * The records already read in the current index block.
+     */
+    private int recordsRead;
+
+    /**
+     * The current table block number (zero if none).
+     */
+    private int tableBlock;
+
+    /**
+     * The current table block data.
+     */
+    private ByteBuffer tableBuffer;
+
+    /**
+     * The rows in the current table block.
+     */
+    private int tableRows;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table       the table to read.
+     * @param index       the secondary index.
+     * @param fields      the fields to read.
+     * @param indexBlocks the index blocks in key order.
+     * @param keyOffset   the primary key position in the index records.
+     * @param keySize     the primary key size.
+     * @param reverse     if the index is read last to first.
+     * @throws SQLException if a field is not in the table.
+     */
+    IndexOrderCursor(final ParadoxTable table, final ParadoxIndex index, final Collection<ParadoxField> fields,
+            final int[] indexBlocks, final int keyOffset, final int keySize, final boolean reverse)
+            throws SQLException {
+        this.table = table;
+        this.index = index;
+        this.decoder = new RowDecoder(table, fields);
+        this.indexBlocks = indexBlocks.clone();
+        this.keyOffset = keyOffset;
+        this.keySize = keySize;
+        this.reverse = reverse;
+        this.indexReader = BlockReaderFactory.create(index);
+        this.tableReader = BlockReaderFactory.create(table);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        final int recordSize = this.index.getRecordSize();
+        while (this.recordsRead >= this.records) {
+            if (this.blockPosition >= this.indexBlocks.length) {
+                this.row = null;
+                this.close();
+                return false;
+            }
+            this.indexBuffer = this.indexReader.read(this.indexBlocks[this.blockPosition]);
+            this.blockPosition++;
+            this.records = IndexData.getRecordCount(this.indexBuffer, recordSize);
+            this.recordsRead = 0;
+        }
+
+        int record = this.recordsRead;
+        if (this.reverse) {
+            record = this.records - 1 - this.recordsRead;
+        }
+        this.recordsRead++;
+
+        final int recordStart = RowDecoder.BLOCK_HEADER_SIZE + (record * recordSize);
+        final int block = (this.indexBuffer.getShort((recordStart + recordSize) - 2) ^ 0x8000) & 0xFFFF;
+        if ((block < 1) || (block > this.table.getTotalBlocks())) {
+            throw new SQLException("Index " + this.index.getName() + " out of sync with table.",
+                    SQLStates.LOAD_DATA.getValue());
+        }
+        if (block != this.tableBlock) {
+            this.tableBuffer = this.tableReader.read(block);
+            this.tableBlock = block;
+            this.tableRows = this.decoder.getRowCount(this.tableBuffer);
+        }
+
+        final int tableRow = this.findRow(recordStart + this.keyOffset);
+        if (tableRow < 0) {
+            throw new SQLException("Index " + this.index.getName() + " out of sync with table.",
+                    SQLStates.LOAD_DATA.getValue());
+        }
+        this.row = this.decoder.decode(this.tableBuffer, tableRow);
+        return true;
+    }
+
+    /**
+     * Finds the row with a primary key in the current table block.
+     *
+     * @param keyStart the primary key position in the index block.
+     * @return the row in table block or -1 if not found.
+     */
+    private int findRow(final int keyStart) {
+        final int recordSize = this.table.getRecordSize();
+        for (int i = 0; i < this.tableRows; i++) {
+            final int rowStart = RowDecoder.BLOCK_HEADER_SIZE + (i * recordSize);
+            boolean equals = true;
+            for (int j = 0; (j < this.keySize) && equals; j++) {
+                equals = this.tableBuffer.get(rowStart + j) == this.indexBuffer.get(keyStart + j);
+            }
+            if (equals) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.blockPosition = 0;
+        this.records = 0;
+        this.recordsRead = 0;
+        this.tableBlock = 0;
+        this.indexBuffer = null;
+        this.tableBuffer = null;
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.indexBuffer = null;
+        this.tableBuffer = null;
+        this.tableBlock = 0;
+        try {
+            this.indexReader.close();
+        } finally {
+            this.tableReader.close();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * ParallelScanTask.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.block.BlockReader;
+import com.googlecode.paradox.data.block.BlockReaderFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxTable;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Decodes a range of the table block chain, splitting it in smaller ranges decoded in parallel.
+ * <p>
+ * Each task returns its rows and the ranges are joined in chain order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class ParallelScanTask extends RecursiveTask<List<List<FieldValue>>> {
+
+    /**
+     * Maximum blocks decoded by a single task.
+     */
+    static final int BLOCKS_PER_TASK = 16;
+
+    /**
+     * The pool used in all parallel scans.
+     */
+    static final ForkJoinPool POOL = new ForkJoinPool();
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The table to read.
+     */
+    private final transient ParadoxTable table;
+
+    /**
+     * The row decoder.
+     */
+    private final transient RowDecoder decoder;
+
+    /**
+     * The block chain.
+     */
+    private final int[] blocks;
+
+    /**
+     * The first block index (inclusive).
+     */
+    private final int from;
+
+    /**
+     * The last block index (exclusive).
+     */
+    private final int to;
+
+    /**
+     * Blocks decoded without splitting the range.
+     */
+    private final int threshold;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table     the table to read.
+     * @param decoder   the row decoder.
+     * @param blocks    the block chain.
+     * @param from      the first block index (inclusive).
+     * @param to        the last block index (exclusive).
+     * @param threshold blocks decoded without splitting the range.
+     */
+    private ParallelScanTask(final ParadoxTable table, final RowDecoder decoder, final int[] blocks, final int from,
+            final int to, final int threshold) {
+        this.table = table;
+        this.decoder = decoder;
+        this.blocks = blocks;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Decodes the block range in the shared pool.
+     *
+     * @param table   the table to read.
+     * @param decoder the row decoder.
+     * @param blocks  the block chain.
+     * @param from    the first block index (inclusive).
+     * @param to      the last block index (exclusive).
+     * @return the row values, in the block chain order.
+     * @throws SQLException in case of reading errors.
+     */
+    static List<List<FieldValue>> scan(final ParadoxTable table, final RowDecoder decoder, final int[] blocks,
+            final int from, final int to) throws SQLException {
+        // Enough tasks to keep all threads busy, but never more than BLOCKS_PER_TASK blocks each.
+        final int threshold = Math.max(1, Math.min(BLOCKS_PER_TASK, (to - from) / (POOL.getParallelism() * 4)));
+        try {
+            return POOL.invoke(new ParallelScanTask(table, decoder, blocks, from, to, threshold));
+        } catch (final IllegalStateException e) {
+            Throwable cause = e;
+            while (cause != null) {
+                if (cause instanceof SQLException) {
+                    throw (SQLException) cause;
+                }
+                cause = cause.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected List<List<FieldValue>> compute() {
+        if ((this.to - this.from) <= this.threshold) {
+            try {
+                return this.decodeRange();
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        final int middle = (this.from + this.to) >>> 1;
+        final ParallelScanTask left = new ParallelScanTask(this.table, this.decoder, this.blocks, this.from, middle,
+                this.threshold);
+        final ParallelScanTask right = new ParallelScanTask(this.table, this.decoder, this.blocks, middle, this.to,
+                this.threshold);
+        left.fork();
+        final List<List<FieldValue>> rightRows = right.compute();
+        final List<List<FieldValue>> leftRows = left.join();
+
+        final List<List<FieldValue>> ret = new ArrayList<>(leftRows.size() + rightRows.size());
+        ret.addAll(leftRows);
+        ret.addAll(rightRows);
+        return ret;
+    }
+
+    /**
+     * Decodes all rows in the block range.
+     *
+     * @return the row values.
+     * @throws SQLException in case of reading errors.
+     */
+    private List<List<FieldValue>> decodeRange() throws SQLException {
+        final List<List<FieldValue>> ret = new ArrayList<>();
+        try (BlockReader reader = BlockReaderFactory.create(this.table)) {
+            for (int i = this.from; i < this.to; i++) {
+                final ByteBuffer block = reader.read(this.blocks[i]);
+                final int rows = this.decoder.getRowCount(block);
+                for (int row = 0; row < rows; row++) {
+                    ret.add(this.decoder.decode(block, row));
+                }
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * ParallelTableCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the table rows decoding the blocks in parallel. The block chain is read first and split in batches, each batch
+ * decoded by the fork/join pool. The rows are returned in the block chain order and only one batch is kept in memory.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class ParallelTableCursor implements RowCursor {
+
+    /**
+     * The table to read of.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The row decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * Blocks decoded in each batch.
+     */
+    private final int batchSize;
+
+    /**
+     * The table block chain (loaded on first read).
+     */
+    private int[] blocks;
+
+    /**
+     * The next block index to decode.
+     */
+    private int nextIndex;
+
+    /**
+     * The current batch rows.
+     */
+    private List<List<FieldValue>> batch;
+
+    /**
+     * The current row index in batch.
+     */
+    private int batchPosition;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read (the row values are in this order).
+     * @throws SQLException if a field is not in the table.
+     */
+    ParallelTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields) throws SQLException {
+        this.table = table;
+        this.decoder = new RowDecoder(table, fields);
+        this.batchSize = ParallelScanTask.POOL.getParallelism() * ParallelScanTask.BLOCKS_PER_TASK * 4;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (this.blocks == null) {
+            this.blocks = TableData.readBlockChain(this.table);
+        }
+
+        while ((this.batch == null) || (this.batchPosition >= this.batch.size())) {
+            if (this.nextIndex >= this.blocks.length) {
+                this.batch = null;
+                this.row = null;
+                return false;
+            }
+
+            final int end = Math.min(this.blocks.length, this.nextIndex + this.batchSize);
+            this.batch = ParallelScanTask.scan(this.table, this.decoder, this.blocks, this.nextIndex, end);
+            this.batchPosition = 0;
+            this.nextIndex = end;
+        }
+
+        this.row = this.batch.get(this.batchPosition);
+        this.batchPosition++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.nextIndex = 0;
+        this.batch = null;
+        this.batchPosition = 0;
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        this.batch = null;
+        this.row = null;
+    }
+}
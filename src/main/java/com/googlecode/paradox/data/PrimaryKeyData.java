@@ -28,7 +28,7 @@ import static com.googlecode.paradox.utils.Utils.position;
  * Reads primary key data fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class PrimaryKeyData extends AbstractParadoxData {
@@ -65,17 +65,18 @@ public final class PrimaryKeyData extends AbstractParadoxData {
     }
 
     /**
-     * Gets the {@link ParadoxPK} from a PK file.
+     * Gets the {@link ParadoxPK} from a PK file. Also used for the secondary index trees (.Ynn), that have the same
+     * layout.
      *
      * @param file       the file to read.
      * @param connection the database connection.
      * @return the {@link ParadoxPK}.
      * @throws IOException in case of I/O exceptions.
      */
-    private static ParadoxPK loadPKHeader(final File file, final ParadoxConnection connection) throws IOException {
+    static ParadoxPK loadPKHeader(final File file, final ParadoxConnection connection) throws IOException {
         final ByteBuffer buffer = ByteBuffer.allocate(2048);
         buffer.order(ByteOrder.LITTLE_ENDIAN);
-        final ParadoxPK pk = new ParadoxPK(connection);
+        final ParadoxPK pk = new ParadoxPK(file, file.getName(), connection);
 
         try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
             channel.read(buffer);
@@ -95,6 +96,10 @@ public final class PrimaryKeyData extends AbstractParadoxData {
             position(buffer, 0x15);
             pk.setIndexFieldNumber(buffer.get());
 
+            position(buffer, 0x1E);
+            pk.setRootBlock(buffer.getShort() & 0xFFFF);
+            pk.setIndexLevels(buffer.get());
+
             position(buffer, 0x21);
             pk.setFieldCount(buffer.get());
 
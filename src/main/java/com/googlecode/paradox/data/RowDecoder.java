@@ -0,0 +1,174 @@
+/*
+ * RowDecoder.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * Decodes the projected fields of the records in a data block. The field parsers and offsets are resolved once when the
+ * decoder is created, so decoding a row has no per value type lookup. The instance has no state besides the
+ * projection, so it can be shared by many threads as long as each one uses its own block buffer.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+final class RowDecoder {
+
+    /**
+     * The data block header size.
+     */
+    static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * The table to read of.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The fields to read, in projection order.
+     */
+    private final ParadoxField[] projection;
+
+    /**
+     * The offset of each projected field inside the record.
+     */
+    private final int[] offsets;
+
+    /**
+     * The parser of each projected field.
+     */
+    private final FieldParser[] parsers;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read (the row values are in this order).
+     * @throws SQLException if a field is not in the table.
+     */
+    RowDecoder(final ParadoxTable table, final Collection<ParadoxField> fields) throws SQLException {
+        this.table = table;
+        this.projection = new ParadoxField[fields.size()];
+        this.offsets = new int[fields.size()];
+        this.parsers = new FieldParser[fields.size()];
+
+        final List<ParadoxField> tableFields = table.getFields();
+        final int[] fieldOffsets = new int[tableFields.size()];
+        int offset = 0;
+        for (int i = 0; i < tableFields.size(); i++) {
+            fieldOffsets[i] = offset;
+            offset += tableFields.get(i).getPhysicsSize();
+        }
+
+        int i = 0;
+        for (final ParadoxField field : fields) {
+            final int index = tableFields.indexOf(field);
+            if (index < 0) {
+                throw new SQLException("Field " + field.getName() + " not found in table " + table.getName(),
+                        SQLStates.INVALID_FIELD_VALUE.getValue());
+            }
+            this.projection[i] = tableFields.get(index);
+            this.offsets[i] = fieldOffsets[index];
+            this.parsers[i] = FieldFactory.getParser(this.projection[i]);
+            i++;
+        }
+    }
+
+    /**
+     * Gets the next block number in the block chain.
+     *
+     * @param block the block data.
+     * @return the next block number (zero if this is the last block).
+     */
+    static int getNextBlock(final ByteBuffer block) {
+        block.order(ByteOrder.LITTLE_ENDIAN);
+        final int next = block.getShort(0) & 0xFFFF;
+        block.order(ByteOrder.BIG_ENDIAN);
+        return next;
+    }
+
+    /**
+     * Gets the amount of rows in a block.
+     *
+     * @param block the block data.
+     * @return the amount of rows.
+     */
+    int getRowCount(final ByteBuffer block) {
+        block.order(ByteOrder.LITTLE_ENDIAN);
+        final int addDataSize = block.getShort(4);
+        block.order(ByteOrder.BIG_ENDIAN);
+        if (addDataSize < 0) {
+            // Empty block.
+            return 0;
+        }
+        return (addDataSize / this.table.getRecordSize()) + 1;
+    }
+
+    /**
+     * Read the projected fields of a row. Fields not in projection are skipped without decoding.
+     *
+     * @param block the block data in big endian order.
+     * @param row   the row index inside the block.
+     * @return the row values.
+     * @throws SQLException in case of parse errors.
+     */
+    List<FieldValue> decode(final ByteBuffer block, final int row) throws SQLException {
+        final List<FieldValue> values = new ArrayList<>(this.projection.length);
+        final int rowStart = BLOCK_HEADER_SIZE + (row * this.table.getRecordSize());
+
+        for (int i = 0; i < this.projection.length; i++) {
+            position(block, rowStart + this.offsets[i]);
+            final FieldValue fieldValue = this.parsers[i].parse(this.table, block, this.projection[i]);
+            fieldValue.setField(this.projection[i]);
+            values.add(fieldValue);
+        }
+        return values;
+    }
+
+    /**
+     * Read the projected fields of a row into a column batch. The batch columns must be in projection order.
+     *
+     * @param block    the block data in big endian order.
+     * @param row      the row index inside the block.
+     * @param batch    the batch to fill.
+     * @param batchRow the row in batch to store the values.
+     * @throws SQLException in case of parse errors.
+     */
+    void decode(final ByteBuffer block, final int row, final ColumnBatch batch, final int batchRow)
+            throws SQLException {
+        final int rowStart = BLOCK_HEADER_SIZE + (row * this.table.getRecordSize());
+        for (int i = 0; i < this.projection.length; i++) {
+            batch.getColumn(i).decode(this.table, block, rowStart + this.offsets[i], batchRow);
+        }
+    }
+
+    /**
+     * Gets the projected fields.
+     *
+     * @return the projected fields.
+     */
+    List<ParadoxField> getProjection() {
+        return Arrays.asList(this.projection);
+    }
+}
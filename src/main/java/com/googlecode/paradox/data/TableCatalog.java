@@ -0,0 +1,195 @@
+/*
+ * TableCatalog.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Utils;
+import com.googlecode.paradox.utils.filefilters.TableFilter;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Caches the table headers of a connection, so the table files are parsed only once while they are not changed.
+ * <p>
+ * The headers are validated by the file size and modification time, and the table names of each schema are validated
+ * by the directory modification time.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class TableCatalog {
+
+    /**
+     * The connection owning the tables.
+     */
+    private final ParadoxConnection connection;
+
+    /**
+     * The table files by schema directory.
+     */
+    private final Map<File, SchemaEntry> schemas = new HashMap<>();
+
+    /**
+     * The parsed headers by table file.
+     */
+    private final Map<File, TableEntry> tables = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connection the connection owning the tables.
+     */
+    public TableCatalog(final ParadoxConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Finds a table by its name.
+     *
+     * @param schema the schema directory.
+     * @param name   the table name (case insensitive, with or without extension).
+     * @return the table or null if not found.
+     * @throws SQLException in case of reading failures.
+     */
+    public synchronized ParadoxTable findTable(final File schema, final String name) throws SQLException {
+        final String key = Utils.removeDb(name).toUpperCase(Locale.US);
+
+        SchemaEntry entry = this.schemas.get(schema);
+        if ((entry == null) || (entry.lastModified != schema.lastModified())) {
+            entry = this.listSchema(schema);
+        }
+
+        File file = entry.files.get(key);
+        if ((file == null) || !file.isFile()) {
+            // The directory time may have low resolution, so check again before giving up.
+            entry = this.listSchema(schema);
+            file = entry.files.get(key);
+        }
+
+        if (file == null) {
+            return null;
+        }
+        return this.getTable(file);
+    }
+
+    /**
+     * Gets the table of a file, parsing its header only if it was changed since the last read.
+     *
+     * @param file the table file.
+     * @return the table.
+     * @throws SQLException in case of reading failures.
+     */
+    public synchronized ParadoxTable getTable(final File file) throws SQLException {
+        final long length = file.length();
+        final long lastModified = file.lastModified();
+
+        TableEntry entry = this.tables.get(file);
+        if ((entry == null) || (entry.length != length) || (entry.lastModified != lastModified)) {
+            entry = new TableEntry(TableData.loadTableHeader(file, this.connection), length, lastModified);
+            this.tables.put(file, entry);
+        }
+        return entry.table;
+    }
+
+    /**
+     * Remove all cached tables.
+     */
+    public synchronized void clear() {
+        this.schemas.clear();
+        this.tables.clear();
+    }
+
+    /**
+     * Lists the table files in a schema.
+     *
+     * @param schema the schema directory.
+     * @return the schema entry.
+     */
+    private SchemaEntry listSchema(final File schema) {
+        final SchemaEntry entry = new SchemaEntry(schema.lastModified());
+        final File[] fileList = schema.listFiles(new TableFilter());
+        if (fileList != null) {
+            Arrays.sort(fileList);
+            for (final File file : fileList) {
+                final String key = Utils.removeDb(file.getName()).toUpperCase(Locale.US);
+                if (!entry.files.containsKey(key)) {
+                    entry.files.put(key, file);
+                }
+            }
+        }
+        this.schemas.put(schema, entry);
+        return entry;
+    }
+
+    /**
+     * The table files of a schema.
+     */
+    private static final class SchemaEntry {
+
+        /**
+         * The table files by upper case name.
+         */
+        private final Map<String, File> files = new HashMap<>();
+
+        /**
+         * The directory modification time.
+         */
+        private final long lastModified;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param lastModified the directory modification time.
+         */
+        SchemaEntry(final long lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * A parsed table header.
+     */
+    private static final class TableEntry {
+
+        /**
+         * The parsed table.
+         */
+        private final ParadoxTable table;
+
+        /**
+         * The file size.
+         */
+        private final long length;
+
+        /**
+         * The file modification time.
+         */
+        private final long lastModified;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param table        the parsed table.
+         * @param length       the file size.
+         * @param lastModified the file modification time.
+         */
+        TableEntry(final ParadoxTable table, final long length, final long lastModified) {
+            this.table = table;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
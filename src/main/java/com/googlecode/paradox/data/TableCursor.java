@@ -0,0 +1,155 @@
+/*
+ * TableCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.block.BlockReader;
+import com.googlecode.paradox.data.block.BlockReaderFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the table rows on demand. Only the current block is kept in memory, the next one is read when all rows of
+ * the current block are consumed. The blocks are read by the {@link BlockReader} chosen in connection.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class TableCursor implements RowCursor {
+
+    /**
+     * The table to read of.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The row decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The block reader.
+     */
+    private final BlockReader reader;
+
+    /**
+     * The current block data.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The next block to read (zero if there is no more blocks).
+     */
+    private int nextBlock;
+
+    /**
+     * Rows in the current block.
+     */
+    private int rowsInBlock;
+
+    /**
+     * Rows already read from the current block.
+     */
+    private int rowsRead;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read (the row values are in this order).
+     * @throws SQLException if a field is not in the table.
+     */
+    TableCursor(final ParadoxTable table, final Collection<ParadoxField> fields) throws SQLException {
+        this.table = table;
+        this.decoder = new RowDecoder(table, fields);
+        this.reader = BlockReaderFactory.create(table);
+        this.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        while (this.rowsRead >= this.rowsInBlock) {
+            if (this.nextBlock == 0) {
+                this.row = null;
+                this.close();
+                return false;
+            }
+            this.readBlock();
+        }
+
+        this.row = this.decoder.decode(this.buffer, this.rowsRead);
+        this.rowsRead++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        if (this.table.getUsedBlocks() == 0) {
+            this.nextBlock = 0;
+        } else {
+            this.nextBlock = this.table.getFirstBlock();
+        }
+        this.rowsInBlock = 0;
+        this.rowsRead = 0;
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.buffer = null;
+        this.reader.close();
+    }
+
+    /**
+     * Reads the next block in the block list.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void readBlock() throws SQLException {
+        try {
+            this.buffer = this.reader.read(this.nextBlock);
+        } catch (final SQLException e) {
+            this.close();
+            throw e;
+        }
+
+        this.nextBlock = RowDecoder.getNextBlock(this.buffer);
+        this.rowsInBlock = this.decoder.getRowCount(this.buffer);
+        this.rowsRead = 0;
+    }
+}
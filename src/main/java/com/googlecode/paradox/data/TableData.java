@@ -9,9 +9,14 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.batch.RowFilter;
 import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxDataFile;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.ColumnarCursor;
+import com.googlecode.paradox.rowset.RowCursor;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
@@ -37,7 +42,7 @@ import static com.googlecode.paradox.utils.Utils.position;
  * Utility class for loading table files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public final class TableData extends AbstractParadoxData {
@@ -63,8 +68,7 @@ public final class TableData extends AbstractParadoxData {
         final File[] fileList = currentSchema.listFiles(new TableFilter());
         if (fileList != null) {
             for (final File file : fileList) {
-                final ParadoxTable table = TableData.loadTableHeader(file, connection);
-                tables.add(table);
+                tables.add(TableData.getTable(file, connection));
             }
         }
         return tables;
@@ -86,13 +90,41 @@ public final class TableData extends AbstractParadoxData {
         if (fileList != null) {
             Arrays.sort(fileList);
             for (final File file : fileList) {
-                final ParadoxTable table = TableData.loadTableHeader(file, connection);
-                tables.add(table);
+                tables.add(TableData.getTable(file, connection));
             }
         }
         return tables;
     }
 
+    /**
+     * Finds a table by its name, using the connection table catalog.
+     *
+     * @param schema     the schema directory.
+     * @param name       the table name.
+     * @param connection the database connection.
+     * @return the table or null if not found.
+     * @throws SQLException in case of failures.
+     */
+    public static ParadoxTable findTable(final File schema, final String name, final ParadoxConnection connection)
+            throws SQLException {
+        return connection.getTableCatalog().findTable(schema, name);
+    }
+
+    /**
+     * Gets the table of a file, using the connection table catalog if available.
+     *
+     * @param file       the table file.
+     * @param connection the database connection.
+     * @return the table.
+     * @throws SQLException in case of failures.
+     */
+    private static ParadoxTable getTable(final File file, final ParadoxConnection connection) throws SQLException {
+        if (connection == null) {
+            return TableData.loadTableHeader(file, null);
+        }
+        return connection.getTableCatalog().getTable(file);
+    }
+
     /**
      * Load the table data from file.
      *
@@ -104,42 +136,107 @@ public final class TableData extends AbstractParadoxData {
     public static List<List<FieldValue>> loadData(final ParadoxTable table,
             final Collection<ParadoxField> fields) throws SQLException {
         final List<List<FieldValue>> ret = new ArrayList<>();
-
-        final int blockSize = table.getBlockSizeBytes();
-        final int recordSize = table.getRecordSize();
-        final int headerSize = table.getHeaderSize();
-        final ByteBuffer buffer = ByteBuffer.allocate(blockSize);
-
-        try (FileInputStream fs = new FileInputStream(table.getFile()); FileChannel channel = fs.getChannel()) {
-            if (table.getUsedBlocks() == 0) {
-                return ret;
+        try (RowCursor cursor = TableData.openCursor(table, fields)) {
+            while (cursor.next()) {
+                ret.add(cursor.getRow());
             }
-            long nextBlock = table.getFirstBlock();
-            do {
-                buffer.order(ByteOrder.LITTLE_ENDIAN);
-                channel.position(headerSize + ((nextBlock - 1) * blockSize));
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a cursor to read the table rows on demand.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read, in the order of the row values.
+     * @return the table cursor.
+     * @throws SQLException if a field is not in the table.
+     */
+    public static RowCursor openCursor(final ParadoxTable table, final Collection<ParadoxField> fields)
+            throws SQLException {
+        final ParadoxConnection conn = table.getConnection();
+        if ((conn != null) && conn.isParallelScan() && (table.getUsedBlocks() > ParallelScanTask.BLOCKS_PER_TASK)) {
+            return new ParallelTableCursor(table, fields);
+        }
+        return new TableCursor(table, fields);
+    }
 
-                clear(buffer);
-                channel.read(buffer);
-                flip(buffer);
+    /**
+     * Creates a cursor to read the table rows in column batches.
+     *
+     * @param table        the table to read.
+     * @param fields       the fields to read.
+     * @param columns      the field index of each result column (null to use the fields order).
+     * @param filter       the row filter (null to keep all rows).
+     * @param recordFilter the encoded record filter, checked before decoding (null to decode all rows).
+     * @return the table cursor.
+     * @throws SQLException if a field is not in the table.
+     */
+    public static ColumnarCursor openBatchCursor(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final int[] columns, final RowFilter filter, final RecordFilter recordFilter) throws SQLException {
+        return new BatchTableCursor(table, fields, columns, filter, recordFilter, null, false);
+    }
 
-                nextBlock = buffer.getShort();
-                // The block number.
-                buffer.getShort();
+    /**
+     * Creates a cursor to read some table blocks in column batches.
+     *
+     * @param table        the table to read.
+     * @param fields       the fields to read.
+     * @param columns      the field index of each result column (null to use the fields order).
+     * @param filter       the row filter (null to keep all rows).
+     * @param recordFilter the encoded record filter, checked before decoding (null to decode all rows).
+     * @param blocks       the blocks to read, in read order.
+     * @param reverse      if the rows of each block are read last to first.
+     * @return the table cursor.
+     * @throws SQLException if a field is not in the table.
+     */
+    public static ColumnarCursor openBatchCursor(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final int[] columns, final RowFilter filter, final RecordFilter recordFilter, final int[] blocks,
+            final boolean reverse) throws SQLException {
+        return new BatchTableCursor(table, fields, columns, filter, recordFilter, blocks, reverse);
+    }
 
-                final int addDataSize = buffer.getShort() & 0xFFFF;
-                final int rowsInBlock = (addDataSize / recordSize) + 1;
+    /**
+     * Reads the block chain of a table or index using only the block headers.
+     *
+     * @param table the table or index to read.
+     * @return the block numbers in chain order.
+     * @throws SQLException in case of I/O errors.
+     */
+    public static int[] readBlockChain(final ParadoxDataFile table) throws SQLException {
+        if (table.getUsedBlocks() == 0) {
+            return new int[0];
+        }
 
-                buffer.order(ByteOrder.BIG_ENDIAN);
+        // The block size is always in KiB.
+        final int blockSize = table.getBlockSize() * 1_024;
+        final int maxBlocks = Math.max(table.getTotalBlocks(), table.getUsedBlocks());
+        final ByteBuffer header = ByteBuffer.allocate(2);
+        header.order(ByteOrder.LITTLE_ENDIAN);
 
-                for (int loop = 0; loop < rowsInBlock; loop++) {
-                    ret.add(TableData.readRow(table, fields, buffer));
+        int[] blocks = new int[table.getUsedBlocks()];
+        int size = 0;
+        try (FileInputStream fs = new FileInputStream(table.getFile()); FileChannel channel = fs.getChannel()) {
+            int block = table.getFirstBlock();
+            while (block != 0) {
+                if (size >= maxBlocks) {
+                    throw new SQLException("Invalid block chain in table " + table.getName(),
+                            SQLStates.LOAD_DATA.getValue());
+                }
+                if (size == blocks.length) {
+                    blocks = Arrays.copyOf(blocks, size * 2);
                 }
-            } while (nextBlock != 0);
+                blocks[size++] = block;
+
+                clear(header);
+                channel.read(header, table.getHeaderSize() + ((long) (block - 1) * blockSize));
+                flip(header);
+                block = header.getShort() & 0xFFFF;
+            }
         } catch (final IOException e) {
             throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
         }
-        return ret;
+        return Arrays.copyOf(blocks, size);
     }
 
     /**
@@ -170,7 +267,7 @@ public final class TableData extends AbstractParadoxData {
      * @return the {@link ParadoxTable}.
      * @throws SQLException in case of reading errors.
      */
-    private static ParadoxTable loadTableHeader(final File file, final ParadoxConnection connection) throws
+    static ParadoxTable loadTableHeader(final File file, final ParadoxConnection connection) throws
             SQLException {
         final ParadoxTable table = new ParadoxTable(file, file.getName(), connection);
         ByteBuffer buffer = ByteBuffer.allocate(2048);
@@ -283,29 +380,4 @@ public final class TableData extends AbstractParadoxData {
         }
         table.setFieldsOrder(fieldsOrder);
     }
-
-    /**
-     * Read a entire row.
-     *
-     * @param table  the table to read of.
-     * @param fields the fields to read.
-     * @param buffer the buffer to read of.
-     * @return the row.
-     * @throws SQLException in case of parse errors.
-     */
-    private static List<FieldValue> readRow(final ParadoxTable table, final Collection<ParadoxField> fields,
-            final ByteBuffer buffer) throws SQLException {
-        final List<FieldValue> row = new ArrayList<>();
-
-        for (final ParadoxField field : table.getFields()) {
-            final FieldValue fieldValue = FieldFactory.parse(table, buffer, field);
-
-            // Field filter
-            if (fields.contains(field) && (fieldValue != null)) {
-                fieldValue.setField(field);
-                row.add(fieldValue);
-            }
-        }
-        return row;
-    }
 }
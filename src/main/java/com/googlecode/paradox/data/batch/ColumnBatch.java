@@ -0,0 +1,150 @@
+/*
+ * ColumnBatch.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+
+import java.util.List;
+
+/**
+ * A batch of rows stored by column. The vectors are reused for every batch, so reading a table allocates the arrays
+ * only once.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ColumnBatch {
+
+    /**
+     * Default amount of rows in a batch.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The columns.
+     */
+    private final ColumnVector[] vectors;
+
+    /**
+     * The amount of rows in batch.
+     */
+    private final int capacity;
+
+    /**
+     * The amount of rows filled.
+     */
+    private int size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fields   the fields of each column.
+     * @param capacity the amount of rows in batch.
+     */
+    public ColumnBatch(final List<ParadoxField> fields, final int capacity) {
+        this.capacity = capacity;
+        this.vectors = new ColumnVector[fields.size()];
+        for (int i = 0; i < this.vectors.length; i++) {
+            this.vectors[i] = ColumnBatch.createVector(fields.get(i), capacity);
+        }
+    }
+
+    /**
+     * Creates the vector for a field type.
+     *
+     * @param field    the field.
+     * @param capacity the amount of rows in batch.
+     * @return the vector.
+     */
+    static ColumnVector createVector(final ParadoxField field, final int capacity) {
+        switch (field.getType()) {
+            case 1:
+                return new StringVector(field, capacity);
+            case 2:
+                return new DateVector(field, capacity);
+            case 3:
+                return new IntVector(field, false, capacity);
+            case 4:
+                return new LongVector(field, capacity);
+            case 5:
+            case 6:
+                return new DoubleVector(field, capacity);
+            case 0x16:
+                return new IntVector(field, true, capacity);
+            default:
+                return new ObjectVector(field, capacity);
+        }
+    }
+
+    /**
+     * Gets a column.
+     *
+     * @param index the column index (zero based).
+     * @return the column.
+     */
+    public ColumnVector getColumn(final int index) {
+        return this.vectors[index];
+    }
+
+    /**
+     * Gets the amount of columns.
+     *
+     * @return the amount of columns.
+     */
+    public int getColumnCount() {
+        return this.vectors.length;
+    }
+
+    /**
+     * Gets the amount of rows in batch.
+     *
+     * @return the batch capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the amount of rows filled.
+     *
+     * @return the amount of rows filled.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Sets the amount of rows filled.
+     *
+     * @param size the amount of rows filled.
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * If there is no room for more rows.
+     *
+     * @return true if the batch is full.
+     */
+    public boolean isFull() {
+        return this.size >= this.capacity;
+    }
+
+    /**
+     * Discards all rows.
+     */
+    public void clear() {
+        this.size = 0;
+        for (final ColumnVector vector : this.vectors) {
+            vector.clear();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * ColumnVector.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * The values of one field in a {@link ColumnBatch}. Each implementation keeps the values in a primitive array and the
+ * null values in a bitmap, so reading a value does not box it.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public abstract class ColumnVector {
+
+    /**
+     * Error message for invalid types.
+     */
+    private static final String ERROR_INVALID_TYPE = "Invalid field type.";
+
+    /**
+     * The field of this column.
+     */
+    private final ParadoxField field;
+
+    /**
+     * The SQL type of this column.
+     */
+    private final int sqlType;
+
+    /**
+     * The null bitmap, one bit per row.
+     */
+    private long[] nulls;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field    the field of this column.
+     * @param sqlType  the SQL type of this column.
+     * @param capacity the amount of rows in batch.
+     */
+    protected ColumnVector(final ParadoxField field, final int sqlType, final int capacity) {
+        this.field = field;
+        this.sqlType = sqlType;
+        this.nulls = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * Decodes one value.
+     *
+     * @param table    the table of the record.
+     * @param block    the block data in big endian order.
+     * @param position the value position in block.
+     * @param row      the row in this vector to store the value.
+     * @throws SQLException in case of parse errors.
+     */
+    public abstract void decode(final ParadoxTable table, final ByteBuffer block, final int position, final int row)
+            throws SQLException;
+
+    /**
+     * Gets the value as Java object.
+     *
+     * @param row the row to read.
+     * @return the value (null if it is a null value).
+     */
+    public abstract Object getValue(final int row);
+
+    /**
+     * Gets the value as a {@link FieldValue}.
+     *
+     * @param row the row to read.
+     * @return the field value.
+     */
+    public FieldValue getFieldValue(final int row) {
+        final FieldValue value;
+        if (this.isNull(row)) {
+            value = new FieldValue(this.sqlType);
+        } else {
+            value = new FieldValue(this.getValue(row), this.sqlType);
+        }
+        value.setField(this.field);
+        return value;
+    }
+
+    /**
+     * Gets the value as int.
+     *
+     * @param row the row to read.
+     * @return the value.
+     * @throws SQLDataException if this is not a numeric column.
+     */
+    public int getInt(final int row) throws SQLDataException {
+        throw new SQLDataException(ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+    }
+
+    /**
+     * Gets the value as long.
+     *
+     * @param row the row to read.
+     * @return the value.
+     * @throws SQLDataException if this is not a numeric column.
+     */
+    public long getLong(final int row) throws SQLDataException {
+        throw new SQLDataException(ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+    }
+
+    /**
+     * Gets the value as double.
+     *
+     * @param row the row to read.
+     * @return the value.
+     * @throws SQLDataException if this is not a numeric column.
+     */
+    public double getDouble(final int row) throws SQLDataException {
+        throw new SQLDataException(ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+    }
+
+    /**
+     * If the value is null.
+     *
+     * @param row the row to read.
+     * @return true if the value is null.
+     */
+    public final boolean isNull(final int row) {
+        return (this.nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Sets the null flag of a row.
+     *
+     * @param row    the row to change.
+     * @param isNull if the value is null.
+     */
+    protected final void setNull(final int row, final boolean isNull) {
+        if (isNull) {
+            this.nulls[row >>> 6] |= 1L << row;
+        } else {
+            this.nulls[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    /**
+     * Marks all rows as not null.
+     */
+    public void clear() {
+        Arrays.fill(this.nulls, 0L);
+    }
+
+    /**
+     * Gets the field of this column.
+     *
+     * @return the field of this column.
+     */
+    public final ParadoxField getField() {
+        return this.field;
+    }
+
+    /**
+     * Gets the SQL type of this column.
+     *
+     * @return the SQL type.
+     */
+    public final int getSqlType() {
+        return this.sqlType;
+    }
+}
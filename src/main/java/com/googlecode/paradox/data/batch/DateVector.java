@@ -0,0 +1,79 @@
+/*
+ * DateVector.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.DateUtils;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+
+/**
+ * Column of date fields. The dates are stored as days since 1970-01-01.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class DateVector extends ColumnVector {
+
+    /**
+     * Paradox day zero in serial day number (SDN).
+     */
+    public static final int PARADOX_SDN = 1_721_425;
+
+    /**
+     * The 1970-01-01 serial day number (SDN).
+     */
+    public static final int EPOCH_SDN = 2_440_588;
+
+    /**
+     * The days since epoch.
+     */
+    private final int[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field    the field of this column.
+     * @param capacity the amount of rows in batch.
+     */
+    public DateVector(final ParadoxField field, final int capacity) {
+        super(field, Types.DATE, capacity);
+        this.values = new int[capacity];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void decode(final ParadoxTable table, final ByteBuffer block, final int position, final int row) {
+        final int days = block.getInt(position) & 0x0FFF_FFFF;
+        this.values[row] = (days + PARADOX_SDN) - EPOCH_SDN;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object getValue(final int row) {
+        return DateUtils.sdnToGregorian((long) this.values[row] + EPOCH_SDN);
+    }
+
+    /**
+     * Gets the date as days since 1970-01-01.
+     *
+     * @param row the row to read.
+     * @return the days since epoch.
+     */
+    public int getEpochDay(final int row) {
+        return this.values[row];
+    }
+}
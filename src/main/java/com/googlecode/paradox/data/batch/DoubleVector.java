@@ -0,0 +1,87 @@
+/*
+ * DoubleVector.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+
+/**
+ * Column of number and currency fields.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class DoubleVector extends ColumnVector {
+
+    /**
+     * The values.
+     */
+    private final double[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field    the field of this column.
+     * @param capacity the amount of rows in batch.
+     */
+    public DoubleVector(final ParadoxField field, final int capacity) {
+        super(field, Types.DOUBLE, capacity);
+        this.values = new double[capacity];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void decode(final ParadoxTable table, final ByteBuffer block, final int position, final int row) {
+        long value = block.getLong(position);
+        if ((value >>> 63) == 1) {
+            value &= 0x7FFFFFFFFFFFFFFFL;
+        } else {
+            value = ~value;
+        }
+        this.values[row] = Double.longBitsToDouble(value);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object getValue(final int row) {
+        return this.values[row];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getInt(final int row) {
+        return (int) this.values[row];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getLong(final int row) {
+        return (long) this.values[row];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getDouble(final int row) {
+        return this.values[row];
+    }
+}
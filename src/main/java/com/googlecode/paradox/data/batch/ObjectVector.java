@@ -0,0 +1,93 @@
+/*
+ * ObjectVector.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.data.FieldFactory;
+import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * Column of the fields without a primitive representation (time, timestamp, boolean, memo, blob, etc.). The values
+ * are decoded by the field parser and kept as parsed.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ObjectVector extends ColumnVector {
+
+    /**
+     * The field parser.
+     */
+    private final FieldParser parser;
+
+    /**
+     * The values.
+     */
+    private final FieldValue[] values;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field    the field of this column.
+     * @param capacity the amount of rows in batch.
+     */
+    public ObjectVector(final ParadoxField field, final int capacity) {
+        super(field, Types.OTHER, capacity);
+        this.parser = FieldFactory.getParser(field);
+        this.values = new FieldValue[capacity];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void decode(final ParadoxTable table, final ByteBuffer block, final int position, final int row)
+            throws SQLException {
+        position(block, position);
+        final FieldValue value = this.parser.parse(table, block, this.getField());
+        value.setField(this.getField());
+        this.values[row] = value;
+        this.setNull(row, value.isNull());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object getValue(final int row) {
+        return this.values[row].getValue();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getFieldValue(final int row) {
+        return this.values[row];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(this.values, null);
+    }
+}
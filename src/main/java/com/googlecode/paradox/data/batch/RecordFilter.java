@@ -0,0 +1,32 @@
+/*
+ * RecordFilter.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+/**
+ * Filters the records by their encoded bytes, before any field is decoded.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface RecordFilter {
+
+    /**
+     * If the record must be decoded.
+     *
+     * @param block       the block data in big endian order.
+     * @param recordStart the record position in block.
+     * @return true if the record must be decoded.
+     * @throws SQLException in case of evaluation errors.
+     */
+    boolean accept(final ByteBuffer block, final int recordStart) throws SQLException;
+}
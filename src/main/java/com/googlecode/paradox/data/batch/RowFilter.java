@@ -0,0 +1,31 @@
+/*
+ * RowFilter.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import java.sql.SQLException;
+
+/**
+ * Filters the rows of a {@link ColumnBatch} while it is filled.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface RowFilter {
+
+    /**
+     * If the row must be kept.
+     *
+     * @param batch the batch.
+     * @param row   the row in batch.
+     * @return true if the row must be kept.
+     * @throws SQLException in case of evaluation errors.
+     */
+    boolean accept(final ColumnBatch batch, final int row) throws SQLException;
+}
@@ -0,0 +1,102 @@
+/*
+ * StringVector.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.StringDecoder;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Column of alpha fields. All the characters of the batch are kept in one array, each row has an offset and a length
+ * into it, so a batch allocates no strings until a value is requested.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class StringVector extends ColumnVector {
+
+    /**
+     * The characters of all rows.
+     */
+    private char[] data;
+
+    /**
+     * The start of each row in data.
+     */
+    private final int[] offsets;
+
+    /**
+     * The length of each row.
+     */
+    private final int[] lengths;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field    the field of this column.
+     * @param capacity the amount of rows in batch.
+     */
+    public StringVector(final ParadoxField field, final int capacity) {
+        super(field, Types.VARCHAR, capacity);
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+        this.data = new char[Math.max(16, field.getSize()) * Math.min(capacity, 64)];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void decode(final ParadoxTable table, final ByteBuffer block, final int position, final int row) {
+        int start = 0;
+        if (row > 0) {
+            start = this.offsets[row - 1] + this.lengths[row - 1];
+        }
+        final int size = this.getField().getSize();
+        if ((start + size) > this.data.length) {
+            this.data = Arrays.copyOf(this.data, Math.max(start + size, this.data.length * 2));
+        }
+        this.offsets[row] = start;
+        this.lengths[row] = StringDecoder.decode(block, position, size, table.getCharset(), this.data, start);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object getValue(final int row) {
+        return new String(this.data, this.offsets[row], this.lengths[row]);
+    }
+
+    /**
+     * Gets the value length in chars.
+     *
+     * @param row the row to read.
+     * @return the value length.
+     */
+    public int getLength(final int row) {
+        return this.lengths[row];
+    }
+
+    /**
+     * Gets one char of a value.
+     *
+     * @param row   the row to read.
+     * @param index the char index inside the value.
+     * @return the char.
+     */
+    public char charAt(final int row, final int index) {
+        return this.data[this.offsets[row] + index];
+    }
+}
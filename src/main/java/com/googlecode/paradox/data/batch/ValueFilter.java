@@ -0,0 +1,32 @@
+/*
+ * ValueFilter.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.batch;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+
+/**
+ * Checks a single field value, like the keys read from an index.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface ValueFilter {
+
+    /**
+     * Checks if a value is accepted.
+     *
+     * @param value the field value.
+     * @return true if the value is accepted.
+     * @throws SQLException in case of evaluation errors.
+     */
+    boolean accept(FieldValue value) throws SQLException;
+}
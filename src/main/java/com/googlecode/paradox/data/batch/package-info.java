@@ -0,0 +1,6 @@
+/**
+ * Columnar representation of the table rows, decoded in batches into primitive arrays.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.data.batch;
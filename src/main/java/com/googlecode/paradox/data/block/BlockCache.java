@@ -0,0 +1,243 @@
+/*
+ * BlockCache.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process wide cache of table blocks, shared by all connections.
+ * <p>
+ * The blocks are kept in least recently used order and evicted when the cached bytes exceed the configured budget.
+ * The file identity used as key includes the file size and modification time, so blocks of a changed file are never
+ * returned and age out of the cache.
+ * <p>
+ * The budget is a process wide setting, set once by the first connection that enables the cache. The later
+ * connections use the cache as it is, so one connection never shrinks the cache of the others.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class BlockCache {
+
+    /**
+     * The shared instance.
+     */
+    private static final BlockCache INSTANCE = new BlockCache();
+
+    /**
+     * Cached blocks in access order.
+     */
+    private final LinkedHashMap<BlockKey, byte[]> blocks = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * The maximum bytes to keep in cache.
+     */
+    private long maxSize;
+
+    /**
+     * The cached bytes.
+     */
+    private long size;
+
+    /**
+     * Cache hits.
+     */
+    private long hits;
+
+    /**
+     * Cache misses.
+     */
+    private long misses;
+
+    /**
+     * Creates a new instance.
+     */
+    BlockCache() {
+        super();
+    }
+
+    /**
+     * Gets the shared instance.
+     *
+     * @return the shared instance.
+     */
+    public static BlockCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets a cached block.
+     *
+     * @param fileId      the file identity.
+     * @param blockNumber the block number.
+     * @return the block data or null if not cached.
+     */
+    public synchronized byte[] get(final String fileId, final int blockNumber) {
+        final byte[] data = this.blocks.get(new BlockKey(fileId, blockNumber));
+        if (data == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return data;
+    }
+
+    /**
+     * Stores a block in cache.
+     *
+     * @param fileId      the file identity.
+     * @param blockNumber the block number.
+     * @param data        the block data.
+     */
+    public synchronized void put(final String fileId, final int blockNumber, final byte[] data) {
+        if (data.length > this.maxSize) {
+            return;
+        }
+
+        final byte[] old = this.blocks.put(new BlockKey(fileId, blockNumber), data);
+        if (old != null) {
+            this.size -= old.length;
+        }
+        this.size += data.length;
+        this.evict();
+    }
+
+    /**
+     * Gets the maximum bytes to keep in cache.
+     *
+     * @return the maximum bytes to keep in cache.
+     */
+    public synchronized long getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Sets the maximum bytes to keep in cache. Zero disables the cache.
+     *
+     * @param maxSize the maximum bytes to keep in cache.
+     */
+    public synchronized void setMaxSize(final long maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.evict();
+    }
+
+    /**
+     * Sets the maximum bytes to keep in cache if the cache is not enabled yet.
+     *
+     * @param maxSize the maximum bytes to keep in cache.
+     * @return true if the cache is enabled, with this or a previous budget.
+     */
+    public synchronized boolean configure(final long maxSize) {
+        if (this.maxSize == 0) {
+            this.setMaxSize(maxSize);
+        }
+        return this.maxSize > 0;
+    }
+
+    /**
+     * Gets the cached bytes.
+     *
+     * @return the cached bytes.
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the cache hits.
+     *
+     * @return the cache hits.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the cache misses.
+     *
+     * @return the cache misses.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Remove all blocks from cache.
+     */
+    public synchronized void clear() {
+        this.blocks.clear();
+        this.size = 0;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * Remove the least recently used blocks until the cache fits in budget.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<BlockKey, byte[]>> iterator = this.blocks.entrySet().iterator();
+        while ((this.size > this.maxSize) && iterator.hasNext()) {
+            this.size -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * The block cache key.
+     */
+    private static final class BlockKey {
+
+        /**
+         * The file identity.
+         */
+        private final String fileId;
+
+        /**
+         * The block number.
+         */
+        private final int blockNumber;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fileId      the file identity.
+         * @param blockNumber the block number.
+         */
+        BlockKey(final String fileId, final int blockNumber) {
+            this.fileId = fileId;
+            this.blockNumber = blockNumber;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj == null) || (this.getClass() != obj.getClass())) {
+                return false;
+            }
+            final BlockKey other = (BlockKey) obj;
+            return (this.blockNumber == other.blockNumber) && this.fileId.equals(other.fileId);
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int hashCode() {
+            return (31 * this.fileId.hashCode()) + this.blockNumber;
+        }
+    }
+}
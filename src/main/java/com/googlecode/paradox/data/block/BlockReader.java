@@ -0,0 +1,42 @@
+/*
+ * BlockReader.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+/**
+ * Reads the data blocks of a table file.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface BlockReader extends AutoCloseable {
+
+    /**
+     * Reads a data block.
+     * <p>
+     * The returned buffer starts at the block header (position zero) and its limit is the amount of block bytes
+     * available. The buffer is only valid until the next call.
+     *
+     * @param blockNumber the block number (starting at one).
+     * @return the block data.
+     * @throws SQLException in case of I/O errors.
+     */
+    ByteBuffer read(int blockNumber) throws SQLException;
+
+    /**
+     * Release the file resources.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,68 @@
+/*
+ * BlockReaderFactory.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.metadata.ParadoxDataFile;
+
+/**
+ * Creates the block readers according to the connection settings.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class BlockReaderFactory {
+
+    /**
+     * Utility class.
+     */
+    private BlockReaderFactory() {
+        // Utility class.
+    }
+
+    /**
+     * Creates a block reader for a data file.
+     *
+     * @param dataFile the data file to read.
+     * @return the block reader.
+     */
+    public static BlockReader create(final ParadoxDataFile dataFile) {
+        BlockReaderType type = BlockReaderType.CHANNEL;
+        boolean cached = false;
+        final ParadoxConnection conn = dataFile.getConnection();
+        if (conn != null) {
+            type = conn.getBlockReaderType();
+            cached = conn.isBlockCacheEnabled();
+        }
+
+        final BlockReader reader = BlockReaderFactory.create(dataFile, type);
+        if (cached && (BlockCache.getInstance().getMaxSize() > 0)) {
+            return new CachedBlockReader(dataFile.getFile(), reader, BlockCache.getInstance());
+        }
+        return reader;
+    }
+
+    /**
+     * Creates a block reader for a data file.
+     *
+     * @param dataFile the data file to read.
+     * @param type     the reader type.
+     * @return the block reader.
+     */
+    public static BlockReader create(final ParadoxDataFile dataFile, final BlockReaderType type) {
+        // The block size is always in KiB.
+        final int blockSize = dataFile.getBlockSize() * 1_024;
+        if (type == BlockReaderType.MMAP) {
+            return new MappedBlockReader(dataFile.getFile(), dataFile.getHeaderSize(), blockSize,
+                    MappedBlockReader.DEFAULT_WINDOW_SIZE);
+        }
+        return new ChannelBlockReader(dataFile.getFile(), dataFile.getHeaderSize(), blockSize);
+    }
+}
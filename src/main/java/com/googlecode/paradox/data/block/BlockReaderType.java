@@ -0,0 +1,49 @@
+/*
+ * BlockReaderType.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+
+/**
+ * Available block reader implementations.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public enum BlockReaderType {
+
+    /**
+     * Reads each block with a file channel into a heap buffer.
+     */
+    CHANNEL,
+
+    /**
+     * Maps the file in memory and reads the blocks directly from the mapped region.
+     */
+    MMAP;
+
+    /**
+     * Gets the reader type by its name.
+     *
+     * @param name the reader name (case insensitive).
+     * @return the reader type.
+     * @throws SQLException if the name is invalid.
+     */
+    public static BlockReaderType fromName(final String name) throws SQLException {
+        for (final BlockReaderType type : BlockReaderType.values()) {
+            if (type.name().equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new SQLException("Invalid block reader: " + name, SQLStates.INVALID_PARAMETER.getValue());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * CachedBlockReader.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+/**
+ * Reads the blocks from the {@link BlockCache}, using other reader on cache misses.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class CachedBlockReader implements BlockReader {
+
+    /**
+     * The reader used on cache misses.
+     */
+    private final BlockReader reader;
+
+    /**
+     * The block cache.
+     */
+    private final BlockCache cache;
+
+    /**
+     * The file identity (path, size and modification time).
+     */
+    private final String fileId;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file   the file to read.
+     * @param reader the reader used on cache misses.
+     * @param cache  the block cache.
+     */
+    CachedBlockReader(final File file, final BlockReader reader, final BlockCache cache) {
+        this.reader = reader;
+        this.cache = cache;
+        this.fileId = CachedBlockReader.getFileId(file);
+    }
+
+    /**
+     * Gets the file identity. A changed file gets a new identity.
+     *
+     * @param file the file.
+     * @return the file identity.
+     */
+    private static String getFileId(final File file) {
+        String path;
+        try {
+            path = file.getCanonicalPath();
+        } catch (final IOException e) {
+            path = file.getAbsolutePath();
+        }
+        return path + '|' + file.length() + '|' + file.lastModified();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ByteBuffer read(final int blockNumber) throws SQLException {
+        byte[] data = this.cache.get(this.fileId, blockNumber);
+        if (data == null) {
+            final ByteBuffer block = this.reader.read(blockNumber);
+            data = new byte[block.remaining()];
+            block.get(data);
+            this.cache.put(this.fileId, blockNumber, data);
+        }
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.reader.close();
+    }
+}
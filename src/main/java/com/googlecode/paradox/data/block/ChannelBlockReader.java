@@ -0,0 +1,114 @@
+/*
+ * ChannelBlockReader.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+
+import static com.googlecode.paradox.utils.Utils.clear;
+import static com.googlecode.paradox.utils.Utils.flip;
+
+/**
+ * Reads the blocks with {@link FileChannel} into a reusable heap buffer.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class ChannelBlockReader implements BlockReader {
+
+    /**
+     * The file to read.
+     */
+    private final File file;
+
+    /**
+     * The first block offset in file.
+     */
+    private final long headerSize;
+
+    /**
+     * The block size in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * The block buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The file {@link java.io.InputStream}.
+     */
+    private FileInputStream fs;
+
+    /**
+     * Channel to read of.
+     */
+    private FileChannel channel;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file       the file to read.
+     * @param headerSize the first block offset in file.
+     * @param blockSize  the block size in bytes.
+     */
+    ChannelBlockReader(final File file, final long headerSize, final int blockSize) {
+        this.file = file;
+        this.headerSize = headerSize;
+        this.blockSize = blockSize;
+        this.buffer = ByteBuffer.allocate(blockSize);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ByteBuffer read(final int blockNumber) throws SQLException {
+        try {
+            if (this.channel == null) {
+                this.fs = new FileInputStream(this.file);
+                this.channel = this.fs.getChannel();
+            }
+
+            clear(this.buffer);
+            this.channel.read(this.buffer, this.headerSize + ((long) (blockNumber - 1) * this.blockSize));
+            flip(this.buffer);
+        } catch (final IOException e) {
+            this.close();
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+        return this.buffer;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+                this.fs.close();
+            } catch (final IOException e) {
+                throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+            } finally {
+                this.channel = null;
+                this.fs = null;
+            }
+        }
+    }
+}
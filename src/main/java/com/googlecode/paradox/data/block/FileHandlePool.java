@@ -0,0 +1,255 @@
+/*
+ * FileHandlePool.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process wide pool of read only file handles, shared by all connections.
+ * <p>
+ * Each file has at most one open channel, counted by its users. The channels are only read with positional reads, so
+ * many threads can use the same channel at once. Unused channels are kept open for the next users, up to
+ * {@link #MAX_IDLE} files, and are reopened when the file changes.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class FileHandlePool {
+
+    /**
+     * The maximum amount of unused channels kept open.
+     */
+    public static final int MAX_IDLE = 32;
+
+    /**
+     * The shared instance.
+     */
+    private static final FileHandlePool INSTANCE = new FileHandlePool();
+
+    /**
+     * Open channels by file.
+     */
+    private final Map<File, Entry> entries = new HashMap<>();
+
+    /**
+     * Unused channels in least recently used order.
+     */
+    private final LinkedHashMap<File, Entry> idle = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Creates a new instance.
+     */
+    FileHandlePool() {
+        super();
+    }
+
+    /**
+     * Gets the shared instance.
+     *
+     * @return the shared instance.
+     */
+    public static FileHandlePool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Acquires a handle of a file, opening it if there is no open channel.
+     *
+     * @param file the file to read.
+     * @return the file handle, to be closed after use.
+     * @throws SQLException in case of I/O errors.
+     */
+    public synchronized Handle acquire(final File file) throws SQLException {
+        final File key = file.getAbsoluteFile();
+        Entry entry = this.entries.get(key);
+        if ((entry != null) && (entry.users == 0) && entry.isStale()) {
+            this.idle.remove(key);
+            this.entries.remove(key);
+            entry.close();
+            entry = null;
+        }
+        if (entry == null) {
+            entry = new Entry(key);
+            this.entries.put(key, entry);
+        }
+        entry.users++;
+        this.idle.remove(key);
+        return new Handle(entry);
+    }
+
+    /**
+     * Gets the amount of open channels.
+     *
+     * @return the amount of open channels.
+     */
+    public synchronized int getOpenFiles() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the amount of users of a file.
+     *
+     * @param file the file.
+     * @return the amount of users (zero if the file is not open).
+     */
+    public synchronized int getUsers(final File file) {
+        final Entry entry = this.entries.get(file.getAbsoluteFile());
+        if (entry == null) {
+            return 0;
+        }
+        return entry.users;
+    }
+
+    /**
+     * Releases a handle.
+     *
+     * @param entry the handle entry.
+     */
+    private synchronized void release(final Entry entry) {
+        entry.users--;
+        if (entry.users > 0) {
+            return;
+        }
+
+        this.idle.put(entry.file, entry);
+        final Iterator<Entry> iterator = this.idle.values().iterator();
+        while ((this.idle.size() > MAX_IDLE) && iterator.hasNext()) {
+            final Entry old = iterator.next();
+            iterator.remove();
+            this.entries.remove(old.file);
+            old.close();
+        }
+    }
+
+    /**
+     * A user of an open file. The channel must only be read with positional reads.
+     */
+    public final class Handle implements AutoCloseable {
+
+        /**
+         * The open file.
+         */
+        private final Entry entry;
+
+        /**
+         * If this handle is released.
+         */
+        private boolean released;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param entry the open file.
+         */
+        Handle(final Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * Gets the file channel.
+         *
+         * @return the file channel.
+         */
+        public FileChannel getChannel() {
+            return this.entry.channel;
+        }
+
+        /**
+         * Releases this handle. The channel can not be used after this.
+         */
+        @Override
+        public void close() {
+            synchronized (FileHandlePool.this) {
+                if (!this.released) {
+                    this.released = true;
+                    FileHandlePool.this.release(this.entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * An open file.
+     */
+    private static final class Entry {
+
+        /**
+         * The file.
+         */
+        private final File file;
+
+        /**
+         * The file channel.
+         */
+        private final FileChannel channel;
+
+        /**
+         * The file size when opened.
+         */
+        private final long length;
+
+        /**
+         * The file modification time when opened.
+         */
+        private final long lastModified;
+
+        /**
+         * The amount of users.
+         */
+        private int users;
+
+        /**
+         * Opens a file.
+         *
+         * @param file the file to open.
+         * @throws SQLException in case of I/O errors.
+         */
+        Entry(final File file) throws SQLException {
+            this.file = file;
+            this.length = file.length();
+            this.lastModified = file.lastModified();
+            try {
+                this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            } catch (final IOException ex) {
+                throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+            }
+        }
+
+        /**
+         * Gets if the file changed since it was opened.
+         *
+         * @return true if the file changed.
+         */
+        boolean isStale() {
+            return (this.file.length() != this.length) || (this.file.lastModified() != this.lastModified);
+        }
+
+        /**
+         * Closes the channel.
+         */
+        void close() {
+            try {
+                this.channel.close();
+            } catch (final IOException ex) {
+                // Nothing to do, the file is not used anymore.
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MappedBlockReader.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+
+import static com.googlecode.paradox.utils.Utils.limit;
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * Reads the blocks from a memory mapped file. Large files are mapped as a sequence of windows, so only one window is
+ * mapped at time.
+ * <p>
+ * The mapped region is released by the garbage collector after {@link #close()}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class MappedBlockReader implements BlockReader {
+
+    /**
+     * Default window size in bytes.
+     */
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The file to read.
+     */
+    private final File file;
+
+    /**
+     * The first block offset in file.
+     */
+    private final long headerSize;
+
+    /**
+     * The block size in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * Blocks per mapped window.
+     */
+    private final int blocksPerWindow;
+
+    /**
+     * The current window.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The current window index.
+     */
+    private int windowIndex = -1;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file       the file to read.
+     * @param headerSize the first block offset in file.
+     * @param blockSize  the block size in bytes.
+     * @param windowSize the maximum mapped window size in bytes.
+     */
+    MappedBlockReader(final File file, final long headerSize, final int blockSize, final int windowSize) {
+        this.file = file;
+        this.headerSize = headerSize;
+        this.blockSize = blockSize;
+        this.blocksPerWindow = Math.max(1, windowSize / blockSize);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ByteBuffer read(final int blockNumber) throws SQLException {
+        final int index = (blockNumber - 1) / this.blocksPerWindow;
+        if (index != this.windowIndex) {
+            this.map(index);
+        }
+
+        final int start = ((blockNumber - 1) % this.blocksPerWindow) * this.blockSize;
+        final ByteBuffer block = this.window.duplicate();
+        if (start >= block.limit()) {
+            throw new SQLException("Block " + blockNumber + " out of file bounds.",
+                    SQLStates.INVALID_IO.getValue());
+        }
+        limit(block, Math.min(block.limit(), start + this.blockSize));
+        position(block, start);
+        return block.slice();
+    }
+
+    /**
+     * Maps a window of the file.
+     *
+     * @param index the window index.
+     * @throws SQLException in case of I/O errors.
+     */
+    private void map(final int index) throws SQLException {
+        this.window = null;
+        this.windowIndex = -1;
+        try (FileInputStream fs = new FileInputStream(this.file); FileChannel channel = fs.getChannel()) {
+            final long start = this.headerSize + ((long) index * this.blocksPerWindow * this.blockSize);
+            final long size = Math.min((long) this.blocksPerWindow * this.blockSize, channel.size() - start);
+            if (size <= 0) {
+                throw new SQLException("Block out of file bounds.", SQLStates.INVALID_IO.getValue());
+            }
+            this.window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            this.windowIndex = index;
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        this.window = null;
+        this.windowIndex = -1;
+    }
+}
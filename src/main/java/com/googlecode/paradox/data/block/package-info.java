@@ -0,0 +1,6 @@
+/**
+ * Table block readers.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.data.block;
@@ -9,11 +9,7 @@
 package com.googlecode.paradox.data.table.value;
 
 import com.googlecode.paradox.metadata.BlobTable;
-import com.googlecode.paradox.rowset.ParadoxClob;
 import com.googlecode.paradox.utils.Utils;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.sql.SQLException;
@@ -24,7 +20,7 @@ import java.sql.SQLException;
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
  * @author Michael Berry
- * @version 1.1
+ * @version 1.2
  * @since 1.2
  */
 public final class ClobDescriptor extends BlobDescriptor {
@@ -59,19 +55,12 @@ public final class ClobDescriptor extends BlobDescriptor {
      * @throws SQLException if something went wrong.
      */
     public String getClobString() throws SQLException {
-        ParadoxClob clob = new ParadoxClob(this);
-        try (InputStream is = clob.getAsciiStream()) {
-            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-            int nRead;
-            byte[] data = new byte[1024];
-            while ((nRead = is.read(data, 0, data.length)) != -1) {
-                buffer.write(data, 0, nRead);
+        if (this.getOffset() == 0) {
+            if (this.getLeader() == null) {
+                return null;
             }
-            buffer.flush();
-            byte[] byteArray = buffer.toByteArray();
-            return new String(byteArray);
-        } catch (IOException ex) {
-            throw new SQLException("Unable to read field", ex);
+            return this.getLeaderAsStr();
         }
+        return new String(this.getFile().read(this.getOffset()));
     }
 }
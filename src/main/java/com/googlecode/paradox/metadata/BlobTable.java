@@ -9,35 +9,38 @@
 package com.googlecode.paradox.metadata;
 
 import com.googlecode.paradox.ParadoxConnection;
-import com.googlecode.paradox.utils.AllBlockCache;
+import com.googlecode.paradox.data.block.FileHandlePool;
 import com.googlecode.paradox.utils.BlockOffset;
 import com.googlecode.paradox.utils.ClobBlock;
 import com.googlecode.paradox.utils.IBlockCache;
+import com.googlecode.paradox.utils.LruBlockCache;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 
 import static com.googlecode.paradox.utils.Utils.clear;
 import static com.googlecode.paradox.utils.Utils.flip;
 
 /**
  * Read from LOB file of PARADOX format.
+ * <p>
+ * The file is read only with positional reads over a handle of the shared {@link FileHandlePool}, so many threads can
+ * read the values of the same table at once.
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.5
  * @since 1.2
  */
 public final class BlobTable extends ParadoxDataFile {
@@ -68,19 +71,14 @@ public final class BlobTable extends ParadoxDataFile {
     private final IBlockCache cache;
 
     /**
-     * Channel to read of.
+     * The LOB file (null if not found yet).
      */
-    private FileChannel channel;
-
-    /**
-     * This LOB {@link InputStream}.
-     */
-    private FileInputStream fs;
+    private volatile File blobFile;
 
     /**
      * If this LOB is already parsed.
      */
-    private boolean parsed;
+    private volatile boolean parsed;
 
     /**
      * Creates a new instance.
@@ -91,23 +89,30 @@ public final class BlobTable extends ParadoxDataFile {
      */
     BlobTable(final File file, final String name, final ParadoxConnection connection) {
         super(file, Utils.removeMb(name), connection);
-        this.cache = new AllBlockCache();
+        if (connection == null) {
+            this.cache = new LruBlockCache(LruBlockCache.DEFAULT_MAX_SIZE);
+        } else {
+            this.cache = connection.createBlobCache();
+        }
         this.parsed = false;
         this.fields = Collections.emptyList();
     }
 
     /**
-     * Close this LOB reference.
+     * Close this LOB reference, removing its blocks from cache. The shared file handle is not closed, and the LOB can
+     * still be read after this.
+     */
+    public void close() {
+        this.cache.close();
+    }
+
+    /**
+     * Gets the block cache of this LOB.
      *
-     * @throws SQLException in case of I/O errors.
+     * @return the block cache.
      */
-    public void close() throws SQLException {
-        try {
-            this.channel.close();
-            this.fs.close();
-        } catch (final IOException ex) {
-            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
-        }
+    public IBlockCache getCache() {
+        return this.cache;
     }
 
     /**
@@ -128,46 +133,149 @@ public final class BlobTable extends ParadoxDataFile {
      * @throws SQLException in case of parse errors.
      */
     public byte[] read(final long pOffset) throws SQLException {
-        if (!this.parsed) {
-            this.open();
-            this.parse();
+        final BlockOffset offset = BlockOffset.fromRawLong(pOffset);
+        ClobBlock block = this.cache.get(offset);
+        if (block == null) {
+            try (FileHandlePool.Handle handle = this.acquire()) {
+                block = BlobTable.readBlock(handle.getChannel(), offset);
+            }
+            this.cache.add(Collections.singletonList(block));
         }
-        return this.getData(BlockOffset.fromRawLong(pOffset));
+        return block.getValue();
     }
 
     /**
-     * Gets the data from LOB file.
+     * Reads part of a LOB value. Only the requested bytes are read from file.
      *
-     * @param offset offset to read of.
-     * @return the data array.
-     * @throws SQLException in case of reading failures.
+     * @param pOffset  offset of the blob's data block in the MB file and an index value.
+     * @param position the first byte to read, starting at zero.
+     * @param length   the amount of bytes to read.
+     * @return the data values.
+     * @throws SQLException in case of parse errors or invalid range.
      */
-    private byte[] getData(final BlockOffset offset) throws SQLException {
-        ClobBlock block = this.cache.get(offset);
+    public byte[] read(final long pOffset, final long position, final int length) throws SQLException {
+        final BlockOffset offset = BlockOffset.fromRawLong(pOffset);
+        final ClobBlock block = this.cache.get(offset);
         if (block != null) {
-            return block.getValue();
+            BlobTable.checkRange(position, length, block.getSize());
+            final byte[] ret = new byte[length];
+            System.arraycopy(block.getValue(), (int) position, ret, 0, length);
+            return ret;
         }
 
-        block = this.readBlock(offset);
-        if (block == null) {
-            throw new SQLException("Block " + offset + " not found. Invalid mb file", SQLStates.LOAD_DATA.getValue());
+        try (FileHandlePool.Handle handle = this.acquire()) {
+            final Location location = BlobTable.locate(handle.getChannel(), offset);
+            BlobTable.checkRange(position, length, location.length);
+            final ByteBuffer buffer = ByteBuffer.allocate(length);
+            BlobTable.readFully(handle.getChannel(), buffer, location.start + position);
+            return buffer.array();
+        } catch (final IOException ex) {
+            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
         }
-        return block.getValue();
     }
 
     /**
-     * Open this LOB to reading.
+     * Gets the length of a LOB value, reading only its block header.
      *
-     * @throws SQLException in case of failures.
+     * @param pOffset offset of the blob's data block in the MB file and an index value.
+     * @return the value length.
+     * @throws SQLException in case of parse errors.
      */
-    private void open() throws SQLException {
+    public long length(final long pOffset) throws SQLException {
+        final BlockOffset offset = BlockOffset.fromRawLong(pOffset);
+        final ClobBlock block = this.cache.get(offset);
+        if (block != null) {
+            return block.getSize();
+        }
+        try (FileHandlePool.Handle handle = this.acquire()) {
+            return BlobTable.locate(handle.getChannel(), offset).length;
+        }
+    }
+
+    /**
+     * Opens a stream over part of a LOB value. The data is read from file as the stream is consumed and is not
+     * cached. The stream holds a file handle until it is closed or fully read.
+     *
+     * @param pOffset  offset of the blob's data block in the MB file and an index value.
+     * @param position the first byte to read, starting at zero.
+     * @param length   the amount of bytes to read (negative to read up to the end).
+     * @return the value stream.
+     * @throws SQLException in case of parse errors or invalid range.
+     */
+    public InputStream openStream(final long pOffset, final long position, final long length) throws SQLException {
+        final BlockOffset offset = BlockOffset.fromRawLong(pOffset);
+        final ClobBlock block = this.cache.get(offset);
+        if (block != null) {
+            final long count = BlobTable.getCount(position, length, block.getSize());
+            return new ByteArrayInputStream(block.getValue(), (int) position, (int) count);
+        }
+
+        final FileHandlePool.Handle handle = this.acquire();
         try {
-            final File blobFile = this.openBlob();
-            this.fs = new FileInputStream(blobFile);
-            this.channel = this.fs.getChannel();
-        } catch (final IOException ex) {
-            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+            final Location location = BlobTable.locate(handle.getChannel(), offset);
+            final long count = BlobTable.getCount(position, length, location.length);
+            return new BlobInputStream(handle, location.start + position, count);
+        } catch (final SQLException ex) {
+            handle.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets the amount of bytes to read of a value, checking the range.
+     *
+     * @param position the first byte.
+     * @param length   the amount of bytes (negative to read up to the end).
+     * @param size     the value size.
+     * @return the amount of bytes to read.
+     * @throws SQLException if the range is out of value.
+     */
+    private static long getCount(final long position, final long length, final long size) throws SQLException {
+        long count = length;
+        if (count < 0) {
+            count = Math.max(0, size - position);
+        }
+        BlobTable.checkRange(position, count, size);
+        return count;
+    }
+
+    /**
+     * Checks if a range is inside a value.
+     *
+     * @param position the first byte.
+     * @param length   the amount of bytes.
+     * @param size     the value size.
+     * @throws SQLException if the range is out of value.
+     */
+    private static void checkRange(final long position, final long length, final long size) throws SQLException {
+        if ((position < 0) || (length < 0) || ((position + length) > size)) {
+            throw new SQLException("Invalid LOB range: " + position + ", " + length, SQLStates.INVALID_PARAMETER
+                    .getValue());
+        }
+    }
+
+    /**
+     * Acquires a handle of the LOB file, checking the file format in first use.
+     *
+     * @return the file handle, to be closed after use.
+     * @throws SQLException in case of failures.
+     */
+    private FileHandlePool.Handle acquire() throws SQLException {
+        File file = this.blobFile;
+        if (file == null) {
+            file = this.openBlob();
+            this.blobFile = file;
+        }
+        final FileHandlePool.Handle handle = FileHandlePool.getInstance().acquire(file);
+        if (!this.parsed) {
+            try {
+                this.parse(handle.getChannel());
+            } catch (final SQLException ex) {
+                handle.close();
+                throw ex;
+            }
         }
+        return handle;
     }
 
     /**
@@ -193,24 +301,21 @@ public final class BlobTable extends ParadoxDataFile {
     /**
      * Parse this LOB file.
      *
+     * @param channel the file channel.
      * @throws SQLException in case of reading failures.
      */
-    private void parse() throws SQLException {
+    private void parse(final FileChannel channel) throws SQLException {
         try {
             // First block - always 4k bytes
-            this.channel.position(0);
             final ByteBuffer buffer = ByteBuffer.allocate(1);
             buffer.order(ByteOrder.LITTLE_ENDIAN);
-            clear(buffer);
-            this.channel.read(buffer);
-            flip(buffer);
+            BlobTable.readFully(channel, buffer, 0);
             final byte headerType = buffer.get();
             if (headerType != 0) {
                 throw new SQLException("Invalid blob format for '" + this.getName() + "'",
                         SQLStates.LOAD_DATA.getValue());
             }
             // No read header (while not necessary)
-            this.channel.position(BlobTable.HEADER_BLOCK_SIZE);
             this.parsed = true;
         } catch (final IOException ex) {
             throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
@@ -218,153 +323,280 @@ public final class BlobTable extends ParadoxDataFile {
     }
 
     /**
-     * Parses free blocks.
-     *
-     * @param startBlockAddress the start block address.
-     * @param blockSize         the block size.
-     * @throws IOException in case of reading errors.
-     */
-    private void parseFreeBlock(final long startBlockAddress, final int blockSize) throws IOException {
-        this.channel.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
-    }
-
-    /**
-     * Parses a single block.
+     * Finds the data of a single block.
      *
+     * @param channel           the file channel.
      * @param startBlockAddress the start block address.
      * @param headerType        the header type.
-     * @param blockSize         the block size.
-     * @throws IOException in case of reading errors.
+     * @param blockSize         the block size in 4 KiB units.
+     * @return the data location.
+     * @throws IOException  in case of reading errors.
+     * @throws SQLException in case of invalid block.
      */
-    private ClobBlock parseSingleBlock(final long startBlockAddress, final byte headerType,
-            final int blockSize) throws IOException {
+    private static Location locateSingleBlock(final FileChannel channel, final long startBlockAddress,
+            final byte headerType, final int blockSize) throws IOException, SQLException {
         final ByteBuffer blockHead = ByteBuffer.allocate(6);
         blockHead.order(ByteOrder.LITTLE_ENDIAN);
-        clear(blockHead);
-        this.channel.read(blockHead);
-        flip(blockHead);
+        BlobTable.readFully(channel, blockHead, startBlockAddress + 3);
         final int blobLength = blockHead.getInt();
         // Modifier.
         blockHead.getShort();
 
-        final ByteBuffer blockData = ByteBuffer.allocate(blobLength);
-        blockData.order(ByteOrder.LITTLE_ENDIAN);
-        clear(blockData);
-        this.channel.read(blockData);
-        flip(blockData);
-        final byte[] values = new byte[blobLength];
-        blockData.get(values);
-        this.channel.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
-        return new ClobBlock(headerType, new BlockOffset(startBlockAddress, 0), values);
+        if ((blobLength < 0) || ((blobLength + 9L) > (blockSize * BlobTable.HEADER_BLOCK_SIZE))) {
+            throw new SQLException("Invalid blob length at " + startBlockAddress, SQLStates.LOAD_DATA.getValue());
+        }
+        return new Location(headerType, startBlockAddress + 9, blobLength);
     }
 
     /**
-     * Parses a sub block.
+     * Finds the data of one entry of a sub block.
      *
+     * @param channel           the file channel.
      * @param startBlockAddress the start block address.
      * @param headerType        the header type.
-     * @throws IOException in case of reading errors.
+     * @param index             the entry index.
+     * @return the data location or null if the entry is deleted.
+     * @throws IOException  in case of reading errors.
+     * @throws SQLException in case of invalid block.
      */
-    private List<ClobBlock> parseSubBlock(final long startBlockAddress, final byte headerType)
-    throws IOException {
-        // There are nine more bytes in the header. I have no idea
-        // what they contain.
-        this.channel.position(this.channel.position() + 9);
-        // 0 - this is header block
-        int n = 0;
-        List<ClobBlock> ret = new ArrayList<>();
-        while (n < 64) {
-            final ByteBuffer blockPointer = ByteBuffer.allocate(5);
-            blockPointer.order(ByteOrder.LITTLE_ENDIAN);
-            clear(blockPointer);
-            this.channel.read(blockPointer);
-            flip(blockPointer);
-            // Data offset divided by 16.
-            final int offset = blockPointer.get() * 0x10;
-            // Data length divided by 16 (rounded up).
-            int ln = blockPointer.get() * 0x10;
-            blockPointer.getShort();
-            // This is reset to 1 by a table restructure.
-            // Data length modulo 16.
-            final int mdl = blockPointer.get();
-            // If offset is zero, then the blob was deleted and
-            // the space has been reused for another blob.
-            if (offset != 0) {
-                final long position = this.channel.position();
-                final long start = offset + startBlockAddress;
-                ln = (ln - 0x10) + mdl;
-                final ByteBuffer blockData = ByteBuffer.allocate(ln);
-                blockData.order(ByteOrder.LITTLE_ENDIAN);
-                clear(blockData);
-                this.channel.position(start);
-                this.channel.read(blockData);
-                flip(blockData);
-                final byte[] values = new byte[ln];
-                blockData.get(values);
-
-                ret.add(new ClobBlock(headerType, new BlockOffset(startBlockAddress, n), values));
-                this.channel.position(position);
-            }
-            n++;
+    private static Location locateSubBlock(final FileChannel channel, final long startBlockAddress,
+            final byte headerType, final int index) throws IOException, SQLException {
+        // The header has nine more bytes of unknown content before the 64 entry pointers.
+        final ByteBuffer blockPointer = ByteBuffer.allocate(5);
+        blockPointer.order(ByteOrder.LITTLE_ENDIAN);
+        BlobTable.readFully(channel, blockPointer, startBlockAddress + 12 + (index * 5L));
+        // Data offset divided by 16.
+        final int offset = (blockPointer.get() & 0xFF) * 0x10;
+        // Data length divided by 16 (rounded up).
+        final int ln = (blockPointer.get() & 0xFF) * 0x10;
+        // This is reset to 1 by a table restructure.
+        blockPointer.getShort();
+        // Data length modulo 16.
+        final int mdl = blockPointer.get();
+
+        // If offset is zero, then the blob was deleted and the space has been reused for another blob.
+        if (offset == 0) {
+            return null;
+        }
+        final int length = (ln - 0x10) + mdl;
+        if ((length < 0) || ((offset + length) > BlobTable.HEADER_BLOCK_SIZE)) {
+            throw new SQLException("Invalid blob length at " + startBlockAddress, SQLStates.LOAD_DATA.getValue());
         }
-        this.channel.position(startBlockAddress + BlobTable.HEADER_BLOCK_SIZE);
-        return ret;
+        return new Location(headerType, startBlockAddress + offset, length);
     }
 
     /**
-     * Read a single block.
+     * Finds the data of an offset. The offset has the block address, so only this block header is read.
      *
+     * @param channel the file channel.
      * @param offset offset of the blob's data block in the MB file and an index
      *               value.
-     * @return the CLOB block.
-     * @throws SQLException in case of parse errors.
+     * @return the data location.
+     * @throws SQLException in case of parse errors or if there is no data in this offset.
      */
-    private ClobBlock readBlock(final BlockOffset offset) throws SQLException {
-        List<ClobBlock> nextBlocks;
-        while ((nextBlocks = this.readNextBlock()) != null) {
-            this.cache.add(nextBlocks);
-            final ClobBlock next = this.cache.get(offset);
-            if (next != null) {
-                return next;
+    private static Location locate(final FileChannel channel, final BlockOffset offset) throws SQLException {
+        final long startBlockAddress = offset.getMainBlockOffset();
+        Location location = null;
+        try {
+            if ((startBlockAddress >= BlobTable.HEADER_BLOCK_SIZE)
+                    && ((startBlockAddress + 3) <= channel.size())) {
+                final ByteBuffer header = ByteBuffer.allocate(3);
+                header.order(ByteOrder.LITTLE_ENDIAN);
+                BlobTable.readFully(channel, header, startBlockAddress);
+                final byte headerType = header.get();
+                final int blockSize = header.getShort() & 0xFFFF;
+
+                if (headerType == BlobTable.SINGLE_BLOCK) {
+                    location = BlobTable.locateSingleBlock(channel, startBlockAddress, headerType, blockSize);
+                } else if (headerType == BlobTable.SUB_BLOCK) {
+                    location = BlobTable.locateSubBlock(channel, startBlockAddress, headerType,
+                            offset.getSubBlockOffset());
+                } else if (headerType != BlobTable.FREE_BLOCK) {
+                    throw new SQLException("Unsupported CLOB block type: " + headerType,
+                            SQLStates.TYPE_NOT_FOUND.getValue());
+                }
             }
+        } catch (final IOException ex) {
+            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
         }
-        return null;
+        if (location == null) {
+            throw new SQLException("Block " + offset + " not found. Invalid mb file", SQLStates.LOAD_DATA.getValue());
+        }
+        return location;
     }
 
     /**
-     * Read the next block in the list.
+     * Reads the block of an offset.
      *
-     * @return true if has no errors.
+     * @param channel the file channel.
+     * @param offset offset of the blob's data block in the MB file and an index
+     *               value.
+     * @return the CLOB block.
      * @throws SQLException in case of parse errors.
      */
-    private List<ClobBlock> readNextBlock() throws SQLException {
-        final List<ClobBlock> blocks = new ArrayList<>();
+    private static ClobBlock readBlock(final FileChannel channel, final BlockOffset offset) throws SQLException {
+        final Location location = BlobTable.locate(channel, offset);
+        final ByteBuffer buffer = ByteBuffer.allocate((int) location.length);
         try {
-            if (this.channel.position() == this.channel.size()) {
-                return Collections.emptyList();
-            }
-            final long startBlockAddress = this.channel.position();
-            final ByteBuffer header = ByteBuffer.allocate(3);
-            header.order(ByteOrder.LITTLE_ENDIAN);
-            clear(header);
-            this.channel.read(header);
-            flip(header);
-            final byte headerType = header.get();
-            final int blockSize = header.getShort();
-
-            if (headerType == BlobTable.SINGLE_BLOCK) {
-                blocks.add(this.parseSingleBlock(startBlockAddress, headerType, blockSize));
-            } else if (headerType == BlobTable.SUB_BLOCK) {
-                blocks.addAll(this.parseSubBlock(startBlockAddress, headerType));
-            } else if (headerType == BlobTable.FREE_BLOCK) {
-                this.parseFreeBlock(startBlockAddress, blockSize);
-            } else {
-                throw new SQLException("Unsupported CLOB block type: " + headerType,
-                        SQLStates.TYPE_NOT_FOUND.getValue());
-            }
+            BlobTable.readFully(channel, buffer, location.start);
         } catch (final IOException ex) {
             throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
         }
-        return blocks;
+        return new ClobBlock(location.type, offset, buffer.array());
+    }
+
+    /**
+     * Fills a buffer from a file position.
+     *
+     * @param channel  the file channel.
+     * @param buffer   the buffer to fill.
+     * @param position the file position.
+     * @throws IOException in case of reading errors or end of file.
+     */
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+            throws IOException {
+        clear(buffer);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of blob file.");
+            }
+        }
+        flip(buffer);
+    }
+
+    /**
+     * The position and length of a LOB value in file.
+     */
+    private static final class Location {
+
+        /**
+         * The block type.
+         */
+        private final byte type;
+
+        /**
+         * The first data byte in file.
+         */
+        private final long start;
+
+        /**
+         * The data length.
+         */
+        private final long length;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param type   the block type.
+         * @param start  the first data byte in file.
+         * @param length the data length.
+         */
+        Location(final byte type, final long start, final long length) {
+            this.type = type;
+            this.start = start;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Reads a LOB value from file as it is consumed, with positional reads.
+     */
+    private static final class BlobInputStream extends InputStream {
+
+        /**
+         * The file handle (null if released).
+         */
+        private FileHandlePool.Handle handle;
+
+        /**
+         * The next byte position in file.
+         */
+        private long position;
+
+        /**
+         * The bytes left to read.
+         */
+        private long remaining;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param handle the file handle.
+         * @param start  the first byte in file.
+         * @param length the bytes to read.
+         */
+        BlobInputStream(final FileHandlePool.Handle handle, final long start, final long length) {
+            this.handle = handle;
+            this.position = start;
+            this.remaining = length;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int read() throws IOException {
+            final byte[] data = new byte[1];
+            if (this.read(data, 0, 1) < 0) {
+                return -1;
+            }
+            return data[0] & 0xFF;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int read(final byte[] data, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            } else if (this.remaining <= 0) {
+                this.close();
+                return -1;
+            } else if (this.handle == null) {
+                throw new IOException("Stream closed.");
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(data, off, (int) Math.min(len, this.remaining));
+            final int count = this.handle.getChannel().read(buffer, this.position);
+            if (count < 0) {
+                throw new EOFException("Unexpected end of blob file.");
+            }
+            this.position += count;
+            this.remaining -= count;
+            if (this.remaining <= 0) {
+                this.close();
+            }
+            return count;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public long skip(final long n) {
+            final long count = Math.max(0, Math.min(n, this.remaining));
+            this.position += count;
+            this.remaining -= count;
+            return count;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, this.remaining);
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void close() {
+            if (this.handle != null) {
+                this.handle.close();
+                this.handle = null;
+            }
+        }
     }
 }
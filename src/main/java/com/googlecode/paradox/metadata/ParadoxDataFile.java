@@ -21,7 +21,7 @@ import java.util.List;
  * Defines the paradox default file structure.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 public class ParadoxDataFile {
@@ -146,6 +146,23 @@ public class ParadoxDataFile {
         return null;
     }
 
+    /**
+     * Gets the position of a field inside the record.
+     *
+     * @param field the field.
+     * @return the field position in bytes or -1 if the field is not in this file.
+     */
+    public final int getFieldOffset(final ParadoxField field) {
+        int offset = 0;
+        for (final ParadoxField current : this.fields) {
+            if (current.equals(field)) {
+                return offset;
+            }
+            offset += current.getPhysicsSize();
+        }
+        return -1;
+    }
+
     /**
      * Gets the increment value.
      *
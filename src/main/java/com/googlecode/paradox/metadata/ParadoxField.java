@@ -327,7 +327,7 @@ public final class ParadoxField {
      *
      * @return the file size in file.
      */
-    int getPhysicsSize() {
+    public int getPhysicsSize() {
         return this.physicsSize;
     }
 
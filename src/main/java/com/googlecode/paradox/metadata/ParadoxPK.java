@@ -10,11 +10,13 @@ package com.googlecode.paradox.metadata;
 
 import com.googlecode.paradox.ParadoxConnection;
 
+import java.io.File;
+
 /**
  * Stores a primary key definition..
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class ParadoxPK extends ParadoxDataFile {
@@ -24,6 +26,16 @@ public final class ParadoxPK extends ParadoxDataFile {
      */
     private int indexFieldNumber;
 
+    /**
+     * The index root block.
+     */
+    private int rootBlock;
+
+    /**
+     * The amount of index levels.
+     */
+    private int indexLevels;
+
     /**
      * Creates a new instance.
      *
@@ -33,6 +45,17 @@ public final class ParadoxPK extends ParadoxDataFile {
         super(null, null, connection);
     }
 
+    /**
+     * Creates a new instance.
+     *
+     * @param file       the index file.
+     * @param name       the index name.
+     * @param connection the database connection.
+     */
+    public ParadoxPK(final File file, final String name, final ParadoxConnection connection) {
+        super(file, name, connection);
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -60,6 +83,42 @@ public final class ParadoxPK extends ParadoxDataFile {
         this.indexFieldNumber = indexFieldNumber;
     }
 
+    /**
+     * Gets the index root block.
+     *
+     * @return the index root block.
+     */
+    public int getRootBlock() {
+        return this.rootBlock;
+    }
+
+    /**
+     * Sets the index root block.
+     *
+     * @param rootBlock the index root block.
+     */
+    public void setRootBlock(final int rootBlock) {
+        this.rootBlock = rootBlock;
+    }
+
+    /**
+     * Gets the amount of index levels. The entries in the last level point to the table blocks.
+     *
+     * @return the amount of index levels.
+     */
+    public int getIndexLevels() {
+        return this.indexLevels;
+    }
+
+    /**
+     * Sets the amount of index levels.
+     *
+     * @param indexLevels the amount of index levels.
+     */
+    public void setIndexLevels(final int indexLevels) {
+        this.indexLevels = indexLevels;
+    }
+
     /**
      * {@inheritDoc}.
      */
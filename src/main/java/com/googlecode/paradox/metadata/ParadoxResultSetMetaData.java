@@ -18,6 +18,7 @@ import com.googlecode.paradox.utils.Utils;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,7 +26,7 @@ import java.util.List;
  * Paradox {@link ResultSetMetaData}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 public final class ParadoxResultSetMetaData implements ResultSetMetaData {
@@ -82,9 +83,52 @@ public final class ParadoxResultSetMetaData implements ResultSetMetaData {
     @Override
     public int getColumnDisplaySize(final int column) throws SQLException {
         final Column dto = this.getColumn(column);
+        if (dto.getField() == null) {
+            return ParadoxResultSetMetaData.getDisplaySize(dto.getType());
+        }
         return dto.getField().getSize();
     }
 
+    /**
+     * Gets the display size of a column without table field, like the aggregate columns.
+     *
+     * @param type the column SQL type.
+     * @return the maximum characters used to display the column values.
+     */
+    private static int getDisplaySize(final int type) {
+        switch (type) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return 5;
+            case Types.TINYINT:
+                return 4;
+            case Types.SMALLINT:
+                return 6;
+            case Types.INTEGER:
+                return 11;
+            case Types.BIGINT:
+                return 20;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return 24;
+            case Types.DATE:
+                return 10;
+            case Types.TIME:
+                return 8;
+            case Types.TIMESTAMP:
+                return 23;
+            case Types.CHAR:
+            case Types.VARCHAR:
+                // Paradox alpha field maximum size.
+                return 255;
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -18,7 +18,7 @@ import java.util.List;
  * Stores a table data file.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 public final class ParadoxTable extends ParadoxDataFile {
@@ -72,11 +72,11 @@ public final class ParadoxTable extends ParadoxDataFile {
     }
 
     /**
-     * Gets the primary keys list.
+     * Gets the primary keys list, in key order.
      *
      * @return the primary keys list.
      */
-    List<ParadoxField> getPrimaryKeys() {
+    public List<ParadoxField> getPrimaryKeys() {
         final ArrayList<ParadoxField> ret = new ArrayList<>();
         for (int loop = 0; loop < this.getPrimaryFieldCount(); loop++) {
             ret.add(this.getFields().get(loop));
@@ -9,8 +9,11 @@
 package com.googlecode.paradox.parser;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.IdentifierNode;
 import com.googlecode.paradox.parser.nodes.JoinNode;
 import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.parser.nodes.OrderByNode;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
@@ -40,7 +43,7 @@ import java.util.List;
  * Parses a SQL statement.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.7
  * @since 1.0
  */
 public final class SQLParser {
@@ -194,42 +197,95 @@ public final class SQLParser {
     }
 
     /**
-     * Parses the conditional statements.
+     * Parses a WHERE or ON condition into an expression tree. The precedence is NOT, AND, XOR and OR, and parentheses
+     * group the conditions.
      *
-     * @return the node.
+     * @param conditions receives the comparisons and operators in text order.
+     * @return the expression tree root.
      * @throws SQLException in case of parse errors.
      */
-    private SQLNode parseCondition() throws SQLException {
-        if (this.token.getType() == TokenType.NOT) {
-            return new NOTNode(this.parseCondition());
-        } else if (this.token.isOperator()) {
-            return this.parseOperators();
-        } else if (this.token.getType() == TokenType.LPAREN) {
-            this.expect(TokenType.RPAREN, "Right parenthesis expected");
-        } else if (this.token.getType() == TokenType.EXISTS) {
-            return this.parseExists();
-        } else {
-            return this.parseFieldNode();
+    private SQLNode parseConditions(final List<SQLNode> conditions) throws SQLException {
+        SQLNode node = this.parseXorCondition(conditions);
+        while ((this.token != null) && (this.token.getType() == TokenType.OR)) {
+            this.expect(TokenType.OR);
+            conditions.add(new ORNode(null));
+            node = new ORNode(node, this.parseXorCondition(conditions));
         }
-        return null;
+        return node;
     }
 
     /**
-     * Parses the conditional listing.
+     * Parses the XOR operands.
      *
-     * @return a list of nodes.
+     * @param conditions receives the comparisons and operators in text order.
+     * @return the expression node.
      * @throws SQLException in case of parse errors.
      */
-    private ArrayList<SQLNode> parseConditionList() throws SQLException {
-        final ArrayList<SQLNode> conditions = new ArrayList<>();
+    private SQLNode parseXorCondition(final List<SQLNode> conditions) throws SQLException {
+        SQLNode node = this.parseAndCondition(conditions);
+        while ((this.token != null) && (this.token.getType() == TokenType.XOR)) {
+            this.expect(TokenType.XOR);
+            conditions.add(new XORNode(null));
+            node = new XORNode(node, this.parseAndCondition(conditions));
+        }
+        return node;
+    }
 
-        while (this.scanner.hasNext()) {
-            if (this.token.isConditionBreak()) {
+    /**
+     * Parses the AND operands.
+     *
+     * @param conditions receives the comparisons and operators in text order.
+     * @return the expression node.
+     * @throws SQLException in case of parse errors.
+     */
+    private SQLNode parseAndCondition(final List<SQLNode> conditions) throws SQLException {
+        SQLNode node = this.parseUnaryCondition(conditions);
+        while ((this.token != null) && (this.token.getType() == TokenType.AND)) {
+            this.expect(TokenType.AND);
+            conditions.add(new ANDNode(null));
+            node = new ANDNode(node, this.parseUnaryCondition(conditions));
+        }
+        return node;
+    }
+
+    /**
+     * Parses a comparison, a negation, an EXISTS or a condition between parentheses.
+     *
+     * @param conditions receives the comparisons and operators in text order.
+     * @return the expression node.
+     * @throws SQLException in case of parse errors.
+     */
+    private SQLNode parseUnaryCondition(final List<SQLNode> conditions) throws SQLException {
+        if (this.token == null) {
+            throw new SQLException("Condition expected.", SQLStates.INVALID_SQL.getValue());
+        }
+
+        final SQLNode node;
+        switch (this.token.getType()) {
+            case NOT:
+                this.expect(TokenType.NOT);
+                node = new NOTNode(this.parseUnaryCondition(new ArrayList<SQLNode>()));
+                break;
+            case LPAREN:
+                this.expect(TokenType.LPAREN);
+                final SQLNode inner = this.parseConditions(conditions);
+                if (this.token == null) {
+                    throw new SQLException("Right parenthesis expected", SQLStates.INVALID_SQL.getValue());
+                }
+                this.expect(TokenType.RPAREN, "Right parenthesis expected");
+                return inner;
+            case EXISTS:
+                node = this.parseExists();
+                break;
+            default:
+                if (this.token.isOperator()) {
+                    throw new SQLException("Invalid operator location.", SQLStates.INVALID_SQL.getValue());
+                }
+                node = this.parseFieldNode();
                 break;
-            }
-            conditions.add(this.parseCondition());
         }
-        return conditions;
+        conditions.add(node);
+        return node;
     }
 
     /**
@@ -268,6 +324,7 @@ public final class SQLParser {
     private FieldNode parseField() throws SQLException {
         String tableName = null;
         String fieldName = this.token.getValue();
+        final boolean literal = (this.token != null) && (this.token.getType() != TokenType.IDENTIFIER);
 
         this.expect(TokenType.IDENTIFIER, TokenType.NUMERIC, TokenType.CHARACTER);
 
@@ -278,7 +335,7 @@ public final class SQLParser {
             fieldName = this.token.getValue();
             this.expect(TokenType.IDENTIFIER);
         }
-        return new FieldNode(tableName, fieldName, fieldName);
+        return new FieldNode(tableName, fieldName, fieldName, literal);
     }
 
     /**
@@ -390,7 +447,8 @@ public final class SQLParser {
         this.expect(TokenType.FROM);
         boolean firstField = true;
         do {
-            if (this.token.getType() == TokenType.WHERE) {
+            if ((this.token.getType() == TokenType.WHERE) || (this.token.getType() == TokenType.GROUP)
+                    || (this.token.getType() == TokenType.ORDER)) {
                 break;
             }
             if (!firstField) {
@@ -404,7 +462,106 @@ public final class SQLParser {
 
         if (this.scanner.hasNext() && (this.token.getType() == TokenType.WHERE)) {
             this.expect(TokenType.WHERE);
-            select.setConditions(this.parseConditionList());
+            final List<SQLNode> conditions = new ArrayList<>();
+            select.setWhere(this.parseConditions(conditions));
+            select.setConditions(conditions);
+        }
+
+        if ((this.token != null) && (this.token.getType() == TokenType.GROUP)) {
+            this.parseGroupBy(select);
+        }
+
+        if ((this.token != null) && (this.token.getType() == TokenType.ORDER)) {
+            this.parseOrderBy(select);
+        }
+    }
+
+    /**
+     * Parse a function call in the select list, like COUNT(*) or SUM(field).
+     *
+     * @param select       the select node.
+     * @param functionName the function name.
+     * @throws SQLException in case of parse errors.
+     */
+    private void parseFunction(final SelectNode select, final String functionName) throws SQLException {
+        this.expect(TokenType.LPAREN);
+        final SQLNode argument;
+        if (this.token.getType() == TokenType.ASTERISK) {
+            this.expect(TokenType.ASTERISK);
+            argument = new AsteriskNode();
+        } else {
+            argument = this.parseField();
+        }
+        this.expect(TokenType.RPAREN, "Right parenthesis expected.");
+
+        String fieldAlias = null;
+        if (this.token.getType() == TokenType.AS) {
+            this.expect(TokenType.AS);
+            fieldAlias = this.token.getValue();
+            this.expect(TokenType.CHARACTER, TokenType.IDENTIFIER);
+        } else if (this.token.getType() == TokenType.IDENTIFIER) {
+            // Field alias (without AS identifier)
+            fieldAlias = this.token.getValue();
+            this.expect(TokenType.IDENTIFIER);
+        }
+        select.addField(new FunctionNode(functionName, argument, fieldAlias));
+    }
+
+    /**
+     * Parse the GROUP BY list.
+     *
+     * @param select the select node.
+     * @throws SQLException in case of parse errors.
+     */
+    private void parseGroupBy(final SelectNode select) throws SQLException {
+        this.expect(TokenType.GROUP);
+        if (this.token == null) {
+            throw new SQLException("BY expected.", SQLStates.INVALID_SQL.getValue());
+        }
+        this.expect(TokenType.BY, "BY expected.");
+        while (true) {
+            if (this.token == null) {
+                throw new SQLException("GROUP BY field expected.", SQLStates.INVALID_SQL.getValue());
+            }
+            select.addGroupBy(new IdentifierNode(this.parseField().toString()));
+
+            if ((this.token == null) || (this.token.getType() != TokenType.COMMA)) {
+                break;
+            }
+            this.expect(TokenType.COMMA);
+        }
+    }
+
+    /**
+     * Parse the ORDER BY list.
+     *
+     * @param select the select node.
+     * @throws SQLException in case of parse errors.
+     */
+    private void parseOrderBy(final SelectNode select) throws SQLException {
+        this.expect(TokenType.ORDER);
+        if (this.token == null) {
+            throw new SQLException("BY expected.", SQLStates.INVALID_SQL.getValue());
+        }
+        this.expect(TokenType.BY, "BY expected.");
+        while (true) {
+            if (this.token == null) {
+                throw new SQLException("ORDER BY field expected.", SQLStates.INVALID_SQL.getValue());
+            }
+            final FieldNode field = this.parseField();
+            boolean descending = false;
+            if ((this.token != null) && (this.token.getType() == TokenType.ASC)) {
+                this.expect(TokenType.ASC);
+            } else if ((this.token != null) && (this.token.getType() == TokenType.DESC)) {
+                this.expect(TokenType.DESC);
+                descending = true;
+            }
+            select.addOrderBy(new OrderByNode(field, descending));
+
+            if ((this.token == null) || (this.token.getType() != TokenType.COMMA)) {
+                break;
+            }
+            this.expect(TokenType.COMMA);
         }
     }
 
@@ -423,6 +580,11 @@ public final class SQLParser {
         String newFieldName = fieldName;
         this.expect(TokenType.IDENTIFIER);
 
+        if (this.token.getType() == TokenType.LPAREN) {
+            this.parseFunction(select, fieldName);
+            return;
+        }
+
         if ((this.token.getType() == TokenType.IDENTIFIER) || (this.token.getType() == TokenType.AS)
                 || (this.token.getType() == TokenType.PERIOD)) {
             // If it has a Table Name
@@ -430,6 +592,7 @@ public final class SQLParser {
                 this.expect(TokenType.PERIOD);
                 newTableName = fieldName;
                 newFieldName = this.token.getValue();
+                fieldAlias = newFieldName;
                 this.expect(TokenType.IDENTIFIER);
             }
             // Field alias (with AS identifier)
@@ -457,20 +620,29 @@ public final class SQLParser {
      */
     private void parseJoin(final TableNode table) throws SQLException {
         while (this.scanner.hasNext() && (this.token.getType() != TokenType.COMMA)
-                && (this.token.getType() != TokenType.WHERE)) {
+                && (this.token.getType() != TokenType.WHERE) && (this.token.getType() != TokenType.GROUP)
+                && (this.token.getType() != TokenType.ORDER)) {
             final JoinNode join = new JoinNode();
 
             // Inner join
+            join.setType(JoinType.INNER);
             if (this.token.getType() == TokenType.LEFT) {
                 join.setType(JoinType.LEFT);
                 this.expect(TokenType.LEFT);
             } else if (this.token.getType() == TokenType.RIGHT) {
                 join.setType(JoinType.RIGHT);
                 this.expect(TokenType.RIGHT);
+            } else if (this.token.getType() == TokenType.FULL) {
+                join.setType(JoinType.FULL);
+                this.expect(TokenType.FULL);
             }
             if (this.token.getType() == TokenType.INNER) {
                 this.expect(TokenType.INNER);
             } else if (this.token.getType() == TokenType.OUTER) {
+                // A single OUTER is a full outer join.
+                if (join.getType() == JoinType.INNER) {
+                    join.setType(JoinType.FULL);
+                }
                 this.expect(TokenType.OUTER);
             }
             this.expect(TokenType.JOIN);
@@ -486,7 +658,9 @@ public final class SQLParser {
                 this.expect(TokenType.IDENTIFIER);
             }
             this.expect(TokenType.ON);
-            join.setConditions(this.parseConditionList());
+            final List<SQLNode> conditions = new ArrayList<>();
+            join.setCondition(this.parseConditions(conditions));
+            join.setConditions(conditions);
             table.addJoin(join);
         }
     }
@@ -585,28 +759,6 @@ public final class SQLParser {
         select.addField(new NumericNode(fieldName, fieldAlias));
     }
 
-    /**
-     * Parses the operators token.
-     *
-     * @return the conditional operator node.
-     * @throws SQLException in case or errors.
-     */
-    private SQLNode parseOperators() throws SQLException {
-        switch (this.token.getType()) {
-            case AND:
-                this.expect(TokenType.AND);
-                return new ANDNode(null);
-            case OR:
-                this.expect(TokenType.OR);
-                return new ORNode(null);
-            case XOR:
-                this.expect(TokenType.XOR);
-                return new XORNode(null);
-            default:
-                throw new SQLException("Invalid operator location.", SQLStates.INVALID_SQL.getValue());
-        }
-    }
-
     /**
      * Parse a Select Statement.
      *
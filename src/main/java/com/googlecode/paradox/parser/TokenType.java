@@ -12,7 +12,7 @@ package com.googlecode.paradox.parser;
  * SQL Tokens
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.5
  * @since 1.0
  */
 public enum TokenType {
@@ -26,6 +26,11 @@ public enum TokenType {
      */
     AS,
     
+    /**
+     * Ascending order token.
+     */
+    ASC,
+    
     /**
      * All fields token.
      */
@@ -56,6 +61,11 @@ public enum TokenType {
      */
     DELETE,
     
+    /**
+     * Descending order token.
+     */
+    DESC,
+    
     /**
      * Distinct token.
      */
@@ -76,6 +86,16 @@ public enum TokenType {
      */
     FROM,
     
+    /**
+     * Full token.
+     */
+    FULL,
+    
+    /**
+     * Group token.
+     */
+    GROUP,
+    
     /**
      * Having token.
      */
@@ -224,7 +244,8 @@ public enum TokenType {
     /**
      * Stores the conditional break values.
      */
-    private static final TokenType[] CONDITIONAL_BREAKS = { ORDER, HAVING, RPAREN, LEFT, RIGHT, OUTER, INNER, JOIN };
+    private static final TokenType[] CONDITIONAL_BREAKS = { ORDER, GROUP, HAVING, RPAREN, LEFT, RIGHT, FULL, OUTER, INNER,
+        JOIN };
     
     /**
      * Stores the operator values.
@@ -12,7 +12,7 @@ package com.googlecode.paradox.parser.nodes;
  * Stores the field values.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class FieldNode extends SQLNode {
@@ -22,6 +22,11 @@ public final class FieldNode extends SQLNode {
      */
     private final String tableName;
     
+    /**
+     * If this node is a number or text literal instead of a field name.
+     */
+    private final boolean literal;
+    
     /**
      * Stores field values (from select statements).
      *
@@ -33,8 +38,34 @@ public final class FieldNode extends SQLNode {
      *            the field name alias.
      */
     public FieldNode(final String tableName, final String fieldName, final String alias) {
+        this(tableName, fieldName, alias, false);
+    }
+    
+    /**
+     * Stores field values or literals (from conditions).
+     *
+     * @param tableName
+     *            the table name.
+     * @param fieldName
+     *            the field name or the literal value.
+     * @param alias
+     *            the field name alias.
+     * @param literal
+     *            if the node is a number or text literal.
+     */
+    public FieldNode(final String tableName, final String fieldName, final String alias, final boolean literal) {
         super(fieldName, alias);
         this.tableName = tableName;
+        this.literal = literal;
+    }
+    
+    /**
+     * Gets if this node is a number or text literal instead of a field name.
+     *
+     * @return true if this node is a literal.
+     */
+    public boolean isLiteral() {
+        return this.literal;
     }
     
     /**
@@ -0,0 +1,89 @@
+/*
+ * FunctionNode.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes;
+
+import com.googlecode.paradox.parser.nodes.values.AsteriskNode;
+
+import java.util.Collections;
+
+/**
+ * Stores a function call in the select list, like COUNT(*) or SUM(field).
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class FunctionNode extends SQLNode {
+    
+    /**
+     * The function argument: a field or an asterisk.
+     */
+    private final SQLNode argument;
+    
+    /**
+     * Create a new instance.
+     *
+     * @param name
+     *            the function name.
+     * @param argument
+     *            the function argument: a field or an asterisk.
+     * @param alias
+     *            the column alias (null to use the call text).
+     */
+    public FunctionNode(final String name, final SQLNode argument, final String alias) {
+        super(name, alias);
+        this.argument = argument;
+        if (alias == null) {
+            this.alias = this.getCall();
+        }
+        this.setChildhood(Collections.singletonList(argument));
+    }
+    
+    /**
+     * Gets the function argument.
+     *
+     * @return the function argument: a field or an asterisk.
+     */
+    public SQLNode getArgument() {
+        return this.argument;
+    }
+    
+    /**
+     * Gets if the argument is an asterisk, like in COUNT(*).
+     *
+     * @return true if the argument is an asterisk.
+     */
+    public boolean isAsterisk() {
+        return this.argument instanceof AsteriskNode;
+    }
+    
+    /**
+     * Gets the call text.
+     *
+     * @return the call text.
+     */
+    private String getCall() {
+        if (this.isAsterisk()) {
+            return this.name + "(*)";
+        }
+        return this.name + "(" + this.argument + ")";
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        final String call = this.getCall();
+        if (call.equals(this.alias)) {
+            return call;
+        }
+        return call + " AS " + this.alias;
+    }
+}
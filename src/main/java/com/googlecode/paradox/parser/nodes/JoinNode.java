@@ -15,7 +15,7 @@ import java.util.List;
  * Stores a join node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class JoinNode extends SQLNode {
@@ -25,6 +25,11 @@ public final class JoinNode extends SQLNode {
      */
     private List<SQLNode> conditions;
     
+    /**
+     * The ON expression tree.
+     */
+    private SQLNode condition;
+    
     /**
      * The table name.
      */
@@ -42,6 +47,16 @@ public final class JoinNode extends SQLNode {
         super("JOIN");
     }
     
+    /**
+     * Gets the ON expression tree. Unlike the condition list, the operators have their operands as children, with the
+     * SQL precedence.
+     *
+     * @return the ON expression tree or null if there is no condition.
+     */
+    public SQLNode getCondition() {
+        return this.condition;
+    }
+    
     /**
      * Gets the table name.
      *
@@ -60,6 +75,16 @@ public final class JoinNode extends SQLNode {
         return this.type;
     }
     
+    /**
+     * Sets the ON expression tree.
+     *
+     * @param condition
+     *            the ON expression tree.
+     */
+    public void setCondition(final SQLNode condition) {
+        this.condition = condition;
+    }
+    
     /**
      * Sets the condition list.
      *
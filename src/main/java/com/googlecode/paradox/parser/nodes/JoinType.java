@@ -12,7 +12,7 @@ package com.googlecode.paradox.parser.nodes;
  * The join type list.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public enum JoinType {
@@ -21,6 +21,16 @@ public enum JoinType {
      */
     CROSS,
     
+    /**
+     * Full outer join type.
+     */
+    FULL,
+    
+    /**
+     * Inner join type.
+     */
+    INNER,
+    
     /**
      * Left join type.
      */
@@ -0,0 +1,75 @@
+/*
+ * OrderByNode.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes;
+
+import java.util.Collections;
+
+/**
+ * Stores an ORDER BY item.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class OrderByNode extends SQLNode {
+    
+    /**
+     * The field to order by.
+     */
+    private final FieldNode field;
+    
+    /**
+     * If the order is descending.
+     */
+    private final boolean descending;
+    
+    /**
+     * Create a new instance.
+     *
+     * @param field
+     *            the field to order by.
+     * @param descending
+     *            if the order is descending.
+     */
+    public OrderByNode(final FieldNode field, final boolean descending) {
+        super(field.getName());
+        this.field = field;
+        this.descending = descending;
+        this.setChildhood(Collections.<SQLNode> singletonList(field));
+    }
+    
+    /**
+     * Gets the field to order by.
+     *
+     * @return the field to order by.
+     */
+    public FieldNode getField() {
+        return this.field;
+    }
+    
+    /**
+     * Gets if the order is descending.
+     *
+     * @return true if the order is descending.
+     */
+    public boolean isDescending() {
+        return this.descending;
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        if (this.descending) {
+            return this.field + " DESC";
+        }
+        return this.field.toString();
+    }
+}
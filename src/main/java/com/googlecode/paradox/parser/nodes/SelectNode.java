@@ -17,7 +17,7 @@ import java.util.List;
  * Stores a select node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.4
  * @since 1.0
  */
 public final class SelectNode extends StatementNode {
@@ -26,6 +26,10 @@ public final class SelectNode extends StatementNode {
      * The conditions list.
      */
     private List<SQLNode> conditions;
+    /**
+     * The WHERE expression tree.
+     */
+    private SQLNode where;
     /**
      * If has a distinct token.
      */
@@ -41,7 +45,7 @@ public final class SelectNode extends StatementNode {
     /**
      * Order by values.
      */
-    private final ArrayList<IdentifierNode> order = new ArrayList<>();
+    private final ArrayList<OrderByNode> order = new ArrayList<>();
     /**
      * The tables in from token.
      */
@@ -86,6 +90,16 @@ public final class SelectNode extends StatementNode {
         return Collections.emptyList();
     }
     
+    /**
+     * Gets the WHERE expression tree. Unlike {@link #getConditions()}, the operators have their operands as children,
+     * with the SQL precedence.
+     *
+     * @return the WHERE expression tree or null if there is no WHERE.
+     */
+    public SQLNode getWhere() {
+        return this.where;
+    }
+    
     /**
      * Gets the field list.
      *
@@ -100,7 +114,7 @@ public final class SelectNode extends StatementNode {
      *
      * @return the order by list.
      */
-    public List<IdentifierNode> getOrder() {
+    public List<OrderByNode> getOrder() {
         return Collections.unmodifiableList(this.order);
     }
     
@@ -123,6 +137,16 @@ public final class SelectNode extends StatementNode {
         this.conditions = new ArrayList<>(conditions);
     }
     
+    /**
+     * Sets the WHERE expression tree.
+     *
+     * @param where
+     *            the WHERE expression tree.
+     */
+    public void setWhere(final SQLNode where) {
+        this.where = where;
+    }
+    
     /**
      * Sets the distinct key present.
      *
@@ -223,13 +247,13 @@ public final class SelectNode extends StatementNode {
         if (!this.order.isEmpty()) {
             builder.append(" ORDER BY ");
             first = true;
-            for (final IdentifierNode identifier : this.order) {
+            for (final OrderByNode item : this.order) {
                 if (first) {
                     first = false;
                 } else {
                     builder.append(", ");
                 }
-                builder.append(identifier);
+                builder.append(item);
             }
         }
     }
@@ -262,7 +286,7 @@ public final class SelectNode extends StatementNode {
      * @param identifier
      *            the group by identifier to add.
      */
-    void addGroupBy(final IdentifierNode identifier) {
+    public void addGroupBy(final IdentifierNode identifier) {
         this.groups.add(identifier);
     }
     
@@ -273,7 +297,17 @@ public final class SelectNode extends StatementNode {
      *            the order by identifier to add.
      */
     void addOrderBy(final IdentifierNode identifier) {
-        this.order.add(identifier);
+        this.addOrderBy(new OrderByNode(new FieldNode(null, identifier.getName(), identifier.getName()), false));
+    }
+    
+    /**
+     * Adds the order by item.
+     *
+     * @param item
+     *            the order by item to add.
+     */
+    public void addOrderBy(final OrderByNode item) {
+        this.order.add(item);
     }
     
     /**
@@ -281,7 +315,7 @@ public final class SelectNode extends StatementNode {
      *
      * @return the group list.
      */
-    List<IdentifierNode> getGroups() {
+    public List<IdentifierNode> getGroups() {
         return Collections.unmodifiableList(this.groups);
     }
     
@@ -17,7 +17,7 @@ import java.util.List;
  * Stores a table node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class TableNode extends SQLNode {
@@ -72,7 +72,7 @@ public final class TableNode extends SQLNode {
      *
      * @return the join tables.
      */
-    List<JoinNode> getJoins() {
+    public List<JoinNode> getJoins() {
         return Collections.unmodifiableList(this.joins);
     }
     
@@ -9,13 +9,14 @@
 package com.googlecode.paradox.parser.nodes.conditional;
 
 import com.googlecode.paradox.parser.nodes.SQLNode;
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
  * Stores the AND node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public class ANDNode extends SQLNode {
@@ -30,5 +31,18 @@ public class ANDNode extends SQLNode {
         super("AND");
         this.setChildhood(Collections.singletonList(child));
     }
+
+    /**
+     * Create a new instance with both operands.
+     *
+     * @param left
+     *            the left operand.
+     * @param right
+     *            the right operand.
+     */
+    public ANDNode(final SQLNode left, final SQLNode right) {
+        super("AND");
+        this.setChildhood(Arrays.asList(left, right));
+    }
     
 }
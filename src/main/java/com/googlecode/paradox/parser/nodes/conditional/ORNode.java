@@ -9,13 +9,14 @@
 package com.googlecode.paradox.parser.nodes.conditional;
 
 import com.googlecode.paradox.parser.nodes.SQLNode;
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
  * Store the OR node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public class ORNode extends SQLNode {
@@ -30,5 +31,18 @@ public class ORNode extends SQLNode {
         super("OR");
         this.setChildhood(Collections.singletonList(child));
     }
+
+    /**
+     * Create a new instance with both operands.
+     *
+     * @param left
+     *            the left operand.
+     * @param right
+     *            the right operand.
+     */
+    public ORNode(final SQLNode left, final SQLNode right) {
+        super("OR");
+        this.setChildhood(Arrays.asList(left, right));
+    }
     
 }
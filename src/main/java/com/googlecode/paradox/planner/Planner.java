@@ -10,7 +10,11 @@ package com.googlecode.paradox.planner;
 
 import com.googlecode.paradox.ParadoxConnection;
 import com.googlecode.paradox.data.TableData;
-import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.IdentifierNode;
+import com.googlecode.paradox.parser.nodes.JoinNode;
+import com.googlecode.paradox.parser.nodes.OrderByNode;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
@@ -24,13 +28,12 @@ import com.googlecode.paradox.utils.SQLStates;
 import java.io.File;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.List;
 
 /**
  * Creates a SQL execution plan.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.6
  * @since 1.1
  */
 public class Planner {
@@ -51,29 +54,44 @@ public class Planner {
      *
      * @param statement     the SELECT statement.
      * @param plan          the select execution plan.
-     * @param paradoxTables the tables list.
+     * @param currentSchema the current schema file.
      * @throws SQLException in case of parse errors.
      */
-    private static void parseTableMetaData(final SelectNode statement, final SelectPlan plan,
-            final List<ParadoxTable> paradoxTables) throws SQLException {
+    private void parseTableMetaData(final SelectNode statement, final SelectPlan plan, final File currentSchema)
+            throws SQLException {
         for (final TableNode table : statement.getTables()) {
-            final PlanTableNode node = new PlanTableNode();
-            for (final ParadoxTable paradoxTable : paradoxTables) {
-                if (paradoxTable.getName().equalsIgnoreCase(table.getName())) {
-                    node.setTable(paradoxTable);
-                    break;
-                }
-            }
-            if (node.getTable() == null) {
-                throw new SQLException("Table " + table.getName() + " not found.", SQLStates.INVALID_SQL.getValue());
+            plan.addTable(this.createTable(table.getName(), table.getAlias(), currentSchema));
+            for (final JoinNode join : table.getJoins()) {
+                final PlanTableNode node = this.createTable(join.getTableName(), join.getAlias(), currentSchema);
+                node.setJoin(join.getType(), join.getCondition());
+                plan.addTable(node);
             }
-            if (!table.getName().equals(table.getAlias())) {
-                node.setAlias(table.getAlias());
-            }
-            plan.addTable(node);
         }
     }
 
+    /**
+     * Creates a plan table.
+     *
+     * @param name          the table name.
+     * @param alias         the table alias.
+     * @param currentSchema the current schema file.
+     * @return the plan table.
+     * @throws SQLException if the table is not found.
+     */
+    private PlanTableNode createTable(final String name, final String alias, final File currentSchema)
+            throws SQLException {
+        final PlanTableNode node = new PlanTableNode();
+        // Only the referenced tables are loaded.
+        node.setTable(TableData.findTable(currentSchema, name, this.connection));
+        if (node.getTable() == null) {
+            throw new SQLException("Table " + name + " not found.", SQLStates.INVALID_SQL.getValue());
+        }
+        if ((alias != null) && !name.equals(alias)) {
+            node.setAlias(alias);
+        }
+        return node;
+    }
+
     /**
      * Create a plan from given statement.
      *
@@ -99,17 +117,24 @@ public class Planner {
      * @throws SQLException in case of syntax error.
      */
     private Plan createSelect(final SelectNode statement, final File currentSchema) throws SQLException {
-        final SelectPlan plan = new SelectPlan(statement.getConditions());
-        final List<ParadoxTable> paradoxTables = TableData.listTables(currentSchema, this.connection);
+        final SelectPlan plan = new SelectPlan(statement.getWhere());
 
         // Load the table metadata.
-        Planner.parseTableMetaData(statement, plan, paradoxTables);
+        this.parseTableMetaData(statement, plan, currentSchema);
         this.parseColumns(statement, plan);
 
         if (plan.getColumns().isEmpty()) {
             throw new SQLException("Empty column list.", SQLStates.INVALID_SQL.getValue());
         }
 
+        for (final IdentifierNode group : statement.getGroups()) {
+            plan.addGroupBy(group.getName());
+        }
+
+        for (final OrderByNode item : statement.getOrder()) {
+            plan.addOrderBy(item.getField().toString(), item.isDescending());
+        }
+
         return plan;
     }
 
@@ -123,15 +148,30 @@ public class Planner {
     private void parseColumns(final SelectNode statement, final SelectPlan plan) throws SQLException {
         for (final SQLNode field : statement.getFields()) {
             final String name = field.getName();
-            if (field instanceof AsteriskNode) {
+            if (field instanceof FunctionNode) {
+                final FunctionNode function = (FunctionNode) field;
+                String argument = null;
+                if (function.getArgument() instanceof FieldNode) {
+                    final FieldNode node = (FieldNode) function.getArgument();
+                    argument = node.getName();
+                    if (node.getTableName() != null) {
+                        argument = node.getTableName() + "." + argument;
+                    }
+                }
+                plan.addAggregate(name, argument, function.getAlias());
+            } else if (field instanceof AsteriskNode) {
                 for (final PlanTableNode table : plan.getTables()) {
-                    plan.addColumnFromTable(table.getTable());
+                    plan.addColumnFromTable(table);
                 }
             } else {
                 if ((name == null) || name.isEmpty()) {
                     throw new SQLException("Column name is empty.");
                 }
-                plan.addColumn(name);
+                if ((field instanceof FieldNode) && (((FieldNode) field).getTableName() != null)) {
+                    plan.addColumn(((FieldNode) field).getTableName() + "." + name);
+                } else {
+                    plan.addColumn(name);
+                }
             }
         }
     }
@@ -0,0 +1,67 @@
+/*
+ * Accumulator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+
+/**
+ * Computes an aggregate function for many groups at once. The state of each group is kept in primitive arrays indexed
+ * by the group number, so adding a group costs a few bytes and no object.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface Accumulator {
+
+    /**
+     * Creates an empty accumulator for the same function and argument type.
+     *
+     * @return the new accumulator.
+     */
+    Accumulator create();
+
+    /**
+     * Gets the SQL type of the results.
+     *
+     * @return the SQL type of the results.
+     */
+    int getType();
+
+    /**
+     * Adds a group without values. The groups are numbered from zero, in the order they are added.
+     */
+    void addGroup();
+
+    /**
+     * Adds a value to a group.
+     *
+     * @param group the group number.
+     * @param value the value (null for a row without argument, like in COUNT(*)).
+     * @throws SQLException if the value is not valid for the function.
+     */
+    void add(int group, FieldValue value) throws SQLException;
+
+    /**
+     * Gets the result of a group.
+     *
+     * @param group the group number.
+     * @return the result.
+     */
+    FieldValue getResult(int group);
+
+    /**
+     * Gets the memory used by each group, in bytes.
+     *
+     * @return the memory used by each group.
+     */
+    int getGroupSize();
+}
@@ -0,0 +1,123 @@
+/*
+ * AverageAccumulator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Averages the values of each group, with a compensated double sum and a long count. Groups without values have a
+ * null average.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class AverageAccumulator implements Accumulator {
+
+    /**
+     * The double sum of each group.
+     */
+    private double[] sums = new double[16];
+
+    /**
+     * The rounding compensation of each group.
+     */
+    private double[] compensations = new double[16];
+
+    /**
+     * The value count of each group.
+     */
+    private long[] counts = new long[16];
+
+    /**
+     * The group count.
+     */
+    private int groups;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param argumentType the argument SQL type.
+     * @throws SQLException if the argument is not a number.
+     */
+    public AverageAccumulator(final int argumentType) throws SQLException {
+        NumericTypes.checkNumber("AVG", argumentType);
+    }
+
+    /**
+     * Creates an empty instance.
+     */
+    private AverageAccumulator() {
+        // Argument already checked.
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Accumulator create() {
+        return new AverageAccumulator();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getType() {
+        return Types.DOUBLE;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void addGroup() {
+        if (this.groups == this.counts.length) {
+            this.sums = Arrays.copyOf(this.sums, this.groups * 2);
+            this.compensations = Arrays.copyOf(this.compensations, this.groups * 2);
+            this.counts = Arrays.copyOf(this.counts, this.groups * 2);
+        }
+        this.groups++;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final FieldValue value) throws SQLException {
+        final Number number = NumericTypes.toNumber(value);
+        if (number != null) {
+            SumAccumulator.addCompensated(this.sums, this.compensations, group, number.doubleValue());
+            this.counts[group]++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getResult(final int group) {
+        if (this.counts[group] == 0) {
+            return new FieldValue(Types.DOUBLE);
+        }
+        return new FieldValue((this.sums[group] + this.compensations[group]) / this.counts[group], Types.DOUBLE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getGroupSize() {
+        return 24;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * CountAccumulator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Counts the rows of each group, or only the rows with a value.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class CountAccumulator implements Accumulator {
+
+    /**
+     * If all rows are counted, like in COUNT(*).
+     */
+    private final boolean all;
+
+    /**
+     * The count of each group.
+     */
+    private long[] counts = new long[16];
+
+    /**
+     * The group count.
+     */
+    private int groups;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param all if all rows are counted, like in COUNT(*), or only the rows with a value.
+     */
+    public CountAccumulator(final boolean all) {
+        this.all = all;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Accumulator create() {
+        return new CountAccumulator(this.all);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getType() {
+        return Types.BIGINT;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void addGroup() {
+        if (this.groups == this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, this.groups * 2);
+        }
+        this.groups++;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final FieldValue value) {
+        if (this.all || !NumericTypes.isNull(value)) {
+            this.counts[group]++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getResult(final int group) {
+        return new FieldValue(this.counts[group], Types.BIGINT);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getGroupSize() {
+        return 8;
+    }
+}
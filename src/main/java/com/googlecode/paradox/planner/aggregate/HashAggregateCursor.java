@@ -0,0 +1,502 @@
+/*
+ * HashAggregateCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.planner.sort.RowComparator;
+import com.googlecode.paradox.planner.spill.SpillFile;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Groups the source rows by their first values and computes the aggregate functions of each group, reading the source
+ * once. The groups are found in a hash table and their aggregate state is kept in the accumulators, so a group costs
+ * its key and a few primitive values whatever its row count.
+ * <p>
+ * When the groups exceed the memory budget, the groups already found keep being computed in memory and the rows of
+ * the new groups are split by key hash in temporary files. Each file is then grouped on its own, split again if it is
+ * still too large. Without group fields the source is a single group, with a result even when there is no row.
+ * <p>
+ * The result rows have the group values followed by the aggregate results. The groups in memory come in the order
+ * they were found.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class HashAggregateCursor implements RowCursor {
+
+    /**
+     * The number of bits of the hash used to choose the partition.
+     */
+    private static final int PARTITION_BITS = 4;
+
+    /**
+     * The number of partitions in each split.
+     */
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+    /**
+     * The maximum number of times the groups are split.
+     */
+    private static final int MAX_LEVEL = 3;
+
+    /**
+     * The estimated memory of a group besides its key and accumulators.
+     */
+    private static final int GROUP_OVERHEAD = 48;
+
+    /**
+     * The rows to group.
+     */
+    private final RowCursor source;
+
+    /**
+     * The number of group values at the start of each source row.
+     */
+    private final int keyWidth;
+
+    /**
+     * The aggregate functions.
+     */
+    private final Accumulator[] accumulators;
+
+    /**
+     * The source position of each aggregate argument (-1 for no argument, like in COUNT(*)).
+     */
+    private final int[] arguments;
+
+    /**
+     * The memory budget, in bytes.
+     */
+    private final long memoryBudget;
+
+    /**
+     * The split level of this cursor.
+     */
+    private final int level;
+
+    /**
+     * The group values of each group.
+     */
+    private final List<List<FieldValue>> keys = new ArrayList<>();
+
+    /**
+     * The key hash of each group.
+     */
+    private long[] hashes = new long[16];
+
+    /**
+     * The hash table slots, with the group number plus one (zero for an empty slot).
+     */
+    private int[] slots = new int[32];
+
+    /**
+     * The estimated memory used by the groups.
+     */
+    private long memory;
+
+    /**
+     * The partitions of the rows of the groups not in memory (null if the groups fit in memory).
+     */
+    private SpillFile[] partitions;
+
+    /**
+     * If the source was grouped.
+     */
+    private boolean grouped;
+
+    /**
+     * The next group in memory to return.
+     */
+    private int nextGroup;
+
+    /**
+     * The next partition to group.
+     */
+    private int nextPartition;
+
+    /**
+     * The cursor of the current partition (null if there is none).
+     */
+    private HashAggregateCursor child;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source       the rows to group.
+     * @param keyWidth     the number of group values at the start of each source row.
+     * @param accumulators the aggregate functions, without groups.
+     * @param arguments    the source position of each aggregate argument (-1 for no argument).
+     * @param memoryBudget the memory budget, in bytes.
+     */
+    public HashAggregateCursor(final RowCursor source, final int keyWidth, final Accumulator[] accumulators,
+            final int[] arguments, final long memoryBudget) {
+        this(source, keyWidth, accumulators, arguments, memoryBudget, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source       the rows to group.
+     * @param keyWidth     the number of group values at the start of each source row.
+     * @param accumulators the aggregate functions, without groups.
+     * @param arguments    the source position of each aggregate argument (-1 for no argument).
+     * @param memoryBudget the memory budget, in bytes.
+     * @param level        the split level.
+     */
+    private HashAggregateCursor(final RowCursor source, final int keyWidth, final Accumulator[] accumulators,
+            final int[] arguments, final long memoryBudget, final int level) {
+        this.source = source;
+        this.keyWidth = keyWidth;
+        this.accumulators = accumulators.clone();
+        this.arguments = arguments.clone();
+        this.memoryBudget = memoryBudget;
+        this.level = level;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.grouped) {
+            this.group();
+            this.grouped = true;
+        }
+        if (this.nextGroup < this.keys.size()) {
+            this.row = this.result(this.nextGroup);
+            this.nextGroup++;
+            return true;
+        }
+        while (true) {
+            if (this.child != null) {
+                if (this.child.next()) {
+                    this.row = this.child.getRow();
+                    return true;
+                }
+                this.child.close();
+                this.child = null;
+                this.partitions[this.nextPartition - 1].close();
+            }
+            if ((this.partitions == null) || (this.nextPartition >= PARTITIONS)) {
+                this.row = null;
+                return false;
+            }
+            final SpillFile partition = this.partitions[this.nextPartition];
+            this.nextPartition++;
+            if (partition.getRowCount() > 0) {
+                final Accumulator[] empty = new Accumulator[this.accumulators.length];
+                for (int i = 0; i < empty.length; i++) {
+                    empty[i] = this.accumulators[i].create();
+                }
+                this.child = new HashAggregateCursor(partition.openCursor(), this.keyWidth, empty, this.arguments,
+                        this.memoryBudget, this.level + 1);
+            } else {
+                partition.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the source, computing the groups in memory and splitting the rows of the other groups.
+     *
+     * @throws SQLException in case of reading errors or invalid values.
+     */
+    private void group() throws SQLException {
+        try {
+            while (this.source.next()) {
+                final List<FieldValue> current = this.source.getRow();
+                final long hash = this.hash(current);
+                int group = this.find(current, hash);
+                if (group < 0) {
+                    if ((this.partitions == null) && (this.keyWidth > 0) && (this.memory >= this.memoryBudget)
+                            && (this.level < MAX_LEVEL)) {
+                        this.partitions = new SpillFile[PARTITIONS];
+                        for (int i = 0; i < PARTITIONS; i++) {
+                            this.partitions[i] = new SpillFile();
+                        }
+                    }
+                    if (this.partitions != null) {
+                        this.partitions[this.partitionOf(hash)].write(current);
+                        continue;
+                    }
+                    group = this.addGroup(current, hash);
+                }
+                for (int i = 0; i < this.accumulators.length; i++) {
+                    FieldValue value = null;
+                    if (this.arguments[i] >= 0) {
+                        value = current.get(this.arguments[i]);
+                    }
+                    this.accumulators[i].add(group, value);
+                }
+            }
+        } finally {
+            this.source.close();
+        }
+        if ((this.keyWidth == 0) && this.keys.isEmpty()) {
+            // Aggregates without GROUP BY have a result even without rows, the group has no key to read.
+            this.addGroup(null, 0);
+        }
+    }
+
+    /**
+     * Finds the group of a row.
+     *
+     * @param current the row.
+     * @param hash    the row key hash.
+     * @return the group number or -1 if the group is not in memory.
+     */
+    private int find(final List<FieldValue> current, final long hash) {
+        final int mask = this.slots.length - 1;
+        int slot = (int) hash & mask;
+        while (this.slots[slot] != 0) {
+            final int group = this.slots[slot] - 1;
+            if ((this.hashes[group] == hash) && this.matches(current, this.keys.get(group))) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a group for the key of a row.
+     *
+     * @param current the row (null for the group of an empty source).
+     * @param hash    the row key hash.
+     * @return the group number.
+     */
+    private int addGroup(final List<FieldValue> current, final long hash) {
+        final int group = this.keys.size();
+        final List<FieldValue> key = new ArrayList<>(this.keyWidth);
+        for (int i = 0; i < this.keyWidth; i++) {
+            key.add(current.get(i));
+        }
+        this.keys.add(key);
+        if (group == this.hashes.length) {
+            this.hashes = Arrays.copyOf(this.hashes, group * 2);
+        }
+        this.hashes[group] = hash;
+        for (final Accumulator accumulator : this.accumulators) {
+            accumulator.addGroup();
+            this.memory += accumulator.getGroupSize();
+        }
+        this.memory += SpillFile.estimateSize(key) + GROUP_OVERHEAD;
+
+        // Keeps the table at most half full.
+        if (((group + 1) * 2) > this.slots.length) {
+            this.slots = new int[this.slots.length * 2];
+            for (int i = 0; i <= group; i++) {
+                this.insert(i);
+            }
+        } else {
+            this.insert(group);
+        }
+        return group;
+    }
+
+    /**
+     * Puts a group in the hash table.
+     *
+     * @param group the group number.
+     */
+    private void insert(final int group) {
+        final int mask = this.slots.length - 1;
+        int slot = (int) this.hashes[group] & mask;
+        while (this.slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = group + 1;
+    }
+
+    /**
+     * Hashes the group values of a row. Nulls are a group of their own, and text ignores the case like the WHERE
+     * equality.
+     *
+     * @param current the row.
+     * @return the key hash.
+     */
+    private long hash(final List<FieldValue> current) {
+        long hash = 1;
+        for (int i = 0; i < this.keyWidth; i++) {
+            hash = (31 * hash) + HashAggregateCursor.hashValue(current.get(i));
+        }
+        // Spreads the bits, the partitions use the high ones and the slots the low ones.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Hashes a single group value.
+     *
+     * @param value the value.
+     * @return the value hash.
+     */
+    private static long hashValue(final FieldValue value) {
+        if ((value == null) || value.isNull()) {
+            return 0;
+        }
+        final Object data = value.getValue();
+        if ((data instanceof Double) || (data instanceof Float)) {
+            final double number = ((Number) data).doubleValue();
+            if (number == 0) {
+                // Same hash for 0.0 and -0.0.
+                return 0;
+            }
+            return Double.doubleToLongBits(number);
+        } else if (data instanceof Number) {
+            return ((Number) data).longValue();
+        } else if (data instanceof Date) {
+            return ((Date) data).getTime();
+        } else if (data instanceof String) {
+            final String text = (String) data;
+            long hash = 0;
+            for (int i = 0; i < text.length(); i++) {
+                hash = (31 * hash) + Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+            }
+            return hash;
+        }
+        return data.hashCode();
+    }
+
+    /**
+     * Compares the group values of a row with a group key.
+     *
+     * @param current the row.
+     * @param key     the group key.
+     * @return true if all values are equal.
+     */
+    private boolean matches(final List<FieldValue> current, final List<FieldValue> key) {
+        for (int i = 0; i < this.keyWidth; i++) {
+            final FieldValue first = current.get(i);
+            final FieldValue second = key.get(i);
+            final boolean firstNull = (first == null) || first.isNull();
+            final boolean secondNull = (second == null) || second.isNull();
+            if ((firstNull != secondNull) || (!firstNull && (RowComparator.compareValues(first, second) != 0))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the partition of a key hash at this split level.
+     *
+     * @param hash the key hash.
+     * @return the partition.
+     */
+    private int partitionOf(final long hash) {
+        return (int) (hash >>> (Long.SIZE - (PARTITION_BITS * (this.level + 1)))) & (PARTITIONS - 1);
+    }
+
+    /**
+     * Creates the result row of a group.
+     *
+     * @param group the group number.
+     * @return the group values followed by the aggregate results.
+     */
+    private List<FieldValue> result(final int group) {
+        final FieldValue[] values = new FieldValue[this.keyWidth + this.accumulators.length];
+        final List<FieldValue> key = this.keys.get(group);
+        for (int i = 0; i < this.keyWidth; i++) {
+            values[i] = key.get(i);
+        }
+        for (int i = 0; i < this.accumulators.length; i++) {
+            values[this.keyWidth + i] = this.accumulators[i].getResult(group);
+        }
+        return Arrays.asList(values);
+    }
+
+    /**
+     * Gets if some rows were split in temporary files.
+     *
+     * @return true if some rows were split in temporary files.
+     */
+    public boolean isSpilled() {
+        return this.partitions != null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        // The groups are computed again from the source.
+        this.release();
+        for (int i = 0; i < this.accumulators.length; i++) {
+            this.accumulators[i] = this.accumulators[i].create();
+        }
+        this.keys.clear();
+        this.hashes = new long[16];
+        this.slots = new int[32];
+        this.memory = 0;
+        this.grouped = false;
+        this.nextGroup = 0;
+        this.nextPartition = 0;
+        this.row = null;
+        this.source.reset();
+    }
+
+    /**
+     * Closes the current partition cursor and deletes the temporary files.
+     *
+     * @throws SQLException in case of errors closing the partition cursor.
+     */
+    private void release() throws SQLException {
+        try {
+            if (this.child != null) {
+                this.child.close();
+                this.child = null;
+            }
+        } finally {
+            if (this.partitions != null) {
+                for (final SpillFile partition : this.partitions) {
+                    partition.close();
+                }
+                this.partitions = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.release();
+        } finally {
+            this.source.close();
+            this.row = null;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * MinMaxAccumulator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.planner.sort.RowComparator;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps the minimum or the maximum value of each group. Integral and double fields are kept in primitive arrays, the
+ * other values are compared like in ORDER BY. Groups without values have a null result.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class MinMaxAccumulator implements Accumulator {
+
+    /**
+     * The argument SQL type.
+     */
+    private final int argumentType;
+
+    /**
+     * If the maximum is kept, otherwise the minimum.
+     */
+    private final boolean max;
+
+    /**
+     * The integral values of each group (null if the values are not integral).
+     */
+    private long[] longValues;
+
+    /**
+     * The double values of each group (null if the values are not doubles).
+     */
+    private double[] doubleValues;
+
+    /**
+     * The other values of each group (null if the values are numbers).
+     */
+    private FieldValue[] values;
+
+    /**
+     * The groups with a value.
+     */
+    private final BitSet present = new BitSet();
+
+    /**
+     * The group count.
+     */
+    private int groups;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param argumentType the argument SQL type.
+     * @param max          if the maximum is kept, otherwise the minimum.
+     * @throws SQLException if the argument values can not be ordered.
+     */
+    public MinMaxAccumulator(final int argumentType, final boolean max) throws SQLException {
+        this(max, MinMaxAccumulator.checkOrdered(argumentType));
+    }
+
+    /**
+     * Creates an empty instance.
+     *
+     * @param max          if the maximum is kept, otherwise the minimum.
+     * @param argumentType the argument SQL type.
+     */
+    private MinMaxAccumulator(final boolean max, final int argumentType) {
+        this.argumentType = argumentType;
+        this.max = max;
+        if (NumericTypes.isIntegral(argumentType)) {
+            this.longValues = new long[16];
+        } else if (NumericTypes.isNumber(argumentType)) {
+            this.doubleValues = new double[16];
+        } else {
+            this.values = new FieldValue[16];
+        }
+    }
+
+    /**
+     * Checks that the values of a SQL type can be ordered.
+     *
+     * @param type the SQL type.
+     * @return the SQL type.
+     * @throws SQLException if the values can not be ordered.
+     */
+    private static int checkOrdered(final int type) throws SQLException {
+        if (!MinMaxAccumulator.isOrdered(type)) {
+            throw new SQLException("Invalid MIN or MAX argument: the field values can not be ordered.",
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        return type;
+    }
+
+    /**
+     * Gets if the values of a SQL type can be ordered.
+     *
+     * @param type the SQL type.
+     * @return true if the values can be ordered.
+     */
+    private static boolean isOrdered(final int type) {
+        switch (type) {
+            case Types.BOOLEAN:
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return true;
+            default:
+                return NumericTypes.isNumber(type);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Accumulator create() {
+        return new MinMaxAccumulator(this.max, this.argumentType);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getType() {
+        return this.argumentType;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void addGroup() {
+        if (this.longValues != null) {
+            if (this.groups == this.longValues.length) {
+                this.longValues = Arrays.copyOf(this.longValues, this.groups * 2);
+            }
+        } else if (this.doubleValues != null) {
+            if (this.groups == this.doubleValues.length) {
+                this.doubleValues = Arrays.copyOf(this.doubleValues, this.groups * 2);
+            }
+        } else if (this.groups == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.groups * 2);
+        }
+        this.groups++;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final FieldValue value) throws SQLException {
+        if (NumericTypes.isNull(value)) {
+            return;
+        }
+        final boolean first = !this.present.get(group);
+        this.present.set(group);
+        if (this.longValues != null) {
+            final long number = NumericTypes.toNumber(value).longValue();
+            if (first || (this.max ? (number > this.longValues[group]) : (number < this.longValues[group]))) {
+                this.longValues[group] = number;
+            }
+        } else if (this.doubleValues != null) {
+            final double number = NumericTypes.toNumber(value).doubleValue();
+            if (first || (this.max ? (number > this.doubleValues[group]) : (number < this.doubleValues[group]))) {
+                this.doubleValues[group] = number;
+            }
+        } else if (first) {
+            this.values[group] = value;
+        } else {
+            final int comparison = RowComparator.compareValues(value, this.values[group]);
+            if (this.max ? (comparison > 0) : (comparison < 0)) {
+                this.values[group] = value;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getResult(final int group) {
+        if (!this.present.get(group)) {
+            return new FieldValue(this.argumentType);
+        }
+        if (this.longValues != null) {
+            if (this.argumentType == Types.BIGINT) {
+                return new FieldValue(this.longValues[group], this.argumentType);
+            }
+            return new FieldValue((int) this.longValues[group], this.argumentType);
+        } else if (this.doubleValues != null) {
+            return new FieldValue(this.doubleValues[group], this.argumentType);
+        }
+        return this.values[group];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getGroupSize() {
+        if (this.values != null) {
+            // Reference and value object.
+            return 64;
+        }
+        return 8;
+    }
+}
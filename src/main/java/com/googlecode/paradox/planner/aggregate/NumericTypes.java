@@ -0,0 +1,114 @@
+/*
+ * NumericTypes.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * SQL type checks of the aggregate arguments.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+final class NumericTypes {
+
+    /**
+     * Utility class.
+     */
+    private NumericTypes() {
+        // Utility class.
+    }
+
+    /**
+     * Gets if a SQL type has integral values.
+     *
+     * @param type the SQL type.
+     * @return true if the values are integral.
+     */
+    static boolean isIntegral(final int type) {
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets if a SQL type is a number.
+     *
+     * @param type the SQL type.
+     * @return true if the type is a number.
+     */
+    static boolean isNumber(final int type) {
+        switch (type) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return true;
+            default:
+                return NumericTypes.isIntegral(type);
+        }
+    }
+
+    /**
+     * Checks that an argument is a number.
+     *
+     * @param function the function name.
+     * @param type     the argument SQL type.
+     * @throws SQLException if the argument is not a number.
+     */
+    static void checkNumber(final String function, final int type) throws SQLException {
+        if (!NumericTypes.isNumber(type)) {
+            throw new SQLException(String.format("Invalid %s argument: a numeric field is expected.", function),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+    }
+
+    /**
+     * Gets if a value is null. The blank number fields are decoded as NaN and are null values too.
+     *
+     * @param value the value.
+     * @return true if the value is null.
+     */
+    static boolean isNull(final FieldValue value) {
+        if ((value == null) || value.isNull()) {
+            return true;
+        }
+        final Object number = value.getValue();
+        return (number instanceof Double) && ((Double) number).isNaN();
+    }
+
+    /**
+     * Gets the number of a value.
+     *
+     * @param value the value.
+     * @return the number or null if the value is null.
+     * @throws SQLException if the value is not a number.
+     */
+    static Number toNumber(final FieldValue value) throws SQLException {
+        if (NumericTypes.isNull(value)) {
+            return null;
+        }
+        if (!(value.getValue() instanceof Number)) {
+            throw new SQLException("Numeric value expected.", SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+        return (Number) value.getValue();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * SumAccumulator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sums the values of each group. Integral fields are summed exactly in a long, with an error on overflow. The other
+ * numbers are summed in a double with a compensation term (Neumaier summation), so the rounding error does not grow
+ * with the number of rows. Groups without values have a null sum.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class SumAccumulator implements Accumulator {
+
+    /**
+     * If the values are integral.
+     */
+    private final boolean integral;
+
+    /**
+     * The integral sum of each group.
+     */
+    private long[] longSums;
+
+    /**
+     * The double sum of each group.
+     */
+    private double[] sums;
+
+    /**
+     * The rounding compensation of each group.
+     */
+    private double[] compensations;
+
+    /**
+     * The groups with a value.
+     */
+    private final BitSet present = new BitSet();
+
+    /**
+     * The group count.
+     */
+    private int groups;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param argumentType the argument SQL type.
+     * @throws SQLException if the argument is not a number.
+     */
+    public SumAccumulator(final int argumentType) throws SQLException {
+        this(SumAccumulator.checkIntegral(argumentType));
+    }
+
+    /**
+     * Creates an empty instance.
+     *
+     * @param integral if the values are integral.
+     */
+    private SumAccumulator(final boolean integral) {
+        this.integral = integral;
+        if (integral) {
+            this.longSums = new long[16];
+        } else {
+            this.sums = new double[16];
+            this.compensations = new double[16];
+        }
+    }
+
+    /**
+     * Checks the argument type.
+     *
+     * @param argumentType the argument SQL type.
+     * @return true if the values are integral.
+     * @throws SQLException if the argument is not a number.
+     */
+    private static boolean checkIntegral(final int argumentType) throws SQLException {
+        NumericTypes.checkNumber("SUM", argumentType);
+        return NumericTypes.isIntegral(argumentType);
+    }
+
+    /**
+     * Adds a value to a compensated sum.
+     *
+     * @param sums          the sums.
+     * @param compensations the rounding compensations.
+     * @param group         the group number.
+     * @param value         the value to add.
+     */
+    static void addCompensated(final double[] sums, final double[] compensations, final int group,
+            final double value) {
+        final double sum = sums[group];
+        final double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensations[group] += (sum - total) + value;
+        } else {
+            compensations[group] += (value - total) + sum;
+        }
+        sums[group] = total;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Accumulator create() {
+        return new SumAccumulator(this.integral);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getType() {
+        if (this.integral) {
+            return Types.BIGINT;
+        }
+        return Types.DOUBLE;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void addGroup() {
+        if (this.integral) {
+            if (this.groups == this.longSums.length) {
+                this.longSums = Arrays.copyOf(this.longSums, this.groups * 2);
+            }
+        } else if (this.groups == this.sums.length) {
+            this.sums = Arrays.copyOf(this.sums, this.groups * 2);
+            this.compensations = Arrays.copyOf(this.compensations, this.groups * 2);
+        }
+        this.groups++;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final FieldValue value) throws SQLException {
+        final Number number = NumericTypes.toNumber(value);
+        if (number == null) {
+            return;
+        }
+        this.present.set(group);
+        if (this.integral) {
+            final long sum = this.longSums[group];
+            final long addend = number.longValue();
+            final long total = sum + addend;
+            if (((sum ^ total) & (addend ^ total)) < 0) {
+                throw new SQLException("Numeric overflow in SUM.", SQLStates.INVALID_FIELD_VALUE.getValue());
+            }
+            this.longSums[group] = total;
+        } else {
+            SumAccumulator.addCompensated(this.sums, this.compensations, group, number.doubleValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getResult(final int group) {
+        if (!this.present.get(group)) {
+            return new FieldValue(this.getType());
+        }
+        if (this.integral) {
+            return new FieldValue(this.longSums[group], Types.BIGINT);
+        }
+        return new FieldValue(this.sums[group] + this.compensations[group], Types.DOUBLE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getGroupSize() {
+        if (this.integral) {
+            return 8;
+        }
+        return 16;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Aggregate functions and the GROUP BY operator.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.planner.aggregate;
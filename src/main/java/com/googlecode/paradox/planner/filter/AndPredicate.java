@@ -0,0 +1,175 @@
+/*
+ * AndPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Accepts the rows that satisfy all the predicates. Nested AND predicates are merged, and the operands are evaluated
+ * cheapest and most selective first, stopping in the first one that fails.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class AndPredicate implements Predicate {
+
+    /**
+     * Orders the operands by cost per rejected row.
+     */
+    private static final Comparator<Predicate> RANK = new Comparator<Predicate>() {
+        @Override
+        public int compare(final Predicate o1, final Predicate o2) {
+            return Double.compare(AndPredicate.rank(o1), AndPredicate.rank(o2));
+        }
+    };
+
+    /**
+     * The operands, in evaluation order.
+     */
+    private final Predicate[] operands;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param operands the operands.
+     */
+    public AndPredicate(final Collection<? extends Predicate> operands) {
+        final List<Predicate> list = new ArrayList<>();
+        for (final Predicate operand : operands) {
+            if (operand instanceof AndPredicate) {
+                Collections.addAll(list, ((AndPredicate) operand).operands);
+            } else {
+                list.add(operand);
+            }
+        }
+        Collections.sort(list, RANK);
+        this.operands = list.toArray(new Predicate[list.size()]);
+    }
+
+    /**
+     * Gets the cost of a predicate per row it rejects.
+     *
+     * @param predicate the predicate.
+     * @return the rank (lower first).
+     */
+    private static double rank(final Predicate predicate) {
+        final double rejected = 1 - predicate.getSelectivity();
+        if (rejected <= 0) {
+            return Double.MAX_VALUE;
+        }
+        return predicate.getCost() / rejected;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ColumnBatch batch, final int row) throws SQLException {
+        for (final Predicate operand : this.operands) {
+            if (!operand.accept(batch, row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) throws SQLException {
+        for (final Predicate operand : this.operands) {
+            if (!operand.accept(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Any operand with an encoded filter is enough to reject records.
+     */
+    @Override
+    public RecordFilter getRecordFilter() {
+        final List<RecordFilter> filters = new ArrayList<>();
+        for (final Predicate operand : this.operands) {
+            final RecordFilter filter = operand.getRecordFilter();
+            if (filter != null) {
+                filters.add(filter);
+            }
+        }
+        if (filters.isEmpty()) {
+            return null;
+        } else if (filters.size() == 1) {
+            return filters.get(0);
+        }
+
+        final RecordFilter[] array = filters.toArray(new RecordFilter[filters.size()]);
+        return new RecordFilter() {
+            @Override
+            public boolean accept(final ByteBuffer block, final int recordStart) throws SQLException {
+                for (final RecordFilter filter : array) {
+                    if (!filter.accept(block, recordStart)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        double cost = 0;
+        double reached = 1;
+        for (final Predicate operand : this.operands) {
+            cost += reached * operand.getCost();
+            reached *= operand.getSelectivity();
+        }
+        return cost;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getSelectivity() {
+        double selectivity = 1;
+        for (final Predicate operand : this.operands) {
+            selectivity *= operand.getSelectivity();
+        }
+        return selectivity;
+    }
+
+    /**
+     * Gets the operands in evaluation order.
+     *
+     * @return the operands.
+     */
+    public List<Predicate> getOperands() {
+        return Collections.unmodifiableList(Arrays.asList(this.operands));
+    }
+}
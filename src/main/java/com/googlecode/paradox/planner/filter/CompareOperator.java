@@ -0,0 +1,102 @@
+/*
+ * CompareOperator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+/**
+ * The comparison operators.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public enum CompareOperator {
+    /**
+     * Equals (=).
+     */
+    EQUALS,
+
+    /**
+     * Not equals (&lt;&gt;).
+     */
+    NOT_EQUALS,
+
+    /**
+     * Greater than (&gt;).
+     */
+    GREATER_THAN,
+
+    /**
+     * Less than (&lt;).
+     */
+    LESS_THAN,
+
+    /**
+     * Greater than or equals (&gt;=).
+     */
+    GREATER_EQUALS,
+
+    /**
+     * Less than or equals (&lt;=).
+     */
+    LESS_EQUALS;
+
+    /**
+     * If this operator orders the values (all but equals and not equals).
+     *
+     * @return true if this is a range operator.
+     */
+    public boolean isRange() {
+        return (this != EQUALS) && (this != NOT_EQUALS);
+    }
+
+    /**
+     * Gets the operator with the opposite result for values that are not null.
+     *
+     * @return the negated operator.
+     */
+    public CompareOperator negate() {
+        switch (this) {
+            case EQUALS:
+                return NOT_EQUALS;
+            case NOT_EQUALS:
+                return EQUALS;
+            case GREATER_THAN:
+                return LESS_EQUALS;
+            case LESS_THAN:
+                return GREATER_EQUALS;
+            case GREATER_EQUALS:
+                return LESS_THAN;
+            default:
+                return GREATER_THAN;
+        }
+    }
+
+    /**
+     * Checks the result of a comparison.
+     *
+     * @param comparison the comparison result (negative, zero or positive).
+     * @return true if the comparison satisfies this operator.
+     */
+    public boolean accept(final int comparison) {
+        switch (this) {
+            case EQUALS:
+                return comparison == 0;
+            case NOT_EQUALS:
+                return comparison != 0;
+            case GREATER_THAN:
+                return comparison > 0;
+            case LESS_THAN:
+                return comparison < 0;
+            case GREATER_EQUALS:
+                return comparison >= 0;
+            default:
+                return comparison <= 0;
+        }
+    }
+}
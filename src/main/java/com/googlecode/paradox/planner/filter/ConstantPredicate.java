@@ -0,0 +1,106 @@
+/*
+ * ConstantPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A predicate with a fixed result.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ConstantPredicate implements Predicate {
+
+    /**
+     * Always true.
+     */
+    public static final ConstantPredicate TRUE = new ConstantPredicate(true);
+
+    /**
+     * Always false.
+     */
+    public static final ConstantPredicate FALSE = new ConstantPredicate(false);
+
+    /**
+     * Rejects all records.
+     */
+    private static final RecordFilter REJECT_ALL = new RecordFilter() {
+        @Override
+        public boolean accept(final ByteBuffer block, final int recordStart) {
+            return false;
+        }
+    };
+
+    /**
+     * The result.
+     */
+    private final boolean value;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param value the result.
+     */
+    private ConstantPredicate(final boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ColumnBatch batch, final int row) {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public RecordFilter getRecordFilter() {
+        if (this.value) {
+            return null;
+        }
+        return REJECT_ALL;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getSelectivity() {
+        if (this.value) {
+            return 1;
+        }
+        return 0;
+    }
+}
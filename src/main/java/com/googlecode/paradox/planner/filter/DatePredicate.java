@@ -0,0 +1,74 @@
+/*
+ * DatePredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.batch.DateVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.Date;
+import java.sql.SQLException;
+
+/**
+ * Compares date fields with a date literal. Column vectors are compared by epoch day.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class DatePredicate extends FieldPredicate {
+
+    /**
+     * The literal as days since 1970-01-01.
+     */
+    private final int epochDay;
+
+    /**
+     * The literal date.
+     */
+    private final Date date;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index    the field position in the scan row.
+     * @param operator the comparison operator.
+     * @param date     the literal date.
+     * @param epochDay the literal as days since 1970-01-01.
+     */
+    public DatePredicate(final int index, final CompareOperator operator, final Date date, final int epochDay) {
+        super(index, operator);
+        this.date = date;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final ColumnVector vector, final int row) {
+        return this.getOperator().accept(Integer.compare(((DateVector) vector).getEpochDay(row), this.epochDay));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final FieldValue value) throws SQLException {
+        return this.getOperator().accept(value.getDate().compareTo(this.date));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return 1;
+    }
+}
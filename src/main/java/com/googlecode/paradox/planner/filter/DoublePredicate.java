@@ -0,0 +1,76 @@
+/*
+ * DoublePredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+
+/**
+ * Compares numeric fields with a numeric literal. The blank number fields are decoded as NaN and, like the null
+ * values, never match.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class DoublePredicate extends FieldPredicate {
+
+    /**
+     * The literal value.
+     */
+    private final double literal;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index    the field position in the scan row.
+     * @param operator the comparison operator.
+     * @param literal  the literal value.
+     */
+    public DoublePredicate(final int index, final CompareOperator operator, final double literal) {
+        super(index, operator);
+        this.literal = literal;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final ColumnVector vector, final int row) throws SQLException {
+        return this.accept(vector.getDouble(row));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final FieldValue value) throws SQLException {
+        return this.accept(value.getNumber().doubleValue());
+    }
+
+    /**
+     * Compares a field value with the literal.
+     *
+     * @param value the field value.
+     * @return true if the value is not blank and matches the literal.
+     */
+    private boolean accept(final double value) {
+        return !Double.isNaN(value) && this.getOperator().accept(Double.compare(value, this.literal));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return 1;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * EncodedComparison.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.RecordFilter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compares a fixed width field in its encoded form. Paradox stores integer, long and number fields big endian with the
+ * sign bit flipped, so the unsigned order of the stored bytes is the order of the values. The literal is encoded once
+ * and each record is checked without decoding it.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+final class EncodedComparison implements RecordFilter {
+
+    /**
+     * The field encodings.
+     */
+    enum Encoding {
+        /**
+         * Two bytes with the sign bit flipped (integer fields).
+         */
+        SHORT,
+
+        /**
+         * Four bytes with the sign bit flipped (long fields).
+         */
+        INT,
+
+        /**
+         * Four bytes where only the lower 28 bits are the value (date and auto increment fields).
+         */
+        MASKED_INT,
+
+        /**
+         * Eight bytes, sign bit flipped for positive values and all bits flipped for negative ones (number fields).
+         */
+        DOUBLE
+    }
+
+    /**
+     * Lower 28 bits mask.
+     */
+    private static final int MASK_28_BITS = 0x0FFF_FFFF;
+
+    /**
+     * The field position inside the record.
+     */
+    private final int offset;
+
+    /**
+     * The field encoding.
+     */
+    private final Encoding encoding;
+
+    /**
+     * The comparison operator.
+     */
+    private final CompareOperator operator;
+
+    /**
+     * The encoded literal (unsigned, as stored in file).
+     */
+    private final long literal;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param offset   the field position inside the record.
+     * @param encoding the field encoding.
+     * @param operator the comparison operator.
+     * @param literal  the encoded literal.
+     */
+    private EncodedComparison(final int offset, final Encoding encoding, final CompareOperator operator,
+            final long literal) {
+        this.offset = offset;
+        this.encoding = encoding;
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    /**
+     * Creates a comparison of an integral field.
+     *
+     * @param offset   the field position inside the record.
+     * @param encoding the field encoding.
+     * @param operator the comparison operator.
+     * @param value    the literal value.
+     * @return the comparison or null if the literal is out of the field range.
+     */
+    static EncodedComparison ofLong(final int offset, final Encoding encoding, final CompareOperator operator,
+            final long value) {
+        final long encoded;
+        switch (encoding) {
+            case SHORT:
+                if ((value < Short.MIN_VALUE) || (value > Short.MAX_VALUE)) {
+                    return null;
+                }
+                encoded = (value ^ 0x8000) & 0xFFFF;
+                break;
+            case INT:
+                if ((value < Integer.MIN_VALUE) || (value > Integer.MAX_VALUE)) {
+                    return null;
+                }
+                encoded = (value ^ 0x8000_0000L) & 0xFFFF_FFFFL;
+                break;
+            case MASKED_INT:
+                if ((value < 0) || (value > MASK_28_BITS)) {
+                    return null;
+                }
+                encoded = value;
+                break;
+            default:
+                return null;
+        }
+        return new EncodedComparison(offset, encoding, operator, encoded);
+    }
+
+    /**
+     * Creates a comparison of a number field.
+     *
+     * @param offset   the field position inside the record.
+     * @param operator the comparison operator.
+     * @param value    the literal value.
+     * @return the comparison.
+     */
+    static EncodedComparison ofDouble(final int offset, final CompareOperator operator, final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        final long encoded;
+        if (bits >= 0) {
+            encoded = bits | Long.MIN_VALUE;
+        } else {
+            encoded = ~bits;
+        }
+        return new EncodedComparison(offset, Encoding.DOUBLE, operator, encoded);
+    }
+
+    /**
+     * Gets the comparison operator.
+     *
+     * @return the comparison operator.
+     */
+    CompareOperator getOperator() {
+        return this.operator;
+    }
+
+    /**
+     * Gets the literal as stored in file, to compare with index keys.
+     *
+     * @return the stored literal bytes.
+     */
+    byte[] getKey() {
+        final ByteBuffer key;
+        switch (this.encoding) {
+            case SHORT:
+                key = ByteBuffer.allocate(2).putShort((short) this.literal);
+                break;
+            case INT:
+                key = ByteBuffer.allocate(4).putInt((int) this.literal);
+                break;
+            case MASKED_INT:
+                // Stored with the sign bit flipped, like the long fields.
+                key = ByteBuffer.allocate(4).putInt((int) (this.literal ^ 0x8000_0000L));
+                break;
+            default:
+                key = ByteBuffer.allocate(8).putLong(this.literal);
+                break;
+        }
+        return key.array();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ByteBuffer block, final int recordStart) {
+        final int position = recordStart + this.offset;
+        final int comparison;
+        switch (this.encoding) {
+            case SHORT:
+                comparison = Long.compare(block.getShort(position) & 0xFFFF, this.literal);
+                break;
+            case INT:
+                comparison = Long.compare(block.getInt(position) & 0xFFFF_FFFFL, this.literal);
+                break;
+            case MASKED_INT:
+                comparison = Long.compare(block.getInt(position) & MASK_28_BITS, this.literal);
+                break;
+            default:
+                final long raw = block.getLong(position);
+                if (raw == 0) {
+                    // All zeros is a blank number, a null value never matches.
+                    return false;
+                }
+                comparison = Long.compare(raw ^ Long.MIN_VALUE, this.literal ^ Long.MIN_VALUE);
+                break;
+        }
+        return this.operator.accept(comparison);
+    }
+}
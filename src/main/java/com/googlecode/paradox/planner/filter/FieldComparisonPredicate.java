@@ -0,0 +1,194 @@
+/*
+ * FieldComparisonPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.planner.sort.RowComparator;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compares two fields of the same row. Null values never satisfy the predicate, text ignores the case and values of
+ * different kinds are compared as text. Only fields of the same type family can be compared, see
+ * {@link #checkTypes(int, int)}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class FieldComparisonPredicate implements Predicate {
+
+    /**
+     * The first field position in the row.
+     */
+    private final int first;
+
+    /**
+     * The comparison operator.
+     */
+    private final CompareOperator operator;
+
+    /**
+     * The second field position in the row.
+     */
+    private final int second;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param first    the first field position in the row.
+     * @param operator the comparison operator.
+     * @param second   the second field position in the row.
+     */
+    public FieldComparisonPredicate(final int first, final CompareOperator operator, final int second) {
+        this.first = first;
+        this.operator = operator;
+        this.second = second;
+    }
+
+    /**
+     * Checks that two fields can be compared: both numbers, both text, or both of the same date, time, timestamp or
+     * boolean type.
+     *
+     * @param firstType  the first field SQL type.
+     * @param secondType the second field SQL type.
+     * @throws SQLException if the fields can not be compared.
+     */
+    public static void checkTypes(final int firstType, final int secondType) throws SQLException {
+        if (FieldComparisonPredicate.getFamily(firstType) != FieldComparisonPredicate.getFamily(secondType)) {
+            throw new SQLException("Incompatible field types in comparison.", SQLStates.INVALID_SQL.getValue());
+        }
+    }
+
+    /**
+     * Gets the type family of a SQL type, where all numbers and all texts are a single family.
+     *
+     * @param type the SQL type.
+     * @return the family SQL type.
+     */
+    private static int getFamily(final int type) {
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return Types.NUMERIC;
+            case Types.CHAR:
+            case Types.VARCHAR:
+                return Types.VARCHAR;
+            case Types.BIT:
+                return Types.BOOLEAN;
+            default:
+                return type;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ColumnBatch batch, final int row) {
+        final ColumnVector firstVector = batch.getColumn(this.first);
+        final ColumnVector secondVector = batch.getColumn(this.second);
+        if (firstVector.isNull(row) || secondVector.isNull(row)) {
+            return false;
+        }
+        return this.test(firstVector.getValue(row), secondVector.getValue(row));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        final FieldValue firstValue = row.get(this.first);
+        final FieldValue secondValue = row.get(this.second);
+        if ((firstValue == null) || firstValue.isNull() || (secondValue == null) || secondValue.isNull()) {
+            return false;
+        }
+        return this.test(firstValue.getValue(), secondValue.getValue());
+    }
+
+    /**
+     * Compares two values that are not null.
+     *
+     * @param a the first value.
+     * @param b the second value.
+     * @return true if the values satisfy the operator.
+     */
+    private boolean test(final Object a, final Object b) {
+        final int comparison;
+        if (FieldComparisonPredicate.isSameKind(a, b)) {
+            comparison = RowComparator.compareObjects(a, b);
+        } else {
+            comparison = String.CASE_INSENSITIVE_ORDER.compare(a.toString(), b.toString());
+        }
+        return this.operator.accept(comparison);
+    }
+
+    /**
+     * Gets if two values can be compared by their kind.
+     *
+     * @param a the first value.
+     * @param b the second value.
+     * @return true if both values are numbers, dates, texts or booleans.
+     */
+    private static boolean isSameKind(final Object a, final Object b) {
+        return ((a instanceof Number) && (b instanceof Number)) || ((a instanceof Date) && (b instanceof Date))
+                || ((a instanceof String) && (b instanceof String))
+                || ((a instanceof Boolean) && (b instanceof Boolean));
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The record bytes are only compared with literals.
+     */
+    @Override
+    public RecordFilter getRecordFilter() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return 4;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Equality is assumed to keep one row in ten, inequality nine in ten, and ranges one in three.
+     */
+    @Override
+    public double getSelectivity() {
+        switch (this.operator) {
+            case EQUALS:
+                return 0.1;
+            case NOT_EQUALS:
+                return 0.9;
+            default:
+                return 0.33;
+        }
+    }
+}
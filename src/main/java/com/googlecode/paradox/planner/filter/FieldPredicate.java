@@ -0,0 +1,158 @@
+/*
+ * FieldPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.batch.ValueFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Compares a field with a literal parsed when the predicate is created. Null values never satisfy the predicate.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public abstract class FieldPredicate implements Predicate, ValueFilter {
+
+    /**
+     * The field position in the scan row.
+     */
+    private final int index;
+
+    /**
+     * The comparison operator.
+     */
+    private final CompareOperator operator;
+
+    /**
+     * The encoded record filter (can be null).
+     */
+    private RecordFilter recordFilter;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index    the field position in the scan row.
+     * @param operator the comparison operator.
+     */
+    protected FieldPredicate(final int index, final CompareOperator operator) {
+        this.index = index;
+        this.operator = operator;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public final boolean accept(final ColumnBatch batch, final int row) throws SQLException {
+        final ColumnVector vector = batch.getColumn(this.index);
+        if (vector.isNull(row)) {
+            return false;
+        }
+        return this.test(vector, row);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public final boolean accept(final List<FieldValue> row) throws SQLException {
+        return this.accept(row.get(this.index));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public final boolean accept(final FieldValue value) throws SQLException {
+        if ((value == null) || value.isNull()) {
+            return false;
+        }
+        return this.test(value);
+    }
+
+    /**
+     * Checks a not null value in a column vector.
+     *
+     * @param vector the column vector.
+     * @param row    the row in vector.
+     * @return true if the value satisfies this predicate.
+     * @throws SQLException in case of evaluation errors.
+     */
+    protected abstract boolean test(final ColumnVector vector, final int row) throws SQLException;
+
+    /**
+     * Checks a not null value.
+     *
+     * @param value the value.
+     * @return true if the value satisfies this predicate.
+     * @throws SQLException in case of evaluation errors.
+     */
+    protected abstract boolean test(final FieldValue value) throws SQLException;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public final RecordFilter getRecordFilter() {
+        return this.recordFilter;
+    }
+
+    /**
+     * Sets the encoded record filter with the same result of this predicate.
+     *
+     * @param recordFilter the encoded record filter.
+     * @return this predicate.
+     */
+    final FieldPredicate withRecordFilter(final RecordFilter recordFilter) {
+        this.recordFilter = recordFilter;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Equality is assumed to keep one row in ten, inequality nine in ten, and ranges one in three.
+     */
+    @Override
+    public double getSelectivity() {
+        switch (this.operator) {
+            case EQUALS:
+                return 0.1;
+            case NOT_EQUALS:
+                return 0.9;
+            default:
+                return 0.33;
+        }
+    }
+
+    /**
+     * Gets the field position in the scan row.
+     *
+     * @return the field position.
+     */
+    public final int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the comparison operator.
+     *
+     * @return the comparison operator.
+     */
+    public final CompareOperator getOperator() {
+        return this.operator;
+    }
+}
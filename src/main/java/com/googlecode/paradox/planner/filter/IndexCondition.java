@@ -0,0 +1,101 @@
+/*
+ * IndexCondition.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ValueFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The comparisons of a predicate over one field, checked against the keys of an index on that field. Every row
+ * accepted by the predicate has a key accepted by this condition.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class IndexCondition implements ValueFilter {
+
+    /**
+     * The field comparisons.
+     */
+    private final List<FieldPredicate> predicates;
+
+    /**
+     * The encoded key range (null if the comparisons are not encoded).
+     */
+    private final KeyRange range;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param predicates the field comparisons.
+     * @param range      the encoded key range (can be null).
+     */
+    private IndexCondition(final List<FieldPredicate> predicates, final KeyRange range) {
+        this.predicates = predicates;
+        this.range = range;
+    }
+
+    /**
+     * Gets the index condition of a field in a predicate. Only the comparisons required by the predicate are used.
+     *
+     * @param predicate the predicate.
+     * @param index     the field position in the scan row.
+     * @return the index condition or null if the predicate does not restrict the field.
+     */
+    public static IndexCondition of(final Predicate predicate, final int index) {
+        final List<Predicate> operands = new ArrayList<>();
+        if (predicate instanceof AndPredicate) {
+            operands.addAll(((AndPredicate) predicate).getOperands());
+        } else {
+            operands.add(predicate);
+        }
+
+        final List<FieldPredicate> predicates = new ArrayList<>();
+        boolean selective = false;
+        for (final Predicate operand : operands) {
+            if ((operand instanceof FieldPredicate) && (((FieldPredicate) operand).getIndex() == index)) {
+                final FieldPredicate fieldPredicate = (FieldPredicate) operand;
+                predicates.add(fieldPredicate);
+                selective |= fieldPredicate.getOperator() != CompareOperator.NOT_EQUALS;
+            }
+        }
+
+        if (!selective) {
+            return null;
+        }
+        return new IndexCondition(predicates, KeyRange.of(predicate, index));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final FieldValue value) throws SQLException {
+        for (final FieldPredicate predicate : this.predicates) {
+            if (!predicate.accept(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the encoded key range.
+     *
+     * @return the encoded key range or null if the keys can not be compared encoded.
+     */
+    public KeyRange getRange() {
+        return this.range;
+    }
+}
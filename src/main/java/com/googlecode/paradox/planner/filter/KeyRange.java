@@ -0,0 +1,200 @@
+/*
+ * KeyRange.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.RecordFilter;
+
+/**
+ * A range of encoded keys of one field, as stored in file. Used to find the index blocks that can hold the rows
+ * accepted by a predicate. The range may be wider than the predicate, never narrower.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class KeyRange {
+
+    /**
+     * The lower bound, inclusive (null for no bound).
+     */
+    private final byte[] low;
+
+    /**
+     * The upper bound, inclusive (null for no bound).
+     */
+    private final byte[] high;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param low  the lower bound (null for no bound).
+     * @param high the upper bound (null for no bound).
+     */
+    private KeyRange(final byte[] low, final byte[] high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Gets the key range of a field accepted by a predicate.
+     *
+     * @param predicate the predicate.
+     * @param index     the field position in the scan row.
+     * @return the key range or null if the predicate does not bound the field.
+     */
+    public static KeyRange of(final Predicate predicate, final int index) {
+        if (predicate instanceof FieldPredicate) {
+            return KeyRange.of((FieldPredicate) predicate, index);
+        } else if (predicate instanceof AndPredicate) {
+            KeyRange range = null;
+            for (final Predicate operand : ((AndPredicate) predicate).getOperands()) {
+                range = KeyRange.intersect(range, KeyRange.of(operand, index));
+            }
+            return range;
+        } else if (predicate instanceof OrPredicate) {
+            KeyRange range = null;
+            for (final Predicate operand : ((OrPredicate) predicate).getOperands()) {
+                final KeyRange current = KeyRange.of(operand, index);
+                if (current == null) {
+                    return null;
+                } else if (range == null) {
+                    range = current;
+                } else {
+                    range = new KeyRange(wider(range.low, current.low, true), wider(range.high, current.high, false));
+                    if ((range.low == null) && (range.high == null)) {
+                        return null;
+                    }
+                }
+            }
+            return range;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the key range of a single field comparison.
+     *
+     * @param predicate the field comparison.
+     * @param index     the field position in the scan row.
+     * @return the key range or null if the predicate does not bound the field.
+     */
+    private static KeyRange of(final FieldPredicate predicate, final int index) {
+        final RecordFilter filter = predicate.getRecordFilter();
+        if ((predicate.getIndex() != index) || !(filter instanceof EncodedComparison)) {
+            return null;
+        }
+
+        final EncodedComparison comparison = (EncodedComparison) filter;
+        final byte[] key = comparison.getKey();
+        switch (comparison.getOperator()) {
+            case EQUALS:
+                return new KeyRange(key, key);
+            case GREATER_THAN:
+            case GREATER_EQUALS:
+                return new KeyRange(key, null);
+            case LESS_THAN:
+            case LESS_EQUALS:
+                return new KeyRange(null, key);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Intersects two ranges.
+     *
+     * @param first  the first range (null for no range).
+     * @param second the second range (null for no range).
+     * @return the intersection.
+     */
+    private static KeyRange intersect(final KeyRange first, final KeyRange second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        }
+        return new KeyRange(tighter(first.low, second.low, true), tighter(first.high, second.high, false));
+    }
+
+    /**
+     * Gets the tighter of two bounds, where null is no bound.
+     *
+     * @param first    the first bound.
+     * @param second   the second bound.
+     * @param lowBound if the bounds are lower bounds.
+     * @return the tighter bound.
+     */
+    private static byte[] tighter(final byte[] first, final byte[] second, final boolean lowBound) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        }
+        final int comparison = compare(first, second);
+        if ((lowBound && (comparison >= 0)) || (!lowBound && (comparison <= 0))) {
+            return first;
+        }
+        return second;
+    }
+
+    /**
+     * Gets the wider of two bounds, where null is no bound.
+     *
+     * @param first    the first bound.
+     * @param second   the second bound.
+     * @param lowBound if the bounds are lower bounds.
+     * @return the wider bound.
+     */
+    private static byte[] wider(final byte[] first, final byte[] second, final boolean lowBound) {
+        if ((first == null) || (second == null)) {
+            return null;
+        }
+        final int comparison = compare(first, second);
+        if ((lowBound && (comparison <= 0)) || (!lowBound && (comparison >= 0))) {
+            return first;
+        }
+        return second;
+    }
+
+    /**
+     * Compares two keys as unsigned bytes.
+     *
+     * @param first  the first key.
+     * @param second the second key.
+     * @return the comparison result.
+     */
+    private static int compare(final byte[] first, final byte[] second) {
+        final int length = Math.min(first.length, second.length);
+        for (int i = 0; i < length; i++) {
+            final int comparison = (first[i] & 0xFF) - (second[i] & 0xFF);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return first.length - second.length;
+    }
+
+    /**
+     * Gets the lower bound.
+     *
+     * @return the lower bound, inclusive (null for no bound).
+     */
+    public byte[] getLow() {
+        return this.low;
+    }
+
+    /**
+     * Gets the upper bound.
+     *
+     * @return the upper bound, inclusive (null for no bound).
+     */
+    public byte[] getHigh() {
+        return this.high;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * LongPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+
+/**
+ * Compares integer, long and auto increment fields with an integral literal.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class LongPredicate extends FieldPredicate {
+
+    /**
+     * The literal value.
+     */
+    private final long literal;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index    the field position in the scan row.
+     * @param operator the comparison operator.
+     * @param literal  the literal value.
+     */
+    public LongPredicate(final int index, final CompareOperator operator, final long literal) {
+        super(index, operator);
+        this.literal = literal;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final ColumnVector vector, final int row) throws SQLException {
+        return this.getOperator().accept(Long.compare(vector.getLong(row), this.literal));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final FieldValue value) throws SQLException {
+        return this.getOperator().accept(Long.compare(value.getNumber().longValue(), this.literal));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return 1;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * NotPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accepts the rows rejected by another predicate.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class NotPredicate implements Predicate {
+
+    /**
+     * The negated predicate.
+     */
+    private final Predicate predicate;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param predicate the predicate to negate.
+     */
+    public NotPredicate(final Predicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ColumnBatch batch, final int row) throws SQLException {
+        return !this.predicate.accept(batch, row);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) throws SQLException {
+        return !this.predicate.accept(row);
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The encoded filters only reject records, so they can not be negated.
+     */
+    @Override
+    public RecordFilter getRecordFilter() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return this.predicate.getCost();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getSelectivity() {
+        return 1 - this.predicate.getSelectivity();
+    }
+}
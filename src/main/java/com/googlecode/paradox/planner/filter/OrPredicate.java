@@ -0,0 +1,169 @@
+/*
+ * OrPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Accepts the rows that satisfy any of the predicates. Nested OR predicates are merged, and the operands are
+ * evaluated cheapest and least selective first, stopping in the first one that succeeds.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class OrPredicate implements Predicate {
+
+    /**
+     * Orders the operands by cost per accepted row.
+     */
+    private static final Comparator<Predicate> RANK = new Comparator<Predicate>() {
+        @Override
+        public int compare(final Predicate o1, final Predicate o2) {
+            return Double.compare(OrPredicate.rank(o1), OrPredicate.rank(o2));
+        }
+    };
+
+    /**
+     * The operands, in evaluation order.
+     */
+    private final Predicate[] operands;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param operands the operands.
+     */
+    public OrPredicate(final Collection<? extends Predicate> operands) {
+        final List<Predicate> list = new ArrayList<>();
+        for (final Predicate operand : operands) {
+            if (operand instanceof OrPredicate) {
+                Collections.addAll(list, ((OrPredicate) operand).operands);
+            } else {
+                list.add(operand);
+            }
+        }
+        Collections.sort(list, RANK);
+        this.operands = list.toArray(new Predicate[list.size()]);
+    }
+
+    /**
+     * Gets the cost of a predicate per row it accepts.
+     *
+     * @param predicate the predicate.
+     * @return the rank (lower first).
+     */
+    private static double rank(final Predicate predicate) {
+        final double accepted = predicate.getSelectivity();
+        if (accepted <= 0) {
+            return Double.MAX_VALUE;
+        }
+        return predicate.getCost() / accepted;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ColumnBatch batch, final int row) throws SQLException {
+        for (final Predicate operand : this.operands) {
+            if (operand.accept(batch, row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) throws SQLException {
+        for (final Predicate operand : this.operands) {
+            if (operand.accept(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Records can only be rejected if all operands have an encoded filter.
+     */
+    @Override
+    public RecordFilter getRecordFilter() {
+        final RecordFilter[] filters = new RecordFilter[this.operands.length];
+        for (int i = 0; i < filters.length; i++) {
+            filters[i] = this.operands[i].getRecordFilter();
+            if (filters[i] == null) {
+                return null;
+            }
+        }
+
+        return new RecordFilter() {
+            @Override
+            public boolean accept(final ByteBuffer block, final int recordStart) throws SQLException {
+                for (final RecordFilter filter : filters) {
+                    if (filter.accept(block, recordStart)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        double cost = 0;
+        double reached = 1;
+        for (final Predicate operand : this.operands) {
+            cost += reached * operand.getCost();
+            reached *= 1 - operand.getSelectivity();
+        }
+        return cost;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getSelectivity() {
+        double rejected = 1;
+        for (final Predicate operand : this.operands) {
+            rejected *= 1 - operand.getSelectivity();
+        }
+        return 1 - rejected;
+    }
+
+    /**
+     * Gets the operands in evaluation order.
+     *
+     * @return the operands.
+     */
+    public List<Predicate> getOperands() {
+        return Collections.unmodifiableList(Arrays.asList(this.operands));
+    }
+}
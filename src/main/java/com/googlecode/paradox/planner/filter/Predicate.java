@@ -0,0 +1,58 @@
+/*
+ * Predicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.batch.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A compiled condition. The fields are resolved to their position in the scan row when the predicate is created, so
+ * it can be checked against both column batches and row values.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface Predicate extends RowFilter {
+
+    /**
+     * If the row satisfies this predicate.
+     *
+     * @param row the row values, in scan order.
+     * @return true if the row satisfies this predicate.
+     * @throws SQLException in case of evaluation errors.
+     */
+    boolean accept(final List<FieldValue> row) throws SQLException;
+
+    /**
+     * Gets a filter of the encoded records that only rejects rows this predicate rejects. The rows it accepts must
+     * still be checked by this predicate after decoding.
+     *
+     * @return the encoded record filter or null if this predicate needs the decoded values.
+     */
+    RecordFilter getRecordFilter();
+
+    /**
+     * Gets the estimated cost to evaluate this predicate in one row, relative to a fixed width comparison.
+     *
+     * @return the estimated cost.
+     */
+    double getCost();
+
+    /**
+     * Gets the estimated fraction of rows that satisfy this predicate.
+     *
+     * @return the estimated selectivity (0 to 1).
+     */
+    double getSelectivity();
+}
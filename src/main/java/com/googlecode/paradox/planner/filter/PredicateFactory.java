@@ -0,0 +1,174 @@
+/*
+ * PredicateFactory.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.DateVector;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.utils.DateUtils;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Creates the typed field predicates. The literal is parsed once, in the field type, and the value is compared as
+ * text only when the literal does not fit the field type. Fixed width fields also get a filter of the encoded
+ * records, so most rejected rows are never decoded.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class PredicateFactory {
+
+    /**
+     * Utility class.
+     */
+    private PredicateFactory() {
+        // Utility class.
+    }
+
+    /**
+     * Creates a field predicate.
+     *
+     * @param operator the comparison operator.
+     * @param field    the field to compare.
+     * @param index    the field position in the scan row.
+     * @param literal  the literal to compare with.
+     * @return the field predicate.
+     * @throws SQLException if the literal is not valid for the operator.
+     */
+    public static Predicate create(final CompareOperator operator, final ParadoxField field, final int index,
+            final String literal) throws SQLException {
+        int offset = -1;
+        if (field.getTable() != null) {
+            offset = field.getTable().getFieldOffset(field);
+        }
+
+        switch (field.getType()) {
+            case 3:
+                return PredicateFactory.createLong(operator, index, literal, offset, EncodedComparison.Encoding.SHORT);
+            case 4:
+                return PredicateFactory.createLong(operator, index, literal, offset, EncodedComparison.Encoding.INT);
+            case 0x16:
+                return PredicateFactory.createLong(operator, index, literal, offset,
+                        EncodedComparison.Encoding.MASKED_INT);
+            case 5:
+            case 6:
+                return PredicateFactory.createDouble(operator, index, literal, offset);
+            case 2:
+                return PredicateFactory.createDate(operator, index, literal, offset);
+            default:
+                return PredicateFactory.createString(operator, index, literal);
+        }
+    }
+
+    /**
+     * Creates an integral predicate.
+     *
+     * @param operator the comparison operator.
+     * @param index    the field position in the scan row.
+     * @param literal  the literal to compare with.
+     * @param offset   the field position in record (-1 if unknown).
+     * @param encoding the field encoding.
+     * @return the field predicate.
+     * @throws SQLException if the literal is not valid for the operator.
+     */
+    private static Predicate createLong(final CompareOperator operator, final int index, final String literal,
+            final int offset, final EncodedComparison.Encoding encoding) throws SQLException {
+        final long value;
+        try {
+            value = Long.parseLong(literal);
+        } catch (final NumberFormatException e) {
+            return PredicateFactory.createDouble(operator, index, literal, -1);
+        }
+
+        final LongPredicate predicate = new LongPredicate(index, operator, value);
+        if (offset >= 0) {
+            predicate.withRecordFilter(EncodedComparison.ofLong(offset, encoding, operator, value));
+        }
+        return predicate;
+    }
+
+    /**
+     * Creates a numeric predicate.
+     *
+     * @param operator the comparison operator.
+     * @param index    the field position in the scan row.
+     * @param literal  the literal to compare with.
+     * @param offset   the field position in record (-1 if it is not a number field).
+     * @return the field predicate.
+     * @throws SQLException if the literal is not valid for the operator.
+     */
+    private static Predicate createDouble(final CompareOperator operator, final int index, final String literal,
+            final int offset) throws SQLException {
+        final double value;
+        try {
+            value = Double.parseDouble(literal);
+        } catch (final NumberFormatException e) {
+            return PredicateFactory.createString(operator, index, literal);
+        }
+
+        final DoublePredicate predicate = new DoublePredicate(index, operator, value);
+        if (offset >= 0) {
+            predicate.withRecordFilter(EncodedComparison.ofDouble(offset, operator, value));
+        }
+        return predicate;
+    }
+
+    /**
+     * Creates a date predicate.
+     *
+     * @param operator the comparison operator.
+     * @param index    the field position in the scan row.
+     * @param literal  the literal to compare with.
+     * @param offset   the field position in record (-1 if unknown).
+     * @return the field predicate.
+     * @throws SQLException if the literal is not valid for the operator.
+     */
+    private static Predicate createDate(final CompareOperator operator, final int index, final String literal,
+            final int offset) throws SQLException {
+        final Date date;
+        try {
+            date = Date.valueOf(literal);
+        } catch (final IllegalArgumentException e) {
+            return PredicateFactory.createString(operator, index, literal);
+        }
+
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        final long sdn = DateUtils.gregorianToSdn(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH));
+        final DatePredicate predicate = new DatePredicate(index, operator, date, (int) (sdn - DateVector.EPOCH_SDN));
+        if (offset >= 0) {
+            predicate.withRecordFilter(EncodedComparison.ofLong(offset, EncodedComparison.Encoding.MASKED_INT,
+                    operator, sdn - DateVector.PARADOX_SDN));
+        }
+        return predicate;
+    }
+
+    /**
+     * Creates a text predicate.
+     *
+     * @param operator the comparison operator.
+     * @param index    the field position in the scan row.
+     * @param literal  the literal to compare with.
+     * @return the field predicate.
+     * @throws SQLException if the literal is not valid for the operator.
+     */
+    private static Predicate createString(final CompareOperator operator, final int index, final String literal)
+            throws SQLException {
+        try {
+            return new StringPredicate(index, operator, literal);
+        } catch (final NumberFormatException e) {
+            throw new SQLException("Invalid numeric value: " + literal, SQLStates.INVALID_PARAMETER.getValue(), e);
+        }
+    }
+}
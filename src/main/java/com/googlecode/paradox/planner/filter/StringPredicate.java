@@ -0,0 +1,138 @@
+/*
+ * StringPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnVector;
+import com.googlecode.paradox.data.batch.StringVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+
+/**
+ * Compares the text of a field value. Equality ignores the case, and the range operators compare the value as a
+ * number.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class StringPredicate extends FieldPredicate {
+
+    /**
+     * The literal value.
+     */
+    private final String literal;
+
+    /**
+     * The literal as number (only used by range operators).
+     */
+    private final double number;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index    the field position in the scan row.
+     * @param operator the comparison operator.
+     * @param literal  the literal value.
+     */
+    public StringPredicate(final int index, final CompareOperator operator, final String literal) {
+        super(index, operator);
+        this.literal = literal;
+        if (operator.isRange()) {
+            this.number = Double.parseDouble(literal);
+        } else {
+            this.number = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final ColumnVector vector, final int row) throws SQLException {
+        if (vector instanceof StringVector) {
+            if (this.getOperator() == CompareOperator.EQUALS) {
+                return this.equalsIgnoreCase((StringVector) vector, row);
+            } else if (this.getOperator() == CompareOperator.NOT_EQUALS) {
+                return !this.equalsIgnoreCase((StringVector) vector, row);
+            }
+        }
+        return this.test(vector.getValue(row).toString());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean test(final FieldValue value) throws SQLException {
+        return this.test(value.getValue().toString());
+    }
+
+    /**
+     * Checks the value text.
+     *
+     * @param value the value text.
+     * @return true if the value satisfies this predicate.
+     * @throws SQLException if a range operator is used with a value that is not a number.
+     */
+    private boolean test(final String value) throws SQLException {
+        switch (this.getOperator()) {
+            case EQUALS:
+                return this.literal.equalsIgnoreCase(value);
+            case NOT_EQUALS:
+                return !this.literal.equalsIgnoreCase(value);
+            default:
+                final double parsed;
+                try {
+                    parsed = Double.parseDouble(value);
+                } catch (final NumberFormatException e) {
+                    throw new SQLException("Invalid numeric value: " + value, SQLStates.INVALID_PARAMETER.getValue(),
+                            e);
+                }
+                return this.getOperator().accept(Double.compare(parsed, this.number));
+        }
+    }
+
+    /**
+     * Compares the literal with a vector value without creating a string.
+     *
+     * @param vector the column vector.
+     * @param row    the row in vector.
+     * @return true if the value is equal to the literal ignoring case.
+     */
+    private boolean equalsIgnoreCase(final StringVector vector, final int row) {
+        final int length = vector.getLength(row);
+        if (length != this.literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c1 = this.literal.charAt(i);
+            final char c2 = vector.charAt(row, i);
+            if ((c1 != c2) && (Character.toUpperCase(c1) != Character.toUpperCase(c2))
+                    && (Character.toLowerCase(c1) != Character.toLowerCase(c2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Text compares cost more than fixed width ones, and range compares also parse the value.
+     */
+    @Override
+    public double getCost() {
+        if (this.getOperator().isRange()) {
+            return 8;
+        }
+        return 4;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * XorPredicate.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accepts the rows that satisfy exactly one of two predicates. Both operands are always evaluated.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class XorPredicate implements Predicate {
+
+    /**
+     * The left operand.
+     */
+    private final Predicate left;
+
+    /**
+     * The right operand.
+     */
+    private final Predicate right;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param left  the left operand.
+     * @param right the right operand.
+     */
+    public XorPredicate(final Predicate left, final Predicate right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final ColumnBatch batch, final int row) throws SQLException {
+        return this.left.accept(batch, row) ^ this.right.accept(batch, row);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) throws SQLException {
+        return this.left.accept(row) ^ this.right.accept(row);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public RecordFilter getRecordFilter() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getCost() {
+        return this.left.getCost() + this.right.getCost();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getSelectivity() {
+        final double l = this.left.getSelectivity();
+        final double r = this.right.getSelectivity();
+        return (l * (1 - r)) + (r * (1 - l));
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Compiled row predicates used to filter the table scans.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.planner.filter;
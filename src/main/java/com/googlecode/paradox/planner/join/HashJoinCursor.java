@@ -0,0 +1,576 @@
+/*
+ * HashJoinCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.planner.filter.Predicate;
+import com.googlecode.paradox.planner.spill.SpillFile;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Joins two inputs by the hash of their equality keys. The side with less estimated rows is loaded in a hash table
+ * and the other side is read once, looking up each row. When the loaded rows exceed the memory budget, both sides are
+ * split by key hash in temporary files and each pair of files is joined in turn, splitting it again if needed.
+ * <p>
+ * The result rows have the left fields followed by the right fields. In outer joins the missing side is filled with
+ * the side null values.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class HashJoinCursor implements RowCursor {
+
+    /**
+     * Hash bits used to split the rows in each level.
+     */
+    private static final int PARTITION_BITS = 4;
+
+    /**
+     * Partition count of each level.
+     */
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+    /**
+     * Levels of split, after that the partition is loaded in memory anyway.
+     */
+    private static final int MAX_LEVEL = 3;
+
+    /**
+     * Loading the build side.
+     */
+    private static final int BUILD = 0;
+
+    /**
+     * Reading the probe side.
+     */
+    private static final int PROBE = 1;
+
+    /**
+     * Returning the build rows without match.
+     */
+    private static final int UNMATCHED = 2;
+
+    /**
+     * Joining the partition files.
+     */
+    private static final int PARTITION = 3;
+
+    /**
+     * No more rows.
+     */
+    private static final int DONE = 4;
+
+    /**
+     * The left side.
+     */
+    private final JoinInput left;
+
+    /**
+     * The right side.
+     */
+    private final JoinInput right;
+
+    /**
+     * The equality keys.
+     */
+    private final JoinKeys keys;
+
+    /**
+     * The join type.
+     */
+    private final JoinType type;
+
+    /**
+     * The other ON conditions, checked on the joined row (null if there is none).
+     */
+    private final Predicate condition;
+
+    /**
+     * The memory budget of the hash table, in bytes.
+     */
+    private final long memoryBudget;
+
+    /**
+     * The split level.
+     */
+    private final int level;
+
+    /**
+     * If the left side is loaded in the hash table.
+     */
+    private final boolean buildLeft;
+
+    /**
+     * If the build rows without match are returned.
+     */
+    private final boolean preserveBuild;
+
+    /**
+     * If the probe rows without match are returned.
+     */
+    private final boolean preserveProbe;
+
+    /**
+     * The current state.
+     */
+    private int state = BUILD;
+
+    /**
+     * The build rows.
+     */
+    private KeyHashTable table;
+
+    /**
+     * The current probe row.
+     */
+    private List<FieldValue> probeRow;
+
+    /**
+     * The current probe row hash.
+     */
+    private long probeHash;
+
+    /**
+     * The next build entry to check for the current probe row.
+     */
+    private int entry = KeyHashTable.NONE;
+
+    /**
+     * If the current probe row already matched.
+     */
+    private boolean probeMatched;
+
+    /**
+     * The next build entry to check for match.
+     */
+    private int unmatched;
+
+    /**
+     * The build side partitions (null if the build side fits in memory).
+     */
+    private SpillFile[] buildFiles;
+
+    /**
+     * The probe side partitions.
+     */
+    private SpillFile[] probeFiles;
+
+    /**
+     * The current partition.
+     */
+    private int partition = -1;
+
+    /**
+     * The join of the current partition.
+     */
+    private HashJoinCursor child;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param left         the left side.
+     * @param right        the right side.
+     * @param keys         the equality keys.
+     * @param type         the join type.
+     * @param condition    the other ON conditions, checked on the joined row (null if there is none).
+     * @param memoryBudget the memory budget of the hash table, in bytes.
+     */
+    public HashJoinCursor(final JoinInput left, final JoinInput right, final JoinKeys keys, final JoinType type,
+            final Predicate condition, final long memoryBudget) {
+        this(left, right, keys, type, condition, memoryBudget, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param left         the left side.
+     * @param right        the right side.
+     * @param keys         the equality keys.
+     * @param type         the join type.
+     * @param condition    the other ON conditions (null if there is none).
+     * @param memoryBudget the memory budget of the hash table, in bytes.
+     * @param level        the split level.
+     */
+    private HashJoinCursor(final JoinInput left, final JoinInput right, final JoinKeys keys, final JoinType type,
+            final Predicate condition, final long memoryBudget, final int level) {
+        this.left = left;
+        this.right = right;
+        this.keys = keys;
+        this.type = type;
+        this.condition = condition;
+        this.memoryBudget = memoryBudget;
+        this.level = level;
+        this.buildLeft = left.getEstimatedRows() < right.getEstimatedRows();
+
+        final boolean preserveLeft = (type == JoinType.LEFT) || (type == JoinType.FULL);
+        final boolean preserveRight = (type == JoinType.RIGHT) || (type == JoinType.FULL);
+        if (this.buildLeft) {
+            this.preserveBuild = preserveLeft;
+            this.preserveProbe = preserveRight;
+        } else {
+            this.preserveBuild = preserveRight;
+            this.preserveProbe = preserveLeft;
+        }
+    }
+
+    /**
+     * Gets if the left side is loaded in the hash table.
+     *
+     * @return true if the left side is loaded in the hash table.
+     */
+    public boolean isBuildLeft() {
+        return this.buildLeft;
+    }
+
+    /**
+     * Gets if the build side was split in temporary files.
+     *
+     * @return true if the build side was split in temporary files.
+     */
+    public boolean isSpilled() {
+        return this.buildFiles != null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        while (true) {
+            switch (this.state) {
+                case BUILD:
+                    this.build();
+                    break;
+                case PROBE:
+                    if (this.probe()) {
+                        return true;
+                    }
+                    this.state = UNMATCHED;
+                    break;
+                case UNMATCHED:
+                    if (this.preserveBuild) {
+                        final int current = this.table.nextUnmatched(this.unmatched);
+                        if (current != KeyHashTable.NONE) {
+                            this.unmatched = current + 1;
+                            this.row = this.join(null, this.table.getRow(current));
+                            return true;
+                        }
+                    }
+                    this.table = null;
+                    this.state = DONE;
+                    break;
+                case PARTITION:
+                    if ((this.child != null) && this.child.next()) {
+                        this.row = this.child.getRow();
+                        return true;
+                    }
+                    this.nextPartition();
+                    break;
+                default:
+                    this.row = null;
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Loads the build side, splitting it in files if the memory budget is exceeded.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    private void build() throws SQLException {
+        final RowCursor source = this.getBuild().getRows();
+        this.table = new KeyHashTable();
+        while (source.next()) {
+            final List<FieldValue> current = source.getRow();
+            final boolean keyed = !this.keys.hasNull(current, this.buildLeft);
+            long hash = 0;
+            if (keyed) {
+                hash = this.keys.hash(current, this.buildLeft);
+            }
+            if (this.buildFiles != null) {
+                this.buildFiles[this.partitionOf(hash)].write(current);
+            } else {
+                this.table.add(current, hash, keyed);
+                if ((this.table.getMemory() > this.memoryBudget) && (this.level < MAX_LEVEL)) {
+                    this.spillTable();
+                }
+            }
+        }
+
+        if (this.buildFiles == null) {
+            this.table.finish();
+            this.state = PROBE;
+            return;
+        }
+
+        // The probe side is split with the same hash bits.
+        final RowCursor probe = this.getProbe().getRows();
+        this.probeFiles = HashJoinCursor.createFiles();
+        while (probe.next()) {
+            final List<FieldValue> current = probe.getRow();
+            long hash = 0;
+            if (!this.keys.hasNull(current, !this.buildLeft)) {
+                hash = this.keys.hash(current, !this.buildLeft);
+            }
+            this.probeFiles[this.partitionOf(hash)].write(current);
+        }
+        this.state = PARTITION;
+    }
+
+    /**
+     * Moves the loaded build rows to the partition files.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void spillTable() throws SQLException {
+        this.buildFiles = HashJoinCursor.createFiles();
+        for (int i = 0; i < this.table.size(); i++) {
+            this.buildFiles[this.partitionOf(this.table.getHash(i))].write(this.table.getRow(i));
+        }
+        this.table = null;
+    }
+
+    /**
+     * Creates the partition files.
+     *
+     * @return the partition files.
+     * @throws SQLException in case of I/O errors.
+     */
+    private static SpillFile[] createFiles() throws SQLException {
+        final SpillFile[] files = new SpillFile[PARTITIONS];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new SpillFile();
+        }
+        return files;
+    }
+
+    /**
+     * Gets the partition of a hash in this level.
+     *
+     * @param hash the key hash (zero for null keys).
+     * @return the partition.
+     */
+    private int partitionOf(final long hash) {
+        return (int) (hash >>> (Long.SIZE - (PARTITION_BITS * (this.level + 1)))) & (PARTITIONS - 1);
+    }
+
+    /**
+     * Opens the join of the next partition pair.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void nextPartition() throws SQLException {
+        if (this.child != null) {
+            this.child.close();
+            this.child = null;
+            this.buildFiles[this.partition].close();
+            this.probeFiles[this.partition].close();
+        }
+        this.partition++;
+        if (this.partition >= PARTITIONS) {
+            this.state = DONE;
+            return;
+        }
+
+        final SpillFile build = this.buildFiles[this.partition];
+        final SpillFile probe = this.probeFiles[this.partition];
+        final JoinInput buildInput = new JoinInput(build.openCursor(),
+                this.getBuild().getNulls().toArray(new FieldValue[0]), build.getRowCount());
+        final JoinInput probeInput = new JoinInput(probe.openCursor(),
+                this.getProbe().getNulls().toArray(new FieldValue[0]), probe.getRowCount());
+        if (this.buildLeft) {
+            this.child = new HashJoinCursor(buildInput, probeInput, this.keys, this.type, this.condition,
+                    this.memoryBudget, this.level + 1);
+        } else {
+            this.child = new HashJoinCursor(probeInput, buildInput, this.keys, this.type, this.condition,
+                    this.memoryBudget, this.level + 1);
+        }
+    }
+
+    /**
+     * Finds the next joined row from the probe side.
+     *
+     * @return false if the probe side is over.
+     * @throws SQLException in case of reading errors.
+     */
+    private boolean probe() throws SQLException {
+        final RowCursor source = this.getProbe().getRows();
+        while (true) {
+            if (this.probeRow == null) {
+                if (!source.next()) {
+                    return false;
+                }
+                this.probeRow = source.getRow();
+                this.probeMatched = false;
+                this.entry = KeyHashTable.NONE;
+                if (!this.keys.hasNull(this.probeRow, !this.buildLeft)) {
+                    this.probeHash = this.keys.hash(this.probeRow, !this.buildLeft);
+                    this.entry = this.table.find(this.probeHash);
+                }
+            }
+
+            while (this.entry != KeyHashTable.NONE) {
+                final int current = this.entry;
+                this.entry = this.table.findNext(current, this.probeHash);
+                final List<FieldValue> buildRow = this.table.getRow(current);
+                if (!this.keyMatches(this.probeRow, buildRow)) {
+                    continue;
+                }
+                final List<FieldValue> joined = this.join(this.probeRow, buildRow);
+                if ((this.condition == null) || this.condition.accept(joined)) {
+                    this.table.setMatched(current);
+                    this.probeMatched = true;
+                    this.row = joined;
+                    return true;
+                }
+            }
+
+            final List<FieldValue> current = this.probeRow;
+            this.probeRow = null;
+            if (this.preserveProbe && !this.probeMatched) {
+                this.row = this.join(current, null);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Compares the keys of a probe row and a build row with the same hash.
+     *
+     * @param probe the probe row.
+     * @param build the build row.
+     * @return true if the keys are equal.
+     */
+    private boolean keyMatches(final List<FieldValue> probe, final List<FieldValue> build) {
+        if (this.buildLeft) {
+            return this.keys.matches(build, probe);
+        }
+        return this.keys.matches(probe, build);
+    }
+
+    /**
+     * Joins a probe row and a build row, using the null values for a missing row.
+     *
+     * @param probe the probe row (null if missing).
+     * @param build the build row (null if missing).
+     * @return the joined row.
+     */
+    private List<FieldValue> join(final List<FieldValue> probe, final List<FieldValue> build) {
+        if (this.buildLeft) {
+            return JoinInput.join(this.left, build, this.right, probe);
+        }
+        return JoinInput.join(this.left, probe, this.right, build);
+    }
+
+    /**
+     * Gets the side loaded in the hash table.
+     *
+     * @return the build side.
+     */
+    private JoinInput getBuild() {
+        if (this.buildLeft) {
+            return this.left;
+        }
+        return this.right;
+    }
+
+    /**
+     * Gets the side looked up in the hash table.
+     *
+     * @return the probe side.
+     */
+    private JoinInput getProbe() {
+        if (this.buildLeft) {
+            return this.right;
+        }
+        return this.left;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * Reads the inputs again. Temporary files are deleted and created again.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.closeFiles();
+        this.left.getRows().reset();
+        this.right.getRows().reset();
+        this.table = null;
+        this.probeRow = null;
+        this.entry = KeyHashTable.NONE;
+        this.unmatched = 0;
+        this.partition = -1;
+        this.row = null;
+        this.state = BUILD;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.closeFiles();
+        this.table = null;
+        this.state = DONE;
+        try {
+            this.left.getRows().close();
+        } finally {
+            this.right.getRows().close();
+        }
+    }
+
+    /**
+     * Closes the partition join and deletes the temporary files.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    private void closeFiles() throws SQLException {
+        if (this.child != null) {
+            this.child.close();
+            this.child = null;
+        }
+        HashJoinCursor.closeFiles(this.buildFiles);
+        HashJoinCursor.closeFiles(this.probeFiles);
+        this.buildFiles = null;
+        this.probeFiles = null;
+    }
+
+    /**
+     * Deletes temporary files.
+     *
+     * @param files the files to delete (may be null).
+     */
+    private static void closeFiles(final SpillFile[] files) {
+        if (files != null) {
+            for (final SpillFile file : files) {
+                file.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * JoinInput.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One side of a join.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class JoinInput {
+
+    /**
+     * The side rows.
+     */
+    private final RowCursor rows;
+
+    /**
+     * The values used when there is no matching row in this side.
+     */
+    private final List<FieldValue> nulls;
+
+    /**
+     * The estimated row count.
+     */
+    private final long estimatedRows;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param rows          the side rows.
+     * @param nulls         the values used when there is no matching row in this side, one per row field.
+     * @param estimatedRows the estimated row count.
+     */
+    public JoinInput(final RowCursor rows, final FieldValue[] nulls, final long estimatedRows) {
+        this.rows = rows;
+        this.nulls = Collections.unmodifiableList(Arrays.asList(nulls.clone()));
+        this.estimatedRows = estimatedRows;
+    }
+
+    /**
+     * Gets the side rows.
+     *
+     * @return the side rows.
+     */
+    public RowCursor getRows() {
+        return this.rows;
+    }
+
+    /**
+     * Gets the values used when there is no matching row in this side.
+     *
+     * @return the null values.
+     */
+    public List<FieldValue> getNulls() {
+        return this.nulls;
+    }
+
+    /**
+     * Gets the row width.
+     *
+     * @return the row width.
+     */
+    public int getWidth() {
+        return this.nulls.size();
+    }
+
+    /**
+     * Gets the estimated row count.
+     *
+     * @return the estimated row count.
+     */
+    public long getEstimatedRows() {
+        return this.estimatedRows;
+    }
+
+    /**
+     * Joins a left row and a right row, using the side null values for a missing row.
+     *
+     * @param left     the left side.
+     * @param leftRow  the left row (null if missing).
+     * @param right    the right side.
+     * @param rightRow the right row (null if missing).
+     * @return the joined row.
+     */
+    static List<FieldValue> join(final JoinInput left, final List<FieldValue> leftRow, final JoinInput right,
+            final List<FieldValue> rightRow) {
+        List<FieldValue> leftValues = leftRow;
+        if (leftValues == null) {
+            leftValues = left.nulls;
+        }
+        List<FieldValue> rightValues = rightRow;
+        if (rightValues == null) {
+            rightValues = right.nulls;
+        }
+        final int width = left.getWidth();
+        final FieldValue[] joined = new FieldValue[width + right.getWidth()];
+        for (int i = 0; i < width; i++) {
+            joined[i] = leftValues.get(i);
+        }
+        for (int i = 0; i < right.getWidth(); i++) {
+            joined[width + i] = rightValues.get(i);
+        }
+        return Arrays.asList(joined);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * JoinKeys.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The equality keys of a join: pairs of field positions in the left and right rows.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class JoinKeys {
+
+    /**
+     * The key positions in the left row.
+     */
+    private int[] left = new int[0];
+
+    /**
+     * The key positions in the right row.
+     */
+    private int[] right = new int[0];
+
+    /**
+     * How each key is compared.
+     */
+    private KeyType[] types = new KeyType[0];
+
+    /**
+     * Adds a key pair.
+     *
+     * @param leftIndex the key position in the left row.
+     * @param leftType  the left field SQL type.
+     * @param rightIndex the key position in the right row.
+     * @param rightType the right field SQL type.
+     * @throws SQLException if the fields can not be compared.
+     */
+    public void add(final int leftIndex, final int leftType, final int rightIndex, final int rightType)
+            throws SQLException {
+        final KeyType type = KeyType.of(leftType, rightType);
+        final int size = this.types.length;
+        this.left = Arrays.copyOf(this.left, size + 1);
+        this.right = Arrays.copyOf(this.right, size + 1);
+        this.types = Arrays.copyOf(this.types, size + 1);
+        this.left[size] = leftIndex;
+        this.right[size] = rightIndex;
+        this.types[size] = type;
+    }
+
+    /**
+     * Gets the key count.
+     *
+     * @return the key count.
+     */
+    public int size() {
+        return this.types.length;
+    }
+
+    /**
+     * Gets if the keys have an order that does not depend on the collation, like numbers and dates. Only these keys
+     * are merged in index order.
+     *
+     * @return true if no key is text.
+     */
+    public boolean isCollationFree() {
+        for (final KeyType type : this.types) {
+            if (type == KeyType.STRING) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets if any key of a row is null. A null key never matches.
+     *
+     * @param row  the row.
+     * @param left if the row is from the left side.
+     * @return true if any key is null.
+     */
+    boolean hasNull(final List<FieldValue> row, final boolean left) {
+        final int[] positions = this.positions(left);
+        for (final int position : positions) {
+            final FieldValue value = row.get(position);
+            if ((value == null) || value.isNull()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hashes the keys of a row without nulls. Equal keys have the same hash on both sides.
+     *
+     * @param row  the row.
+     * @param left if the row is from the left side.
+     * @return the key hash.
+     */
+    long hash(final List<FieldValue> row, final boolean left) {
+        final int[] positions = this.positions(left);
+        long hash = 1;
+        for (int i = 0; i < positions.length; i++) {
+            hash = (31 * hash) + this.types[i].hash(row.get(positions[i]).getValue());
+        }
+        // Spreads the bits, the partitions use the high ones and the buckets the low ones.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Compares the keys of two rows without nulls.
+     *
+     * @param leftRow  the left row.
+     * @param rightRow the right row.
+     * @return true if all keys are equal.
+     */
+    boolean matches(final List<FieldValue> leftRow, final List<FieldValue> rightRow) {
+        for (int i = 0; i < this.types.length; i++) {
+            if (!this.types[i].matches(leftRow.get(this.left[i]).getValue(), rightRow.get(this.right[i]).getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Orders the keys of a left row and a right row without nulls.
+     *
+     * @param leftRow  the left row.
+     * @param rightRow the right row.
+     * @return a negative number, zero or a positive number if the left keys are less, equal or greater.
+     */
+    int compare(final List<FieldValue> leftRow, final List<FieldValue> rightRow) {
+        for (int i = 0; i < this.types.length; i++) {
+            final int result = this.types[i].compare(leftRow.get(this.left[i]).getValue(),
+                    rightRow.get(this.right[i]).getValue());
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Orders the keys of two rows from the same side without nulls.
+     *
+     * @param first  the first row.
+     * @param second the second row.
+     * @param left   if the rows are from the left side.
+     * @return a negative number, zero or a positive number if the first keys are less, equal or greater.
+     */
+    int compare(final List<FieldValue> first, final List<FieldValue> second, final boolean left) {
+        final int[] positions = this.positions(left);
+        for (int i = 0; i < this.types.length; i++) {
+            final int result = this.types[i].compare(first.get(positions[i]).getValue(),
+                    second.get(positions[i]).getValue());
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the key positions of a side.
+     *
+     * @param left if the positions are from the left side.
+     * @return the key positions.
+     */
+    private int[] positions(final boolean left) {
+        if (left) {
+            return this.left;
+        }
+        return this.right;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * KeyHashTable.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.planner.spill.SpillFile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The build side of a hash join. The rows are chained by the primitive hash of their keys in plain arrays, and the
+ * rows with a null key are kept out of the chains. Each row has a flag set when it matches, for the outer joins.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class KeyHashTable {
+
+    /**
+     * No entry.
+     */
+    static final int NONE = -1;
+
+    /**
+     * The rows in insertion order.
+     */
+    private final List<List<FieldValue>> rows = new ArrayList<>();
+
+    /**
+     * The row hashes.
+     */
+    private long[] hashes = new long[16];
+
+    /**
+     * The rows with a key (the others are never found).
+     */
+    private final BitSet keyed = new BitSet();
+
+    /**
+     * The rows that matched.
+     */
+    private final BitSet matched = new BitSet();
+
+    /**
+     * The first entry of each bucket (null before {@link #finish()}).
+     */
+    private int[] heads;
+
+    /**
+     * The next entry in the same bucket.
+     */
+    private int[] next;
+
+    /**
+     * The estimated memory used by the rows.
+     */
+    private long memory;
+
+    /**
+     * Adds a row.
+     *
+     * @param row   the row.
+     * @param hash  the key hash.
+     * @param keyed false if the row has a null key.
+     */
+    void add(final List<FieldValue> row, final long hash, final boolean keyed) {
+        final int entry = this.rows.size();
+        if (entry == this.hashes.length) {
+            this.hashes = Arrays.copyOf(this.hashes, entry * 2);
+        }
+        this.rows.add(row);
+        this.hashes[entry] = hash;
+        if (keyed) {
+            this.keyed.set(entry);
+        }
+        this.memory += SpillFile.estimateSize(row) + 16;
+    }
+
+    /**
+     * Chains the rows by hash. No more rows are added after this.
+     */
+    void finish() {
+        int capacity = Integer.highestOneBit(Math.max(this.rows.size(), 8) * 2 - 1) << 1;
+        if (capacity < 0) {
+            capacity = 1 << 30;
+        }
+        this.heads = new int[capacity];
+        Arrays.fill(this.heads, NONE);
+        this.next = new int[this.rows.size()];
+        final int mask = capacity - 1;
+        // Backwards, so each chain is in insertion order.
+        for (int entry = this.rows.size() - 1; entry >= 0; entry--) {
+            if (this.keyed.get(entry)) {
+                final int bucket = (int) this.hashes[entry] & mask;
+                this.next[entry] = this.heads[bucket];
+                this.heads[bucket] = entry;
+            }
+        }
+    }
+
+    /**
+     * Finds the first entry with a hash.
+     *
+     * @param hash the key hash.
+     * @return the entry or {@link #NONE}.
+     */
+    int find(final long hash) {
+        return this.skip(this.heads[(int) hash & (this.heads.length - 1)], hash);
+    }
+
+    /**
+     * Finds the next entry with the same hash.
+     *
+     * @param entry the current entry.
+     * @param hash  the key hash.
+     * @return the entry or {@link #NONE}.
+     */
+    int findNext(final int entry, final long hash) {
+        return this.skip(this.next[entry], hash);
+    }
+
+    /**
+     * Skips the chain entries with other hashes.
+     *
+     * @param first the first entry to check.
+     * @param hash  the key hash.
+     * @return the entry or {@link #NONE}.
+     */
+    private int skip(final int first, final long hash) {
+        int entry = first;
+        while ((entry != NONE) && (this.hashes[entry] != hash)) {
+            entry = this.next[entry];
+        }
+        return entry;
+    }
+
+    /**
+     * Gets an entry row.
+     *
+     * @param entry the entry.
+     * @return the row.
+     */
+    List<FieldValue> getRow(final int entry) {
+        return this.rows.get(entry);
+    }
+
+    /**
+     * Gets an entry hash.
+     *
+     * @param entry the entry.
+     * @return the key hash.
+     */
+    long getHash(final int entry) {
+        return this.hashes[entry];
+    }
+
+    /**
+     * Gets if an entry has a key.
+     *
+     * @param entry the entry.
+     * @return false if the entry has a null key.
+     */
+    boolean isKeyed(final int entry) {
+        return this.keyed.get(entry);
+    }
+
+    /**
+     * Marks an entry as matched.
+     *
+     * @param entry the entry.
+     */
+    void setMatched(final int entry) {
+        this.matched.set(entry);
+    }
+
+    /**
+     * Finds the next entry that did not match.
+     *
+     * @param from the first entry to check.
+     * @return the entry or {@link #NONE}.
+     */
+    int nextUnmatched(final int from) {
+        final int entry = this.matched.nextClearBit(from);
+        if (entry >= this.rows.size()) {
+            return NONE;
+        }
+        return entry;
+    }
+
+    /**
+     * Gets the row count.
+     *
+     * @return the row count.
+     */
+    int size() {
+        return this.rows.size();
+    }
+
+    /**
+     * Gets the estimated memory used by the rows.
+     *
+     * @return the memory in bytes.
+     */
+    long getMemory() {
+        return this.memory;
+    }
+}
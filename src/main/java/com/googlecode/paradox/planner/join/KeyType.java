@@ -0,0 +1,207 @@
+/*
+ * KeyType.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.planner.filter.FieldComparisonPredicate;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Date;
+
+/**
+ * How a join key is hashed and compared. The keys are reduced to a primitive value, so no wrapper is created per row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+enum KeyType {
+
+    /**
+     * Integer numbers, dates and times, compared as long values.
+     */
+    LONG {
+        @Override
+        long hash(final Object value) {
+            return KeyType.toLong(value);
+        }
+
+        @Override
+        boolean matches(final Object first, final Object second) {
+            return KeyType.toLong(first) == KeyType.toLong(second);
+        }
+
+        @Override
+        int compare(final Object first, final Object second) {
+            final long firstValue = KeyType.toLong(first);
+            final long secondValue = KeyType.toLong(second);
+            if (firstValue < secondValue) {
+                return -1;
+            } else if (firstValue > secondValue) {
+                return 1;
+            }
+            return 0;
+        }
+    },
+
+    /**
+     * Decimal numbers, compared as double values.
+     */
+    DOUBLE {
+        @Override
+        long hash(final Object value) {
+            final double number = ((Number) value).doubleValue();
+            if (number == 0) {
+                // Same hash for 0.0 and -0.0.
+                return 0;
+            }
+            return Double.doubleToLongBits(number);
+        }
+
+        @Override
+        boolean matches(final Object first, final Object second) {
+            return ((Number) first).doubleValue() == ((Number) second).doubleValue();
+        }
+
+        @Override
+        int compare(final Object first, final Object second) {
+            final double firstValue = ((Number) first).doubleValue();
+            final double secondValue = ((Number) second).doubleValue();
+            if (firstValue < secondValue) {
+                return -1;
+            } else if (firstValue > secondValue) {
+                return 1;
+            }
+            return 0;
+        }
+    },
+
+    /**
+     * Text, compared ignoring the case like the WHERE equality.
+     */
+    STRING {
+        @Override
+        long hash(final Object value) {
+            final String text = value.toString();
+            long hash = 0;
+            for (int i = 0; i < text.length(); i++) {
+                hash = (31 * hash) + Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+            }
+            return hash;
+        }
+
+        @Override
+        boolean matches(final Object first, final Object second) {
+            return first.toString().equalsIgnoreCase(second.toString());
+        }
+
+        @Override
+        int compare(final Object first, final Object second) {
+            return first.toString().compareToIgnoreCase(second.toString());
+        }
+    };
+
+    /**
+     * Gets the key type to compare two fields. The fields must be of the same type family, like in the WHERE field
+     * comparisons, so a date is never matched with the encoding of a number.
+     *
+     * @param first  the first field SQL type.
+     * @param second the second field SQL type.
+     * @return the key type.
+     * @throws SQLException if the fields can not be compared.
+     */
+    static KeyType of(final int first, final int second) throws SQLException {
+        FieldComparisonPredicate.checkTypes(first, second);
+        final KeyType firstType = KeyType.of(first);
+        if (firstType == KeyType.of(second)) {
+            return firstType;
+        }
+        // Integer and decimal numbers.
+        return DOUBLE;
+    }
+
+    /**
+     * Gets the key type of a single field.
+     *
+     * @param type the field SQL type.
+     * @return the key type.
+     * @throws SQLException if the field can not be a join key.
+     */
+    private static KeyType of(final int type) throws SQLException {
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.BOOLEAN:
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return LONG;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return DOUBLE;
+            case Types.CHAR:
+            case Types.VARCHAR:
+                return STRING;
+            default:
+                throw new SQLException("Invalid join field type.", SQLStates.INVALID_SQL.getValue());
+        }
+    }
+
+    /**
+     * Gets the long value of a key.
+     *
+     * @param value the key value.
+     * @return the long value.
+     */
+    private static long toLong(final Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Date) {
+            return ((Date) value).getTime();
+        } else if (value instanceof Boolean) {
+            if ((Boolean) value) {
+                return 1;
+            }
+            return 0;
+        }
+        return value.hashCode();
+    }
+
+    /**
+     * Hashes a non null key value.
+     *
+     * @param value the key value.
+     * @return the key hash.
+     */
+    abstract long hash(final Object value);
+
+    /**
+     * Compares two non null key values.
+     *
+     * @param first  the first value.
+     * @param second the second value.
+     * @return true if the values are equal.
+     */
+    abstract boolean matches(final Object first, final Object second);
+
+    /**
+     * Orders two non null key values.
+     *
+     * @param first  the first value.
+     * @param second the second value.
+     * @return a negative number, zero or a positive number if the first value is less, equal or greater.
+     */
+    abstract int compare(final Object first, final Object second);
+}
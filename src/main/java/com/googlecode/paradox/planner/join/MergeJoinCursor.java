@@ -0,0 +1,362 @@
+/*
+ * MergeJoinCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.planner.filter.Predicate;
+import com.googlecode.paradox.rowset.RowCursor;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Joins two inputs already in ascending key order, like two tables read in primary key order, advancing both sides
+ * together. Only the right rows with the key of the current left row are kept in memory, so when the right keys are
+ * unique the join runs in constant memory.
+ * <p>
+ * The result rows have the left fields followed by the right fields, in left key order. In outer joins the missing
+ * side is filled with the side null values. An input out of key order is an error.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class MergeJoinCursor implements RowCursor {
+
+    /**
+     * The left side.
+     */
+    private final JoinInput left;
+
+    /**
+     * The right side.
+     */
+    private final JoinInput right;
+
+    /**
+     * The equality keys.
+     */
+    private final JoinKeys keys;
+
+    /**
+     * The other ON conditions, checked on the joined row (null if there is none).
+     */
+    private final Predicate condition;
+
+    /**
+     * If the left rows without match are returned.
+     */
+    private final boolean preserveLeft;
+
+    /**
+     * If the right rows without match are returned.
+     */
+    private final boolean preserveRight;
+
+    /**
+     * The right rows with the key of the current left row.
+     */
+    private final List<List<FieldValue>> group = new ArrayList<>();
+
+    /**
+     * The group rows that matched.
+     */
+    private final BitSet groupMatched = new BitSet();
+
+    /**
+     * The group rows without match to return.
+     */
+    private final List<List<FieldValue>> unmatched = new ArrayList<>();
+
+    /**
+     * The next unmatched row to return.
+     */
+    private int unmatchedIndex;
+
+    /**
+     * The current left row (null if a new one is needed).
+     */
+    private List<FieldValue> leftRow;
+
+    /**
+     * The last left row with a key, to check the order.
+     */
+    private List<FieldValue> lastLeft;
+
+    /**
+     * If the current left row already matched.
+     */
+    private boolean leftMatched;
+
+    /**
+     * If the right side is positioned on the current left key.
+     */
+    private boolean positioned;
+
+    /**
+     * The next group row to check for the current left row.
+     */
+    private int groupIndex;
+
+    /**
+     * The first right row after the group (null if there is none).
+     */
+    private List<FieldValue> rightAhead;
+
+    /**
+     * The last right row with a key, to check the order.
+     */
+    private List<FieldValue> lastRight;
+
+    /**
+     * If the right side was read for the first time.
+     */
+    private boolean rightStarted;
+
+    /**
+     * If the left side is over.
+     */
+    private boolean leftDone;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param left      the left side, in ascending key order.
+     * @param right     the right side, in ascending key order.
+     * @param keys      the equality keys.
+     * @param type      the join type.
+     * @param condition the other ON conditions, checked on the joined row (null if there is none).
+     */
+    public MergeJoinCursor(final JoinInput left, final JoinInput right, final JoinKeys keys, final JoinType type,
+            final Predicate condition) {
+        this.left = left;
+        this.right = right;
+        this.keys = keys;
+        this.condition = condition;
+        this.preserveLeft = (type == JoinType.LEFT) || (type == JoinType.FULL);
+        this.preserveRight = (type == JoinType.RIGHT) || (type == JoinType.FULL);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.rightStarted) {
+            this.rightStarted = true;
+            this.rightAhead = this.readRight();
+        }
+        while (true) {
+            if (this.unmatchedIndex < this.unmatched.size()) {
+                this.row = JoinInput.join(this.left, null, this.right, this.unmatched.get(this.unmatchedIndex));
+                this.unmatchedIndex++;
+                return true;
+            }
+            this.unmatched.clear();
+            this.unmatchedIndex = 0;
+
+            if (this.leftRow != null) {
+                if (!this.positioned) {
+                    if (this.position()) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (this.matchGroup()) {
+                    return true;
+                }
+                final List<FieldValue> current = this.leftRow;
+                this.leftRow = null;
+                if (this.preserveLeft && !this.leftMatched) {
+                    this.row = JoinInput.join(this.left, current, this.right, null);
+                    return true;
+                }
+            } else if (this.leftDone) {
+                if (!this.group.isEmpty()) {
+                    this.discardGroup();
+                } else if (this.rightAhead != null) {
+                    final List<FieldValue> current = this.rightAhead;
+                    this.rightAhead = this.readRight();
+                    if (this.preserveRight) {
+                        this.row = JoinInput.join(this.left, null, this.right, current);
+                        return true;
+                    }
+                } else {
+                    this.row = null;
+                    return false;
+                }
+            } else {
+                this.readLeft();
+            }
+        }
+    }
+
+    /**
+     * Reads the next left row, keeping the group if the key is the same.
+     *
+     * @throws SQLException in case of reading errors or if the left side is out of order.
+     */
+    private void readLeft() throws SQLException {
+        if (!this.left.getRows().next()) {
+            this.leftDone = true;
+            return;
+        }
+        final List<FieldValue> current = this.left.getRows().getRow();
+        this.leftRow = current;
+        this.leftMatched = false;
+        this.groupIndex = 0;
+        if (this.keys.hasNull(current, true)) {
+            // Never matches, the group is kept for the next rows.
+            this.groupIndex = Integer.MAX_VALUE;
+            this.positioned = true;
+            return;
+        }
+        if ((this.lastLeft != null) && (this.keys.compare(this.lastLeft, current, true) > 0)) {
+            throw new SQLException("Join input out of key order.", SQLStates.INVALID_STATE.getValue());
+        }
+        this.lastLeft = current;
+        if (!this.group.isEmpty() && (this.keys.compare(current, this.group.get(0)) == 0)) {
+            this.positioned = true;
+        } else {
+            this.discardGroup();
+            this.positioned = false;
+        }
+    }
+
+    /**
+     * Advances the right side to the current left key, loading the right rows with that key in the group.
+     *
+     * @return true if a right row without match is returned.
+     * @throws SQLException in case of reading errors.
+     */
+    private boolean position() throws SQLException {
+        while ((this.rightAhead != null) && (this.keys.hasNull(this.rightAhead, false)
+                || (this.keys.compare(this.leftRow, this.rightAhead) > 0))) {
+            final List<FieldValue> current = this.rightAhead;
+            this.rightAhead = this.readRight();
+            if (this.preserveRight) {
+                this.row = JoinInput.join(this.left, null, this.right, current);
+                return true;
+            }
+        }
+        while ((this.rightAhead != null) && (this.keys.compare(this.leftRow, this.rightAhead) == 0)) {
+            this.group.add(this.rightAhead);
+            this.rightAhead = this.readRight();
+        }
+        this.positioned = true;
+        return false;
+    }
+
+    /**
+     * Finds the next group row matching the current left row.
+     *
+     * @return true if a joined row is returned.
+     * @throws SQLException in case of invalid values.
+     */
+    private boolean matchGroup() throws SQLException {
+        while (this.groupIndex < this.group.size()) {
+            final int current = this.groupIndex;
+            this.groupIndex++;
+            final List<FieldValue> joined = JoinInput.join(this.left, this.leftRow, this.right,
+                    this.group.get(current));
+            if ((this.condition == null) || this.condition.accept(joined)) {
+                this.groupMatched.set(current);
+                this.leftMatched = true;
+                this.row = joined;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears the group, keeping the rows without match to return.
+     */
+    private void discardGroup() {
+        if (this.preserveRight) {
+            for (int i = this.groupMatched.nextClearBit(0); i < this.group.size();
+                    i = this.groupMatched.nextClearBit(i + 1)) {
+                this.unmatched.add(this.group.get(i));
+            }
+        }
+        this.group.clear();
+        this.groupMatched.clear();
+    }
+
+    /**
+     * Reads the next right row.
+     *
+     * @return the right row or null if the right side is over.
+     * @throws SQLException in case of reading errors or if the right side is out of order.
+     */
+    private List<FieldValue> readRight() throws SQLException {
+        if (!this.right.getRows().next()) {
+            return null;
+        }
+        final List<FieldValue> current = this.right.getRows().getRow();
+        if (!this.keys.hasNull(current, false)) {
+            if ((this.lastRight != null) && (this.keys.compare(this.lastRight, current, false) > 0)) {
+                throw new SQLException("Join input out of key order.", SQLStates.INVALID_STATE.getValue());
+            }
+            this.lastRight = current;
+        }
+        return current;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.left.getRows().reset();
+        this.right.getRows().reset();
+        this.group.clear();
+        this.groupMatched.clear();
+        this.unmatched.clear();
+        this.unmatchedIndex = 0;
+        this.leftRow = null;
+        this.lastLeft = null;
+        this.lastRight = null;
+        this.rightAhead = null;
+        this.rightStarted = false;
+        this.leftDone = false;
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.group.clear();
+        this.unmatched.clear();
+        try {
+            this.left.getRows().close();
+        } finally {
+            this.right.getRows().close();
+        }
+    }
+}
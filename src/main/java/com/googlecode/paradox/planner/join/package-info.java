@@ -0,0 +1,6 @@
+/**
+ * Join operators for the JOIN clauses.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.planner.join;
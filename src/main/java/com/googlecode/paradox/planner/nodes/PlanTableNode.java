@@ -9,12 +9,14 @@
 package com.googlecode.paradox.planner.nodes;
 
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.parser.nodes.SQLNode;
 
 /**
  * Stores the execution plan table node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class PlanTableNode {
@@ -29,6 +31,16 @@ public final class PlanTableNode {
      */
     private ParadoxTable table;
     
+    /**
+     * How this table is joined to the previous ones (null for the first table).
+     */
+    private JoinType joinType;
+    
+    /**
+     * The ON condition tree (null if there is none).
+     */
+    private SQLNode joinCondition;
+    
     /**
      * Gets the plan alias.
      *
@@ -38,6 +50,24 @@ public final class PlanTableNode {
         return this.alias;
     }
     
+    /**
+     * Gets how this table is joined to the previous ones.
+     *
+     * @return the join type or null for the first table.
+     */
+    public JoinType getJoinType() {
+        return this.joinType;
+    }
+    
+    /**
+     * Gets the ON condition tree.
+     *
+     * @return the ON condition tree or null if there is none.
+     */
+    public SQLNode getJoinCondition() {
+        return this.joinCondition;
+    }
+    
     /**
      * Gets the table plan.
      *
@@ -57,6 +87,19 @@ public final class PlanTableNode {
         this.alias = alias;
     }
     
+    /**
+     * Sets how this table is joined to the previous ones.
+     *
+     * @param joinType
+     *            the join type.
+     * @param joinCondition
+     *            the ON condition tree (null if there is none).
+     */
+    public void setJoin(final JoinType joinType, final SQLNode joinCondition) {
+        this.joinType = joinType;
+        this.joinCondition = joinCondition;
+    }
+    
     /**
      * Sets the plan table.
      *
@@ -8,31 +8,74 @@
  */
 package com.googlecode.paradox.planner.plan;
 
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.IndexData;
+import com.googlecode.paradox.data.IndexNavigator;
+import com.googlecode.paradox.data.PrimaryKeyData;
 import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.batch.RecordFilter;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxPK;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.JoinType;
 import com.googlecode.paradox.parser.nodes.SQLNode;
+import com.googlecode.paradox.parser.nodes.comparisons.BetweenNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
 import com.googlecode.paradox.parser.nodes.comparisons.GreaterThanNode;
 import com.googlecode.paradox.parser.nodes.comparisons.LessThanNode;
 import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
 import com.googlecode.paradox.parser.nodes.conditional.ORNode;
+import com.googlecode.paradox.parser.nodes.conditional.XORNode;
+import com.googlecode.paradox.planner.aggregate.Accumulator;
+import com.googlecode.paradox.planner.aggregate.HashAggregateCursor;
+import com.googlecode.paradox.planner.filter.AndPredicate;
+import com.googlecode.paradox.planner.filter.CompareOperator;
+import com.googlecode.paradox.planner.filter.FieldComparisonPredicate;
+import com.googlecode.paradox.planner.filter.IndexCondition;
+import com.googlecode.paradox.planner.filter.KeyRange;
+import com.googlecode.paradox.planner.filter.NotPredicate;
+import com.googlecode.paradox.planner.filter.OrPredicate;
+import com.googlecode.paradox.planner.filter.Predicate;
+import com.googlecode.paradox.planner.filter.PredicateFactory;
+import com.googlecode.paradox.planner.filter.XorPredicate;
+import com.googlecode.paradox.planner.join.HashJoinCursor;
+import com.googlecode.paradox.planner.join.JoinInput;
+import com.googlecode.paradox.planner.join.JoinKeys;
+import com.googlecode.paradox.planner.join.MergeJoinCursor;
 import com.googlecode.paradox.planner.nodes.PlanTableNode;
+import com.googlecode.paradox.planner.sort.ExternalSortCursor;
+import com.googlecode.paradox.planner.sort.RowComparator;
+import com.googlecode.paradox.planner.sort.TopNCursor;
+import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.procedures.ProcedureAS;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import com.googlecode.paradox.rowset.RowCursor;
 import com.googlecode.paradox.utils.SQLStates;
 
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Creates a SELECT plan for execution.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.15
  * @since 1.1
  */
 public final class SelectPlan implements Plan {
@@ -42,35 +85,80 @@ public final class SelectPlan implements Plan {
      */
     private final List<Column> columns = new ArrayList<>();
 
+    /**
+     * The table of each column (null for an aggregate function).
+     */
+    private final List<PlanTableNode> columnTables = new ArrayList<>();
+
     /**
      * The tables in this plan.
      */
     private final List<PlanTableNode> tables = new ArrayList<>();
 
     /**
-     * The data values.
+     * The data values (only loaded on request).
+     */
+    private List<List<FieldValue>> values;
+
+    /**
+     * The row source of this plan.
+     */
+    private RowCursor cursor;
+
+    /**
+     * The maximum number of rows read (zero for no limit).
+     */
+    private int maxRows;
+
+    /**
+     * The condition tree to filter values (null if there is no condition).
      */
-    private final List<List<FieldValue>> values = new ArrayList<>();
+    private final SQLNode condition;
 
     /**
-     * The conditions to filter values
+     * The ORDER BY fields.
      */
-    private final List<SQLNode> conditions;
+    private final List<ParadoxField> orderFields = new ArrayList<>();
+
+    /**
+     * If each ORDER BY field is in descending order.
+     */
+    private final List<Boolean> orderDescending = new ArrayList<>();
+
+    /**
+     * The GROUP BY fields.
+     */
+    private final List<FieldReference> groups = new ArrayList<>();
+
+    /**
+     * The column position of each aggregate function.
+     */
+    private final List<Integer> aggregateColumns = new ArrayList<>();
+
+    /**
+     * The accumulator of each aggregate function, used as a prototype for each execution.
+     */
+    private final List<Accumulator> aggregates = new ArrayList<>();
+
+    /**
+     * The argument of each aggregate function (null for an asterisk).
+     */
+    private final List<FieldReference> aggregateArguments = new ArrayList<>();
 
     /**
      * Creates a new instance.
      */
     SelectPlan() {
-        this(Collections.<SQLNode>emptyList());
+        this(null);
     }
 
     /**
      * Creates a SELECT plan with conditions.
      *
-     * @param conditions the conditions to filter results
+     * @param condition the condition tree to filter results (null if there is no condition).
      */
-    public SelectPlan(List<SQLNode> conditions) {
-        this.conditions = conditions;
+    public SelectPlan(final SQLNode condition) {
+        this.condition = condition;
     }
 
     /**
@@ -80,12 +168,13 @@ public final class SelectPlan implements Plan {
      * @throws SQLException search column exception.
      */
     public void addColumn(final String name) throws SQLException {
-        final ParadoxField field = this.findField(name);
-        if (field == null) {
+        final FieldReference reference = this.findReference(name);
+        if (reference == null) {
             throw new SQLException(String.format("Invalid column name: '%s'", name),
                     SQLStates.INVALID_COLUMN.getValue());
         }
-        this.columns.add(field.getColumn());
+        this.columns.add(reference.field.getColumn());
+        this.columnTables.add(reference.table);
     }
 
     /**
@@ -94,12 +183,68 @@ public final class SelectPlan implements Plan {
      * @param table the table to scan.
      * @throws SQLException in case of wrong SQL type.
      */
-    public void addColumnFromTable(final ParadoxTable table) throws SQLException {
-        for (final ParadoxField field : table.getFields()) {
+    public void addColumnFromTable(final PlanTableNode table) throws SQLException {
+        for (final ParadoxField field : table.getTable().getFields()) {
             this.columns.add(field.getColumn());
+            this.columnTables.add(table);
         }
     }
 
+    /**
+     * Adds an aggregate function column.
+     *
+     * @param function the function name.
+     * @param argument the argument field name (null for an asterisk).
+     * @param alias    the column name.
+     * @throws SQLException if the function or the field is not found, or if the function does not accept the field.
+     */
+    public void addAggregate(final String function, final String argument, final String alias)
+            throws SQLException {
+        final AbstractCallableProcedure procedure = ProcedureAS.getInstance().get(function);
+        if (procedure == null) {
+            throw new SQLException(String.format("Function %s not found.", function),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        FieldReference reference = null;
+        int type = Types.NULL;
+        if (argument != null) {
+            reference = this.findReference(argument);
+            if (reference == null) {
+                throw new SQLException(String.format("Invalid column name: '%s'", argument),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+            type = reference.field.getColumn().getType();
+        }
+        final Accumulator accumulator = procedure.createAccumulator(type);
+        this.aggregateColumns.add(this.columns.size());
+        this.aggregates.add(accumulator);
+        this.aggregateArguments.add(reference);
+        this.columns.add(new Column(alias, accumulator.getType()));
+        this.columnTables.add(null);
+    }
+
+    /**
+     * Adds a field to the GROUP BY list.
+     *
+     * @param name the field name.
+     * @throws SQLException if the field is not found.
+     */
+    public void addGroupBy(final String name) throws SQLException {
+        this.groups.add(this.findFieldReference(name));
+    }
+
+    /**
+     * Adds a field to the ORDER BY list.
+     *
+     * @param name       the field name.
+     * @param descending if the field is in descending order.
+     * @throws SQLException if the field is not found.
+     */
+    public void addOrderBy(final String name, final boolean descending) throws SQLException {
+        this.orderFields.add(this.findField(name));
+        this.orderDescending.add(descending);
+    }
+
     /**
      * Adds a table to this plan.
      *
@@ -114,167 +259,885 @@ public final class SelectPlan implements Plan {
      */
     @Override
     public void execute() throws SQLException {
+        this.values = null;
         if (this.columns.isEmpty() || this.tables.isEmpty()) {
+            this.cursor = new ListRowCursor(Collections.<List<FieldValue>>emptyList());
             return;
         }
 
-        for (final Column column : this.columns) {
+        // One scan per table, filling all columns of that table.
+        final Map<PlanTableNode, TableScan> scans = new LinkedHashMap<>();
+        final boolean join = this.hasJoins();
+        if (join) {
+            // The joined tables are read even without columns in the result.
             for (final PlanTableNode table : this.tables) {
-                final ParadoxTable pTable = table.getTable();
-                if (column.getTableName().equalsIgnoreCase(pTable.getName())) {
-                    this.loadTableData(column, pTable);
-                }
+                scans.put(table, new TableScan(table));
+            }
+        }
+
+        if (!this.aggregates.isEmpty() || !this.groups.isEmpty()) {
+            this.cursor = this.openAggregate(scans, join);
+            if (!this.orderFields.isEmpty()) {
+                this.cursor = this.sort(this.cursor);
             }
+            return;
+        }
+
+        for (int index = 0; index < this.columns.size(); index++) {
+            final PlanTableNode table = this.columnTables.get(index);
+            TableScan scan = scans.get(table);
+            if (scan == null) {
+                scan = new TableScan(table);
+                scans.put(table, scan);
+            }
+            scan.addColumn(SelectPlan.getField(this.columns.get(index), table.getTable()), index);
+        }
+
+        if (join) {
+            this.cursor = this.openJoin(scans, this.columns.size());
+            if (!this.orderFields.isEmpty()) {
+                this.cursor = this.sort(this.cursor);
+            }
+            return;
+        }
+
+        final TableScan scan = scans.get(this.tables.get(0));
+        if (this.condition != null) {
+            scan.filter = this.compileCondition(scan, this.condition);
+        }
+
+        if (this.orderFields.isEmpty()) {
+            this.cursor = SelectPlan.openScan(scan, this.columns.size());
+        } else {
+            this.cursor = this.openOrdered(scan, this.columns.size());
         }
     }
 
     /**
-     * Gets the columns in SELECT statement.
+     * Opens the grouped rows. The scans read the GROUP BY fields followed by the aggregate arguments, and each row is
+     * added to its group as it is read.
      *
-     * @return the columns in SELECT statement.
+     * @param scans the table scans, with all tables when joined.
+     * @param join  if any table is joined with a JOIN clause.
+     * @return the result rows.
+     * @throws SQLException if a column is not in GROUP BY or in case of invalid conditions.
      */
-    public List<Column> getColumns() {
-        return Collections.unmodifiableList(this.columns);
+    private RowCursor openAggregate(final Map<PlanTableNode, TableScan> scans, final boolean join)
+            throws SQLException {
+        final int[] positions = new int[this.columns.size()];
+        for (int i = 0; i < positions.length; i++) {
+            final PlanTableNode table = this.columnTables.get(i);
+            if (table != null) {
+                positions[i] = this.getGroupIndex(table, this.columns.get(i));
+            }
+        }
+
+        final List<FieldReference> inputs = new ArrayList<>(this.groups);
+        final Accumulator[] accumulators = new Accumulator[this.aggregates.size()];
+        final int[] arguments = new int[accumulators.length];
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = this.aggregates.get(i).create();
+            positions[this.aggregateColumns.get(i)] = this.groups.size() + i;
+            final FieldReference argument = this.aggregateArguments.get(i);
+            if (argument != null) {
+                arguments[i] = inputs.size();
+                inputs.add(argument);
+            } else {
+                arguments[i] = -1;
+            }
+        }
+        if (inputs.isEmpty()) {
+            // COUNT(*) alone still reads a field of each table to count the rows of the FROM list.
+            for (final PlanTableNode table : this.tables) {
+                inputs.add(new FieldReference(table, table.getTable().getFields().get(0)));
+            }
+        }
+
+        for (int index = 0; index < inputs.size(); index++) {
+            final FieldReference input = inputs.get(index);
+            TableScan scan = scans.get(input.table);
+            if (scan == null) {
+                scan = new TableScan(input.table);
+                scans.put(input.table, scan);
+            }
+            scan.addColumn(input.field, index);
+        }
+
+        final RowCursor rows;
+        if (join) {
+            rows = this.openJoin(scans, inputs.size());
+        } else {
+            final TableScan scan = scans.get(this.tables.get(0));
+            if (this.condition != null) {
+                scan.filter = this.compileCondition(scan, this.condition);
+            }
+            rows = SelectPlan.openScan(scan, inputs.size());
+        }
+        final RowCursor grouped = new HashAggregateCursor(rows, this.groups.size(), accumulators, arguments,
+                this.getWorkMemory());
+        return new ProjectionCursor(grouped, positions, null);
     }
 
     /**
-     * Gets the tables in this plan.
+     * Gets the GROUP BY position of a column.
      *
-     * @return the tables in this plan.
+     * @param table  the column table.
+     * @param column the column.
+     * @return the GROUP BY position.
+     * @throws SQLException if the column is not in GROUP BY.
      */
-    public List<PlanTableNode> getTables() {
-        return Collections.unmodifiableList(this.tables);
+    private int getGroupIndex(final PlanTableNode table, final Column column) throws SQLException {
+        for (int i = 0; i < this.groups.size(); i++) {
+            final FieldReference group = this.groups.get(i);
+            if ((group.table == table) && group.field.getName().equalsIgnoreCase(column.getName())) {
+                return i;
+            }
+        }
+        throw new SQLException(String.format("Column '%s' is not in GROUP BY.", column.getName()),
+                SQLStates.INVALID_SQL.getValue());
     }
 
     /**
-     * Values from tables in column order.
+     * Gets if the rows are joined from more than one table. The tables listed without JOIN are cross joined.
      *
-     * @return array of array of values/ Can be null (empty result set);
+     * @return true if the FROM list has more than one table.
      */
-    public List<List<FieldValue>> getValues() {
-        return Collections.unmodifiableList(this.values);
+    private boolean hasJoins() {
+        return this.tables.size() > 1;
     }
 
     /**
-     * Fill the result row with a field order and filters the result row by the
-     * conditions.
+     * Opens the joined tables. Each table is joined to the rows of the previous ones by a hash join on the ON field
+     * equalities, and the tables listed without JOIN are cross joined. The first two tables are merge joined when
+     * the equalities are on their primary keys. The other ON conditions of the joined table
+     * are checked in its scan when possible, and on the joined rows otherwise. The WHERE conditions of a single table
+     * are checked in its scan when the table rows are never replaced by nulls, the others on the joined rows.
      *
-     * @param tableData  the table data load from.
-     * @param fieldOrder the field order.
-     * @throws SQLException in case of errors.
+     * @param scans   the table scans, in table order.
+     * @param rowSize the result row size.
+     * @return the row source.
+     * @throws SQLException in case of invalid conditions.
      */
-    private void fillResultValues(final List<List<FieldValue>> tableData, final int fieldOrder) throws SQLException {
-        int placeholder = 0;
-        boolean addingAtt = !this.values.isEmpty();
-
-        for (int j = 0; j < tableData.size(); j++) {
-            List<FieldValue> resultRow;
-            if (conditions.isEmpty()) {
-                if (j == this.values.size()) {
-                    resultRow = new ArrayList<>();
-                    this.values.add(resultRow);
+    private RowCursor openJoin(final Map<PlanTableNode, TableScan> scans, final int rowSize) throws SQLException {
+        final List<SQLNode> where = new ArrayList<>();
+        if (this.condition != null) {
+            for (final SQLNode conjunct : SelectPlan.splitAnd(this.condition)) {
+                final PlanTableNode table = this.getSingleTable(conjunct, false);
+                if ((table != null) && !this.isNullable(table)) {
+                    final TableScan scan = scans.get(table);
+                    scan.addFilter(this.compileCondition(scan, conjunct));
                 } else {
-                    resultRow = this.values.get(j);
+                    this.addFields(scans, conjunct);
+                    where.add(conjunct);
                 }
-                resultRow.add(tableData.get(j).get(fieldOrder));
-            } else {
-                if (checkConditions(0, tableData.get(j))) {
-                    resultRow = new ArrayList<>();
-                    if (addingAtt) {
-                        resultRow = this.values.get(placeholder++);
+            }
+        }
+
+        final List<List<FieldReference[]>> joinKeys = new ArrayList<>();
+        final List<List<SQLNode>> joinConditions = new ArrayList<>();
+        for (int i = 0; i < this.tables.size(); i++) {
+            final PlanTableNode table = this.tables.get(i);
+            final List<FieldReference[]> keys = new ArrayList<>();
+            final List<SQLNode> conditions = new ArrayList<>();
+            if (table.getJoinCondition() != null) {
+                final boolean preserved = (table.getJoinType() == JoinType.RIGHT)
+                        || (table.getJoinType() == JoinType.FULL);
+                for (final SQLNode conjunct : SelectPlan.splitAnd(table.getJoinCondition())) {
+                    final FieldReference[] key = this.findJoinKey(conjunct, i);
+                    if (key != null) {
+                        scans.get(key[0].table).addField(key[0].field);
+                        scans.get(key[1].table).addField(key[1].field);
+                        keys.add(key);
+                    } else if (!preserved && (this.getSingleTable(conjunct, true) == table)) {
+                        final TableScan scan = scans.get(table);
+                        scan.addFilter(this.compileCondition(scan, conjunct));
                     } else {
-                        this.values.add(resultRow);
+                        this.addFields(scans, conjunct);
+                        conditions.add(conjunct);
                     }
-                    resultRow.add(tableData.get(j).get(fieldOrder));
                 }
             }
+            joinKeys.add(keys);
+            joinConditions.add(conditions);
+        }
+
+        // The joined row has the fields read from each table, in table order.
+        final Map<PlanTableNode, Integer> offsets = new LinkedHashMap<>();
+        int width = 0;
+        for (final PlanTableNode table : this.tables) {
+            offsets.put(table, width);
+            width += scans.get(table).projection.size();
+        }
+        final FieldResolver joined = new FieldResolver() {
+            @Override
+            public int indexOf(final FieldReference reference) {
+                final int position = scans.get(reference.table).projection.indexOf(reference.field);
+                if (position < 0) {
+                    return -1;
+                }
+                return offsets.get(reference.table) + position;
+            }
+        };
+
+        final long memoryBudget = this.getWorkMemory();
+
+        final TableScan first = scans.get(this.tables.get(0));
+        List<FieldValue> nulls = first.getNulls();
+        long estimatedRows = first.table.getRowCount();
+        RowCursor rows = null;
+        int start = 1;
+        if (this.tables.size() > 1) {
+            final PlanTableNode table = this.tables.get(1);
+            final TableScan scan = scans.get(table);
+            rows = SelectPlan.openMergeJoin(first, scan, joinKeys.get(1), SelectPlan.getJoinType(table),
+                    this.compileAll(joined, joinConditions.get(1)));
+            if (rows != null) {
+                nulls = new ArrayList<>(nulls);
+                nulls.addAll(scan.getNulls());
+                estimatedRows = Math.max(estimatedRows, scan.table.getRowCount());
+                start = 2;
+            }
+        }
+        if (rows == null) {
+            rows = first.openRows();
+        }
+        for (int i = start; i < this.tables.size(); i++) {
+            final PlanTableNode table = this.tables.get(i);
+            final TableScan scan = scans.get(table);
+            final JoinKeys keys = new JoinKeys();
+            for (final FieldReference[] key : joinKeys.get(i)) {
+                keys.add(joined.indexOf(key[0]), key[0].field.getColumn().getType(),
+                        scan.projection.indexOf(key[1].field), key[1].field.getColumn().getType());
+            }
+            final JoinInput left = new JoinInput(rows, nulls.toArray(new FieldValue[0]), estimatedRows);
+            final JoinInput right = new JoinInput(scan.openRows(), scan.getNulls().toArray(new FieldValue[0]),
+                    scan.table.getRowCount());
+            rows = new HashJoinCursor(left, right, keys, SelectPlan.getJoinType(table),
+                    this.compileAll(joined, joinConditions.get(i)), memoryBudget);
+
+            final List<FieldValue> joinedNulls = new ArrayList<>(nulls);
+            joinedNulls.addAll(scan.getNulls());
+            nulls = joinedNulls;
+            estimatedRows = Math.max(estimatedRows, scan.table.getRowCount());
+        }
+
+        final int[] positions = new int[rowSize];
+        for (final TableScan scan : scans.values()) {
+            final int offset = offsets.get(scan.node);
+            for (int i = 0; i < scan.fieldOrders.size(); i++) {
+                positions[scan.resultIndexes.get(i)] = offset + scan.fieldOrders.get(i);
+            }
         }
+        return new ProjectionCursor(rows, positions, this.compileAll(joined, where));
     }
 
     /**
-     * Check the conditions by concatenating and evaluating the comparison nodes.
+     * Gets the join type of a table, where a table listed without JOIN is cross joined.
      *
-     * @param numCondition quantity of conditions to be verified.
-     * @param listField    list of fields.
-     * @throws SQLException in case of errors.
+     * @param table the plan table.
+     * @return the join type.
      */
-    private boolean checkConditions(int numCondition, List<FieldValue> listField) throws SQLException {
-        if (numCondition == conditions.size() - 1) {
-            return evaluateCondition(conditions.get(numCondition), listField);
-        } else if (conditions.get(numCondition + 1) instanceof ANDNode) {
-            return evaluateCondition(conditions.get(numCondition), listField) && checkConditions(numCondition + 2,
-                    listField);
-        } else if (conditions.get(numCondition + 1) instanceof ORNode) {
-            return evaluateCondition(conditions.get(numCondition), listField) || checkConditions(numCondition + 2,
-                    listField);
+    private static JoinType getJoinType(final PlanTableNode table) {
+        if (table.getJoinType() == null) {
+            return JoinType.CROSS;
+        }
+        return table.getJoinType();
+    }
+
+    /**
+     * Opens a merge join of the first two tables, when the ON equalities match the first primary key fields of both
+     * tables, in the same order. Both tables are read in primary key order, so no hash table is needed. Text keys
+     * are not merged, because their index order depends on the table collation.
+     *
+     * @param first     the first table scan.
+     * @param second    the joined table scan.
+     * @param pairs     the ON equality fields.
+     * @param type      the join type.
+     * @param condition the other ON conditions (null if there is none).
+     * @return the merge join cursor or null if the tables can not be merged.
+     * @throws SQLException in case of I/O errors.
+     */
+    private static RowCursor openMergeJoin(final TableScan first, final TableScan second,
+            final List<FieldReference[]> pairs, final JoinType type, final Predicate condition) throws SQLException {
+        if (pairs.isEmpty()) {
+            return null;
+        }
+        final List<ParadoxField> firstKeys = first.table.getPrimaryKeys();
+        final List<ParadoxField> secondKeys = second.table.getPrimaryKeys();
+        final FieldReference[][] ordered = new FieldReference[pairs.size()][];
+        for (final FieldReference[] pair : pairs) {
+            final int position = firstKeys.indexOf(pair[0].field);
+            if ((position < 0) || (position >= ordered.length) || (position != secondKeys.indexOf(pair[1].field))
+                    || (ordered[position] != null)) {
+                return null;
+            }
+            ordered[position] = pair;
+        }
+
+        final JoinKeys keys = new JoinKeys();
+        for (final FieldReference[] pair : ordered) {
+            keys.add(first.projection.indexOf(pair[0].field), pair[0].field.getColumn().getType(),
+                    second.projection.indexOf(pair[1].field), pair[1].field.getColumn().getType());
+        }
+        if (!keys.isCollationFree()) {
+            return null;
+        }
+
+        final int[] firstBlocks = first.findPrimaryKeyBlocks(true);
+        final int[] secondBlocks = second.findPrimaryKeyBlocks(true);
+        if ((firstBlocks == null) || (secondBlocks == null)) {
+            return null;
+        }
+        final JoinInput left = new JoinInput(first.openRows(firstBlocks), first.getNulls().toArray(new FieldValue[0]),
+                first.table.getRowCount());
+        final JoinInput right = new JoinInput(second.openRows(secondBlocks),
+                second.getNulls().toArray(new FieldValue[0]), second.table.getRowCount());
+        return new MergeJoinCursor(left, right, keys, type, condition);
+    }
+
+    /**
+     * Compiles a condition list as a single AND condition.
+     *
+     * @param resolver   the field positions.
+     * @param conditions the conditions.
+     * @return the compiled condition (null if the list is empty).
+     * @throws SQLException in case of invalid fields or literals.
+     */
+    private Predicate compileAll(final FieldResolver resolver, final List<SQLNode> conditions) throws SQLException {
+        if (conditions.isEmpty()) {
+            return null;
+        }
+        final List<Predicate> operands = new ArrayList<>();
+        for (final SQLNode conjunct : conditions) {
+            operands.add(this.compileCondition(resolver, conjunct));
+        }
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+        return new AndPredicate(operands);
+    }
+
+    /**
+     * Splits a condition in its AND operands.
+     *
+     * @param condition the condition.
+     * @return the AND operands.
+     */
+    private static List<SQLNode> splitAnd(final SQLNode condition) {
+        final List<SQLNode> conjuncts = new ArrayList<>();
+        if (condition instanceof ANDNode) {
+            for (final SQLNode child : condition.getChildhood()) {
+                conjuncts.addAll(SelectPlan.splitAnd(child));
+            }
         } else {
-            return false;
+            conjuncts.add(condition);
+        }
+        return conjuncts;
+    }
+
+    /**
+     * Gets if the rows of a table may be replaced by nulls in an outer join.
+     *
+     * @param table the table.
+     * @return true if the table rows may be replaced by nulls.
+     */
+    private boolean isNullable(final PlanTableNode table) {
+        final int index = this.tables.indexOf(table);
+        if ((table.getJoinType() == JoinType.LEFT) || (table.getJoinType() == JoinType.FULL)) {
+            return true;
+        }
+        for (int i = index + 1; i < this.tables.size(); i++) {
+            final JoinType type = this.tables.get(i).getJoinType();
+            if ((type == JoinType.RIGHT) || (type == JoinType.FULL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the field pair of an ON equality between a previous table and the joined table.
+     *
+     * @param condition the ON condition.
+     * @param index     the joined table position.
+     * @return the previous table field and the joined table field, or null if the condition is not an equality
+     * between fields.
+     * @throws SQLException if the fields are not from a previous table and the joined table.
+     */
+    private FieldReference[] findJoinKey(final SQLNode condition, final int index) throws SQLException {
+        if (!(condition instanceof EqualsNode)) {
+            return null;
+        }
+        final FieldReference first = this.findReference(((EqualsNode) condition).getFirst().toString());
+        final FieldReference last = this.findOperandReference(((EqualsNode) condition).getLast());
+        if ((first == null) || (last == null)) {
+            return null;
+        }
+        final int firstIndex = this.tables.indexOf(first.table);
+        final int lastIndex = this.tables.indexOf(last.table);
+        if ((firstIndex < index) && (lastIndex == index)) {
+            return new FieldReference[]{first, last};
+        } else if ((lastIndex < index) && (firstIndex == index)) {
+            return new FieldReference[]{last, first};
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Invalid join condition: %s", condition),
+                SQLStates.INVALID_SQL.getValue());
+    }
+
+    /**
+     * Gets the only table used by a condition.
+     *
+     * @param condition the condition.
+     * @param join      if the condition is from ON, where a field compared to a field is not supported.
+     * @return the table or null if the condition uses more than one table.
+     * @throws SQLException in case of invalid fields.
+     */
+    private PlanTableNode getSingleTable(final SQLNode condition, final boolean join) throws SQLException {
+        final Set<PlanTableNode> used = new HashSet<>();
+        this.collectTables(condition, used, join);
+        if (used.size() == 1) {
+            return used.iterator().next();
+        }
+        return null;
+    }
+
+    /**
+     * Collects the tables used by a condition.
+     *
+     * @param condition the condition.
+     * @param used      the tables found.
+     * @param join      if the condition is from ON, where a field compared to a field is not supported.
+     * @throws SQLException in case of invalid fields.
+     */
+    private void collectTables(final SQLNode condition, final Set<PlanTableNode> used, final boolean join)
+            throws SQLException {
+        final FieldNode field = SelectPlan.getConditionField(condition);
+        if (field == null) {
+            if (condition.getChildhood() != null) {
+                for (final SQLNode child : condition.getChildhood()) {
+                    this.collectTables(child, used, join);
+                }
+            }
+            return;
+        }
+        used.add(this.findFieldReference(field.toString()).table);
+        final FieldReference last = this.findOperandReference(SelectPlan.getConditionLast(condition));
+        if (last != null) {
+            used.add(last.table);
+            if (join) {
+                throw new SQLFeatureNotSupportedException(
+                        String.format("Only field equalities are supported in join conditions: %s", condition),
+                        SQLStates.INVALID_SQL.getValue());
+            }
+        }
+    }
+
+    /**
+     * Adds the fields used by a condition to the table scans.
+     *
+     * @param scans     the table scans.
+     * @param condition the condition.
+     * @throws SQLException in case of invalid fields.
+     */
+    private void addFields(final Map<PlanTableNode, TableScan> scans, final SQLNode condition) throws SQLException {
+        final FieldNode field = SelectPlan.getConditionField(condition);
+        if (field == null) {
+            if (condition.getChildhood() != null) {
+                for (final SQLNode child : condition.getChildhood()) {
+                    this.addFields(scans, child);
+                }
+            }
+            return;
+        }
+        final FieldReference reference = this.findFieldReference(field.toString());
+        scans.get(reference.table).addField(reference.field);
+        final FieldReference last = this.findOperandReference(SelectPlan.getConditionLast(condition));
+        if (last != null) {
+            scans.get(last.table).addField(last.field);
+        }
+    }
+
+    /**
+     * Opens the scan of a single table without ordering. The FROM lists with more tables are joined.
+     *
+     * @param scan    the table scan.
+     * @param rowSize the result row size.
+     * @return the row source.
+     * @throws SQLException in case of invalid fields.
+     */
+    private static RowCursor openScan(final TableScan scan, final int rowSize) throws SQLException {
+        // Without parallel scan the table is read in column batches.
+        final ParadoxConnection conn = scan.table.getConnection();
+        if ((conn == null) || !conn.isParallelScan()) {
+            return scan.openBatch(scan.findBlocks(), false);
+        }
+        scan.open();
+        return new SelectCursor(Collections.singletonList(scan), rowSize);
+    }
+
+    /**
+     * Opens the scan of a single table in ORDER BY order. The table is read in the order of its primary key or of a
+     * secondary index when the index starts with the ORDER BY fields, all in the same direction, and no field is
+     * text. Otherwise the rows are sorted.
+     *
+     * @param scan    the table scan.
+     * @param rowSize the result row size.
+     * @return the row source.
+     * @throws SQLException in case of invalid fields.
+     */
+    private RowCursor openOrdered(final TableScan scan, final int rowSize) throws SQLException {
+        final boolean descending = this.orderDescending.get(0);
+        if (!this.orderDescending.contains(!descending) && SelectPlan.isCollationFree(this.orderFields)) {
+            RowCursor rows = scan.openPrimaryKeyOrder(this.orderFields, descending);
+            if (rows == null) {
+                rows = scan.openIndexOrder(this.orderFields, descending, rowSize);
+            }
+            if (rows != null) {
+                return rows;
+            }
+        }
+
+        return this.sort(SelectPlan.openScan(scan, rowSize));
+    }
+
+    /**
+     * Gets if the order of the fields does not depend on the collation, like numbers and dates. The index order of
+     * text follows the table sort order, that can differ from the case insensitive order of the sort.
+     *
+     * @param fields the fields.
+     * @return true if no field is text.
+     * @throws SQLException in case of invalid field types.
+     */
+    private static boolean isCollationFree(final List<ParadoxField> fields) throws SQLException {
+        for (final ParadoxField field : fields) {
+            switch (field.getColumn().getType()) {
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.CLOB:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the result rows. With a row limit only the first rows are kept in a bounded heap, otherwise sorted runs
+     * are written to temporary files when the rows exceed the work memory.
+     *
+     * @param source the result rows.
+     * @return the sorted rows.
+     * @throws SQLException if an ORDER BY field is not in the select list.
+     */
+    private RowCursor sort(final RowCursor source) throws SQLException {
+        final int[] sortColumns = new int[this.orderFields.size()];
+        final boolean[] sortDescending = new boolean[sortColumns.length];
+        try {
+            for (int i = 0; i < sortColumns.length; i++) {
+                sortColumns[i] = this.getColumnIndex(this.orderFields.get(i));
+                sortDescending[i] = this.orderDescending.get(i);
+            }
+        } catch (final SQLException e) {
+            source.close();
+            throw e;
+        }
+        final RowComparator comparator = new RowComparator(sortColumns, sortDescending);
+        if (this.maxRows > 0) {
+            return new TopNCursor(source, comparator, this.maxRows);
+        }
+        return new ExternalSortCursor(source, comparator, this.getWorkMemory());
+    }
+
+    /**
+     * Gets the memory budget of the operators that spill to temporary files.
+     *
+     * @return the memory budget, in bytes.
+     */
+    private long getWorkMemory() {
+        final ParadoxConnection conn = this.tables.get(0).getTable().getConnection();
+        if (conn != null) {
+            return conn.getWorkMemory();
+        }
+        return ParadoxConnection.DEFAULT_WORK_MEMORY;
+    }
+
+    /**
+     * Gets the position of a field in the result row.
+     *
+     * @param field the field.
+     * @return the field position.
+     * @throws SQLException if the field is not in the select list.
+     */
+    private int getColumnIndex(final ParadoxField field) throws SQLException {
+        for (int i = 0; i < this.columns.size(); i++) {
+            final Column column = this.columns.get(i);
+            if (field.getTable().getName().equalsIgnoreCase(column.getTableName())
+                    && field.getName().equalsIgnoreCase(column.getName())) {
+                return i;
+            }
         }
+        throw new SQLException(String.format("ORDER BY column '%s' is not in select list.", field.getName()),
+                SQLStates.INVALID_COLUMN.getValue());
     }
 
     /**
-     * Evaluate the conditions.
+     * Compiles a condition tree for a row, like the row of a table scan, adding the fields used by it to the scan. The
+     * fields are resolved and the literals parsed here, once per execution. The AND and OR operands are reordered by
+     * the predicates.
      *
-     * @param condition the condition to be evaluated.
-     * @param listField list of fields.
-     * @throws SQLException in case of erros.
+     * @param scan      the field positions in the row.
+     * @param condition the condition to compile.
+     * @return the compiled condition.
+     * @throws SQLException in case of invalid fields or literals.
      */
-    private boolean evaluateCondition(SQLNode condition, List<FieldValue> listField) throws SQLException {
+    private Predicate compileCondition(final FieldResolver scan, final SQLNode condition) throws SQLException {
+        return this.compileCondition(scan, condition, false);
+    }
+
+    /**
+     * Compiles a condition tree or its negation. NOT is pushed down to the comparisons, that are compiled with the
+     * negated operator, so a comparison with a null value is false both with and without NOT.
+     *
+     * @param scan      the field positions in the row.
+     * @param condition the condition to compile.
+     * @param negated   if the condition is negated.
+     * @return the compiled condition.
+     * @throws SQLException in case of invalid fields or literals.
+     */
+    private Predicate compileCondition(final FieldResolver scan, final SQLNode condition, final boolean negated)
+            throws SQLException {
+        if ((condition instanceof ANDNode) || (condition instanceof ORNode)) {
+            final List<Predicate> operands = new ArrayList<>();
+            for (final SQLNode child : condition.getChildhood()) {
+                operands.add(this.compileCondition(scan, child, negated));
+            }
+            // NOT (a AND b) is NOT a OR NOT b, and NOT (a OR b) is NOT a AND NOT b.
+            if ((condition instanceof ANDNode) != negated) {
+                return new AndPredicate(operands);
+            }
+            return new OrPredicate(operands);
+        } else if (condition instanceof XORNode) {
+            final Iterator<SQLNode> children = condition.getChildhood().iterator();
+            final Predicate predicate = new XorPredicate(this.compileCondition(scan, children.next()),
+                    this.compileCondition(scan, children.next()));
+            if (negated) {
+                return new NotPredicate(predicate);
+            }
+            return predicate;
+        } else if (condition instanceof NOTNode) {
+            return this.compileCondition(scan, condition.getChildhood().iterator().next(), !negated);
+        } else if (SelectPlan.getConditionField(condition) == null) {
+            throw new SQLFeatureNotSupportedException(
+                    String.format("Unsupported condition: %s", condition.getClass().getSimpleName()),
+                    SQLStates.INVALID_SQL.getValue());
+        }
+        return this.compileComparison(scan, condition, negated);
+    }
+
+    /**
+     * Compiles a single comparison of a field with a literal or with other field.
+     *
+     * @param scan      the field positions in the row.
+     * @param condition the condition to compile.
+     * @param negated   if the comparison is negated.
+     * @return the compiled condition.
+     * @throws SQLException in case of invalid fields or literals.
+     */
+    private Predicate compileComparison(final FieldResolver scan, final SQLNode condition, final boolean negated)
+            throws SQLException {
+        final FieldNode first = SelectPlan.getConditionField(condition);
+        final FieldReference reference = this.findFieldReference(first.toString());
+        final ParadoxField field = reference.field;
+        final int index = SelectPlan.indexOf(scan, reference);
+
+        if (condition instanceof BetweenNode) {
+            final BetweenNode between = (BetweenNode) condition;
+            if (!between.getFirst().isLiteral() || !between.getLast().isLiteral()) {
+                throw new SQLFeatureNotSupportedException(
+                        String.format("Only literal BETWEEN limits are supported: %s", condition),
+                        SQLStates.INVALID_SQL.getValue());
+            }
+            if (negated) {
+                return new OrPredicate(Arrays.asList(
+                        PredicateFactory.create(CompareOperator.LESS_THAN, field, index, between.getFirst().toString()),
+                        PredicateFactory.create(CompareOperator.GREATER_THAN, field, index,
+                                between.getLast().toString())));
+            }
+            return new AndPredicate(Arrays.asList(
+                    PredicateFactory.create(CompareOperator.GREATER_EQUALS, field, index, between.getFirst().toString()),
+                    PredicateFactory.create(CompareOperator.LESS_EQUALS, field, index, between.getLast().toString())));
+        }
+
+        CompareOperator operator;
+        final FieldNode last;
         if (condition instanceof EqualsNode) {
-            EqualsNode nodeCondition = (EqualsNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && nodeCondition.getLast().toString().equalsIgnoreCase(column.getValue().toString().toUpperCase());
+            operator = CompareOperator.EQUALS;
+            last = ((EqualsNode) condition).getLast();
+        } else if (condition instanceof NotEqualsNode) {
+            operator = CompareOperator.NOT_EQUALS;
+            last = ((NotEqualsNode) condition).getLast();
+        } else if (condition instanceof GreaterThanNode) {
+            operator = CompareOperator.GREATER_THAN;
+            last = ((GreaterThanNode) condition).getLast();
+        } else {
+            operator = CompareOperator.LESS_THAN;
+            last = ((LessThanNode) condition).getLast();
+        }
+        if (negated) {
+            operator = operator.negate();
+        }
+        final FieldReference lastReference = this.findOperandReference(last);
+        if (lastReference != null) {
+            FieldComparisonPredicate.checkTypes(field.getColumn().getType(), lastReference.field.getColumn().getType());
+            return new FieldComparisonPredicate(index, operator, SelectPlan.indexOf(scan, lastReference));
+        }
+        return PredicateFactory.create(operator, field, index, last.toString());
+    }
+
+    /**
+     * Gets the position of a condition field in the row.
+     *
+     * @param scan      the field positions in the row.
+     * @param reference the field.
+     * @return the field position.
+     * @throws SQLException if the field is not in the row.
+     */
+    private static int indexOf(final FieldResolver scan, final FieldReference reference) throws SQLException {
+        final int index = scan.indexOf(reference);
+        if (index < 0) {
+            throw new SQLException(String.format("Field %s is not available in this condition.",
+                    reference.field.getName()), SQLStates.INVALID_COLUMN.getValue());
+        }
+        return index;
+    }
+
+    /**
+     * Sets the maximum number of rows read. With ORDER BY, only these first rows are kept while sorting.
+     *
+     * @param maxRows the maximum number of rows (zero for no limit).
+     */
+    public void setMaxRows(final int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Gets the row source of this plan. The rows are read on demand.
+     *
+     * @return the row source.
+     * @throws SQLException if the plan is not executed.
+     */
+    public RowCursor getCursor() throws SQLException {
+        if (this.cursor == null) {
+            throw new SQLException("Plan not executed.", SQLStates.INVALID_STATE.getValue());
+        }
+        return this.cursor;
+    }
+
+    /**
+     * Gets the columns in SELECT statement.
+     *
+     * @return the columns in SELECT statement.
+     */
+    public List<Column> getColumns() {
+        return Collections.unmodifiableList(this.columns);
+    }
+
+    /**
+     * Gets the tables in this plan.
+     *
+     * @return the tables in this plan.
+     */
+    public List<PlanTableNode> getTables() {
+        return Collections.unmodifiableList(this.tables);
+    }
+
+    /**
+     * Values from tables in column order.
+     * <p>
+     * This method reads all rows up to the row limit, prefer {@link #getCursor()} for large tables.
+     *
+     * @return array of array of values/ Can be null (empty result set);
+     * @throws SQLException in case of reading errors.
+     */
+    public List<List<FieldValue>> getValues() throws SQLException {
+        if (this.values == null) {
+            final List<List<FieldValue>> ret = new ArrayList<>();
+            try (RowCursor rows = this.getCursor()) {
+                rows.reset();
+                while (((this.maxRows == 0) || (ret.size() < this.maxRows)) && rows.next()) {
+                    ret.add(rows.getRow());
+                }
+            }
+            this.values = ret;
+        }
+        return Collections.unmodifiableList(this.values);
+    }
 
+    /**
+     * Gets the field compared in a condition.
+     *
+     * @param condition the condition.
+     * @return the compared field or null if the node is not a comparison.
+     */
+    private static FieldNode getConditionField(final SQLNode condition) {
+        if (condition instanceof EqualsNode) {
+            return ((EqualsNode) condition).getFirst();
         } else if (condition instanceof NotEqualsNode) {
-            NotEqualsNode nodeCondition = (NotEqualsNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && !nodeCondition.getLast().toString().equalsIgnoreCase(
-                    column.getValue().toString());
+            return ((NotEqualsNode) condition).getFirst();
         } else if (condition instanceof GreaterThanNode) {
-            GreaterThanNode nodeCondition = (GreaterThanNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && Double.parseDouble(column.getValue().toString()) > Double.parseDouble(
-                    nodeCondition.getLast().toString());
+            return ((GreaterThanNode) condition).getFirst();
         } else if (condition instanceof LessThanNode) {
-            LessThanNode nodeCondition = (LessThanNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && Double.parseDouble(column.getValue().toString()) < Double.parseDouble(
-                    nodeCondition.getLast().toString());
+            return ((LessThanNode) condition).getFirst();
+        } else if (condition instanceof BetweenNode) {
+            return ((BetweenNode) condition).getField();
         }
+        return null;
+    }
 
-        return false;
+    /**
+     * Finds the comparison value of a condition.
+     *
+     * @param condition the condition.
+     * @return the value compared to the field or null if there is none.
+     */
+    private static FieldNode getConditionLast(final SQLNode condition) {
+        if (condition instanceof EqualsNode) {
+            return ((EqualsNode) condition).getLast();
+        } else if (condition instanceof NotEqualsNode) {
+            return ((NotEqualsNode) condition).getLast();
+        } else if (condition instanceof GreaterThanNode) {
+            return ((GreaterThanNode) condition).getLast();
+        } else if (condition instanceof LessThanNode) {
+            return ((LessThanNode) condition).getLast();
+        }
+        return null;
     }
 
     /**
      * Finds a single column in the table list.
      *
-     * @param fieldName the field name.
-     * @param fields    the field list.
-     * @param prefix    the field prefix.
+     * @param fieldName  the field name.
+     * @param references the fields found.
+     * @param prefix     the field prefix, the table alias or name.
      * @throws SQLException in case of parse errors.
      */
-    private void findColumn(final String fieldName, final List<ParadoxField> fields, final String prefix)
+    private void findColumn(final String fieldName, final List<FieldReference> references, final String prefix)
     throws SQLException {
         for (final PlanTableNode table : this.tables) {
             if (table.getTable() == null) {
                 throw new SQLException("Empty table", SQLStates.INVALID_TABLE.getValue());
             }
 
-            if ((prefix != null) && (table.getAlias() != null) && !prefix.equalsIgnoreCase(table.getAlias())) {
+            if ((prefix != null) && !prefix.equalsIgnoreCase(table.getAlias())
+                    && !prefix.equalsIgnoreCase(table.getTable().getName())) {
                 continue;
             }
 
             for (final ParadoxField field : table.getTable().getFields()) {
                 if (field.getName().equalsIgnoreCase(fieldName)) {
-                    fields.add(field);
+                    references.add(new FieldReference(table, field));
                     // Unique column in table
                     break;
                 }
@@ -290,8 +1153,51 @@ public final class SelectPlan implements Plan {
      * @throws SQLException in case of find errors.
      */
     private ParadoxField findField(final String name) throws SQLException {
+        return this.findFieldReference(name).field;
+    }
+
+    /**
+     * Find a paradox field and its table by the field name.
+     *
+     * @param name the field name.
+     * @return the field reference.
+     * @throws SQLException if the field is not found or is ambiguous.
+     */
+    private FieldReference findFieldReference(final String name) throws SQLException {
+        final FieldReference reference = this.findReference(name);
+        if (reference == null) {
+            throw new SQLException(String.format("Field %s not found.", name));
+        }
+        return reference;
+    }
+
+    /**
+     * Find the field compared by the right side of a condition. A name without table prefix that is not a field of
+     * the FROM tables is a text literal, like "state = ny".
+     *
+     * @param operand the right side of the condition (null if there is none).
+     * @return the field reference or null if the operand is a literal.
+     * @throws SQLException if a field with table prefix is not found or the field is ambiguous.
+     */
+    private FieldReference findOperandReference(final FieldNode operand) throws SQLException {
+        if ((operand == null) || operand.isLiteral()) {
+            return null;
+        } else if (operand.getTableName() != null) {
+            return this.findFieldReference(operand.toString());
+        }
+        return this.findReference(operand.toString());
+    }
+
+    /**
+     * Find a paradox field and its table by the field name.
+     *
+     * @param name the field name, with the table alias or name as prefix.
+     * @return the field reference or null if there is no such field.
+     * @throws SQLException if the field is ambiguous.
+     */
+    private FieldReference findReference(final String name) throws SQLException {
         String newName = name;
-        final List<ParadoxField> fields = new ArrayList<>(1);
+        final List<FieldReference> references = new ArrayList<>(1);
         String prefix = null;
         final int p = newName.indexOf('.');
         if (p > -1) {
@@ -299,40 +1205,603 @@ public final class SelectPlan implements Plan {
             newName = newName.substring(p + 1);
         }
 
-        this.findColumn(newName, fields, prefix);
-        if (!fields.isEmpty()) {
-            if (fields.size() > 1) {
-                throw new SQLException("Column '" + newName + "' ambiguously defined",
-                        SQLStates.COLUMN_AMBIQUOUS.getValue());
-            } else {
-                return fields.get(0);
-            }
+        this.findColumn(newName, references, prefix);
+        if (references.size() > 1) {
+            throw new SQLException("Column '" + newName + "' ambiguously defined",
+                    SQLStates.COLUMN_AMBIQUOUS.getValue());
+        } else if (references.isEmpty()) {
+            return null;
         }
-
-        throw new SQLException(String.format("Field %s not found.", name));
+        return references.get(0);
     }
 
     /**
-     * Load the table data form a table.
+     * Gets the table field of a column.
      *
      * @param column the column to load.
      * @param table  the table to load.
+     * @return the table field.
      * @throws SQLException in case of execution errors.
      */
-    private void loadTableData(final Column column, final ParadoxTable table) throws SQLException {
+    private static ParadoxField getField(final Column column, final ParadoxTable table) throws SQLException {
         final ParadoxField field = table.findField(column.getName());
         if (field == null) {
             throw new SQLException("Column '" + column.getName() + "' not found in table '" + table.getName(),
                     SQLStates.INVALID_FIELD_VALUE.getValue());
         }
-        // load table data
-        final List<List<FieldValue>> tableData = TableData.loadData(table, table.getFields());
         // search column index
         if ((field.getOrderNum() > table.getFields().size()) || (field.getOrderNum() < 1)) {
             throw new SQLException("Invalid column position", SQLStates.INVALID_FIELD_VALUE.getValue());
         }
 
-        final int p = field.getOrderNum() - 1;
-        this.fillResultValues(tableData, p);
+        return field;
+    }
+
+    /**
+     * A field of a plan table.
+     */
+    private static final class FieldReference {
+
+        /**
+         * The plan table.
+         */
+        private final PlanTableNode table;
+
+        /**
+         * The table field.
+         */
+        private final ParadoxField field;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param table the plan table.
+         * @param field the table field.
+         */
+        FieldReference(final PlanTableNode table, final ParadoxField field) {
+            this.table = table;
+            this.field = field;
+        }
+    }
+
+    /**
+     * Gives the field positions in a row for the compiled conditions.
+     */
+    private interface FieldResolver {
+
+        /**
+         * Gets a field position in the row.
+         *
+         * @param reference the field.
+         * @return the field position or -1 if the field is not in the row.
+         */
+        int indexOf(final FieldReference reference);
+    }
+
+    /**
+     * A single pass scan over a table, filling all the table columns in the result row.
+     */
+    private static final class TableScan implements FieldResolver {
+
+        /**
+         * The plan table.
+         */
+        private final PlanTableNode node;
+
+        /**
+         * The table to scan.
+         */
+        private final ParadoxTable table;
+
+        /**
+         * The fields to read from table.
+         */
+        private final List<ParadoxField> projection = new ArrayList<>();
+
+        /**
+         * The column positions in projection row.
+         */
+        private final List<Integer> fieldOrders = new ArrayList<>();
+
+        /**
+         * The column positions in result row.
+         */
+        private final List<Integer> resultIndexes = new ArrayList<>();
+
+        /**
+         * The compiled conditions (null if there is no condition).
+         */
+        private Predicate filter;
+
+        /**
+         * The table rows.
+         */
+        private RowCursor rows;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param node the plan table to scan.
+         */
+        TableScan(final PlanTableNode node) {
+            this.node = node;
+            this.table = node.getTable();
+        }
+
+        /**
+         * Adds the fields of this table to the scan.
+         *
+         * @param reference the field.
+         * @return the field position in the projection row or -1 if the field is from other table.
+         */
+        @Override
+        public int indexOf(final FieldReference reference) {
+            if (reference.table != this.node) {
+                return -1;
+            }
+            return this.addField(reference.field);
+        }
+
+        /**
+         * Adds a condition to check in the scan.
+         *
+         * @param predicate the compiled condition.
+         */
+        void addFilter(final Predicate predicate) {
+            if (this.filter == null) {
+                this.filter = predicate;
+            } else {
+                this.filter = new AndPredicate(Arrays.asList(this.filter, predicate));
+            }
+        }
+
+        /**
+         * Gets a null value for each field in the projection row.
+         *
+         * @return the null values.
+         * @throws SQLException in case of invalid field types.
+         */
+        List<FieldValue> getNulls() throws SQLException {
+            final List<FieldValue> nulls = new ArrayList<>(this.projection.size());
+            for (final ParadoxField field : this.projection) {
+                nulls.add(new FieldValue(field.getColumn().getType()));
+            }
+            return nulls;
+        }
+
+        /**
+         * Adds a field to read.
+         *
+         * @param field the field to read.
+         * @return the field position in the projection row.
+         */
+        int addField(final ParadoxField field) {
+            int index = this.projection.indexOf(field);
+            if (index < 0) {
+                index = this.projection.size();
+                this.projection.add(field);
+            }
+            return index;
+        }
+
+        /**
+         * Adds a column to fill.
+         *
+         * @param field       the column field.
+         * @param resultIndex the column position in result row.
+         */
+        void addColumn(final ParadoxField field, final int resultIndex) {
+            this.fieldOrders.add(this.addField(field));
+            this.resultIndexes.add(resultIndex);
+        }
+
+        /**
+         * Opens the table cursor with the fields used in this scan.
+         *
+         * @throws SQLException in case of invalid fields.
+         */
+        void open() throws SQLException {
+            this.rows = TableData.openCursor(this.table, this.projection);
+        }
+
+        /**
+         * Opens a column batch cursor with the columns in result order. The conditions are checked while the batches
+         * are filled.
+         *
+         * @param blocks  the blocks to read (null to read all blocks).
+         * @param reverse if the rows are read last to first.
+         * @return the batch cursor.
+         * @throws SQLException in case of invalid fields.
+         */
+        RowCursor openBatch(final int[] blocks, final boolean reverse) throws SQLException {
+            final int[] columns = new int[this.fieldOrders.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[this.resultIndexes.get(i)] = this.fieldOrders.get(i);
+            }
+            return this.openBatch(columns, blocks, reverse);
+        }
+
+        /**
+         * Opens a column batch cursor with the projection rows, using the table indexes for the conditions.
+         *
+         * @return the batch cursor.
+         * @throws SQLException in case of invalid fields.
+         */
+        RowCursor openRows() throws SQLException {
+            return this.openRows(this.findBlocks());
+        }
+
+        /**
+         * Opens a column batch cursor with the projection rows.
+         *
+         * @param blocks the blocks to read (null to read all blocks).
+         * @return the batch cursor.
+         * @throws SQLException in case of invalid fields.
+         */
+        RowCursor openRows(final int[] blocks) throws SQLException {
+            final int[] columns = new int[this.projection.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = i;
+            }
+            return this.openBatch(columns, blocks, false);
+        }
+
+        /**
+         * Opens a column batch cursor.
+         *
+         * @param columns the projection position of each cursor column.
+         * @param blocks  the blocks to read (null to read all blocks).
+         * @param reverse if the rows are read last to first.
+         * @return the batch cursor.
+         * @throws SQLException in case of invalid fields.
+         */
+        private RowCursor openBatch(final int[] columns, final int[] blocks, final boolean reverse)
+                throws SQLException {
+            RecordFilter recordFilter = null;
+            if (this.filter != null) {
+                recordFilter = this.filter.getRecordFilter();
+            }
+            this.rows = TableData.openBatchCursor(this.table, this.projection, columns, this.filter, recordFilter,
+                    blocks, reverse);
+            return this.rows;
+        }
+
+        /**
+         * Opens a batch cursor in primary key order, when the order fields are the first primary key fields.
+         *
+         * @param orderFields the order fields.
+         * @param descending  if the rows are read in descending order.
+         * @return the batch cursor or null if the primary key can not be used.
+         * @throws SQLException in case of I/O errors.
+         */
+        RowCursor openPrimaryKeyOrder(final List<ParadoxField> orderFields, final boolean descending)
+                throws SQLException {
+            if (orderFields.size() > this.table.getPrimaryFieldCount()) {
+                return null;
+            }
+            for (int i = 0; i < orderFields.size(); i++) {
+                if (orderFields.get(i) != this.table.getFields().get(i)) {
+                    return null;
+                }
+            }
+            final int[] blocks = this.findPrimaryKeyBlocks(true);
+            if (blocks == null) {
+                return null;
+            }
+            if (descending) {
+                for (int i = 0, j = blocks.length - 1; i < j; i++, j--) {
+                    final int block = blocks[i];
+                    blocks[i] = blocks[j];
+                    blocks[j] = block;
+                }
+            }
+            return this.openBatch(blocks, descending);
+        }
+
+        /**
+         * Opens a cursor in the order of the first secondary index starting with the order fields.
+         *
+         * @param orderFields the order fields.
+         * @param descending  if the rows are read in descending order.
+         * @param rowSize     the result row size.
+         * @return the cursor or null if there is no usable index.
+         * @throws SQLException in case of I/O errors.
+         */
+        RowCursor openIndexOrder(final List<ParadoxField> orderFields, final boolean descending, final int rowSize)
+                throws SQLException {
+            for (final ParadoxField field : orderFields) {
+                if (field.getTable() != this.table) {
+                    return null;
+                }
+            }
+            for (final ParadoxIndex index : IndexData.listIndexes(this.table.getFile().getParentFile(),
+                    this.table.getName(), this.table.getConnection())) {
+                final RowCursor indexRows = IndexData.openOrderedCursor(this.table, index, orderFields,
+                        this.projection, descending);
+                if (indexRows != null) {
+                    this.rows = indexRows;
+                    return new SelectCursor(Collections.singletonList(this), rowSize);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Finds the table blocks to read with the table indexes, when the conditions restrict an indexed field.
+         *
+         * @return the blocks to read or null to read all blocks.
+         * @throws SQLException in case of I/O errors.
+         */
+        private int[] findBlocks() throws SQLException {
+            if (this.filter == null) {
+                return null;
+            }
+            final int[] blocks = this.findPrimaryKeyBlocks(false);
+            if (blocks != null) {
+                return blocks;
+            }
+            return this.findSecondaryIndexBlocks();
+        }
+
+        /**
+         * Finds the table blocks to read with the primary key index, when the conditions bound the first key field.
+         * The blocks are in key order.
+         *
+         * @param all if all the blocks are read when the first key field is not bound.
+         * @return the blocks to read or null to read all blocks.
+         * @throws SQLException in case of I/O errors.
+         */
+        private int[] findPrimaryKeyBlocks(final boolean all) throws SQLException {
+            if (this.table.getPrimaryFieldCount() == 0) {
+                return null;
+            }
+            KeyRange range = null;
+            final int index = this.projection.indexOf(this.table.getFields().get(0));
+            if ((this.filter != null) && (index >= 0)) {
+                range = KeyRange.of(this.filter, index);
+            }
+            if ((range == null) && !all) {
+                return null;
+            }
+
+            final ParadoxPK pk = PrimaryKeyData.getPrimaryKey(this.table.getFile().getParentFile(), this.table,
+                    this.table.getConnection());
+            if (pk == null) {
+                return null;
+            }
+            byte[] low = null;
+            byte[] high = null;
+            if (range != null) {
+                low = range.getLow();
+                high = range.getHigh();
+            }
+            final int[] blocks = new IndexNavigator(pk).findBlocks(low, high);
+            for (final int block : blocks) {
+                if ((block < 1) || (block > this.table.getTotalBlocks())) {
+                    // Index out of sync with table.
+                    return null;
+                }
+            }
+            return blocks;
+        }
+
+        /**
+         * Finds the table blocks to read with the first secondary index whose first field is restricted by the
+         * conditions. Stale indexes are skipped.
+         *
+         * @return the blocks to read or null to read all blocks.
+         * @throws SQLException in case of I/O errors.
+         */
+        private int[] findSecondaryIndexBlocks() throws SQLException {
+            for (final ParadoxIndex index : IndexData.listIndexes(this.table.getFile().getParentFile(),
+                    this.table.getName(), this.table.getConnection())) {
+                if (index.getFields().isEmpty()) {
+                    continue;
+                }
+                final ParadoxField field = this.table.findField(index.getFields().get(0).getName());
+                final int position = this.projection.indexOf(field);
+                if ((field == null) || (position < 0)) {
+                    continue;
+                }
+                final IndexCondition condition = IndexCondition.of(this.filter, position);
+                if (condition == null) {
+                    continue;
+                }
+
+                byte[] low = null;
+                byte[] high = null;
+                if (condition.getRange() != null) {
+                    low = condition.getRange().getLow();
+                    high = condition.getRange().getHigh();
+                }
+                final int[] blocks = IndexData.findBlocks(this.table, index, condition, low, high);
+                if (blocks != null) {
+                    return blocks;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Fills the result row with the next table row that satisfy the conditions.
+         *
+         * @param result the result row.
+         * @return false if there is no more rows.
+         * @throws SQLException in case of reading errors.
+         */
+        boolean fill(final FieldValue[] result) throws SQLException {
+            while (this.rows.next()) {
+                final List<FieldValue> row = this.rows.getRow();
+                if ((this.filter == null) || this.filter.accept(row)) {
+                    for (int i = 0; i < this.fieldOrders.size(); i++) {
+                        result[this.resultIndexes.get(i)] = row.get(this.fieldOrders.get(i));
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Fills the result rows from a table scan read in parallel, one row at time.
+     */
+    private static final class SelectCursor implements RowCursor {
+
+        /**
+         * The table scans.
+         */
+        private final List<TableScan> scans;
+
+        /**
+         * The result row size.
+         */
+        private final int rowSize;
+
+        /**
+         * The current row.
+         */
+        private List<FieldValue> row;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param scans   the table scans.
+         * @param rowSize the result row size.
+         */
+        SelectCursor(final List<TableScan> scans, final int rowSize) {
+            this.scans = scans;
+            this.rowSize = rowSize;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean next() throws SQLException {
+            final FieldValue[] result = new FieldValue[this.rowSize];
+            for (final TableScan scan : this.scans) {
+                if (!scan.fill(result)) {
+                    this.row = null;
+                    this.close();
+                    return false;
+                }
+            }
+            this.row = Arrays.asList(result);
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public List<FieldValue> getRow() {
+            return this.row;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void reset() throws SQLException {
+            for (final TableScan scan : this.scans) {
+                scan.rows.reset();
+            }
+            this.row = null;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void close() throws SQLException {
+            for (final TableScan scan : this.scans) {
+                scan.rows.close();
+            }
+        }
+    }
+
+    /**
+     * Picks the result columns from the joined rows, checking the conditions on the joined rows.
+     */
+    private static final class ProjectionCursor implements RowCursor {
+
+        /**
+         * The joined rows.
+         */
+        private final RowCursor source;
+
+        /**
+         * The joined row position of each result column.
+         */
+        private final int[] positions;
+
+        /**
+         * The conditions on the joined rows (null if there is none).
+         */
+        private final Predicate filter;
+
+        /**
+         * The current row.
+         */
+        private List<FieldValue> row;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param source    the joined rows.
+         * @param positions the joined row position of each result column.
+         * @param filter    the conditions on the joined rows (null if there is none).
+         */
+        ProjectionCursor(final RowCursor source, final int[] positions, final Predicate filter) {
+            this.source = source;
+            this.positions = positions;
+            this.filter = filter;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean next() throws SQLException {
+            while (this.source.next()) {
+                final List<FieldValue> joined = this.source.getRow();
+                if ((this.filter == null) || this.filter.accept(joined)) {
+                    final FieldValue[] result = new FieldValue[this.positions.length];
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] = joined.get(this.positions[i]);
+                    }
+                    this.row = Arrays.asList(result);
+                    return true;
+                }
+            }
+            this.row = null;
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public List<FieldValue> getRow() {
+            return this.row;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void reset() throws SQLException {
+            this.source.reset();
+            this.row = null;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void close() throws SQLException {
+            this.source.close();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,386 @@
+/*
+ * ExternalSortCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sort;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.planner.spill.SpillFile;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts rows within a memory budget. The source rows are collected in a buffer until the budget is reached, then the
+ * buffer is sorted and written as a run in a temporary file. The runs are merged while the rows are read, so only one
+ * row of each run is kept in memory. When there are too many runs to merge at once, they are first merged in larger
+ * runs.
+ * <p>
+ * The sort is stable: rows that compare equal keep the source order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ExternalSortCursor implements RowCursor {
+
+    /**
+     * The maximum runs merged at once.
+     */
+    static final int MAX_MERGE = 64;
+
+    /**
+     * The rows to sort.
+     */
+    private final RowCursor source;
+
+    /**
+     * The row order.
+     */
+    private final Comparator<List<FieldValue>> comparator;
+
+    /**
+     * The memory budget for the buffer, in bytes.
+     */
+    private final long memoryBudget;
+
+    /**
+     * The sorted runs written to temporary files, in source order.
+     */
+    private final List<SpillFile> runs = new ArrayList<>();
+
+    /**
+     * The sorted rows (null before the source is read).
+     */
+    private RowCursor sorted;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source       the rows to sort.
+     * @param comparator   the row order.
+     * @param memoryBudget the memory budget for the buffer, in bytes.
+     */
+    public ExternalSortCursor(final RowCursor source, final Comparator<List<FieldValue>> comparator,
+            final long memoryBudget) {
+        this.source = source;
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (this.sorted == null) {
+            this.sorted = this.sort();
+        }
+        if (this.sorted.next()) {
+            this.row = this.sorted.getRow();
+            return true;
+        }
+        this.row = null;
+        return false;
+    }
+
+    /**
+     * Reads the source, writing the full buffers as sorted runs.
+     *
+     * @return the sorted rows.
+     * @throws SQLException in case of reading errors.
+     */
+    private RowCursor sort() throws SQLException {
+        List<List<FieldValue>> buffer = new ArrayList<>();
+        long memory = 0;
+        try {
+            while (this.source.next()) {
+                final List<FieldValue> current = this.source.getRow();
+                buffer.add(current);
+                memory += SpillFile.estimateSize(current);
+                if (memory >= this.memoryBudget) {
+                    this.runs.add(this.writeRun(buffer));
+                    buffer = new ArrayList<>();
+                    memory = 0;
+                }
+            }
+        } finally {
+            this.source.close();
+        }
+        Collections.sort(buffer, this.comparator);
+
+        while (this.runs.size() > MAX_MERGE) {
+            final List<SpillFile> merged = new ArrayList<>();
+            for (int start = 0; start < this.runs.size(); start += MAX_MERGE) {
+                final List<SpillFile> group = this.runs.subList(start, Math.min(start + MAX_MERGE,
+                        this.runs.size()));
+                merged.add(this.mergeRuns(group));
+            }
+            this.runs.clear();
+            this.runs.addAll(merged);
+        }
+
+        // The last buffer is merged from memory, after the runs read before it.
+        final List<RowCursor> sources = new ArrayList<>();
+        for (final SpillFile run : this.runs) {
+            sources.add(run.openCursor());
+        }
+        sources.add(new ListRowCursor(buffer));
+        if (sources.size() == 1) {
+            return sources.get(0);
+        }
+        return new MergeCursor(sources, this.comparator);
+    }
+
+    /**
+     * Sorts a buffer and writes it as a run.
+     *
+     * @param buffer the rows.
+     * @return the run file.
+     * @throws SQLException in case of I/O errors.
+     */
+    private SpillFile writeRun(final List<List<FieldValue>> buffer) throws SQLException {
+        Collections.sort(buffer, this.comparator);
+        final SpillFile run = new SpillFile();
+        try {
+            for (final List<FieldValue> current : buffer) {
+                run.write(current);
+            }
+        } catch (final SQLException e) {
+            run.close();
+            throw e;
+        }
+        return run;
+    }
+
+    /**
+     * Merges some runs in a single run, deleting the merged runs.
+     *
+     * @param group the runs to merge, in source order.
+     * @return the merged run.
+     * @throws SQLException in case of I/O errors.
+     */
+    private SpillFile mergeRuns(final List<SpillFile> group) throws SQLException {
+        final List<RowCursor> sources = new ArrayList<>();
+        for (final SpillFile run : group) {
+            sources.add(run.openCursor());
+        }
+        final SpillFile merged = new SpillFile();
+        try (MergeCursor cursor = new MergeCursor(sources, this.comparator)) {
+            while (cursor.next()) {
+                merged.write(cursor.getRow());
+            }
+        } catch (final SQLException e) {
+            merged.close();
+            throw e;
+        } finally {
+            for (final SpillFile run : group) {
+                run.close();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Gets the number of runs written to temporary files.
+     *
+     * @return the number of runs.
+     */
+    public int getRunCount() {
+        return this.runs.size();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        if (this.sorted != null) {
+            this.sorted.reset();
+        }
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (this.sorted != null) {
+                this.sorted.close();
+            } else {
+                this.source.close();
+            }
+        } finally {
+            for (final SpillFile run : this.runs) {
+                run.close();
+            }
+            this.runs.clear();
+            this.row = null;
+        }
+    }
+
+    /**
+     * Merges sorted row sources, keeping the source order for equal rows.
+     */
+    private static final class MergeCursor implements RowCursor {
+
+        /**
+         * The sorted sources, in source order.
+         */
+        private final List<RowCursor> sources;
+
+        /**
+         * The current row of each source with rows.
+         */
+        private final PriorityQueue<Head> heads;
+
+        /**
+         * If the sources were read for the first time.
+         */
+        private boolean started;
+
+        /**
+         * The current row.
+         */
+        private List<FieldValue> row;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param sources    the sorted sources, in source order.
+         * @param comparator the row order.
+         */
+        MergeCursor(final List<RowCursor> sources, final Comparator<List<FieldValue>> comparator) {
+            this.sources = sources;
+            this.heads = new PriorityQueue<>(sources.size(), new Comparator<Head>() {
+                @Override
+                public int compare(final Head o1, final Head o2) {
+                    final int comparison = comparator.compare(o1.row, o2.row);
+                    if (comparison != 0) {
+                        return comparison;
+                    }
+                    return Integer.compare(o1.source, o2.source);
+                }
+            });
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean next() throws SQLException {
+            if (!this.started) {
+                this.started = true;
+                for (int i = 0; i < this.sources.size(); i++) {
+                    this.advance(i);
+                }
+            }
+            final Head head = this.heads.poll();
+            if (head == null) {
+                this.row = null;
+                return false;
+            }
+            this.row = head.row;
+            this.advance(head.source);
+            return true;
+        }
+
+        /**
+         * Reads the next row of a source.
+         *
+         * @param index the source index.
+         * @throws SQLException in case of reading errors.
+         */
+        private void advance(final int index) throws SQLException {
+            final RowCursor cursor = this.sources.get(index);
+            if (cursor.next()) {
+                this.heads.add(new Head(cursor.getRow(), index));
+            }
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public List<FieldValue> getRow() {
+            return this.row;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void reset() throws SQLException {
+            for (final RowCursor cursor : this.sources) {
+                cursor.reset();
+            }
+            this.heads.clear();
+            this.started = false;
+            this.row = null;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void close() throws SQLException {
+            for (final RowCursor cursor : this.sources) {
+                cursor.close();
+            }
+            this.heads.clear();
+            this.row = null;
+        }
+    }
+
+    /**
+     * The current row of a merged source.
+     */
+    private static final class Head {
+
+        /**
+         * The row.
+         */
+        private final List<FieldValue> row;
+
+        /**
+         * The source index.
+         */
+        private final int source;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param row    the row.
+         * @param source the source index.
+         */
+        Head(final List<FieldValue> row, final int source) {
+            this.row = row;
+            this.source = source;
+        }
+    }
+}
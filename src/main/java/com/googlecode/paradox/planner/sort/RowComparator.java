@@ -0,0 +1,130 @@
+/*
+ * RowComparator.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sort;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares rows by some of their columns. Null values come first, text is compared ignoring case (like the Paradox
+ * international sort order) and the values that can not be ordered, like BLOBs, are equal.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class RowComparator implements Comparator<List<FieldValue>> {
+
+    /**
+     * The columns to compare, in order.
+     */
+    private final int[] columns;
+
+    /**
+     * The column directions (true for descending).
+     */
+    private final boolean[] descending;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param columns    the columns to compare, in order.
+     * @param descending the column directions (true for descending).
+     */
+    public RowComparator(final int[] columns, final boolean[] descending) {
+        this.columns = columns.clone();
+        this.descending = descending.clone();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int compare(final List<FieldValue> o1, final List<FieldValue> o2) {
+        for (int i = 0; i < this.columns.length; i++) {
+            int comparison = RowComparator.compareValues(o1.get(this.columns[i]), o2.get(this.columns[i]));
+            if (comparison != 0) {
+                if (this.descending[i]) {
+                    comparison = -comparison;
+                }
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares two field values.
+     *
+     * @param first  the first value.
+     * @param second the second value.
+     * @return the comparison result.
+     */
+    public static int compareValues(final FieldValue first, final FieldValue second) {
+        return RowComparator.compareObjects(RowComparator.valueOf(first), RowComparator.valueOf(second));
+    }
+
+    /**
+     * Compares two values read from fields. Nulls come first, and text ignores the case.
+     *
+     * @param a the first value (null for a null field).
+     * @param b the second value (null for a null field).
+     * @return the comparison result (zero for values of different kinds).
+     */
+    public static int compareObjects(final Object a, final Object b) {
+        if (a == null) {
+            if (b == null) {
+                return 0;
+            }
+            return -1;
+        } else if (b == null) {
+            return 1;
+        }
+
+        if ((a instanceof Number) && (b instanceof Number)) {
+            if (RowComparator.isIntegral(a) && RowComparator.isIntegral(b)) {
+                return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+            }
+            return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+        } else if ((a instanceof java.util.Date) && (b instanceof java.util.Date)) {
+            return ((java.util.Date) a).compareTo((java.util.Date) b);
+        } else if ((a instanceof String) && (b instanceof String)) {
+            return String.CASE_INSENSITIVE_ORDER.compare((String) a, (String) b);
+        } else if ((a instanceof Boolean) && (b instanceof Boolean)) {
+            return ((Boolean) a).compareTo((Boolean) b);
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the value to compare.
+     *
+     * @param value the field value.
+     * @return the value or null if the field is null.
+     */
+    private static Object valueOf(final FieldValue value) {
+        if ((value == null) || value.isNull()) {
+            return null;
+        }
+        return value.getValue();
+    }
+
+    /**
+     * Gets if a number is integral.
+     *
+     * @param value the number.
+     * @return true if the number is integral.
+     */
+    private static boolean isIntegral(final Object value) {
+        return (value instanceof Long) || (value instanceof Integer) || (value instanceof Short)
+                || (value instanceof Byte);
+    }
+}
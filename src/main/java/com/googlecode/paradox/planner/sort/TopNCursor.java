@@ -0,0 +1,190 @@
+/*
+ * TopNCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sort;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import com.googlecode.paradox.rowset.RowCursor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps only the first rows of a sort, for ORDER BY with a row limit. The source rows pass through a bounded heap
+ * whose top is the last row kept, so each row is compared with it and only replaces it when it comes before. Memory
+ * is bounded by the limit instead of the source size.
+ * <p>
+ * Rows that compare equal keep the source order, like in the full sort.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class TopNCursor implements RowCursor {
+
+    /**
+     * The rows to sort.
+     */
+    private final RowCursor source;
+
+    /**
+     * The row order.
+     */
+    private final Comparator<List<FieldValue>> comparator;
+
+    /**
+     * The number of rows to keep.
+     */
+    private final int limit;
+
+    /**
+     * The first rows in order (null before the source is read).
+     */
+    private RowCursor sorted;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source     the rows to sort.
+     * @param comparator the row order.
+     * @param limit      the number of rows to keep.
+     */
+    public TopNCursor(final RowCursor source, final Comparator<List<FieldValue>> comparator, final int limit) {
+        this.source = source;
+        this.comparator = comparator;
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (this.sorted == null) {
+            this.sorted = new ListRowCursor(this.select());
+        }
+        if (this.sorted.next()) {
+            this.row = this.sorted.getRow();
+            return true;
+        }
+        this.row = null;
+        return false;
+    }
+
+    /**
+     * Reads the source, keeping the first rows.
+     *
+     * @return the first rows, in order.
+     * @throws SQLException in case of reading errors.
+     */
+    private List<List<FieldValue>> select() throws SQLException {
+        // The last row kept is at the top: the greatest row, and the latest read among equal rows.
+        final Comparator<Entry> last = new Comparator<Entry>() {
+            @Override
+            public int compare(final Entry o1, final Entry o2) {
+                final int comparison = TopNCursor.this.comparator.compare(o2.row, o1.row);
+                if (comparison != 0) {
+                    return comparison;
+                }
+                return Long.compare(o2.sequence, o1.sequence);
+            }
+        };
+        final PriorityQueue<Entry> heap = new PriorityQueue<>(Math.max(1, Math.min(this.limit, 1024)), last);
+        try {
+            long sequence = 0;
+            while (this.source.next()) {
+                final List<FieldValue> current = this.source.getRow();
+                if (heap.size() < this.limit) {
+                    heap.add(new Entry(current, sequence));
+                } else if ((this.limit > 0) && (this.comparator.compare(current, heap.peek().row) < 0)) {
+                    heap.poll();
+                    heap.add(new Entry(current, sequence));
+                }
+                sequence++;
+            }
+        } finally {
+            this.source.close();
+        }
+
+        final Entry[] entries = heap.toArray(new Entry[0]);
+        Arrays.sort(entries, Collections.reverseOrder(last));
+        final List<List<FieldValue>> rows = new ArrayList<>(entries.length);
+        for (final Entry entry : entries) {
+            rows.add(entry.row);
+        }
+        return rows;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        if (this.sorted != null) {
+            this.sorted.reset();
+        }
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (this.sorted == null) {
+            this.source.close();
+        }
+        this.row = null;
+    }
+
+    /**
+     * A kept row.
+     */
+    private static final class Entry {
+
+        /**
+         * The row.
+         */
+        private final List<FieldValue> row;
+
+        /**
+         * The source position.
+         */
+        private final long sequence;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param row      the row.
+         * @param sequence the source position.
+         */
+        Entry(final List<FieldValue> row, final long sequence) {
+            this.row = row;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Row ordering for ORDER BY.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.planner.sort;
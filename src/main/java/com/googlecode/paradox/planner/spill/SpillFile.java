@@ -0,0 +1,416 @@
+/*
+ * SpillFile.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.spill;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.RowCursor;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A temporary file of rows. The rows are written first and read after with {@link #openCursor()}, as many times as
+ * needed. The values that have no binary form, like the blob descriptors, stay in memory and only their position is
+ * written. The file is deleted on close.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class SpillFile implements AutoCloseable {
+
+    /**
+     * Java null instead of a field value.
+     */
+    private static final byte ABSENT = 0;
+
+    /**
+     * Null value.
+     */
+    private static final byte NULL = 1;
+
+    /**
+     * Integer value.
+     */
+    private static final byte INTEGER = 2;
+
+    /**
+     * Long value.
+     */
+    private static final byte LONG = 3;
+
+    /**
+     * Double value.
+     */
+    private static final byte DOUBLE = 4;
+
+    /**
+     * Boolean value.
+     */
+    private static final byte BOOLEAN = 5;
+
+    /**
+     * String value.
+     */
+    private static final byte STRING = 6;
+
+    /**
+     * Date value.
+     */
+    private static final byte DATE = 7;
+
+    /**
+     * Time value.
+     */
+    private static final byte TIME = 8;
+
+    /**
+     * Timestamp value.
+     */
+    private static final byte TIMESTAMP = 9;
+
+    /**
+     * Value kept in memory.
+     */
+    private static final byte REFERENCE = 10;
+
+    /**
+     * Estimated size of a field value without its value, in bytes.
+     */
+    private static final int VALUE_OVERHEAD = 32;
+
+    /**
+     * The temporary file.
+     */
+    private final File file;
+
+    /**
+     * The values kept in memory.
+     */
+    private final List<Object> references = new ArrayList<>();
+
+    /**
+     * The open cursors.
+     */
+    private final List<SpillCursor> cursors = new ArrayList<>();
+
+    /**
+     * The file output (null after the writing is finished).
+     */
+    private DataOutputStream output;
+
+    /**
+     * The written row count.
+     */
+    private long rowCount;
+
+    /**
+     * Creates a new temporary file.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    public SpillFile() throws SQLException {
+        try {
+            this.file = File.createTempFile("paradox", ".spill");
+            this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Estimates the memory used by a row, in bytes.
+     *
+     * @param row the row.
+     * @return the estimated size.
+     */
+    public static long estimateSize(final List<FieldValue> row) {
+        long size = 16 + (8L * row.size());
+        for (final FieldValue value : row) {
+            if (value != null) {
+                size += VALUE_OVERHEAD;
+                final Object data = value.getValue();
+                if (data instanceof String) {
+                    size += 40 + (2L * ((String) data).length());
+                } else if (data != null) {
+                    size += 24;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes a row at the end of the file.
+     *
+     * @param row the row to write.
+     * @throws SQLException if the file is already read or in case of I/O errors.
+     */
+    public void write(final List<FieldValue> row) throws SQLException {
+        if (this.output == null) {
+            throw new SQLException("Spill file already read.", SQLStates.INVALID_STATE.getValue());
+        }
+        try {
+            this.output.writeInt(row.size());
+            for (final FieldValue value : row) {
+                this.writeValue(value);
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+        this.rowCount++;
+    }
+
+    /**
+     * Writes a single value.
+     *
+     * @param value the value to write.
+     * @throws IOException in case of I/O errors.
+     */
+    private void writeValue(final FieldValue value) throws IOException {
+        if (value == null) {
+            this.output.writeByte(ABSENT);
+            return;
+        }
+        final Object data = value.getValue();
+        if (data == null) {
+            this.output.writeByte(NULL);
+            this.output.writeInt(value.getType());
+        } else if (data instanceof Integer) {
+            this.output.writeByte(INTEGER);
+            this.output.writeInt(value.getType());
+            this.output.writeInt((Integer) data);
+        } else if (data instanceof Long) {
+            this.output.writeByte(LONG);
+            this.output.writeInt(value.getType());
+            this.output.writeLong((Long) data);
+        } else if (data instanceof Double) {
+            this.output.writeByte(DOUBLE);
+            this.output.writeInt(value.getType());
+            this.output.writeDouble((Double) data);
+        } else if (data instanceof Boolean) {
+            this.output.writeByte(BOOLEAN);
+            this.output.writeInt(value.getType());
+            this.output.writeBoolean((Boolean) data);
+        } else if (data instanceof String) {
+            final byte[] bytes = ((String) data).getBytes(StandardCharsets.UTF_8);
+            this.output.writeByte(STRING);
+            this.output.writeInt(value.getType());
+            this.output.writeInt(bytes.length);
+            this.output.write(bytes);
+        } else if (data instanceof Timestamp) {
+            this.output.writeByte(TIMESTAMP);
+            this.output.writeInt(value.getType());
+            this.output.writeLong(((Timestamp) data).getTime());
+            this.output.writeInt(((Timestamp) data).getNanos());
+        } else if (data instanceof java.sql.Date) {
+            this.output.writeByte(DATE);
+            this.output.writeInt(value.getType());
+            this.output.writeLong(((java.sql.Date) data).getTime());
+        } else if (data instanceof Time) {
+            this.output.writeByte(TIME);
+            this.output.writeInt(value.getType());
+            this.output.writeLong(((Time) data).getTime());
+        } else {
+            this.output.writeByte(REFERENCE);
+            this.output.writeInt(value.getType());
+            this.output.writeInt(this.references.size());
+            this.references.add(data);
+        }
+    }
+
+    /**
+     * Gets the written row count.
+     *
+     * @return the written row count.
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Finishes the writing and opens a cursor over the written rows.
+     *
+     * @return the row cursor.
+     * @throws SQLException in case of I/O errors.
+     */
+    public RowCursor openCursor() throws SQLException {
+        if (this.output != null) {
+            try {
+                this.output.close();
+            } catch (final IOException e) {
+                throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+            } finally {
+                this.output = null;
+            }
+        }
+        final SpillCursor cursor = new SpillCursor();
+        this.cursors.add(cursor);
+        return cursor;
+    }
+
+    /**
+     * Closes the open cursors and deletes the file.
+     */
+    @Override
+    public void close() {
+        for (final SpillCursor cursor : this.cursors) {
+            cursor.close();
+        }
+        this.cursors.clear();
+        if (this.output != null) {
+            try {
+                this.output.close();
+            } catch (final IOException e) {
+                // The file is deleted anyway.
+            }
+            this.output = null;
+        }
+        this.references.clear();
+        if (!this.file.delete()) {
+            this.file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Reads the rows back from the file.
+     */
+    private final class SpillCursor implements RowCursor {
+
+        /**
+         * The file input (null if not open).
+         */
+        private DataInputStream input;
+
+        /**
+         * The rows read.
+         */
+        private long position;
+
+        /**
+         * The current row.
+         */
+        private List<FieldValue> row;
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean next() throws SQLException {
+            if (this.position >= SpillFile.this.rowCount) {
+                this.row = null;
+                this.close();
+                return false;
+            }
+            try {
+                if (this.input == null) {
+                    this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(SpillFile.this.file)));
+                }
+                final FieldValue[] values = new FieldValue[this.input.readInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = this.readValue();
+                }
+                this.row = Arrays.asList(values);
+            } catch (final IOException e) {
+                throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+            }
+            this.position++;
+            return true;
+        }
+
+        /**
+         * Reads a single value.
+         *
+         * @return the value read.
+         * @throws IOException in case of I/O errors.
+         */
+        private FieldValue readValue() throws IOException {
+            final byte kind = this.input.readByte();
+            if (kind == ABSENT) {
+                return null;
+            }
+            final int type = this.input.readInt();
+            switch (kind) {
+                case NULL:
+                    return new FieldValue(type);
+                case INTEGER:
+                    return new FieldValue(this.input.readInt(), type);
+                case LONG:
+                    return new FieldValue(this.input.readLong(), type);
+                case DOUBLE:
+                    return new FieldValue(this.input.readDouble(), type);
+                case BOOLEAN:
+                    return new FieldValue(this.input.readBoolean(), type);
+                case STRING:
+                    final byte[] bytes = new byte[this.input.readInt()];
+                    this.input.readFully(bytes);
+                    return new FieldValue(new String(bytes, StandardCharsets.UTF_8), type);
+                case DATE:
+                    return new FieldValue(new java.sql.Date(this.input.readLong()), type);
+                case TIME:
+                    return new FieldValue(new Time(this.input.readLong()), type);
+                case TIMESTAMP:
+                    final Timestamp timestamp = new Timestamp(this.input.readLong());
+                    timestamp.setNanos(this.input.readInt());
+                    return new FieldValue(timestamp, type);
+                case REFERENCE:
+                    return new FieldValue(SpillFile.this.references.get(this.input.readInt()), type);
+                default:
+                    throw new IOException("Invalid spill value: " + kind);
+            }
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public List<FieldValue> getRow() {
+            return this.row;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void reset() {
+            this.close();
+            this.position = 0;
+            this.row = null;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void close() {
+            if (this.input != null) {
+                try {
+                    this.input.close();
+                } catch (final IOException e) {
+                    // Only read.
+                }
+                this.input = null;
+            }
+        }
+    }
+}
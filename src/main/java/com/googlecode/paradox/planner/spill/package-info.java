@@ -0,0 +1,6 @@
+/**
+ * Temporary row files for the operators that exceed their memory budget.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.planner.spill;
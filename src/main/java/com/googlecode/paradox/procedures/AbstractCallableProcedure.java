@@ -9,7 +9,9 @@
 package com.googlecode.paradox.procedures;
 
 import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.planner.aggregate.Accumulator;
 import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,7 +19,7 @@ import java.util.List;
  * Abstract class used to create any callable procedure.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.1
  */
 public abstract class AbstractCallableProcedure {
@@ -45,6 +47,27 @@ public abstract class AbstractCallableProcedure {
      */
     public abstract String getName();
     
+    /**
+     * Gets if the procedure is called by this name.
+     *
+     * @param name the name to test.
+     * @return true if the procedure is called by this name.
+     */
+    public boolean isNamed(final String name) {
+        return this.getName().equalsIgnoreCase(name);
+    }
+    
+    /**
+     * Creates the accumulator that computes this procedure as an aggregate function.
+     *
+     * @param type
+     *            the argument SQL type ({@link java.sql.Types#NULL} for an asterisk).
+     * @return a new empty accumulator.
+     * @throws SQLException
+     *             if the procedure does not accept the argument.
+     */
+    public abstract Accumulator createAccumulator(int type) throws SQLException;
+    
     /**
      * Gets the procedure description.
      *
@@ -21,7 +21,7 @@ import java.util.List;
  * Stores the procedures in this driver.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class ProcedureAS {
@@ -65,7 +65,7 @@ public final class ProcedureAS {
      */
     public AbstractCallableProcedure get(final String name) {
         for (final AbstractCallableProcedure procedure : this.procedures) {
-            if (procedure.getName().equalsIgnoreCase(name)) {
+            if (procedure.isNamed(name)) {
                 return procedure;
             }
         }
@@ -8,13 +8,16 @@
  */
 package com.googlecode.paradox.procedures.math;
 
+import com.googlecode.paradox.planner.aggregate.Accumulator;
+import com.googlecode.paradox.planner.aggregate.AverageAccumulator;
 import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import java.sql.SQLException;
 
 /**
  * The average procedure.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class Average extends AbstractCallableProcedure {
@@ -27,6 +30,22 @@ public final class Average extends AbstractCallableProcedure {
         return "average";
     }
     
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean isNamed(final String name) {
+        return super.isNamed(name) || "avg".equalsIgnoreCase(name);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Accumulator createAccumulator(final int type) throws SQLException {
+        return new AverageAccumulator(type);
+    }
+    
     /**
      * {@inheritDoc}.
      */
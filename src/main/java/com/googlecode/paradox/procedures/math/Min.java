@@ -8,13 +8,16 @@
  */
 package com.googlecode.paradox.procedures.math;
 
+import com.googlecode.paradox.planner.aggregate.Accumulator;
+import com.googlecode.paradox.planner.aggregate.MinMaxAccumulator;
 import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import java.sql.SQLException;
 
 /**
  * The MIN function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class Min extends AbstractCallableProcedure {
@@ -27,6 +30,14 @@ public final class Min extends AbstractCallableProcedure {
         return "min";
     }
     
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Accumulator createAccumulator(final int type) throws SQLException {
+        return new MinMaxAccumulator(type, false);
+    }
+    
     /**
      * {@inheritDoc}.
      */
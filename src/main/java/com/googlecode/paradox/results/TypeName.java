@@ -20,7 +20,7 @@ import java.sql.Types;
  * Stores the SQL type names.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.3
  */
 public enum TypeName {
@@ -30,6 +30,11 @@ public enum TypeName {
      */
     BINARY(Types.BINARY, "BINARY", InputStream.class.getName()),
     
+    /**
+     * The big integer type.
+     */
+    BIGINT(Types.BIGINT, "BIGINT", Long.class.getName()),
+    
     /**
      * The BLOB type.
      */
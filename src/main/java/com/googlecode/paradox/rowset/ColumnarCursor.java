@@ -0,0 +1,37 @@
+/*
+ * ColumnarCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.data.batch.ColumnVector;
+
+/**
+ * A cursor that keeps the rows in column vectors. The current row values can be read directly from the vectors,
+ * without creating the {@link RowCursor#getRow()} list.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface ColumnarCursor extends RowCursor {
+
+    /**
+     * Gets the vector of a result column.
+     *
+     * @param column the result column (zero based).
+     * @return the column vector.
+     */
+    ColumnVector getColumn(final int column);
+
+    /**
+     * Gets the current row index inside the column vectors.
+     *
+     * @return the current row index.
+     */
+    int getBatchRow();
+}
@@ -0,0 +1,81 @@
+/*
+ * ListRowCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cursor over rows already loaded in memory.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ListRowCursor implements RowCursor {
+
+    /**
+     * The row values.
+     */
+    private final List<List<FieldValue>> values;
+
+    /**
+     * Current row position.
+     */
+    private int position = -1;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values the row values.
+     */
+    public ListRowCursor(final List<List<FieldValue>> values) {
+        this.values = Collections.unmodifiableList(values);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() {
+        if (this.position < this.values.size()) {
+            this.position++;
+        }
+        return this.position < this.values.size();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        if ((this.position < 0) || (this.position >= this.values.size())) {
+            return null;
+        }
+        return this.values.get(this.position);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.position = -1;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * ParadoxBlob.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.metadata.BlobTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+
+/**
+ * BLOB for paradox file (MB).
+ * <p>
+ * The value is not loaded in memory: the streams read from the MB file as they are consumed and
+ * {@link #getBytes(long, int)} reads only the requested bytes.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class ParadoxBlob implements Blob {
+
+    /**
+     * The blob table.
+     */
+    private BlobTable blob;
+
+    /**
+     * The blob offset.
+     */
+    private final long offset;
+
+    /**
+     * The blob length (negative if not read yet).
+     */
+    private long length;
+
+    /**
+     * The blob data, when it is not read from the blob table.
+     */
+    private byte[] value;
+
+    /**
+     * Create a new instance.
+     *
+     * @param descriptor the blob descriptor.
+     */
+    public ParadoxBlob(final BlobDescriptor descriptor) {
+        this.length = -1;
+        // If MB_Offset = 0 then the entire blob is contained in the leader.
+        if (descriptor.getOffset() == 0) {
+            this.blob = null;
+            this.offset = -1;
+            if (descriptor.getLeader() != null) {
+                this.value = descriptor.getLeader();
+                this.length = this.value.length;
+            }
+        } else {
+            this.blob = descriptor.getFile();
+            this.offset = descriptor.getOffset();
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void free() {
+        // The blob table is shared by all rows, so only this reference is released.
+        this.blob = null;
+        this.value = null;
+        this.length = -1;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public InputStream getBinaryStream() throws SQLException {
+        this.isValid();
+        if (this.value != null) {
+            return new ByteArrayInputStream(this.value);
+        }
+        return this.blob.openStream(this.offset, 0, this.length());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public InputStream getBinaryStream(final long pos, final long length) throws SQLException {
+        this.checkRange(pos, length);
+        if (this.value != null) {
+            return new ByteArrayInputStream(this.value, (int) pos - 1, (int) length);
+        }
+        return this.blob.openStream(this.offset, pos - 1, length);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public byte[] getBytes(final long pos, final int length) throws SQLException {
+        this.checkRange(pos, length);
+        if (this.value != null) {
+            return Arrays.copyOfRange(this.value, (int) pos - 1, (int) pos - 1 + length);
+        }
+        return this.blob.read(this.offset, pos - 1, length);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long length() throws SQLException {
+        this.isValid();
+        if (this.length < 0) {
+            this.length = this.blob.length(this.offset);
+        }
+        return this.length;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position(final byte[] pattern, final long start) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position(final Blob pattern, final long start) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int setBytes(final long pos, final byte[] bytes) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int setBytes(final long pos, final byte[] bytes, final int offset, final int len) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public OutputStream setBinaryStream(final long pos) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void truncate(final long length) throws SQLException {
+        if (length > this.length()) {
+            throw new SQLException("Length more than what can be truncated");
+        }
+        if (length == 0) {
+            this.value = new byte[]{};
+        } else {
+            this.value = this.getBytes(1, (int) length);
+        }
+        this.length = this.value.length;
+    }
+
+    /**
+     * Check for the blob validate.
+     *
+     * @throws SQLException in case of invalid descriptor.
+     */
+    private void isValid() throws SQLException {
+        if ((this.value == null) && (this.blob == null)) {
+            throw new SQLException("Invalid BLOB descriptor.");
+        }
+    }
+
+    /**
+     * Checks a range in this blob.
+     *
+     * @param pos    the first position, starting at one.
+     * @param length the range length.
+     * @throws SQLException in case of invalid range.
+     */
+    private void checkRange(final long pos, final long length) throws SQLException {
+        final long size = this.length();
+        if ((pos < 1) || (pos > size)) {
+            throw new SQLException("Invalid position '" + pos + "' in Blob object set");
+        } else if (((pos - 1) + length) > size) {
+            throw new SQLException("Invalid position and length");
+        } else if (length <= 0) {
+            throw new SQLException("Invalid length specified");
+        }
+    }
+}
@@ -23,10 +23,13 @@ import java.sql.SQLException;
 
 /**
  * CLOB for paradox file (MB).
+ * <p>
+ * The value is not loaded in memory: the streams read from the MB file as they are consumed and the substrings read
+ * only the requested bytes.
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.2
+ * @version 1.4
  * @since 1.2
  */
 public final class ParadoxClob implements Clob {
@@ -42,7 +45,7 @@ public final class ParadoxClob implements Clob {
     private BlobTable blob;
 
     /**
-     * The clob length.
+     * The clob length (negative if not read yet).
      */
     private long length;
 
@@ -52,12 +55,7 @@ public final class ParadoxClob implements Clob {
     private long offset;
 
     /**
-     * If this clob is already parsed.
-     */
-    private boolean parsed;
-
-    /**
-     * The clob data.
+     * The clob data, when it is not read from the clob table.
      */
     private byte[] value;
 
@@ -68,13 +66,13 @@ public final class ParadoxClob implements Clob {
      */
     public ParadoxClob(final ClobDescriptor descriptor) {
         this.offset = -1;
+        this.length = -1;
         // If MB_Offset = 0 then the entire blob is contained in the leader.
         if (descriptor.getOffset() == 0) {
             if (descriptor.getLeader() != null) {
                 this.value = descriptor.getLeaderAsStr().getBytes();
                 this.length = this.value.length;
             }
-            this.parsed = true;
         } else {
             this.offset = descriptor.getOffset();
             this.blob = descriptor.getFile();
@@ -85,10 +83,11 @@ public final class ParadoxClob implements Clob {
      * {@inheritDoc}.
      */
     @Override
-    public void free() throws SQLException {
-        if (this.blob != null) {
-            this.blob.close();
-        }
+    public void free() {
+        // The clob table is shared by all rows, so only this reference is released.
+        this.blob = null;
+        this.value = null;
+        this.length = -1;
     }
 
     /**
@@ -96,9 +95,11 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public InputStream getAsciiStream() throws SQLException {
-        this.parse();
         this.isValid();
-        return new ByteArrayInputStream(this.value);
+        if (this.value != null) {
+            return new ByteArrayInputStream(this.value);
+        }
+        return this.blob.openStream(this.offset, 0, this.length());
     }
 
     /**
@@ -106,9 +107,7 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public Reader getCharacterStream() throws SQLException {
-        this.parse();
-        this.isValid();
-        return new InputStreamReader(new ByteArrayInputStream(this.value), ParadoxClob.DEFAULT_CHARSET);
+        return new InputStreamReader(this.getAsciiStream(), ParadoxClob.DEFAULT_CHARSET);
     }
 
     /**
@@ -116,17 +115,12 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public Reader getCharacterStream(final long pos, final long length) throws SQLException {
-        this.parse();
-        this.isValid();
-        if ((pos < 1) || (pos > this.length)) {
-            throw new SQLException("Invalid position in Clob object set");
-        } else if (((pos - 1) + length) > this.length) {
-            throw new SQLException("Invalid position and substring length");
-        } else if (length <= 0) {
-            throw new SQLException("Invalid length specified");
+        this.checkRange(pos, length);
+        if (this.value != null) {
+            return new InputStreamReader(new ByteArrayInputStream(this.value, (int) pos - 1, (int) length),
+                    ParadoxClob.DEFAULT_CHARSET);
         }
-        return new InputStreamReader(new ByteArrayInputStream(this.value, (int) pos - 1, (int) length),
-                ParadoxClob.DEFAULT_CHARSET);
+        return new InputStreamReader(this.blob.openStream(this.offset, pos - 1, length), ParadoxClob.DEFAULT_CHARSET);
     }
 
     /**
@@ -134,16 +128,11 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public String getSubString(final long pos, final int length) throws SQLException {
-        this.parse();
-        this.isValid();
-        if ((pos < 1) || (pos > this.length)) {
-            throw new SQLException("Invalid position '" + pos + "' in Clob object set");
-        } else if (((pos - 1) + length) > this.length) {
-            throw new SQLException("Invalid position and substring length");
-        } else if (length <= 0) {
-            throw new SQLException("Invalid length specified");
+        this.checkRange(pos, length);
+        if (this.value != null) {
+            return new String(this.value, (int) pos - 1, length, ParadoxClob.DEFAULT_CHARSET);
         }
-        return new String(this.value, (int) pos - 1, length, ParadoxClob.DEFAULT_CHARSET);
+        return new String(this.blob.read(this.offset, pos - 1, length), ParadoxClob.DEFAULT_CHARSET);
     }
 
     /**
@@ -151,8 +140,10 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public long length() throws SQLException {
-        this.parse();
         this.isValid();
+        if (this.length < 0) {
+            this.length = this.blob.length(this.offset);
+        }
         return this.length;
     }
 
@@ -209,9 +200,7 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public void truncate(final long length) throws SQLException {
-        this.parse();
-        this.isValid();
-        if (length > this.length) {
+        if (length > this.length()) {
             throw new SQLException("Length more than what can be truncated");
         }
         if (length == 0) {
@@ -228,21 +217,26 @@ public final class ParadoxClob implements Clob {
      * @throws SQLException in case of invalid descriptor.
      */
     private void isValid() throws SQLException {
-        if (!this.parsed && (this.blob == null)) {
+        if ((this.value == null) && (this.blob == null)) {
             throw new SQLException("Invalid CLOB descriptor.");
         }
     }
 
     /**
-     * Parse the blob.
+     * Checks a range in this clob.
      *
-     * @throws SQLException in case of parse errors.
+     * @param pos    the first position, starting at one.
+     * @param length the range length.
+     * @throws SQLException in case of invalid range.
      */
-    private void parse() throws SQLException {
-        if (!this.parsed) {
-            this.value = this.blob.read(this.offset);
-            this.parsed = this.blob.isParsed();
-            this.length = this.value.length;
+    private void checkRange(final long pos, final long length) throws SQLException {
+        final long size = this.length();
+        if ((pos < 1) || (pos > size)) {
+            throw new SQLException("Invalid position '" + pos + "' in Clob object set");
+        } else if (((pos - 1) + length) > size) {
+            throw new SQLException("Invalid position and substring length");
+        } else if (length <= 0) {
+            throw new SQLException("Invalid length specified");
         }
     }
 }
@@ -0,0 +1,55 @@
+/*
+ * RowCursor.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Pull based row source. Rows are produced one at a time as the cursor advances, so the caller never needs to hold
+ * the entire result in memory.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface RowCursor extends AutoCloseable {
+
+    /**
+     * Moves the cursor to the next row.
+     *
+     * @return true if the cursor is positioned in a valid row.
+     * @throws SQLException in case of reading errors.
+     */
+    boolean next() throws SQLException;
+
+    /**
+     * Gets the current row values.
+     *
+     * @return the current row values.
+     */
+    List<FieldValue> getRow();
+
+    /**
+     * Moves the cursor before the first row.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    void reset() throws SQLException;
+
+    /**
+     * Release all resources used by this cursor.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    @Override
+    void close() throws SQLException;
+}
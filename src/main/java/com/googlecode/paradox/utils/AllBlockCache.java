@@ -11,12 +11,13 @@ package com.googlecode.paradox.utils;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * All block cached.
  *
  * @author Andre Mikhaylov
- * @version 1.0
+ * @version 1.1
  * @since 1.2
  */
 public final class AllBlockCache implements IBlockCache {
@@ -26,6 +27,16 @@ public final class AllBlockCache implements IBlockCache {
      */
     private final Map<BlockOffset, ClobBlock> cache;
 
+    /**
+     * Cache hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Cache misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
     /**
      * Create a new cache.
      */
@@ -60,6 +71,28 @@ public final class AllBlockCache implements IBlockCache {
      */
     @Override
     public ClobBlock get(final BlockOffset offset) {
-        return cache.get(offset);
+        final ClobBlock block = cache.get(offset);
+        if (block == null) {
+            this.misses.incrementAndGet();
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return block;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getMisses() {
+        return this.misses.get();
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * BlobCacheType.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.sql.SQLException;
+
+/**
+ * Available blob block cache implementations.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public enum BlobCacheType {
+
+    /**
+     * Keeps the most recently used blocks up to a byte budget.
+     */
+    LRU,
+
+    /**
+     * Keeps the blocks while there is free heap, released by the garbage collector under memory pressure.
+     */
+    SOFT,
+
+    /**
+     * Keeps all blocks read until the table is closed.
+     */
+    ALL,
+
+    /**
+     * Reads the blocks on every access.
+     */
+    NONE;
+
+    /**
+     * Gets the cache type by its name.
+     *
+     * @param name the cache name (case insensitive).
+     * @return the cache type.
+     * @throws SQLException if the name is invalid.
+     */
+    public static BlobCacheType fromName(final String name) throws SQLException {
+        for (final BlobCacheType type : BlobCacheType.values()) {
+            if (type.name().equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new SQLException("Invalid blob cache: " + name, SQLStates.INVALID_PARAMETER.getValue());
+    }
+
+    /**
+     * Creates a new cache of this type.
+     *
+     * @param maxSize the maximum bytes to keep in a LRU cache.
+     * @return the new cache.
+     */
+    public IBlockCache create(final long maxSize) {
+        switch (this) {
+            case SOFT:
+                return new SoftBlockCache();
+            case ALL:
+                return new AllBlockCache();
+            case NONE:
+                return new NoBlockCache();
+            default:
+                return new LruBlockCache(maxSize);
+        }
+    }
+}
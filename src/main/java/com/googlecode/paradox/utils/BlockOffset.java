@@ -18,7 +18,7 @@ public class BlockOffset {
     }
     
     public static BlockOffset fromRawLong(long pOffset) {
-        return new BlockOffset( (int) (pOffset & 0xFFFFFF00), (int) (pOffset & 0xFF));
+        return new BlockOffset(pOffset & 0xFFFFFF00L, (int) (pOffset & 0xFF));
     }
 
     public long getMainBlockOffset() {
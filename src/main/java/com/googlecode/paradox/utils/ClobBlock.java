@@ -13,7 +13,7 @@ package com.googlecode.paradox.utils;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.2
  * @since 1.2
  */
 public final class ClobBlock {
@@ -82,6 +82,15 @@ public final class ClobBlock {
         return this.type;
     }
     
+    /**
+     * Gets the CLOB data size, without copying the value.
+     *
+     * @return the CLOB data size.
+     */
+    public int getSize() {
+        return this.value.length;
+    }
+
     /**
      * Gets the CLOB data value.
      *
@@ -15,7 +15,7 @@ import java.util.List;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.2
  * @since 1.2
  */
 public interface IBlockCache {
@@ -39,4 +39,18 @@ public interface IBlockCache {
      * @return the block in cache.
      */
     ClobBlock get(BlockOffset offset);
+
+    /**
+     * Gets the amount of blocks found in cache.
+     *
+     * @return the cache hits.
+     */
+    long getHits();
+
+    /**
+     * Gets the amount of blocks not found in cache.
+     *
+     * @return the cache misses.
+     */
+    long getMisses();
 }
@@ -0,0 +1,135 @@
+/*
+ * LruBlockCache.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the least recently used blocks up to a budget of value bytes.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class LruBlockCache implements IBlockCache {
+
+    /**
+     * Default maximum bytes to keep in cache.
+     */
+    public static final long DEFAULT_MAX_SIZE = 4L * 1_024 * 1_024;
+
+    /**
+     * Cached blocks in access order.
+     */
+    private final LinkedHashMap<BlockOffset, ClobBlock> cache = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * The maximum bytes to keep in cache.
+     */
+    private final long maxSize;
+
+    /**
+     * The cached bytes.
+     */
+    private long size;
+
+    /**
+     * Cache hits.
+     */
+    private long hits;
+
+    /**
+     * Cache misses.
+     */
+    private long misses;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize the maximum bytes to keep in cache.
+     */
+    public LruBlockCache(final long maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized void add(final List<ClobBlock> blocks) {
+        for (final ClobBlock block : blocks) {
+            final int weight = block.getSize();
+            if (weight > this.maxSize) {
+                continue;
+            }
+            final ClobBlock old = this.cache.put(block.getOffset(), block);
+            if (old != null) {
+                this.size -= old.getSize();
+            }
+            this.size += weight;
+        }
+
+        final Iterator<Map.Entry<BlockOffset, ClobBlock>> iterator = this.cache.entrySet().iterator();
+        while ((this.size > this.maxSize) && iterator.hasNext()) {
+            this.size -= iterator.next().getValue().getSize();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized void close() {
+        this.cache.clear();
+        this.size = 0;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized ClobBlock get(final BlockOffset offset) {
+        final ClobBlock block = this.cache.get(offset);
+        if (block == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return block;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Gets the cached bytes.
+     *
+     * @return the cached bytes.
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * NoBlockCache.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps no blocks, every read goes to the file.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class NoBlockCache implements IBlockCache {
+
+    /**
+     * Cache misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final List<ClobBlock> blocks) {
+        // Nothing to keep.
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        // Nothing to clear.
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ClobBlock get(final BlockOffset offset) {
+        this.misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getHits() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getMisses() {
+        return this.misses.get();
+    }
+}
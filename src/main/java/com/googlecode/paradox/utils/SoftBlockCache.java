@@ -0,0 +1,131 @@
+/*
+ * SoftBlockCache.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the blocks through soft references, so the garbage collector can release them under memory pressure.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class SoftBlockCache implements IBlockCache {
+
+    /**
+     * The cache instance.
+     */
+    private final ConcurrentHashMap<BlockOffset, BlockReference> cache = new ConcurrentHashMap<>();
+
+    /**
+     * The references released by the garbage collector.
+     */
+    private final ReferenceQueue<ClobBlock> released = new ReferenceQueue<>();
+
+    /**
+     * Cache hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Cache misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final List<ClobBlock> blocks) {
+        this.expunge();
+        for (final ClobBlock block : blocks) {
+            this.cache.put(block.getOffset(), new BlockReference(block, this.released));
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        this.cache.clear();
+        this.expunge();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ClobBlock get(final BlockOffset offset) {
+        final BlockReference reference = this.cache.get(offset);
+        ClobBlock block = null;
+        if (reference != null) {
+            block = reference.get();
+        }
+        if (block == null) {
+            this.misses.incrementAndGet();
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return block;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Removes the entries of released blocks.
+     */
+    private void expunge() {
+        BlockReference reference;
+        while ((reference = (BlockReference) this.released.poll()) != null) {
+            this.cache.remove(reference.offset, reference);
+        }
+    }
+
+    /**
+     * A soft reference to a block that remembers its offset.
+     */
+    private static final class BlockReference extends SoftReference<ClobBlock> {
+
+        /**
+         * The block offset.
+         */
+        private final BlockOffset offset;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param block the block.
+         * @param queue the queue of released references.
+         */
+        BlockReference(final ClobBlock block, final ReferenceQueue<ClobBlock> queue) {
+            super(block, queue);
+            this.offset = block.getOffset();
+        }
+    }
+}
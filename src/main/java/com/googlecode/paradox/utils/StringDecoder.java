@@ -0,0 +1,232 @@
+/*
+ * StringDecoder.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decodes fixed size strings directly from the block buffer.
+ * <p>
+ * Single byte charsets (like Cp437, Cp850 and Cp1252) use a precomputed table with the char of each byte value, so the
+ * only allocation is the resulting {@link String}. Other charsets fall back to {@link String#String(byte[], int, int,
+ * Charset)} using a reusable byte array.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class StringDecoder {
+
+    /**
+     * Byte values in a single byte charset.
+     */
+    private static final int TABLE_SIZE = 256;
+
+    /**
+     * Marks a charset without a char table.
+     */
+    private static final char[] NO_TABLE = new char[0];
+
+    /**
+     * The char tables by charset.
+     */
+    private static final ConcurrentMap<Charset, char[]> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Reusable arrays of the current thread.
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<Scratch>() {
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    /**
+     * Utility class.
+     */
+    private StringDecoder() {
+        // Utility class.
+    }
+
+    /**
+     * Decodes a string from the buffer current position and advances the position by the string size. Trailing zeros
+     * are removed.
+     *
+     * @param buffer  the buffer to read of.
+     * @param size    the string size in bytes.
+     * @param charset the string charset.
+     * @return the decoded string.
+     */
+    public static String decode(final ByteBuffer buffer, final int size, final Charset charset) {
+        final int start = buffer.position();
+        Utils.position(buffer, start + size);
+
+        // Trailing zeros trimmed in place.
+        int length = size;
+        while ((length > 0) && (buffer.get((start + length) - 1) == 0)) {
+            length--;
+        }
+
+        final Scratch scratch = SCRATCH.get();
+        final char[] table = StringDecoder.getTable(charset);
+        if (table != null) {
+            final char[] chars = scratch.getChars(length);
+            for (int i = 0; i < length; i++) {
+                chars[i] = table[buffer.get(start + i) & 0xFF];
+            }
+            return new String(chars, 0, length);
+        }
+
+        final byte[] bytes = scratch.getBytes(length);
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * Decodes a string into a char array, without changing the buffer position. Trailing zeros are removed.
+     *
+     * @param buffer  the buffer to read of.
+     * @param start   the string position in buffer.
+     * @param size    the string size in bytes.
+     * @param charset the string charset.
+     * @param dest    the destination array, with room for at least size chars after destPos.
+     * @param destPos the first position to write in destination.
+     * @return the amount of chars written.
+     */
+    public static int decode(final ByteBuffer buffer, final int start, final int size, final Charset charset,
+            final char[] dest, final int destPos) {
+        int length = size;
+        while ((length > 0) && (buffer.get((start + length) - 1) == 0)) {
+            length--;
+        }
+
+        final char[] table = StringDecoder.getTable(charset);
+        if (table != null) {
+            for (int i = 0; i < length; i++) {
+                dest[destPos + i] = table[buffer.get(start + i) & 0xFF];
+            }
+            return length;
+        }
+
+        final byte[] bytes = SCRATCH.get().getBytes(length);
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        final String value = new String(bytes, 0, length, charset);
+        value.getChars(0, value.length(), dest, destPos);
+        return value.length();
+    }
+
+    /**
+     * Gets the char table of a single byte charset.
+     *
+     * @param charset the charset.
+     * @return the char table or null if the charset is not single byte.
+     */
+    static char[] getTable(final Charset charset) {
+        char[] table = TABLES.get(charset);
+        if (table == null) {
+            table = StringDecoder.createTable(charset);
+            TABLES.putIfAbsent(charset, table);
+        }
+
+        if (table == NO_TABLE) {
+            return null;
+        }
+        return table;
+    }
+
+    /**
+     * Creates the char table of a charset.
+     *
+     * @param charset the charset.
+     * @return the char table or {@link #NO_TABLE} if the charset is not single byte.
+     */
+    private static char[] createTable(final Charset charset) {
+        if (!charset.canEncode() || (charset.newEncoder().maxBytesPerChar() > 1)) {
+            return NO_TABLE;
+        }
+
+        final CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final char[] table = new char[TABLE_SIZE];
+        final ByteBuffer in = ByteBuffer.allocate(1);
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            Utils.clear(in);
+            in.put((byte) i);
+            Utils.flip(in);
+            try {
+                final CharBuffer out = decoder.reset().decode(in);
+                if (out.remaining() != 1) {
+                    return NO_TABLE;
+                }
+                table[i] = out.get();
+            } catch (final CharacterCodingException e) {
+                return NO_TABLE;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Reusable decoding arrays.
+     */
+    private static final class Scratch {
+
+        /**
+         * The char array.
+         */
+        private char[] chars = new char[Constants.MAX_STRING_SIZE];
+
+        /**
+         * The byte array.
+         */
+        private byte[] bytes = new byte[Constants.MAX_STRING_SIZE];
+
+        /**
+         * Gets the char array with at least the required length.
+         *
+         * @param length the required length.
+         * @return the char array.
+         */
+        char[] getChars(final int length) {
+            if (this.chars.length < length) {
+                this.chars = new char[length];
+            }
+            return this.chars;
+        }
+
+        /**
+         * Gets the byte array with at least the required length.
+         *
+         * @param length the required length.
+         * @return the byte array.
+         */
+        byte[] getBytes(final int length) {
+            if (this.bytes.length < length) {
+                this.bytes = new byte[length];
+            }
+            return this.bytes;
+        }
+    }
+}
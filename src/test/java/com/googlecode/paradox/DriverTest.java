@@ -107,9 +107,15 @@ public final class DriverTest {
     public void testPropertyInfo() {
         final Driver driver = new Driver();
         final DriverPropertyInfo[] info = driver.getPropertyInfo("jdbc:paradox:target/test-classes/", new Properties());
-        Assert.assertEquals(2, info.length);
+        Assert.assertEquals(8, info.length);
         Assert.assertEquals("charset", info[0].name);
         Assert.assertEquals("password", info[1].name);
+        Assert.assertEquals("block_reader", info[2].name);
+        Assert.assertEquals("parallel_scan", info[3].name);
+        Assert.assertEquals("block_cache_size", info[4].name);
+        Assert.assertEquals("blob_cache", info[5].name);
+        Assert.assertEquals("blob_cache_size", info[6].name);
+        Assert.assertEquals("work_memory", info[7].name);
     }
 
     /**
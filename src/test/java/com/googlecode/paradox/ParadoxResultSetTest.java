@@ -32,7 +32,7 @@ import java.util.List;
  * Unit test for {@link ParadoxResultSet} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class ParadoxResultSetTest {
@@ -222,4 +222,58 @@ public class ParadoxResultSetTest {
                     rs.getString("Cities"));
         }
     }
+
+    /**
+     * Test for the primitive getters of a columnar result.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testPrimitiveGetters() throws Exception {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT email, custno FROM customer")) {
+            Assert.assertTrue("No First row", rs.next());
+            Assert.assertEquals("Invalid int value.", 1, rs.getInt("custno"));
+            Assert.assertFalse("Invalid null value.", rs.wasNull());
+            Assert.assertEquals("Invalid long value.", 1L, rs.getLong(2));
+            Assert.assertEquals("Invalid double value.", 1D, rs.getDouble(2), 0);
+            Assert.assertEquals("Invalid object value.", 1D, ((Number) rs.getObject(2)).doubleValue(), 0);
+            Assert.assertTrue("No second row", rs.next());
+            Assert.assertEquals("Invalid int value.", 2, rs.getInt(2));
+            Assert.assertEquals("Invalid string value.", "fmallory@freeport.org", rs.getString(1));
+        }
+    }
+
+    /**
+     * Test for the statement row limit, with and without ORDER BY.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testMaxRows() throws Exception {
+        final String sql = "SELECT ac, state FROM areacodes ORDER BY state DESC, ac";
+        final List<String> expected = new ArrayList<>();
+        try (Statement stmt = this.conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while ((expected.size() < 5) && rs.next()) {
+                expected.add(rs.getString(1));
+            }
+        }
+
+        try (Statement stmt = this.conn.createStatement()) {
+            stmt.setMaxRows(5);
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                for (final String ac : expected) {
+                    Assert.assertTrue("Missing row.", rs.next());
+                    Assert.assertEquals("Invalid row order.", ac, rs.getString(1));
+                }
+                Assert.assertFalse("Row limit not applied.", rs.next());
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT ac FROM areacodes")) {
+                Assert.assertTrue("No last row.", rs.last());
+                Assert.assertEquals("Row limit not applied.", 5, rs.getRow());
+            }
+        }
+    }
 }
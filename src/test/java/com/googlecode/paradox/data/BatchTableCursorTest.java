@@ -0,0 +1,168 @@
+/*
+ * BatchTableCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.ColumnarCursor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link BatchTableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class BatchTableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for the same values and types of the row based load in all field types.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSameAsLoadData() throws SQLException {
+        for (final String name : Arrays.asList("areacodes.db", "customer.db", "orders.db", "hercules.db")) {
+            final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), name, this.conn).get(0);
+            final List<List<FieldValue>> data = TableData.loadData(table, table.getFields());
+            try (ColumnarCursor cursor = TableData.openBatchCursor(table, table.getFields(), null, null, null)) {
+                for (final List<FieldValue> row : data) {
+                    Assert.assertTrue("Missing row.", cursor.next());
+                    final List<FieldValue> batchRow = cursor.getRow();
+                    for (int i = 0; i < row.size(); i++) {
+                        final int type = row.get(i).getType();
+                        if ((type != Types.CLOB) && (type != Types.BLOB)) {
+                            Assert.assertEquals("Invalid value.", row.get(i).getValue(), batchRow.get(i).getValue());
+                        }
+                        Assert.assertEquals("Invalid type.", row.get(i).getType(), batchRow.get(i).getType());
+                        Assert.assertEquals("Invalid field.", row.get(i).getField(), batchRow.get(i).getField());
+                    }
+                }
+                Assert.assertFalse("Too many rows.", cursor.next());
+            }
+        }
+    }
+
+    /**
+     * Test for result columns in a different order than the fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testColumnOrder() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        final List<ParadoxField> all = table.getFields();
+        final List<List<FieldValue>> data = TableData.loadData(table, all);
+        try (ColumnarCursor cursor = TableData.openBatchCursor(table, all, new int[]{2, 0}, null, null)) {
+            for (final List<FieldValue> row : data) {
+                Assert.assertTrue("Missing row.", cursor.next());
+                Assert.assertEquals("Invalid row size.", 2, cursor.getRow().size());
+                Assert.assertEquals("Invalid first value.", row.get(2).getValue(),
+                        cursor.getColumn(0).getValue(cursor.getBatchRow()));
+                Assert.assertEquals("Invalid second value.", row.get(0).getValue(), cursor.getRow().get(1).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for the row filter and reset.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testFilter() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        final RowFilter odd = new RowFilter() {
+            private int count;
+
+            @Override
+            public boolean accept(final ColumnBatch batch, final int row) {
+                return (this.count++ % 2) == 1;
+            }
+        };
+        try (ColumnarCursor cursor = TableData.openBatchCursor(table, table.getFields(), null, odd, null)) {
+            int count = 0;
+            while (cursor.next()) {
+                count++;
+            }
+            Assert.assertEquals("Invalid row count.", table.getRowCount() / 2, count);
+            Assert.assertNull("Row after end.", cursor.getRow());
+        }
+    }
+
+    /**
+     * Test for a field that is not in the table.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidField() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        final ParadoxField field = new ParadoxField();
+        field.setName("NOT_A_FIELD");
+        TableData.openBatchCursor(table, Arrays.asList(field), null, null, null);
+    }
+}
@@ -54,4 +54,29 @@ public class FieldFactoryTest {
         field.setType((byte) -1);
         FieldFactory.parse(null, null, field);
     }
+    
+    /**
+     * Test for parser resolution.
+     */
+    @Test
+    public void testGetParser() {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 1);
+        final FieldParser parser = FieldFactory.getParser(field);
+        Assert.assertTrue("Invalid parser.", parser.match(1));
+        Assert.assertSame("Parser not reused.", parser, FieldFactory.getParser(field));
+    }
+    
+    /**
+     * Test for parser of invalid field type.
+     *
+     * @throws SQLException
+     *             in case of success.
+     */
+    @Test(expected = SQLException.class)
+    public void testUnsupportedParser() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) -1);
+        FieldFactory.getParser(field).parse(null, null, field);
+    }
 }
@@ -10,7 +10,11 @@ package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.Driver;
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.batch.ValueFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxTable;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -18,6 +22,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Unit test for {@link IndexData}.
@@ -75,4 +81,70 @@ public class IndexDataTest {
         Assert.assertNotEquals("Empty indexes.", 0,
                 IndexData.listIndexes(this.conn.getCurrentSchema(), "Client.db", this.conn));
     }
+
+    /**
+     * Creates a filter of a string value.
+     *
+     * @param expected the expected value.
+     * @return the filter.
+     */
+    private static ValueFilter equalsTo(final String expected) {
+        return new ValueFilter() {
+            @Override
+            public boolean accept(final FieldValue value) {
+                return expected.equals(value.getValue());
+            }
+        };
+    }
+
+    /**
+     * Loads the customer table.
+     *
+     * @return the customer table.
+     * @throws SQLException in case of failures.
+     */
+    private ParadoxTable customer() throws SQLException {
+        return TableData.listTables(this.conn.getCurrentSchema(), "customer.db", this.conn).get(0);
+    }
+
+    /**
+     * Loads the customer city index.
+     *
+     * @return the customer city index.
+     * @throws SQLException in case of failures.
+     */
+    private ParadoxIndex cityIndex() throws SQLException {
+        final List<ParadoxIndex> indexes = IndexData.listIndexes(this.conn.getCurrentSchema(), "customer.db",
+                this.conn);
+        Assert.assertEquals("Invalid index count.", 1, indexes.size());
+        return indexes.get(0);
+    }
+
+    /**
+     * Test for blocks found with a secondary index.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testFindBlocks() throws SQLException {
+        final ParadoxTable table = this.customer();
+        final ParadoxIndex index = this.cityIndex();
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{3},
+                IndexData.findBlocks(table, index, equalsTo("Aptos"), null, null));
+        Assert.assertArrayEquals("Invalid blocks.", new int[0],
+                IndexData.findBlocks(table, index, equalsTo("Nowhere"), null, null));
+    }
+
+    /**
+     * Test for stale index.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testStaleIndex() throws SQLException {
+        final ParadoxTable table = this.customer();
+        table.setRowCount(table.getRowCount() + 1);
+        Assert.assertNull("Stale index used.", IndexData.findBlocks(table, this.cityIndex(), equalsTo("Aptos"),
+                null, null));
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * IndexNavigatorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxPK;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link IndexNavigator}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class IndexNavigatorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Encodes a long field key.
+     *
+     * @param value the key value.
+     * @return the encoded key.
+     */
+    private static byte[] key(final int value) {
+        return ByteBuffer.allocate(4).putInt(value ^ 0x8000_0000).array();
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Gets the customer primary key navigator.
+     *
+     * @return the navigator.
+     * @throws SQLException in case of failures.
+     */
+    private IndexNavigator customer() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "customer.db", this.conn)
+                .get(0);
+        final ParadoxPK pk = PrimaryKeyData.getPrimaryKey(this.conn.getCurrentSchema(), table, this.conn);
+        Assert.assertNotNull("Primary key not found.", pk);
+        Assert.assertEquals("Invalid index levels.", 1, pk.getIndexLevels());
+        return new IndexNavigator(pk);
+    }
+
+    /**
+     * Test for all blocks.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testAllBlocks() throws SQLException {
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{1, 2, 3, 4}, this.customer().findBlocks(null, null));
+    }
+
+    /**
+     * Test for a single key.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testPointLookup() throws SQLException {
+        final IndexNavigator navigator = this.customer();
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{2}, navigator.findBlocks(key(6), key(6)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{2}, navigator.findBlocks(key(8), key(8)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{4}, navigator.findBlocks(key(1000), key(1000)));
+    }
+
+    /**
+     * Test for a key range.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testRange() throws SQLException {
+        final IndexNavigator navigator = this.customer();
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{2, 3}, navigator.findBlocks(key(7), key(12)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{3, 4}, navigator.findBlocks(key(11), null));
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{1}, navigator.findBlocks(null, key(5)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[0], navigator.findBlocks(key(12), key(7)));
+    }
+}
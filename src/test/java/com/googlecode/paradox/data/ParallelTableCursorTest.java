@@ -0,0 +1,142 @@
+/*
+ * ParallelTableCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link ParallelTableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class ParallelTableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for the block chain.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testBlockChain() throws SQLException {
+        final ParadoxTable table = this.getTable();
+        final int[] blocks = TableData.readBlockChain(table);
+        Assert.assertEquals("Invalid block count.", table.getUsedBlocks(), blocks.length);
+        Assert.assertEquals("Invalid first block.", table.getFirstBlock(), blocks[0]);
+    }
+
+    /**
+     * Test if the parallel cursor returns the rows in table order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSameOrder() throws SQLException {
+        final ParadoxTable table = this.getTable();
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+        try (ParallelTableCursor cursor = new ParallelTableCursor(table, table.getFields())) {
+            for (int loop = 0; loop < 2; loop++) {
+                for (final List<FieldValue> row : expected) {
+                    Assert.assertTrue("Missing row.", cursor.next());
+                    Assert.assertEquals("Invalid value.", row.get(0).getValue(), cursor.getRow().get(0).getValue());
+                }
+                Assert.assertFalse("Too many rows.", cursor.next());
+                cursor.reset();
+            }
+        }
+    }
+
+    /**
+     * Test for a query with parallel scan enabled.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testParallelConnection() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.PARALLEL_SCAN_KEY, "true");
+        try (Connection parallel = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+             Statement stmt = parallel.createStatement();
+             ResultSet rs = stmt.executeQuery("select ac from areacodes where state = ny")) {
+            int count = 0;
+            while (rs.next()) {
+                count++;
+            }
+            Assert.assertTrue("No rows.", count > 0);
+        }
+    }
+
+    /**
+     * Gets the test table.
+     *
+     * @return the test table.
+     * @throws SQLException in case of failures.
+     */
+    private ParadoxTable getTable() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        Assert.assertTrue("Table too small for parallel scan.", table.getUsedBlocks() > 1);
+        return table;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * TableCatalogTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link TableCatalog}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class TableCatalogTest {
+
+    /**
+     * Temporary schema directory.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test if the table header is parsed only once.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testCachedTable() throws SQLException {
+        final TableCatalog catalog = this.conn.getTableCatalog();
+        final ParadoxTable table = catalog.findTable(this.conn.getCurrentSchema(), "areacodes");
+        Assert.assertNotNull("Table not found.", table);
+        Assert.assertSame("Table parsed again.", table,
+                catalog.findTable(this.conn.getCurrentSchema(), "AREACODES.db"));
+        Assert.assertSame("Table list not using catalog.", table,
+                TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0));
+    }
+
+    /**
+     * Test for table not found.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testNotFound() throws SQLException {
+        Assert.assertNull("Invalid table.",
+                this.conn.getTableCatalog().findTable(this.conn.getCurrentSchema(), "not_a_table"));
+    }
+
+    /**
+     * Test for changed and new files.
+     *
+     * @throws SQLException in case of failures.
+     * @throws IOException  in case of I/O errors.
+     */
+    @Test
+    public void testChangedFile() throws SQLException, IOException {
+        final File schema = this.folder.getRoot();
+        final TableCatalog catalog = new TableCatalog(this.conn);
+        Assert.assertNull("Table in empty schema.", catalog.findTable(schema, "areacodes"));
+
+        final File source = new File(this.conn.getCurrentSchema(), "AREACODES.DB");
+        final File copy = new File(schema, "AREACODES.DB");
+        Files.copy(source.toPath(), copy.toPath());
+
+        final ParadoxTable table = catalog.findTable(schema, "areacodes");
+        Assert.assertNotNull("New table not found.", table);
+
+        Assert.assertTrue("Can't change the file time.", copy.setLastModified(copy.lastModified() - 10_000));
+        final ParadoxTable changed = catalog.findTable(schema, "areacodes");
+        Assert.assertNotSame("Changed table not parsed again.", table, changed);
+        Assert.assertEquals("Invalid table.", table.getRowCount(), changed.getRowCount());
+
+        Assert.assertTrue("Can't delete the file.", copy.delete());
+        Assert.assertNull("Removed table found.", catalog.findTable(schema, "areacodes"));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * TableCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.rowset.RowCursor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link TableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class TableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for row count.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testRowCount() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        int count = 0;
+        try (RowCursor cursor = TableData.openCursor(table, table.getFields())) {
+            while (cursor.next()) {
+                Assert.assertEquals("Invalid row size.", table.getFields().size(), cursor.getRow().size());
+                count++;
+            }
+            Assert.assertNull("Row after end.", cursor.getRow());
+        }
+        Assert.assertEquals("Invalid row count.", table.getRowCount(), count);
+    }
+
+    /**
+     * Test for the same rows of the full table load.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSameAsLoadData() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "customer.db", this.conn).get(0);
+        final List<ParadoxField> fields = Collections.singletonList(table.getFields().get(0));
+        final List<List<FieldValue>> data = TableData.loadData(table, fields);
+        try (RowCursor cursor = TableData.openCursor(table, fields)) {
+            for (final List<FieldValue> row : data) {
+                Assert.assertTrue("Missing row.", cursor.next());
+                Assert.assertEquals("Invalid value.", row.get(0).getValue(), cursor.getRow().get(0).getValue());
+            }
+            Assert.assertFalse("Too many rows.", cursor.next());
+        }
+    }
+
+    /**
+     * Test for cursor reset.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        try (RowCursor cursor = TableData.openCursor(table, table.getFields())) {
+            Assert.assertTrue("No rows.", cursor.next());
+            final Object first = cursor.getRow().get(0).getValue();
+            while (cursor.next()) {
+                Assert.assertNotNull("Invalid row.", cursor.getRow());
+            }
+            cursor.reset();
+            Assert.assertTrue("No rows after reset.", cursor.next());
+            Assert.assertEquals("Invalid first row.", first, cursor.getRow().get(0).getValue());
+        }
+    }
+
+    /**
+     * Test for projection in a different order than the table.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testProjectionOrder() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        final List<ParadoxField> all = table.getFields();
+        final List<ParadoxField> projection = Arrays.asList(all.get(2), all.get(0));
+        final List<List<FieldValue>> data = TableData.loadData(table, all);
+        try (RowCursor cursor = TableData.openCursor(table, projection)) {
+            for (final List<FieldValue> row : data) {
+                Assert.assertTrue("Missing row.", cursor.next());
+                final List<FieldValue> projected = cursor.getRow();
+                Assert.assertEquals("Invalid row size.", 2, projected.size());
+                Assert.assertEquals("Invalid field.", all.get(2), projected.get(0).getField());
+                Assert.assertEquals("Invalid first value.", row.get(2).getValue(), projected.get(0).getValue());
+                Assert.assertEquals("Invalid second value.", row.get(0).getValue(), projected.get(1).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for a field that is not in the table.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidField() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn)
+                .get(0);
+        final ParadoxField field = new ParadoxField();
+        field.setName("NOT_A_FIELD");
+        TableData.openCursor(table, Collections.singletonList(field));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * BlockCacheTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.integration.MainTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link BlockCache}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class BlockCacheTest {
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Disable the shared cache after each test.
+     */
+    @After
+    public void disableCache() {
+        BlockCache.getInstance().setMaxSize(0);
+        BlockCache.getInstance().clear();
+    }
+
+    /**
+     * Test for least recently used eviction.
+     */
+    @Test
+    public void testEviction() {
+        final BlockCache cache = new BlockCache();
+        cache.setMaxSize(20);
+        cache.put("file", 1, new byte[10]);
+        cache.put("file", 2, new byte[10]);
+        Assert.assertNotNull("Block 1 not cached.", cache.get("file", 1));
+
+        cache.put("file", 3, new byte[10]);
+        Assert.assertEquals("Invalid cache size.", 20, cache.getSize());
+        Assert.assertNotNull("Recently used block evicted.", cache.get("file", 1));
+        Assert.assertNull("Least recently used block not evicted.", cache.get("file", 2));
+        Assert.assertNotNull("Block 3 not cached.", cache.get("file", 3));
+    }
+
+    /**
+     * Test for blocks bigger than the budget.
+     */
+    @Test
+    public void testBlockTooBig() {
+        final BlockCache cache = new BlockCache();
+        cache.setMaxSize(5);
+        cache.put("file", 1, new byte[10]);
+        Assert.assertNull("Block cached.", cache.get("file", 1));
+        Assert.assertEquals("Invalid cache size.", 0, cache.getSize());
+    }
+
+    /**
+     * Test for budget reduction.
+     */
+    @Test
+    public void testShrink() {
+        final BlockCache cache = new BlockCache();
+        cache.setMaxSize(100);
+        cache.put("file", 1, new byte[10]);
+        cache.put("other", 1, new byte[10]);
+        cache.setMaxSize(10);
+        Assert.assertEquals("Invalid cache size.", 10, cache.getSize());
+        Assert.assertNull("Oldest block not evicted.", cache.get("file", 1));
+        Assert.assertNotNull("Newest block evicted.", cache.get("other", 1));
+    }
+
+    /**
+     * Test for repeated queries served by cache.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testRepeatedQuery() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOCK_CACHE_SIZE_KEY, "1048576");
+        BlockCache.getInstance().clear();
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info)) {
+            final int first = BlockCacheTest.count(conn);
+            final long misses = BlockCache.getInstance().getMisses();
+            Assert.assertTrue("No blocks read.", misses > 0);
+
+            Assert.assertEquals("Invalid row count.", first, BlockCacheTest.count(conn));
+            Assert.assertEquals("Blocks read again.", misses, BlockCache.getInstance().getMisses());
+            Assert.assertTrue("No cache hits.", BlockCache.getInstance().getHits() > 0);
+        }
+    }
+
+    /**
+     * Test for a second connection not resizing the shared cache.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSizeSetOnce() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOCK_CACHE_SIZE_KEY, "1048576");
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info)) {
+            BlockCacheTest.count(conn);
+            final long size = BlockCache.getInstance().getSize();
+            Assert.assertTrue("No blocks cached.", size > 0);
+
+            info.put(com.googlecode.paradox.Driver.BLOCK_CACHE_SIZE_KEY, "1");
+            DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+            Assert.assertEquals("Cache resized.", 1048576, BlockCache.getInstance().getMaxSize());
+            Assert.assertEquals("Blocks evicted.", size, BlockCache.getInstance().getSize());
+        }
+    }
+
+    /**
+     * Test for invalid cache size.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidSize() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOCK_CACHE_SIZE_KEY, "big");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Count the rows in a query.
+     *
+     * @param conn the connection.
+     * @return the row count.
+     * @throws SQLException in case of failures.
+     */
+    private static int count(final Connection conn) throws SQLException {
+        int count = 0;
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("select ac from areacodes")) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * BlockReaderTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link BlockReader} implementations.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class BlockReaderTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test if the mapped reader reads the same blocks of the channel reader, using one block per window.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testMappedSameAsChannel() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "customer.db", this.conn).get(0);
+        final int blockSize = table.getBlockSizeBytes();
+        try (BlockReader channel = new ChannelBlockReader(table.getFile(), table.getHeaderSize(), blockSize);
+             BlockReader mapped = new MappedBlockReader(table.getFile(), table.getHeaderSize(), blockSize,
+                     blockSize)) {
+            for (int block = 1; block <= table.getTotalBlocks(); block++) {
+                final ByteBuffer expected = channel.read(block);
+                final ByteBuffer actual = mapped.read(block);
+                Assert.assertEquals("Invalid block " + block, expected, actual);
+            }
+        }
+    }
+
+    /**
+     * Test for block out of file bounds.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testMappedOutOfBounds() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "customer.db", this.conn).get(0);
+        try (BlockReader mapped = BlockReaderFactory.create(table, BlockReaderType.MMAP)) {
+            mapped.read(table.getTotalBlocks() + 100);
+        }
+    }
+
+    /**
+     * Test for a query using the mapped reader.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testMappedConnection() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOCK_READER_KEY, "mmap");
+        try (Connection mapped = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+             Statement stmt = mapped.createStatement();
+             ResultSet rs = stmt.executeQuery("select ac from areacodes where ac = 212")) {
+            Assert.assertEquals("Invalid reader type.", BlockReaderType.MMAP,
+                    mapped.unwrap(ParadoxConnection.class).getBlockReaderType());
+            Assert.assertTrue("No rows.", rs.next());
+            Assert.assertEquals("Invalid value.", "212", rs.getString(1));
+            Assert.assertFalse("Too many rows.", rs.next());
+        }
+    }
+
+    /**
+     * Test for invalid reader name.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidReaderName() throws SQLException {
+        BlockReaderType.fromName("invalid");
+    }
+}
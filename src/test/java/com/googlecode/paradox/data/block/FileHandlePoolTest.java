@@ -0,0 +1,91 @@
+/*
+ * FileHandlePoolTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.block;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link FileHandlePool}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class FileHandlePoolTest {
+
+    /**
+     * The test file folder.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test for the user count and the channel reuse.
+     *
+     * @throws Exception in case of failures.
+     */
+    @Test
+    public void testReuse() throws Exception {
+        final FileHandlePool pool = new FileHandlePool();
+        final File file = this.folder.newFile("test.mb");
+
+        final FileHandlePool.Handle first = pool.acquire(file);
+        final FileHandlePool.Handle second = pool.acquire(file);
+        Assert.assertSame("Channel not shared.", first.getChannel(), second.getChannel());
+        Assert.assertEquals("Invalid users.", 2, pool.getUsers(file));
+
+        first.close();
+        first.close();
+        Assert.assertEquals("Invalid users.", 1, pool.getUsers(file));
+        second.close();
+        Assert.assertEquals("Invalid users.", 0, pool.getUsers(file));
+        Assert.assertTrue("Idle channel closed.", second.getChannel().isOpen());
+
+        try (FileHandlePool.Handle third = pool.acquire(file)) {
+            Assert.assertSame("Idle channel not reused.", first.getChannel(), third.getChannel());
+        }
+    }
+
+    /**
+     * Test for the idle channels limit.
+     *
+     * @throws Exception in case of failures.
+     */
+    @Test
+    public void testIdleLimit() throws Exception {
+        final FileHandlePool pool = new FileHandlePool();
+        final File first = this.folder.newFile("first.mb");
+        FileChannel channel;
+        try (FileHandlePool.Handle handle = pool.acquire(first)) {
+            channel = handle.getChannel();
+        }
+        for (int i = 0; i < FileHandlePool.MAX_IDLE; i++) {
+            pool.acquire(this.folder.newFile("file" + i + ".mb")).close();
+        }
+        Assert.assertEquals("Invalid open files.", FileHandlePool.MAX_IDLE, pool.getOpenFiles());
+        Assert.assertFalse("Least recently used channel not closed.", channel.isOpen());
+    }
+
+    /**
+     * Test for a file that does not exist.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidFile() throws SQLException {
+        new FileHandlePool().acquire(new File(this.folder.getRoot(), "none.mb"));
+    }
+}
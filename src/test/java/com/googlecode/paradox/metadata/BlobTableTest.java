@@ -0,0 +1,250 @@
+/*
+ * BlobTableTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.metadata;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.utils.IBlockCache;
+import com.googlecode.paradox.utils.NoBlockCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit test for {@link BlobTable} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class BlobTableTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws SQLException in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws SQLException {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws SQLException in case of connection errors.
+     */
+    @Before
+    public void connect() throws SQLException {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Gets the blob offsets of a table.
+     *
+     * @param table the table.
+     * @return the blob offsets.
+     * @throws SQLException in case of failures.
+     */
+    private static List<Long> getOffsets(final ParadoxTable table) throws SQLException {
+        final List<Long> offsets = new ArrayList<>();
+        for (final List<FieldValue> row : TableData.loadData(table, table.getFields())) {
+            for (final FieldValue value : row) {
+                if ((value.getValue() instanceof BlobDescriptor)
+                        && (((BlobDescriptor) value.getValue()).getOffset() != 0)) {
+                    offsets.add(((BlobDescriptor) value.getValue()).getOffset());
+                }
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Test for the same values read in any order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testReadOrder() throws SQLException {
+        for (final String name : Arrays.asList("customer.db", "hercules.db", "note1251.db")) {
+            final ParadoxTable forward = TableData.listTables(this.conn.getCurrentSchema(), name, this.conn).get(0);
+            final ParadoxTable backward = TableData.listTables(this.conn.getCurrentSchema(), name, this.conn).get(0);
+            final List<Long> offsets = getOffsets(forward);
+
+            final List<byte[]> values = new ArrayList<>();
+            for (final Long offset : offsets) {
+                values.add(forward.getBlobTable().read(offset));
+            }
+            for (int i = offsets.size() - 1; i >= 0; i--) {
+                Assert.assertArrayEquals("Invalid value in " + name, values.get(i),
+                        backward.getBlobTable().read(offsets.get(i)));
+            }
+            if (!offsets.isEmpty()) {
+                forward.getBlobTable().close();
+                backward.getBlobTable().close();
+            }
+        }
+    }
+
+    /**
+     * Test for an offset out of the file.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidOffset() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "hercules.db", this.conn)
+                .get(0);
+        try {
+            table.getBlobTable().read(0x7FFFFF00L);
+        } finally {
+            table.getBlobTable().close();
+        }
+    }
+
+    /**
+     * Test for the cache counters.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testCacheCounters() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "hercules.db", this.conn)
+                .get(0);
+        final long offset = getOffsets(table).get(0);
+        final IBlockCache cache = table.getBlobTable().getCache();
+        try {
+            Assert.assertArrayEquals("Invalid value.", table.getBlobTable().read(offset),
+                    table.getBlobTable().read(offset));
+        } finally {
+            table.getBlobTable().close();
+        }
+        Assert.assertEquals("Invalid hits.", 1, cache.getHits());
+        Assert.assertEquals("Invalid misses.", 1, cache.getMisses());
+    }
+
+    /**
+     * Test for the cache selected in connection.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testNoCache() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOB_CACHE_KEY, "none");
+        try (ParadoxConnection noCache = (ParadoxConnection) DriverManager.getConnection(
+                MainTest.CONNECTION_STRING + "db", info)) {
+            final ParadoxTable table = TableData.listTables(noCache.getCurrentSchema(), "hercules.db", noCache)
+                    .get(0);
+            final long offset = getOffsets(table).get(0);
+            final IBlockCache cache = table.getBlobTable().getCache();
+            Assert.assertTrue("Invalid cache.", cache instanceof NoBlockCache);
+            try {
+                Assert.assertArrayEquals("Invalid value.", table.getBlobTable().read(offset),
+                        table.getBlobTable().read(offset));
+            } finally {
+                table.getBlobTable().close();
+            }
+            Assert.assertEquals("Invalid misses.", 2, cache.getMisses());
+        }
+    }
+
+    /**
+     * Test for an invalid cache name.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidCache() throws SQLException {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOB_CACHE_KEY, "big");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Test for many threads reading the same table.
+     *
+     * @throws Exception in case of failures.
+     */
+    @Test
+    public void testConcurrentReads() throws Exception {
+        final Properties info = new Properties();
+        info.put(com.googlecode.paradox.Driver.BLOB_CACHE_KEY, "none");
+        try (ParadoxConnection noCache = (ParadoxConnection) DriverManager.getConnection(
+                MainTest.CONNECTION_STRING + "db", info)) {
+            final ParadoxTable table = TableData.listTables(noCache.getCurrentSchema(), "hercules.db", noCache)
+                    .get(0);
+            final List<Long> offsets = getOffsets(table);
+            final List<byte[]> expected = new ArrayList<>();
+            for (final Long offset : offsets) {
+                expected.add(table.getBlobTable().read(offset));
+            }
+
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    final int first = i;
+                    results.add(executor.submit(new Callable<Boolean>() {
+                        @Override
+                        public Boolean call() throws SQLException {
+                            for (int j = 0; j < 50; j++) {
+                                final int index = (first + j) % offsets.size();
+                                if (!Arrays.equals(expected.get(index),
+                                        table.getBlobTable().read(offsets.get(index)))) {
+                                    return false;
+                                }
+                            }
+                            return true;
+                        }
+                    }));
+                }
+                for (final Future<Boolean> result : results) {
+                    Assert.assertTrue("Invalid concurrent read.", result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
@@ -23,15 +23,17 @@ import org.junit.Test;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
 
 /**
  * Unit test for {@link ParadoxResultSetMetaData} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class ParadoxResultSetMetaDataTest {
@@ -126,6 +128,22 @@ public class ParadoxResultSetMetaDataTest {
         Assert.assertEquals("Testing for nullable.", ResultSetMetaData.columnNoNulls, metaData.isNullable(1));
     }
 
+    /**
+     * Test for the display size of aggregate columns.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testAggregateDisplaySize() throws SQLException {
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select count(*), avg(custno), min(firstname) from customer")) {
+            final ResultSetMetaData metaData = rs.getMetaData();
+            Assert.assertEquals("Testing for count display size.", 20, metaData.getColumnDisplaySize(1));
+            Assert.assertEquals("Testing for average display size.", 24, metaData.getColumnDisplaySize(2));
+            Assert.assertEquals("Testing for minimum display size.", 255, metaData.getColumnDisplaySize(3));
+        }
+    }
+
     /**
      * Test for instance.
      */
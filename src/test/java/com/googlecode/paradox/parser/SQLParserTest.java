@@ -9,14 +9,22 @@
 package com.googlecode.paradox.parser;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.JoinNode;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.parser.nodes.OrderByNode;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
 import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
+import com.googlecode.paradox.parser.nodes.conditional.ORNode;
 import com.googlecode.paradox.parser.nodes.values.CharacterNode;
 import com.googlecode.paradox.parser.nodes.values.NumericNode;
+import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +34,7 @@ import org.junit.Test;
  *
  * @author Leonardo Alves da Costa
  * @since 1.0
- * @version 1.1
+ * @version 1.4
  */
 public class SQLParserTest {
     
@@ -81,6 +89,45 @@ public class SQLParserTest {
         Assert.assertEquals("client", select.getTables().get(0).getName());
     }
     
+    /**
+     * Test for the join types and ON trees.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testJoinTypes() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM a join b on a.id = b.id left outer join c on c.id = a.id "
+                + "right join d on d.id = a.id full outer join e on e.id = a.id outer join f on f.id = a.id "
+                + "inner join g on g.id = a.id and g.x = 1");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        final List<JoinNode> joins = select.getTables().get(0).getJoins();
+        Assert.assertEquals(6, joins.size());
+        Assert.assertEquals(JoinType.INNER, joins.get(0).getType());
+        Assert.assertEquals(JoinType.LEFT, joins.get(1).getType());
+        Assert.assertEquals(JoinType.RIGHT, joins.get(2).getType());
+        Assert.assertEquals(JoinType.FULL, joins.get(3).getType());
+        Assert.assertEquals(JoinType.FULL, joins.get(4).getType());
+        Assert.assertEquals(JoinType.INNER, joins.get(5).getType());
+        Assert.assertTrue(joins.get(0).getCondition() instanceof EqualsNode);
+        Assert.assertTrue(joins.get(5).getCondition() instanceof ANDNode);
+    }
+
+    /**
+     * Test for table prefix in the select list.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testFieldPrefixAlias() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT a.ac, b.ac FROM areacodes a join areacodes b on a.ac = b.ac");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        Assert.assertEquals("a", ((FieldNode) select.getFields().get(0)).getTableName());
+        Assert.assertEquals("ac", select.getFields().get(0).getAlias());
+        Assert.assertEquals("b", ((FieldNode) select.getFields().get(1)).getTableName());
+    }
+
     /**
      * Test for SELECT token.
      *
@@ -216,6 +263,44 @@ public class SQLParserTest {
         Assert.assertEquals("t", ((NotEqualsNode) select.getConditions().get(2)).getLast().getName());
     }
     
+    /**
+     * Test the where precedence.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testWherePrecedence() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client WHERE a = b or c = d and not (e = f or g = h)");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        final SQLNode where = select.getWhere();
+        Assert.assertTrue(where instanceof ORNode);
+        final Iterator<SQLNode> or = where.getChildhood().iterator();
+        Assert.assertTrue(or.next() instanceof EqualsNode);
+        
+        final SQLNode and = or.next();
+        Assert.assertTrue(and instanceof ANDNode);
+        final Iterator<SQLNode> children = and.getChildhood().iterator();
+        Assert.assertTrue(children.next() instanceof EqualsNode);
+        
+        final SQLNode not = children.next();
+        Assert.assertTrue(not instanceof NOTNode);
+        Assert.assertTrue(not.getChildhood().iterator().next() instanceof ORNode);
+    }
+    
+    /**
+     * Test a where with unbalanced parentheses.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testWhereUnbalancedParentheses() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client WHERE (a = b or c = d");
+        parser.parse();
+    }
+    
     /**
      * Test a where with alias.
      *
@@ -246,4 +331,77 @@ public class SQLParserTest {
         Assert.assertEquals("c", ((EqualsNode) select.getConditions().get(0)).getLast().getTableName());
         Assert.assertEquals("b", ((EqualsNode) select.getConditions().get(0)).getLast().getName());
     }
+    
+    /**
+     * Test the ORDER BY clause.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testOrderBy() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT a FROM client c WHERE a = 1 ORDER BY c.a DESC, b ASC, d");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        final List<OrderByNode> order = select.getOrder();
+        Assert.assertEquals(3, order.size());
+        Assert.assertEquals("c", order.get(0).getField().getTableName());
+        Assert.assertEquals("a", order.get(0).getField().getName());
+        Assert.assertTrue(order.get(0).isDescending());
+        Assert.assertEquals("b", order.get(1).getField().getName());
+        Assert.assertFalse(order.get(1).isDescending());
+        Assert.assertEquals("d", order.get(2).getField().getName());
+        Assert.assertFalse(order.get(2).isDescending());
+    }
+    
+    /**
+     * Test an ORDER BY without BY.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testOrderWithoutBy() throws Exception {
+        new SQLParser("SELECT a FROM client ORDER a").parse();
+    }
+    
+    /**
+     * Test for aggregate functions with GROUP BY.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testGroupBy() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT c.city, count(*), sum(c.id) AS total, max(id) m FROM client c "
+                + "WHERE c.id > 2 GROUP BY c.city, state ORDER BY c.city");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(4, select.getFields().size());
+        final FunctionNode count = (FunctionNode) select.getFields().get(1);
+        Assert.assertEquals("count", count.getName());
+        Assert.assertTrue(count.isAsterisk());
+        Assert.assertEquals("count(*)", count.getAlias());
+        final FunctionNode sum = (FunctionNode) select.getFields().get(2);
+        Assert.assertFalse(sum.isAsterisk());
+        Assert.assertEquals("c", ((FieldNode) sum.getArgument()).getTableName());
+        Assert.assertEquals("total", sum.getAlias());
+        Assert.assertEquals("m", select.getFields().get(3).getAlias());
+        
+        Assert.assertEquals(2, select.getGroups().size());
+        Assert.assertEquals("c.city", select.getGroups().get(0).getName());
+        Assert.assertEquals("state", select.getGroups().get(1).getName());
+        Assert.assertEquals(1, select.getOrder().size());
+    }
+    
+    /**
+     * Test a GROUP BY without BY.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testGroupWithoutBy() throws Exception {
+        new SQLParser("SELECT a FROM client GROUP a").parse();
+    }
 }
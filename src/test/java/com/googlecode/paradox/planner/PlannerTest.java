@@ -10,6 +10,7 @@ package com.googlecode.paradox.planner;
 
 import com.googlecode.paradox.Driver;
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
 import com.googlecode.paradox.parser.SQLParser;
 import com.googlecode.paradox.parser.nodes.IdentifierNode;
@@ -25,12 +26,17 @@ import org.junit.Test;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
 
 /**
  * Unit test for {@link Planner}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.5
  * @since 1.1
  */
 public class PlannerTest {
@@ -200,9 +206,44 @@ public class PlannerTest {
         final Planner planner = new Planner(this.conn);
         final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
         plan.execute();
+        Assert.assertEquals("Test the result size.", 2, plan.getValues().size());
+    }
+
+    /**
+     * Test for SELECT plan with parentheses changing the precedence.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereParentheses() throws SQLException {
+        final SQLParser parser = new SQLParser(
+                "select ac from areacodes where state <> ny and (ac = 212 or ac=315 or ac=917)");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
         Assert.assertEquals("Test the result size.", 0, plan.getValues().size());
     }
 
+    /**
+     * Test for SELECT plan with where NOT clause.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereNot() throws SQLException {
+        final SQLParser parser = new SQLParser(
+                "select ac from areacodes where state = ny and not (ac = 212 or ac = 315)");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        final List<List<FieldValue>> values = plan.getValues();
+        Assert.assertFalse("Test the result size.", values.isEmpty());
+        for (final List<FieldValue> row : values) {
+            final String ac = row.get(0).getValue().toString();
+            Assert.assertFalse("Test the excluded codes.", "212".equals(ac) || "315".equals(ac));
+        }
+    }
+
     /**
      * Test for SELECT plan with where GreaterThan clause.
      *
@@ -231,6 +272,110 @@ public class PlannerTest {
         Assert.assertEquals("Test the result size.", 2, plan.getValues().size());
     }
 
+    /**
+     * Test for SELECT plan with where BETWEEN clause.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereBetween() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan all = (SelectPlan) planner.create(new SQLParser("select ac from areacodes where state = ny")
+                .parse().get(0), this.conn.getCurrentSchema());
+        all.execute();
+        int expected = 0;
+        for (final List<FieldValue> row : all.getValues()) {
+            final double value = Double.parseDouble(row.get(0).getValue().toString());
+            if ((value >= 315) && (value <= 718)) {
+                expected++;
+            }
+        }
+
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select ac from areacodes where state = ny and ac between 315 and 718").parse().get(0),
+                this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertTrue("No rows in range.", expected > 0);
+        Assert.assertEquals("Test the result size.", expected, plan.getValues().size());
+    }
+
+    /**
+     * Test for SELECT plan filtering a numeric field.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereNumeric() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan all = (SelectPlan) planner.create(new SQLParser("select custno from customer").parse()
+                .get(0), this.conn.getCurrentSchema());
+        all.execute();
+        int expected = 0;
+        for (final List<FieldValue> row : all.getValues()) {
+            if (row.get(0).getNumber().doubleValue() > 2) {
+                expected++;
+            }
+        }
+
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select custno from customer where custno > 2").parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertEquals("Test the result size.", expected, plan.getValues().size());
+        for (final List<FieldValue> row : plan.getValues()) {
+            Assert.assertTrue("Invalid value.", row.get(0).getNumber().doubleValue() > 2);
+        }
+    }
+
+    /**
+     * Test for SELECT plan with primary key lookups.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectPrimaryKey() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan equals = (SelectPlan) planner.create(new SQLParser(
+                "select custno from customer where custno = 8").parse().get(0), this.conn.getCurrentSchema());
+        equals.execute();
+        Assert.assertEquals("Test the result size.", 1, equals.getValues().size());
+        Assert.assertEquals("Test the value.", 8, equals.getValues().get(0).get(0).getNumber().intValue());
+
+        final SelectPlan between = (SelectPlan) planner.create(new SQLParser(
+                "select custno from customer where custno between 4 and 12").parse().get(0),
+                this.conn.getCurrentSchema());
+        between.execute();
+        final List<List<FieldValue>> values = between.getValues();
+        Assert.assertEquals("Test the result size.", 9, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Assert.assertEquals("Test the value order.", i + 4, values.get(i).get(0).getNumber().intValue());
+        }
+    }
+
+    /**
+     * Test for SELECT plan using a secondary index.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectSecondaryIndex() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan all = (SelectPlan) planner.create(new SQLParser("select custno, city from customer")
+                .parse().get(0), this.conn.getCurrentSchema());
+        all.execute();
+        int expected = 0;
+        for (final List<FieldValue> row : all.getValues()) {
+            if ("Los Gatos".equalsIgnoreCase(row.get(1).getValue().toString())) {
+                expected++;
+            }
+        }
+
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(
+                "select custno from customer where city = 'Los Gatos'").parse().get(0),
+                this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertEquals("Test the result size.", expected, plan.getValues().size());
+    }
+
     /**
      * Test for SELECT plan with where clause and multiples columns.
      *
@@ -248,4 +393,494 @@ public class PlannerTest {
         Assert.assertEquals("Field expected", "Cities", plan.getValues().get(0).get(2).getField().getName());
     }
 
+    /**
+     * Test for SELECT plan with columns out of table order.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectColumnsOutOfOrder() throws SQLException {
+        final SQLParser parser = new SQLParser("select cities, state, ac from areacodes where ac = 212");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertEquals("Test the result size.", 1, plan.getValues().size());
+        Assert.assertEquals("Field expected", "Cities", plan.getValues().get(0).get(0).getField().getName());
+        Assert.assertEquals("Field expected", "State", plan.getValues().get(0).get(1).getField().getName());
+        Assert.assertEquals("Field expected", "AC", plan.getValues().get(0).get(2).getField().getName());
+        Assert.assertEquals("Value expected", "212", plan.getValues().get(0).get(2).getValue());
+    }
+
+    /**
+     * Test for ORDER BY in primary key order.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOrderByPrimaryKey() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan asc = (SelectPlan) planner.create(new SQLParser("select custno, city from customer "
+                + "order by custno").parse().get(0), this.conn.getCurrentSchema());
+        asc.execute();
+        final SelectPlan desc = (SelectPlan) planner.create(new SQLParser("select custno from customer "
+                + "where custno > 3 order by custno desc").parse().get(0), this.conn.getCurrentSchema());
+        desc.execute();
+
+        final List<List<FieldValue>> ascValues = asc.getValues();
+        for (int i = 1; i < ascValues.size(); i++) {
+            Assert.assertTrue("Invalid ascending order.", ((Number) ascValues.get(i - 1).get(0).getValue())
+                    .longValue() < ((Number) ascValues.get(i).get(0).getValue()).longValue());
+        }
+        final List<List<FieldValue>> descValues = desc.getValues();
+        Assert.assertEquals("Test the result size.", ascValues.size() - 3, descValues.size());
+        for (int i = 0; i < descValues.size(); i++) {
+            Assert.assertEquals("Invalid descending order.", ascValues.get(ascValues.size() - 1 - i).get(0)
+                    .getValue(), descValues.get(i).get(0).getValue());
+        }
+    }
+
+    /**
+     * Test for ORDER BY a text field with a secondary index, sorted ignoring case like without the index.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOrderBySecondaryIndex() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan all = (SelectPlan) planner.create(new SQLParser("select custno from customer").parse()
+                .get(0), this.conn.getCurrentSchema());
+        all.execute();
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser("select city, custno from customer "
+                + "order by city").parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+
+        final List<List<FieldValue>> values = plan.getValues();
+        Assert.assertEquals("Test the result size.", all.getValues().size(), values.size());
+        for (int i = 1; i < values.size(); i++) {
+            final String previous = values.get(i - 1).get(0).getValue().toString().toUpperCase(Locale.US);
+            final String current = values.get(i).get(0).getValue().toString().toUpperCase(Locale.US);
+            Assert.assertTrue("Invalid order: " + previous + " > " + current, previous.compareTo(current) <= 0);
+        }
+    }
+
+    /**
+     * Test for ORDER BY without a usable index.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOrderBySort() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser("select state, ac from areacodes "
+                + "order by state desc, ac").parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+
+        final List<List<FieldValue>> values = plan.getValues();
+        Assert.assertFalse("Empty result.", values.isEmpty());
+        for (int i = 1; i < values.size(); i++) {
+            final String previousState = values.get(i - 1).get(0).getValue().toString();
+            final String state = values.get(i).get(0).getValue().toString();
+            final int compare = previousState.compareToIgnoreCase(state);
+            Assert.assertTrue("Invalid state order.", compare >= 0);
+            if (compare == 0) {
+                Assert.assertTrue("Invalid code order.", values.get(i - 1).get(1).getValue().toString()
+                        .compareToIgnoreCase(values.get(i).get(1).getValue().toString()) <= 0);
+            }
+        }
+    }
+
+    /**
+     * Test for ORDER BY a column out of the select list without index.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testOrderByNotSelected() throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser("select ac from areacodes "
+                + "order by cities").parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+    }
+
+    /**
+     * Executes a query in the test connection.
+     *
+     * @param sql the query.
+     * @return the result rows.
+     * @throws SQLException in case of errors.
+     */
+    private List<List<FieldValue>> query(final String sql) throws SQLException {
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(sql).parse().get(0),
+                this.conn.getCurrentSchema());
+        plan.execute();
+        return plan.getValues();
+    }
+
+    /**
+     * Test for INNER JOIN.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testInnerJoin() throws SQLException {
+        final List<List<FieldValue>> values = this.query("select c.custno, c.firstname, g.name from customer c "
+                + "inner join general g on c.custno = g.id");
+        Assert.assertEquals("Invalid result size.", 2, values.size());
+        for (final List<FieldValue> row : values) {
+            if (((Number) row.get(0).getValue()).intValue() == 1) {
+                Assert.assertEquals("Invalid joined value.", "Mari", row.get(2).getValue());
+            } else {
+                Assert.assertEquals("Invalid joined value.", "Katty", row.get(2).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for LEFT, RIGHT and FULL joins.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOuterJoins() throws SQLException {
+        final List<List<FieldValue>> left = this.query("select c.custno, g.name from customer c "
+                + "left join general g on c.custno = g.id");
+        Assert.assertEquals("Invalid LEFT JOIN size.", 20, left.size());
+        int nulls = 0;
+        for (final List<FieldValue> row : left) {
+            if (row.get(1).isNull()) {
+                nulls++;
+            }
+        }
+        Assert.assertEquals("Invalid LEFT JOIN null count.", 18, nulls);
+
+        final List<List<FieldValue>> right = this.query("select c.custno, g.id from customer c "
+                + "right join general g on g.id = c.custno");
+        Assert.assertEquals("Invalid RIGHT JOIN size.", 3, right.size());
+
+        final List<List<FieldValue>> full = this.query("select c.custno, g.id from customer c "
+                + "full join general g on g.id = c.custno");
+        Assert.assertEquals("Invalid FULL JOIN size.", 21, full.size());
+    }
+
+    /**
+     * Test for WHERE and ON conditions in outer joins.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOuterJoinConditions() throws SQLException {
+        // The ON conditions only remove the joined rows.
+        final List<List<FieldValue>> on = this.query("select c.custno, g.name from customer c "
+                + "left join general g on c.custno = g.id and g.name = 'Mari' where c.custno < 4");
+        Assert.assertEquals("Invalid ON result size.", 3, on.size());
+
+        // The WHERE conditions remove the rows with nulls.
+        final List<List<FieldValue>> where = this.query("select c.custno, g.name from customer c "
+                + "left join general g on c.custno = g.id where g.name = 'Mari'");
+        Assert.assertEquals("Invalid WHERE result size.", 1, where.size());
+        Assert.assertEquals("Invalid WHERE result.", 1, ((Number) where.get(0).get(0).getValue()).intValue());
+    }
+
+    /**
+     * Test for a self join on a text key, in memory and split in temporary files.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelfJoinSpill() throws SQLException {
+        final Map<String, Integer> states = new HashMap<>();
+        for (final List<FieldValue> row : this.query("select state from areacodes")) {
+            final String state = row.get(0).getValue().toString();
+            final Integer count = states.get(state);
+            if (count == null) {
+                states.put(state, 1);
+            } else {
+                states.put(state, count + 1);
+            }
+        }
+        int expected = 0;
+        for (final Integer count : states.values()) {
+            expected += count * count;
+        }
+
+        final String sql = "select a.ac, b.ac from areacodes a join areacodes b on a.state = b.state";
+        Assert.assertEquals("Invalid in memory join size.", expected, this.query(sql).size());
+
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "1");
+        try (ParadoxConnection spill = (ParadoxConnection) DriverManager.getConnection(
+                MainTest.CONNECTION_STRING + "db", info)) {
+            final Planner planner = new Planner(spill);
+            final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(sql).parse().get(0),
+                    spill.getCurrentSchema());
+            plan.execute();
+            Assert.assertEquals("Invalid spilled join size.", expected, plan.getValues().size());
+        }
+    }
+
+    /**
+     * Test for a join on the primary keys of both tables, read in key order.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testPrimaryKeyJoin() throws SQLException {
+        final List<List<FieldValue>> values = this.query("select a.custno, b.custno from customer a "
+                + "join customer b on a.custno = b.custno where a.custno > 5");
+        Assert.assertEquals("Invalid result size.", 15, values.size());
+        int last = 5;
+        for (final List<FieldValue> row : values) {
+            final int key = ((Number) row.get(0).getValue()).intValue();
+            Assert.assertEquals("Invalid joined value.", key, ((Number) row.get(1).getValue()).intValue());
+            Assert.assertTrue("Rows out of key order.", key > last);
+            last = key;
+        }
+    }
+
+    /**
+     * Test for ORDER BY with sorted runs in temporary files.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOrderBySpill() throws SQLException {
+        final String sql = "select ac, state from areacodes order by state desc, ac";
+        final List<List<FieldValue>> expected = this.query(sql);
+
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "1024");
+        try (ParadoxConnection spill = (ParadoxConnection) DriverManager.getConnection(
+                MainTest.CONNECTION_STRING + "db", info)) {
+            final Planner planner = new Planner(spill);
+            final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(sql).parse().get(0),
+                    spill.getCurrentSchema());
+            plan.execute();
+            final List<List<FieldValue>> values = plan.getValues();
+            Assert.assertEquals("Invalid result size.", expected.size(), values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Assert.assertEquals("Invalid row order.", expected.get(i).get(0).getValue(),
+                        values.get(i).get(0).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for tables listed without JOIN, cross joined like with a JOIN in the same FROM list.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testCrossJoin() throws SQLException {
+        Assert.assertEquals("Invalid cross join size.", 370 * 20,
+                this.query("select a.ac, b.custno from areacodes a, customer b").size());
+        Assert.assertEquals("Invalid filtered cross join size.", 370,
+                this.query("select a.ac, b.custno from areacodes a, customer b where b.custno = 3").size());
+    }
+
+    /**
+     * Test for NOT over comparisons with null values, that are rejected like without NOT.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testNotWithNulls() throws SQLException {
+        final String join = "select a.custno from customer a left join customer b on a.custno = b.custno "
+                + "and b.custno < 3 where ";
+        Assert.assertEquals("Invalid NOT equals.", 1, this.query(join + "not (b.custno = 1)").size());
+        Assert.assertEquals("Invalid not equals.", 1, this.query(join + "b.custno <> 1").size());
+        Assert.assertEquals("Invalid NOT BETWEEN.", 1, this.query(join + "not (b.custno between 2 and 5)").size());
+        Assert.assertEquals("Invalid NOT OR.", 0,
+                this.query(join + "not (b.custno = 1 or b.custno = 2)").size());
+    }
+
+    /**
+     * Test for WHERE comparisons between fields.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testFieldComparison() throws SQLException {
+        Assert.assertEquals("Invalid self comparison.", 20,
+                this.query("select b.custno from customer b where b.custno = b.custno").size());
+        Assert.assertEquals("Invalid joined comparison.", 20,
+                this.query("select a.custno from customer a, customer b where a.custno = b.custno").size());
+        Assert.assertEquals("Invalid range comparison.", 190,
+                this.query("select a.custno from customer a, customer b where a.custno < b.custno").size());
+    }
+
+    /**
+     * Test for a compared field that does not exist.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testComparisonFieldNotFound() throws SQLException {
+        this.query("select b.custno from customer b join orders o on b.custno = o.custno");
+    }
+
+    /**
+     * Test for a join key between a date and a number.
+     *
+     * @throws SQLException if there are no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testJoinIncompatibleTypes() throws SQLException {
+        this.query("select a.custno from customer a join customer b on a.dateentered = b.custno");
+    }
+
+    /**
+     * Test for a WHERE comparison between a date and a number.
+     *
+     * @throws SQLException if there are no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testComparisonIncompatibleTypes() throws SQLException {
+        this.query("select a.custno from customer a, customer b where a.dateentered = b.custno");
+    }
+
+    /**
+     * Test for a condition that can not be evaluated.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void testUnsupportedCondition() throws SQLException {
+        this.query("select custno from customer where exists (select * from orders)");
+    }
+
+    /**
+     * Test for a join condition between fields that are not equal.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void testJoinFieldInequality() throws SQLException {
+        this.query("select a.ac from areacodes a join areacodes b on a.state = b.state and a.ac > b.ac");
+    }
+
+    /**
+     * Test for aggregate functions without GROUP BY.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testAggregates() throws SQLException {
+        final List<List<FieldValue>> values = this.query("select count(*), sum(custno), min(custno), max(custno), "
+                + "avg(custno), count(city) from customer where custno > 4");
+        Assert.assertEquals("Invalid result size.", 1, values.size());
+        final List<FieldValue> row = values.get(0);
+        Assert.assertEquals("Invalid count.", 16L, row.get(0).getValue());
+        Assert.assertEquals("Invalid sum.", 200L, row.get(1).getValue());
+        Assert.assertEquals("Invalid min.", 5, row.get(2).getValue());
+        Assert.assertEquals("Invalid max.", 20, row.get(3).getValue());
+        Assert.assertEquals("Invalid average.", 12.5, (Double) row.get(4).getValue(), 0);
+        Assert.assertEquals("Invalid field count.", 16L, row.get(5).getValue());
+
+        final List<FieldValue> empty = this.query("select count(*), sum(custno) from customer where custno > 100")
+                .get(0);
+        Assert.assertEquals("Invalid empty count.", 0L, empty.get(0).getValue());
+        Assert.assertTrue("Invalid empty sum.", empty.get(1).isNull());
+    }
+
+    /**
+     * Test for GROUP BY, in memory and split in temporary files.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testGroupBy() throws SQLException {
+        final Map<String, Long> expected = new HashMap<>();
+        for (final List<FieldValue> row : this.query("select state from areacodes")) {
+            final String state = row.get(0).getValue().toString();
+            final Long count = expected.get(state);
+            if (count == null) {
+                expected.put(state, 1L);
+            } else {
+                expected.put(state, count + 1);
+            }
+        }
+
+        final String sql = "select count(*) as total, state from areacodes group by state order by state";
+        final List<List<FieldValue>> values = this.query(sql);
+        Assert.assertEquals("Invalid group count.", expected.size(), values.size());
+        String last = null;
+        for (final List<FieldValue> row : values) {
+            final String state = row.get(1).getValue().toString();
+            Assert.assertEquals("Invalid count.", expected.get(state), row.get(0).getValue());
+            Assert.assertTrue("Groups out of order.", (last == null) || (last.compareToIgnoreCase(state) < 0));
+            last = state;
+        }
+
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "1");
+        try (ParadoxConnection spill = (ParadoxConnection) DriverManager.getConnection(
+                MainTest.CONNECTION_STRING + "db", info)) {
+            final Planner planner = new Planner(spill);
+            final SelectPlan plan = (SelectPlan) planner.create(new SQLParser(sql).parse().get(0),
+                    spill.getCurrentSchema());
+            plan.execute();
+            final List<List<FieldValue>> spilled = plan.getValues();
+            Assert.assertEquals("Invalid spilled group count.", values.size(), spilled.size());
+            for (int i = 0; i < values.size(); i++) {
+                Assert.assertEquals("Invalid spilled group.", values.get(i).get(1).getValue(),
+                        spilled.get(i).get(1).getValue());
+                Assert.assertEquals("Invalid spilled count.", values.get(i).get(0).getValue(),
+                        spilled.get(i).get(0).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for a GROUP BY on joined tables.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testGroupByJoin() throws SQLException {
+        final List<List<FieldValue>> values = this.query("select a.city, count(*), sum(b.custno) from customer a "
+                + "join customer b on a.custno = b.custno group by a.city");
+        long count = 0;
+        long sum = 0;
+        for (final List<FieldValue> row : values) {
+            count += (Long) row.get(1).getValue();
+            sum += (Long) row.get(2).getValue();
+        }
+        Assert.assertEquals("Invalid row count.", 20, count);
+        Assert.assertEquals("Invalid sum.", 210, sum);
+    }
+
+    /**
+     * Test for COUNT(*) over tables listed without JOIN.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testCountCrossJoin() throws SQLException {
+        Assert.assertEquals("Invalid count.", 370L * 20,
+                this.query("select count(*) from areacodes a, customer b").get(0).get(0).getValue());
+        Assert.assertEquals("Invalid filtered count.", 370L,
+                this.query("select count(*) from areacodes a, customer b where b.custno = 3").get(0).get(0)
+                        .getValue());
+    }
+
+    /**
+     * Test for a column that is not in GROUP BY.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testNotGrouped() throws SQLException {
+        this.query("select city, count(*) from customer group by lastname");
+    }
+
+    /**
+     * Test for an aggregate function that does not accept the field.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidAggregate() throws SQLException {
+        this.query("select sum(city) from customer");
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * HashAggregateCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit test for {@link HashAggregateCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class HashAggregateCursorTest {
+
+    /**
+     * Creates rows with a group key and a value.
+     *
+     * @param count  the row count.
+     * @param groups the group count.
+     * @return the rows.
+     */
+    private static List<List<FieldValue>> rows(final int count, final int groups) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Arrays.asList(new FieldValue("key" + ((i * 7) % groups), Types.VARCHAR),
+                    new FieldValue(i, Types.INTEGER)));
+        }
+        return rows;
+    }
+
+    /**
+     * Groups rows computing COUNT(*) and SUM of the value.
+     *
+     * @param rows         the rows to group.
+     * @param keyWidth     the number of group values.
+     * @param memoryBudget the memory budget.
+     * @return the group values by key.
+     * @throws SQLException in case of errors.
+     */
+    private static Map<Object, List<Object>> group(final List<List<FieldValue>> rows, final int keyWidth,
+            final long memoryBudget) throws SQLException {
+        final Map<Object, List<Object>> groups = new HashMap<>();
+        final Accumulator[] accumulators = {new CountAccumulator(true), new SumAccumulator(Types.INTEGER)};
+        try (HashAggregateCursor cursor = new HashAggregateCursor(new ListRowCursor(rows), keyWidth, accumulators,
+                new int[]{-1, 1}, memoryBudget)) {
+            while (cursor.next()) {
+                final List<FieldValue> row = cursor.getRow();
+                Object key = null;
+                if (keyWidth > 0) {
+                    key = row.get(0).getValue();
+                }
+                Assert.assertFalse("Duplicated group.", groups.containsKey(key));
+                groups.put(key, Arrays.asList(row.get(keyWidth).getValue(), row.get(keyWidth + 1).getValue()));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Test for groups computed in memory.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testGroups() throws SQLException {
+        final Map<Object, List<Object>> groups = HashAggregateCursorTest.group(HashAggregateCursorTest.rows(100, 3),
+                1, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid group count.", 3, groups.size());
+        Assert.assertEquals("Invalid group 0.", Arrays.<Object>asList(34L, 1683L), groups.get("key0"));
+        Assert.assertEquals("Invalid group 1.", Arrays.<Object>asList(33L, 1617L), groups.get("key1"));
+        Assert.assertEquals("Invalid group 2.", Arrays.<Object>asList(33L, 1650L), groups.get("key2"));
+    }
+
+    /**
+     * Test for groups split in temporary files.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSpill() throws SQLException {
+        final List<List<FieldValue>> rows = HashAggregateCursorTest.rows(5000, 1000);
+        final Map<Object, List<Object>> expected = HashAggregateCursorTest.group(rows, 1, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid group count.", 1000, expected.size());
+        Assert.assertEquals("Invalid spilled groups.", expected, HashAggregateCursorTest.group(rows, 1, 1));
+
+        try (HashAggregateCursor cursor = new HashAggregateCursor(new ListRowCursor(rows), 1,
+                new Accumulator[]{new CountAccumulator(true)}, new int[]{-1}, 1)) {
+            Assert.assertTrue("No rows.", cursor.next());
+            Assert.assertTrue("Groups not spilled.", cursor.isSpilled());
+        }
+    }
+
+    /**
+     * Test for text groups ignoring case and the null group.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testNullAndCase() throws SQLException {
+        final List<List<FieldValue>> rows = Arrays.asList(
+                Arrays.asList(new FieldValue("abc", Types.VARCHAR), new FieldValue(1, Types.INTEGER)),
+                Arrays.asList(new FieldValue(Types.VARCHAR), new FieldValue(2, Types.INTEGER)),
+                Arrays.asList(new FieldValue("ABC", Types.VARCHAR), new FieldValue(Types.INTEGER)),
+                Arrays.asList(new FieldValue(Types.VARCHAR), new FieldValue(4, Types.INTEGER)));
+        final Map<Object, List<Object>> groups = HashAggregateCursorTest.group(rows, 1, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid group count.", 2, groups.size());
+        Assert.assertEquals("Invalid text group.", Arrays.<Object>asList(2L, 1L), groups.get("abc"));
+        Assert.assertEquals("Invalid null group.", Arrays.<Object>asList(2L, 6L), groups.get(null));
+    }
+
+    /**
+     * Test for blank number values, skipped like the null values.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testBlankNumbers() throws SQLException {
+        final List<List<FieldValue>> rows = Arrays.asList(
+                Arrays.asList(new FieldValue("a", Types.VARCHAR), new FieldValue(1.5D, Types.DOUBLE)),
+                Arrays.asList(new FieldValue("a", Types.VARCHAR), new FieldValue(Double.NaN, Types.DOUBLE)),
+                Arrays.asList(new FieldValue("a", Types.VARCHAR), new FieldValue(2.5D, Types.DOUBLE)));
+        final Accumulator[] accumulators = {new CountAccumulator(false), new SumAccumulator(Types.DOUBLE),
+                new AverageAccumulator(Types.DOUBLE), new MinMaxAccumulator(Types.DOUBLE, true)};
+        try (HashAggregateCursor cursor = new HashAggregateCursor(new ListRowCursor(rows), 1, accumulators,
+                new int[]{1, 1, 1, 1}, Long.MAX_VALUE)) {
+            Assert.assertTrue("No rows.", cursor.next());
+            final List<FieldValue> row = cursor.getRow();
+            Assert.assertEquals("Invalid count.", 2L, row.get(1).getValue());
+            Assert.assertEquals("Invalid sum.", 4D, row.get(2).getValue());
+            Assert.assertEquals("Invalid average.", 2D, row.get(3).getValue());
+            Assert.assertEquals("Invalid maximum.", 2.5D, row.get(4).getValue());
+            Assert.assertFalse("Too many groups.", cursor.next());
+        }
+    }
+
+    /**
+     * Test for aggregates without groups and without rows.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testEmptyWithoutGroups() throws SQLException {
+        final Map<Object, List<Object>> groups = HashAggregateCursorTest.group(
+                Collections.<List<FieldValue>>emptyList(), 0, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid group count.", 1, groups.size());
+        Assert.assertEquals("Invalid result.", Arrays.<Object>asList(0L, null), groups.get(null));
+    }
+
+    /**
+     * Test for reading the groups again.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        try (HashAggregateCursor cursor = new HashAggregateCursor(
+                new ListRowCursor(HashAggregateCursorTest.rows(100, 3)), 1,
+                new Accumulator[]{new CountAccumulator(true)}, new int[]{-1}, Long.MAX_VALUE)) {
+            Assert.assertTrue("No rows.", cursor.next());
+            cursor.reset();
+            Assert.assertTrue("No rows after reset.", cursor.next());
+            Assert.assertEquals("Invalid count after reset.", 34L, cursor.getRow().get(1).getValue());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MinMaxAccumulatorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Unit test for {@link MinMaxAccumulator}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class MinMaxAccumulatorTest {
+
+    /**
+     * Test for integer values.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testIntegral() throws SQLException {
+        final MinMaxAccumulator min = new MinMaxAccumulator(Types.INTEGER, false);
+        final MinMaxAccumulator max = new MinMaxAccumulator(Types.INTEGER, true);
+        for (final MinMaxAccumulator accumulator : new MinMaxAccumulator[]{min, max}) {
+            accumulator.addGroup();
+            accumulator.addGroup();
+            for (final int value : new int[]{5, -3, 12, 7}) {
+                accumulator.add(0, new FieldValue(value, Types.INTEGER));
+            }
+            accumulator.add(0, new FieldValue(Types.INTEGER));
+            Assert.assertTrue("Invalid result without values.", accumulator.getResult(1).isNull());
+        }
+        Assert.assertEquals("Invalid min.", -3, min.getResult(0).getValue());
+        Assert.assertEquals("Invalid max.", 12, max.getResult(0).getValue());
+    }
+
+    /**
+     * Test for values of a narrower type than the argument, where the result keeps the argument type.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testMixedTypes() throws SQLException {
+        final MinMaxAccumulator max = new MinMaxAccumulator(Types.BIGINT, true);
+        max.addGroup();
+        max.add(0, new FieldValue(5L, Types.BIGINT));
+        max.add(0, new FieldValue(3, Types.INTEGER));
+        Assert.assertEquals("Invalid result type.", max.getType(), max.getResult(0).getType());
+        Assert.assertEquals("Invalid max.", 5L, max.getResult(0).getValue());
+    }
+
+    /**
+     * Test for text values.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testText() throws SQLException {
+        final MinMaxAccumulator min = new MinMaxAccumulator(Types.VARCHAR, false);
+        final MinMaxAccumulator max = new MinMaxAccumulator(Types.VARCHAR, true);
+        for (final MinMaxAccumulator accumulator : new MinMaxAccumulator[]{min, max}) {
+            accumulator.addGroup();
+            for (final String value : new String[]{"pear", "apple", "zucchini", "fig"}) {
+                accumulator.add(0, new FieldValue(value, Types.VARCHAR));
+            }
+        }
+        Assert.assertEquals("Invalid min.", "apple", min.getResult(0).getValue());
+        Assert.assertEquals("Invalid max.", "zucchini", max.getResult(0).getValue());
+    }
+
+    /**
+     * Test for values that can not be ordered.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidType() throws SQLException {
+        new MinMaxAccumulator(Types.BLOB, true);
+    }
+}
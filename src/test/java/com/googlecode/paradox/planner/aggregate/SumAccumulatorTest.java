@@ -0,0 +1,93 @@
+/*
+ * SumAccumulatorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.aggregate;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Unit test for {@link SumAccumulator}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class SumAccumulatorTest {
+
+    /**
+     * Test for integer sums.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testIntegral() throws SQLException {
+        final SumAccumulator sum = new SumAccumulator(Types.INTEGER);
+        Assert.assertEquals("Invalid type.", Types.BIGINT, sum.getType());
+        sum.addGroup();
+        sum.addGroup();
+        sum.add(0, new FieldValue(Integer.MAX_VALUE, Types.INTEGER));
+        sum.add(0, new FieldValue(Integer.MAX_VALUE, Types.INTEGER));
+        sum.add(0, new FieldValue(Types.INTEGER));
+        Assert.assertEquals("Invalid sum.", 2L * Integer.MAX_VALUE, sum.getResult(0).getValue());
+        Assert.assertTrue("Invalid sum without values.", sum.getResult(1).isNull());
+    }
+
+    /**
+     * Test for integer sum overflow.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testOverflow() throws SQLException {
+        final SumAccumulator sum = new SumAccumulator(Types.BIGINT);
+        sum.addGroup();
+        sum.add(0, new FieldValue(Long.MAX_VALUE, Types.BIGINT));
+        sum.add(0, new FieldValue(1L, Types.BIGINT));
+    }
+
+    /**
+     * Test for compensated decimal sums.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testCompensated() throws SQLException {
+        final SumAccumulator sum = new SumAccumulator(Types.DOUBLE);
+        Assert.assertEquals("Invalid type.", Types.DOUBLE, sum.getType());
+        sum.addGroup();
+        sum.add(0, new FieldValue(1.0, Types.DOUBLE));
+        for (int i = 0; i < 1000; i++) {
+            sum.add(0, new FieldValue(1e100, Types.DOUBLE));
+            sum.add(0, new FieldValue(1.0, Types.DOUBLE));
+            sum.add(0, new FieldValue(-1e100, Types.DOUBLE));
+        }
+        Assert.assertEquals("Invalid sum.", 1001.0, (Double) sum.getResult(0).getValue(), 0);
+
+        final SumAccumulator cents = new SumAccumulator(Types.NUMERIC);
+        cents.addGroup();
+        for (int i = 0; i < 1000000; i++) {
+            cents.add(0, new FieldValue(0.01, Types.NUMERIC));
+        }
+        Assert.assertEquals("Invalid cents sum.", 10000.0, (Double) cents.getResult(0).getValue(), 0);
+    }
+
+    /**
+     * Test for a text argument.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidType() throws SQLException {
+        new SumAccumulator(Types.VARCHAR);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * AndPredicateTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.batch.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link AndPredicate}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class AndPredicateTest {
+
+    /**
+     * Creates a field of a type.
+     *
+     * @param type the field type.
+     * @return the field.
+     */
+    private static ParadoxField field(final int type) {
+        final ParadoxField field = new ParadoxField();
+        field.setName("FIELD");
+        field.setType((byte) type);
+        return field;
+    }
+
+    /**
+     * Test for the operand order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testOrder() throws SQLException {
+        final Predicate text = PredicateFactory.create(CompareOperator.EQUALS, field(1), 0, "NY");
+        final Predicate range = PredicateFactory.create(CompareOperator.GREATER_THAN, field(4), 1, "10");
+        final Predicate equals = PredicateFactory.create(CompareOperator.EQUALS, field(4), 1, "20");
+        final AndPredicate predicate = new AndPredicate(Arrays.asList(text, range, equals));
+        Assert.assertEquals("Invalid operand order.", Arrays.asList(equals, range, text), predicate.getOperands());
+    }
+
+    /**
+     * Test for nested predicates merge.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testMerge() throws SQLException {
+        final Predicate first = PredicateFactory.create(CompareOperator.EQUALS, field(4), 0, "1");
+        final Predicate second = PredicateFactory.create(CompareOperator.EQUALS, field(4), 0, "2");
+        final Predicate third = PredicateFactory.create(CompareOperator.EQUALS, field(4), 0, "3");
+        final AndPredicate predicate = new AndPredicate(Arrays.asList(first,
+                new AndPredicate(Arrays.asList(second, third))));
+        Assert.assertEquals("Invalid operand count.", 3, predicate.getOperands().size());
+        Assert.assertEquals("Invalid selectivity.", 0.001, predicate.getSelectivity(), 0.000001);
+    }
+
+    /**
+     * Test for short circuit evaluation.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testShortCircuit() throws SQLException {
+        final Predicate failing = new Predicate() {
+            @Override
+            public boolean accept(final ColumnBatch batch, final int row) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public boolean accept(final List<FieldValue> row) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public RecordFilter getRecordFilter() {
+                return null;
+            }
+
+            @Override
+            public double getCost() {
+                return 100;
+            }
+
+            @Override
+            public double getSelectivity() {
+                return 0.5;
+            }
+        };
+        final AndPredicate and = new AndPredicate(Arrays.asList(failing, ConstantPredicate.FALSE));
+        Assert.assertFalse("Invalid AND result.", and.accept(Arrays.asList(new FieldValue(1L, Types.BIGINT))));
+        final OrPredicate or = new OrPredicate(Arrays.asList(failing, ConstantPredicate.TRUE));
+        Assert.assertTrue("Invalid OR result.", or.accept(Arrays.asList(new FieldValue(1L, Types.BIGINT))));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * EncodedComparisonTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.field.DateField;
+import com.googlecode.paradox.data.field.IntegerField;
+import com.googlecode.paradox.data.field.LongField;
+import com.googlecode.paradox.data.field.NumberField;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link EncodedComparison}: the encoded compare must give the same result as the decoded one.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class EncodedComparisonTest {
+
+    /**
+     * Sample values.
+     */
+    private static final long[] VALUES = {Short.MIN_VALUE, -1000, -1, 0, 1, 2, 1000, Short.MAX_VALUE};
+
+    /**
+     * Sample double values.
+     */
+    private static final double[] DOUBLES = {-1e300, -10.5, -1, -0.0, 0.0, 0.25, 1, 10.5, 1e300};
+
+    /**
+     * Test for integer fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testShort() throws SQLException {
+        final ByteBuffer buffer = ByteBuffer.allocate(2);
+        for (final long stored : VALUES) {
+            buffer.putShort(0, (short) (stored ^ 0x8000));
+            final FieldValue value = new IntegerField().parse(null, (ByteBuffer) buffer.duplicate().position(0), null);
+            Assert.assertEquals("Invalid encode.", stored, value.getNumber().longValue());
+            for (final long literal : VALUES) {
+                for (final CompareOperator operator : CompareOperator.values()) {
+                    final EncodedComparison comparison = EncodedComparison.ofLong(0,
+                            EncodedComparison.Encoding.SHORT, operator, literal);
+                    Assert.assertEquals(stored + " " + operator + " " + literal,
+                            operator.accept(Long.compare(stored, literal)), comparison.accept(buffer, 0));
+                }
+            }
+        }
+        Assert.assertNull("Out of range literal.", EncodedComparison.ofLong(0, EncodedComparison.Encoding.SHORT,
+                CompareOperator.EQUALS, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Test for long fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testInt() throws SQLException {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        final long[] values = {Integer.MIN_VALUE, -70000, -1, 0, 1, 70000, Integer.MAX_VALUE};
+        for (final long stored : values) {
+            buffer.putInt(0, (int) stored ^ 0x8000_0000);
+            final FieldValue value = new LongField().parse(null, (ByteBuffer) buffer.duplicate().position(0), null);
+            Assert.assertEquals("Invalid encode.", stored, value.getNumber().longValue());
+            for (final long literal : values) {
+                for (final CompareOperator operator : CompareOperator.values()) {
+                    final EncodedComparison comparison = EncodedComparison.ofLong(0, EncodedComparison.Encoding.INT,
+                            operator, literal);
+                    Assert.assertEquals(stored + " " + operator + " " + literal,
+                            operator.accept(Long.compare(stored, literal)), comparison.accept(buffer, 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for date fields.
+     */
+    @Test
+    public void testMaskedInt() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        final long[] days = {0, 1, 730_000, 740_000};
+        for (final long stored : days) {
+            // High bits are not part of the value.
+            buffer.putInt(0, (int) stored | 0x3000_0000);
+            Assert.assertNotNull("Invalid date.",
+                    new DateField().parse(null, (ByteBuffer) buffer.duplicate().position(0), null).getValue());
+            for (final long literal : days) {
+                for (final CompareOperator operator : CompareOperator.values()) {
+                    final EncodedComparison comparison = EncodedComparison.ofLong(0,
+                            EncodedComparison.Encoding.MASKED_INT, operator, literal);
+                    Assert.assertEquals(stored + " " + operator + " " + literal,
+                            operator.accept(Long.compare(stored, literal)), comparison.accept(buffer, 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for number fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDouble() throws SQLException {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        for (final double stored : DOUBLES) {
+            final long bits = Double.doubleToLongBits(stored);
+            if (bits >= 0) {
+                buffer.putLong(0, bits | Long.MIN_VALUE);
+            } else {
+                buffer.putLong(0, ~bits);
+            }
+            final FieldValue value = new NumberField().parse(null, (ByteBuffer) buffer.duplicate().position(0), null);
+            Assert.assertEquals("Invalid encode.", Double.compare(stored, value.getNumber().doubleValue()), 0);
+            for (final double literal : DOUBLES) {
+                for (final CompareOperator operator : CompareOperator.values()) {
+                    final EncodedComparison comparison = EncodedComparison.ofDouble(0, operator, literal);
+                    Assert.assertEquals(stored + " " + operator + " " + literal,
+                            operator.accept(Double.compare(stored, literal)), comparison.accept(buffer, 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for blank number fields (all bits zero), rejected by every operator like the null values.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDoubleBlank() throws SQLException {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        final double decoded = new NumberField().parse(null, buffer.duplicate(), null).getNumber().doubleValue();
+        Assert.assertTrue("Invalid blank value.", Double.isNaN(decoded));
+        for (final double literal : DOUBLES) {
+            for (final CompareOperator operator : CompareOperator.values()) {
+                Assert.assertFalse(operator + " " + literal,
+                        EncodedComparison.ofDouble(0, operator, literal).accept(buffer, 0));
+            }
+        }
+    }
+}
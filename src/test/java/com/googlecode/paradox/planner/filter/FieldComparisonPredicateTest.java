@@ -0,0 +1,85 @@
+/*
+ * FieldComparisonPredicateTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link FieldComparisonPredicate}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class FieldComparisonPredicateTest {
+
+    /**
+     * Test for number comparisons.
+     */
+    @Test
+    public void testNumbers() {
+        final List<FieldValue> row = Arrays.asList(new FieldValue(5, Types.INTEGER), new FieldValue(5.0, Types.DOUBLE),
+                new FieldValue(7L, Types.BIGINT));
+        Assert.assertTrue("Invalid equality.", new FieldComparisonPredicate(0, CompareOperator.EQUALS, 1).accept(row));
+        Assert.assertTrue("Invalid less than.", new FieldComparisonPredicate(0, CompareOperator.LESS_THAN, 2)
+                .accept(row));
+        Assert.assertFalse("Invalid greater than.", new FieldComparisonPredicate(0, CompareOperator.GREATER_THAN, 2)
+                .accept(row));
+    }
+
+    /**
+     * Test for text comparisons ignoring case.
+     */
+    @Test
+    public void testText() {
+        final List<FieldValue> row = Arrays.asList(new FieldValue("abc", Types.VARCHAR),
+                new FieldValue("ABC", Types.VARCHAR));
+        Assert.assertTrue("Invalid equality.", new FieldComparisonPredicate(0, CompareOperator.EQUALS, 1).accept(row));
+        Assert.assertFalse("Invalid inequality.", new FieldComparisonPredicate(0, CompareOperator.NOT_EQUALS, 1)
+                .accept(row));
+    }
+
+    /**
+     * Test for the fields types that can be compared.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testCheckTypes() throws SQLException {
+        FieldComparisonPredicate.checkTypes(Types.INTEGER, Types.DOUBLE);
+        FieldComparisonPredicate.checkTypes(Types.CHAR, Types.VARCHAR);
+        FieldComparisonPredicate.checkTypes(Types.DATE, Types.DATE);
+        for (final int type : new int[]{Types.TIME, Types.TIMESTAMP, Types.BOOLEAN, Types.INTEGER}) {
+            try {
+                FieldComparisonPredicate.checkTypes(Types.DATE, type);
+                Assert.fail("Incompatible types accepted.");
+            } catch (final SQLException e) {
+                Assert.assertEquals("Invalid message.", "Incompatible field types in comparison.", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Test for null values, that never satisfy the predicate.
+     */
+    @Test
+    public void testNull() {
+        final List<FieldValue> row = Arrays.asList(new FieldValue(Types.INTEGER), new FieldValue(1, Types.INTEGER));
+        Assert.assertFalse("Invalid equality.", new FieldComparisonPredicate(0, CompareOperator.EQUALS, 1).accept(row));
+        Assert.assertFalse("Invalid inequality.", new FieldComparisonPredicate(0, CompareOperator.NOT_EQUALS, 1)
+                .accept(row));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * PredicateFactoryTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.filter;
+
+import com.googlecode.paradox.data.batch.ColumnBatch;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.utils.SQLStates;
+import com.googlecode.paradox.utils.TestUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link PredicateFactory}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+public class PredicateFactoryTest {
+
+    /**
+     * Creates a field of a type.
+     *
+     * @param type the field type.
+     * @return the field.
+     */
+    private static ParadoxField field(final int type) {
+        final ParadoxField field = new ParadoxField();
+        field.setName("FIELD");
+        field.setType((byte) type);
+        return field;
+    }
+
+    /**
+     * Creates a single value row.
+     *
+     * @param value the value.
+     * @param type  the value SQL type.
+     * @return the row.
+     */
+    private static List<FieldValue> row(final Object value, final int type) {
+        return Collections.singletonList(new FieldValue(value, type));
+    }
+
+    /**
+     * Test for class sanity.
+     *
+     * @throws NoSuchMethodException     in case of errors.
+     * @throws InstantiationException    in case of errors.
+     * @throws IllegalAccessException    in case of errors.
+     * @throws InvocationTargetException in case of errors.
+     */
+    @Test
+    public void testSanity()
+    throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        Assert.assertTrue("Utility class in wrong format.", TestUtil.assertUtilityClassWellDefined(
+                PredicateFactory.class));
+    }
+
+    /**
+     * Test for integral fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testLong() throws SQLException {
+        final Predicate predicate = PredicateFactory.create(CompareOperator.GREATER_THAN, field(4), 0, "10");
+        Assert.assertTrue("Invalid predicate type.", predicate instanceof LongPredicate);
+        Assert.assertTrue("Invalid compare.", predicate.accept(row(11L, Types.BIGINT)));
+        Assert.assertFalse("Invalid compare.", predicate.accept(row(10L, Types.BIGINT)));
+        Assert.assertFalse("Null value accepted.", predicate.accept(row(null, Types.BIGINT)));
+    }
+
+    /**
+     * Test for integral fields with decimal literal.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testIntegerWithDecimal() throws SQLException {
+        final Predicate predicate = PredicateFactory.create(CompareOperator.LESS_THAN, field(3), 0, "2.5");
+        Assert.assertTrue("Invalid predicate type.", predicate instanceof DoublePredicate);
+        Assert.assertTrue("Invalid compare.", predicate.accept(row(2, Types.INTEGER)));
+        Assert.assertFalse("Invalid compare.", predicate.accept(row(3, Types.INTEGER)));
+    }
+
+    /**
+     * Test for number fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDouble() throws SQLException {
+        final Predicate predicate = PredicateFactory.create(CompareOperator.EQUALS, field(6), 0, "5");
+        Assert.assertTrue("Invalid predicate type.", predicate instanceof DoublePredicate);
+        Assert.assertTrue("Invalid compare.", predicate.accept(row(5D, Types.DOUBLE)));
+    }
+
+    /**
+     * Test for blank number fields, decoded as NaN and never matched.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDoubleBlank() throws SQLException {
+        final ColumnBatch batch = new ColumnBatch(Collections.singletonList(field(6)), 1);
+        batch.getColumn(0).decode(null, ByteBuffer.allocate(8), 0, 0);
+        batch.setSize(1);
+        for (final CompareOperator operator : CompareOperator.values()) {
+            final Predicate predicate = PredicateFactory.create(operator, field(6), 0, "5");
+            Assert.assertFalse("Blank value accepted.", predicate.accept(row(Double.NaN, Types.DOUBLE)));
+            Assert.assertFalse("Blank value accepted.", predicate.accept(batch, 0));
+        }
+    }
+
+    /**
+     * Test for date fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDate() throws SQLException {
+        final Predicate predicate = PredicateFactory.create(CompareOperator.LESS_THAN, field(2), 0, "2010-01-02");
+        Assert.assertTrue("Invalid predicate type.", predicate instanceof DatePredicate);
+        Assert.assertTrue("Invalid compare.", predicate.accept(row(Date.valueOf("2010-01-01"), Types.DATE)));
+        Assert.assertFalse("Invalid compare.", predicate.accept(row(Date.valueOf("2010-01-02"), Types.DATE)));
+    }
+
+    /**
+     * Test for alpha fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testString() throws SQLException {
+        final Predicate predicate = PredicateFactory.create(CompareOperator.NOT_EQUALS, field(1), 0, "ny");
+        Assert.assertTrue("Invalid predicate type.", predicate instanceof StringPredicate);
+        Assert.assertFalse("Invalid compare.", predicate.accept(row("NY", Types.VARCHAR)));
+        Assert.assertTrue("Invalid compare.", predicate.accept(row("NJ", Types.VARCHAR)));
+    }
+
+    /**
+     * Test for invalid numeric literal.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidNumber() throws SQLException {
+        PredicateFactory.create(CompareOperator.GREATER_THAN, field(5), 0, "abc");
+    }
+
+    /**
+     * Test for a text range compare with a value that is not a number.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testInvalidTextValue() throws SQLException {
+        final Predicate predicate = PredicateFactory.create(CompareOperator.GREATER_THAN, field(1), 0, "5");
+        Assert.assertTrue("Invalid compare.", predicate.accept(row("7", Types.VARCHAR)));
+        try {
+            predicate.accept(row("Luke", Types.VARCHAR));
+            Assert.fail("Invalid value accepted.");
+        } catch (final SQLException e) {
+            Assert.assertEquals("Invalid SQL state.", SQLStates.INVALID_PARAMETER.getValue(), e.getSQLState());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * HashJoinCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link HashJoinCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+public class HashJoinCursorTest {
+
+    /**
+     * Joins the test inputs.
+     *
+     * @param left   the left row count.
+     * @param right  the right row count.
+     * @param type   the join type.
+     * @param budget the memory budget.
+     * @return the joined rows.
+     * @throws SQLException in case of errors.
+     */
+    private static List<List<FieldValue>> join(final int left, final int right, final JoinType type,
+            final long budget) throws SQLException {
+        return JoinTestUtil.read(new HashJoinCursor(JoinTestUtil.left(left), JoinTestUtil.right(right, 1),
+                JoinTestUtil.keys(), type, null, budget));
+    }
+
+    /**
+     * Counts the rows with a null value in a position.
+     *
+     * @param rows     the rows.
+     * @param position the value position.
+     * @return the null count.
+     */
+    private static int countNulls(final List<List<FieldValue>> rows, final int position) {
+        int count = 0;
+        for (final List<FieldValue> row : rows) {
+            if (row.get(position).isNull()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Test for inner join with integer and double keys.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testInner() throws SQLException {
+        final List<List<FieldValue>> rows = HashJoinCursorTest.join(10, 10, JoinType.INNER, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid row count.", 5, rows.size());
+        for (final List<FieldValue> row : rows) {
+            Assert.assertEquals("Invalid key.", ((Number) row.get(0).getValue()).doubleValue(),
+                    ((Number) row.get(2).getValue()).doubleValue(), 0);
+        }
+    }
+
+    /**
+     * Test for the outer joins, with the left side as build side and as probe side.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testOuter() throws SQLException {
+        // Left side smaller: build left.
+        List<List<FieldValue>> rows = HashJoinCursorTest.join(4, 10, JoinType.LEFT, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid LEFT count.", 5, rows.size());
+        Assert.assertEquals("Invalid LEFT nulls.", 3, HashJoinCursorTest.countNulls(rows, 2));
+
+        rows = HashJoinCursorTest.join(4, 10, JoinType.RIGHT, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid RIGHT count.", 10, rows.size());
+        Assert.assertEquals("Invalid RIGHT nulls.", 8, HashJoinCursorTest.countNulls(rows, 0));
+
+        // Right side smaller: build right.
+        rows = HashJoinCursorTest.join(10, 8, JoinType.FULL, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid FULL count.", 14, rows.size());
+        Assert.assertEquals("Invalid FULL right nulls.", 6, HashJoinCursorTest.countNulls(rows, 2));
+        Assert.assertEquals("Invalid FULL left nulls.", 3, HashJoinCursorTest.countNulls(rows, 1));
+    }
+
+    /**
+     * Test for the join split in temporary files.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSpill() throws SQLException {
+        for (final JoinType type : JoinType.values()) {
+            final List<List<FieldValue>> memory = HashJoinCursorTest.join(500, 300, type, Long.MAX_VALUE);
+            final List<List<FieldValue>> spilled = HashJoinCursorTest.join(500, 300, type, 1024);
+            Assert.assertEquals("Invalid spilled count for " + type, memory.size(), spilled.size());
+            Assert.assertEquals("Invalid spilled nulls for " + type, HashJoinCursorTest.countNulls(memory, 2),
+                    HashJoinCursorTest.countNulls(spilled, 2));
+            Assert.assertEquals("Invalid spilled nulls for " + type, HashJoinCursorTest.countNulls(memory, 0),
+                    HashJoinCursorTest.countNulls(spilled, 0));
+        }
+    }
+
+    /**
+     * Test for the build side choice and the spill flag.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testBuildSide() throws SQLException {
+        try (HashJoinCursor cursor = new HashJoinCursor(JoinTestUtil.left(100), JoinTestUtil.right(10, 1),
+                JoinTestUtil.keys(), JoinType.INNER, null, 1)) {
+            Assert.assertFalse("Invalid build side.", cursor.isBuildLeft());
+            Assert.assertTrue("No rows.", cursor.next());
+            Assert.assertTrue("Build side not spilled.", cursor.isSpilled());
+        }
+    }
+
+    /**
+     * Test for text keys ignoring case.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testTextKeys() throws SQLException {
+        final JoinKeys keys = new JoinKeys();
+        keys.add(0, Types.VARCHAR, 0, Types.VARCHAR);
+        final List<List<FieldValue>> left = new ArrayList<>();
+        left.add(Collections.singletonList(new FieldValue("Paradox", Types.VARCHAR)));
+        left.add(Collections.singletonList(new FieldValue("other", Types.VARCHAR)));
+        final List<List<FieldValue>> right = new ArrayList<>();
+        right.add(Collections.singletonList(new FieldValue("PARADOX", Types.VARCHAR)));
+        final FieldValue[] nulls = {new FieldValue(Types.VARCHAR)};
+        try (HashJoinCursor cursor = new HashJoinCursor(new JoinInput(new ListRowCursor(left), nulls, 2),
+                new JoinInput(new ListRowCursor(right), nulls, 1), keys, JoinType.INNER, null, Long.MAX_VALUE)) {
+            Assert.assertTrue("No match.", cursor.next());
+            Assert.assertEquals("Invalid left value.", "Paradox", cursor.getRow().get(0).getValue());
+            Assert.assertFalse("Too many rows.", cursor.next());
+        }
+    }
+
+    /**
+     * Test for incompatible key types.
+     *
+     * @throws SQLException if there are no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testIncompatibleKeys() throws SQLException {
+        new JoinKeys().add(0, Types.VARCHAR, 0, Types.INTEGER);
+    }
+
+    /**
+     * Test for date keys joined with numbers, that have the same encoding but are not comparable.
+     *
+     * @throws SQLException if there are no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testDateAndNumberKeys() throws SQLException {
+        new JoinKeys().add(0, Types.DATE, 0, Types.INTEGER);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * JoinTestUtil.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import com.googlecode.paradox.rowset.RowCursor;
+import org.junit.Assert;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Join inputs shared by the join cursor tests: integer keys with a name on the left side, joined to double keys of the
+ * even numbers on the right side.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class JoinTestUtil {
+
+    /**
+     * Utility class.
+     */
+    private JoinTestUtil() {
+        // Utility class.
+    }
+
+    /**
+     * Creates the join keys of the test inputs.
+     *
+     * @return the join keys.
+     * @throws SQLException in case of errors.
+     */
+    static JoinKeys keys() throws SQLException {
+        final JoinKeys keys = new JoinKeys();
+        keys.add(0, Types.INTEGER, 0, Types.DOUBLE);
+        return keys;
+    }
+
+    /**
+     * Creates the left input: a null key, then the integer keys in order and a name.
+     *
+     * @param count the row count, without the null key.
+     * @return the join input.
+     */
+    static JoinInput left(final int count) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        rows.add(Arrays.asList(new FieldValue(Types.INTEGER), new FieldValue("null", Types.VARCHAR)));
+        for (int i = 0; i < count; i++) {
+            rows.add(Arrays.asList(new FieldValue(i, Types.INTEGER), new FieldValue("left" + i, Types.VARCHAR)));
+        }
+        return JoinTestUtil.input(rows, new FieldValue(Types.INTEGER), new FieldValue(Types.VARCHAR));
+    }
+
+    /**
+     * Creates the right input: a double key for each even number, in order.
+     *
+     * @param count  the distinct key count.
+     * @param repeat the rows with each key.
+     * @return the join input.
+     */
+    static JoinInput right(final int count, final int repeat) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < repeat; j++) {
+                rows.add(Collections.singletonList(new FieldValue(i * 2.0, Types.DOUBLE)));
+            }
+        }
+        return JoinTestUtil.input(rows, new FieldValue(Types.DOUBLE));
+    }
+
+    /**
+     * Creates the join input of a row list.
+     *
+     * @param rows  the rows.
+     * @param nulls the null values.
+     * @return the join input.
+     */
+    static JoinInput input(final List<List<FieldValue>> rows, final FieldValue... nulls) {
+        return new JoinInput(new ListRowCursor(rows), nulls, rows.size());
+    }
+
+    /**
+     * Reads all rows of a join of the test inputs and closes it.
+     *
+     * @param cursor the join cursor.
+     * @return the joined rows.
+     * @throws SQLException in case of errors.
+     */
+    static List<List<FieldValue>> read(final RowCursor cursor) throws SQLException {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        try {
+            while (cursor.next()) {
+                Assert.assertEquals("Invalid row width.", 3, cursor.getRow().size());
+                rows.add(cursor.getRow());
+            }
+        } finally {
+            cursor.close();
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MergeJoinCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.join;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.planner.filter.CompareOperator;
+import com.googlecode.paradox.planner.filter.LongPredicate;
+import com.googlecode.paradox.planner.filter.Predicate;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link MergeJoinCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class MergeJoinCursorTest {
+
+    /**
+     * Joins the test inputs with a merge join and a hash join.
+     *
+     * @param left      the left row count.
+     * @param right     the right distinct key count.
+     * @param type      the join type.
+     * @param condition the other condition.
+     * @param merge     if a merge join is used.
+     * @return the joined rows.
+     * @throws SQLException in case of errors.
+     */
+    private static List<List<FieldValue>> join(final int left, final int right, final JoinType type,
+            final Predicate condition, final boolean merge) throws SQLException {
+        final JoinInput leftInput = JoinTestUtil.left(left);
+        final JoinInput rightInput = JoinTestUtil.right(right, 2);
+        if (merge) {
+            return JoinTestUtil.read(new MergeJoinCursor(leftInput, rightInput, JoinTestUtil.keys(), type,
+                    condition));
+        }
+        return JoinTestUtil.read(new HashJoinCursor(leftInput, rightInput, JoinTestUtil.keys(), type, condition,
+                Long.MAX_VALUE));
+    }
+
+    /**
+     * Gets the rows as text, in a fixed order.
+     *
+     * @param rows the rows.
+     * @return the sorted row text.
+     */
+    private static List<String> format(final List<List<FieldValue>> rows) {
+        final List<String> text = new ArrayList<>();
+        for (final List<FieldValue> row : rows) {
+            final StringBuilder builder = new StringBuilder();
+            for (final FieldValue value : row) {
+                builder.append(value.getValue()).append('|');
+            }
+            text.add(builder.toString());
+        }
+        Collections.sort(text);
+        return text;
+    }
+
+    /**
+     * Test for the join types with repeated right keys, against the hash join.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testJoinTypes() throws SQLException {
+        for (final JoinType type : JoinType.values()) {
+            if (type == JoinType.CROSS) {
+                continue;
+            }
+            final List<List<FieldValue>> merged = MergeJoinCursorTest.join(10, 8, type, null, true);
+            final List<List<FieldValue>> hashed = MergeJoinCursorTest.join(10, 8, type, null, false);
+            Assert.assertEquals("Invalid rows for " + type, MergeJoinCursorTest.format(hashed),
+                    MergeJoinCursorTest.format(merged));
+        }
+        Assert.assertEquals("Invalid INNER count.", 10, MergeJoinCursorTest.join(10, 8, JoinType.INNER, null, true)
+                .size());
+        Assert.assertEquals("Invalid FULL count.", 22, MergeJoinCursorTest.join(10, 8, JoinType.FULL, null, true)
+                .size());
+    }
+
+    /**
+     * Test for the other ON conditions checked on the joined rows.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testCondition() throws SQLException {
+        final Predicate condition = new LongPredicate(0, CompareOperator.LESS_THAN, 4);
+        for (final JoinType type : Arrays.asList(JoinType.INNER, JoinType.LEFT, JoinType.RIGHT, JoinType.FULL)) {
+            Assert.assertEquals("Invalid rows for " + type,
+                    MergeJoinCursorTest.format(MergeJoinCursorTest.join(10, 8, type, condition, false)),
+                    MergeJoinCursorTest.format(MergeJoinCursorTest.join(10, 8, type, condition, true)));
+        }
+    }
+
+    /**
+     * Test for an input out of key order.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testOutOfOrder() throws SQLException {
+        final JoinKeys keys = new JoinKeys();
+        keys.add(0, Types.INTEGER, 0, Types.INTEGER);
+        final List<List<FieldValue>> left = new ArrayList<>();
+        left.add(Collections.singletonList(new FieldValue(2, Types.INTEGER)));
+        left.add(Collections.singletonList(new FieldValue(1, Types.INTEGER)));
+        final FieldValue[] nulls = {new FieldValue(Types.INTEGER)};
+        try (MergeJoinCursor cursor = new MergeJoinCursor(JoinTestUtil.input(left, nulls),
+                JoinTestUtil.input(left, nulls), keys, JoinType.INNER, null)) {
+            while (cursor.next()) {
+                Assert.assertNotNull("Invalid row.", cursor.getRow());
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * ExternalSortCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sort;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link ExternalSortCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class ExternalSortCursorTest {
+
+    /**
+     * Creates rows with a repeated key and the source position.
+     *
+     * @param count the row count.
+     * @return the rows.
+     */
+    private static List<List<FieldValue>> rows(final int count) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Arrays.asList(new FieldValue("key" + ((i * 7) % 13), Types.VARCHAR),
+                    new FieldValue(i, Types.INTEGER)));
+        }
+        return rows;
+    }
+
+    /**
+     * Sorts the test rows by key.
+     *
+     * @param count  the row count.
+     * @param budget the memory budget.
+     * @return the sorted rows.
+     * @throws SQLException in case of errors.
+     */
+    private static List<List<FieldValue>> sort(final int count, final long budget) throws SQLException {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        try (ExternalSortCursor cursor = new ExternalSortCursor(new ListRowCursor(ExternalSortCursorTest.rows(count)),
+                new RowComparator(new int[]{0}, new boolean[]{false}), budget)) {
+            while (cursor.next()) {
+                rows.add(cursor.getRow());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Checks that the rows are in key order, keeping the source order for equal keys.
+     *
+     * @param rows the sorted rows.
+     */
+    private static void assertSorted(final List<List<FieldValue>> rows) {
+        for (int i = 1; i < rows.size(); i++) {
+            final String previous = (String) rows.get(i - 1).get(0).getValue();
+            final String current = (String) rows.get(i).get(0).getValue();
+            final int comparison = previous.compareTo(current);
+            Assert.assertTrue("Rows out of order.", comparison <= 0);
+            if (comparison == 0) {
+                Assert.assertTrue("Sort not stable.", (Integer) rows.get(i - 1).get(1).getValue()
+                        < (Integer) rows.get(i).get(1).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for a sort in memory.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testMemory() throws SQLException {
+        final List<List<FieldValue>> rows = ExternalSortCursorTest.sort(1000, Long.MAX_VALUE);
+        Assert.assertEquals("Invalid row count.", 1000, rows.size());
+        ExternalSortCursorTest.assertSorted(rows);
+    }
+
+    /**
+     * Test for a sort with runs in temporary files, merged in more than one pass.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSpill() throws SQLException {
+        final List<List<FieldValue>> rows = ExternalSortCursorTest.sort(1000, 1024);
+        Assert.assertEquals("Invalid row count.", 1000, rows.size());
+        ExternalSortCursorTest.assertSorted(rows);
+
+        final List<List<FieldValue>> single = ExternalSortCursorTest.sort(ExternalSortCursor.MAX_MERGE * 3, 1);
+        Assert.assertEquals("Invalid row count.", ExternalSortCursor.MAX_MERGE * 3, single.size());
+        ExternalSortCursorTest.assertSorted(single);
+    }
+
+    /**
+     * Test for reading the sorted rows again.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        try (ExternalSortCursor cursor = new ExternalSortCursor(new ListRowCursor(ExternalSortCursorTest.rows(100)),
+                new RowComparator(new int[]{0}, new boolean[]{true}), 512)) {
+            Assert.assertTrue("No rows.", cursor.next());
+            Assert.assertTrue("No runs written.", cursor.getRunCount() > 0);
+            final List<FieldValue> first = cursor.getRow();
+            int count = 1;
+            while (cursor.next()) {
+                count++;
+            }
+            Assert.assertEquals("Invalid row count.", 100, count);
+
+            cursor.reset();
+            Assert.assertTrue("No rows after reset.", cursor.next());
+            Assert.assertEquals("Invalid first row.", first.get(1).getValue(), cursor.getRow().get(1).getValue());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * RowComparatorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sort;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link RowComparator}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class RowComparatorTest {
+
+    /**
+     * Creates a row.
+     *
+     * @param name  the name value.
+     * @param value the number value.
+     * @return the row.
+     */
+    private static List<FieldValue> row(final String name, final Long value) {
+        return Arrays.asList(new FieldValue(name, Types.VARCHAR), new FieldValue(value, Types.BIGINT));
+    }
+
+    /**
+     * Test for multiple columns in mixed directions.
+     */
+    @Test
+    public void testMixedDirections() {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        rows.add(row("b", 1L));
+        rows.add(row("A", 1L));
+        rows.add(row("a", 2L));
+        rows.add(row("c", 3L));
+        Collections.sort(rows, new RowComparator(new int[]{0, 1}, new boolean[]{false, true}));
+
+        Assert.assertEquals("Invalid first row.", 2L, rows.get(0).get(1).getValue());
+        Assert.assertEquals("Invalid second row.", "A", rows.get(1).get(0).getValue());
+        Assert.assertEquals("Invalid third row.", "b", rows.get(2).get(0).getValue());
+        Assert.assertEquals("Invalid last row.", "c", rows.get(3).get(0).getValue());
+    }
+
+    /**
+     * Test for null values.
+     */
+    @Test
+    public void testNullsFirst() {
+        final FieldValue empty = new FieldValue(Types.INTEGER);
+        final FieldValue value = new FieldValue(1, Types.INTEGER);
+        Assert.assertTrue("Invalid null order.", RowComparator.compareValues(empty, value) < 0);
+        Assert.assertTrue("Invalid null order.", RowComparator.compareValues(value, empty) > 0);
+        Assert.assertEquals("Invalid null order.", 0, RowComparator.compareValues(empty, new FieldValue(Types.INTEGER)));
+    }
+
+    /**
+     * Test for numbers of different types.
+     */
+    @Test
+    public void testNumbers() {
+        Assert.assertTrue("Invalid number order.", RowComparator.compareValues(new FieldValue(2, Types.INTEGER),
+                new FieldValue(2.5D, Types.DOUBLE)) < 0);
+        Assert.assertTrue("Invalid number order.", RowComparator.compareValues(new FieldValue(10L, Types.BIGINT),
+                new FieldValue(9, Types.INTEGER)) > 0);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * TopNCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.sort;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.ListRowCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link TopNCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class TopNCursorTest {
+
+    /**
+     * Creates rows with a repeated key and the source position.
+     *
+     * @param count the row count.
+     * @return the rows.
+     */
+    private static List<List<FieldValue>> rows(final int count) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Arrays.asList(new FieldValue((i * 7) % 13, Types.INTEGER), new FieldValue(i, Types.INTEGER)));
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the first rows with a top N cursor.
+     *
+     * @param count the row count.
+     * @param limit the number of rows to keep.
+     * @return the rows read.
+     * @throws SQLException in case of errors.
+     */
+    private static List<List<FieldValue>> top(final int count, final int limit) throws SQLException {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        try (TopNCursor cursor = new TopNCursor(new ListRowCursor(TopNCursorTest.rows(count)),
+                new RowComparator(new int[]{0}, new boolean[]{true}), limit)) {
+            while (cursor.next()) {
+                rows.add(cursor.getRow());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Test for the first rows against a full stable sort.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testFirstRows() throws SQLException {
+        final List<List<FieldValue>> expected = new ArrayList<>(TopNCursorTest.rows(500));
+        Collections.sort(expected, new RowComparator(new int[]{0}, new boolean[]{true}));
+        for (final int limit : new int[]{1, 10, 77, 500, 1000}) {
+            final List<List<FieldValue>> rows = TopNCursorTest.top(500, limit);
+            Assert.assertEquals("Invalid row count.", Math.min(limit, 500), rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Assert.assertEquals("Invalid row.", expected.get(i).get(1).getValue(), rows.get(i).get(1).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for reading the rows again.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        try (TopNCursor cursor = new TopNCursor(new ListRowCursor(TopNCursorTest.rows(50)),
+                new RowComparator(new int[]{0}, new boolean[]{false}), 3)) {
+            Assert.assertTrue("No rows.", cursor.next());
+            final Object first = cursor.getRow().get(1).getValue();
+            cursor.reset();
+            Assert.assertTrue("No rows after reset.", cursor.next());
+            Assert.assertEquals("Invalid first row.", first, cursor.getRow().get(1).getValue());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SpillFileTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.spill;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.rowset.RowCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link SpillFile}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class SpillFileTest {
+
+    /**
+     * Test for writing and reading all value types.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testValues() throws SQLException {
+        final Object reference = new Object();
+        final Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123);
+        final List<FieldValue> row = Arrays.asList(new FieldValue(Types.VARCHAR), new FieldValue(1, Types.INTEGER),
+                new FieldValue(2L, Types.BIGINT), new FieldValue(3.5, Types.DOUBLE),
+                new FieldValue(Boolean.TRUE, Types.BOOLEAN), new FieldValue("text ç", Types.VARCHAR),
+                new FieldValue(new Date(86400000L), Types.DATE), new FieldValue(new Time(3600000L), Types.TIME),
+                new FieldValue(timestamp, Types.TIMESTAMP), new FieldValue(reference, Types.CLOB), null);
+
+        try (SpillFile file = new SpillFile()) {
+            file.write(row);
+            Assert.assertEquals("Invalid row count.", 1, file.getRowCount());
+            final RowCursor cursor = file.openCursor();
+            Assert.assertTrue("No rows.", cursor.next());
+            final List<FieldValue> read = cursor.getRow();
+            Assert.assertEquals("Invalid row size.", row.size(), read.size());
+            for (int i = 0; i < row.size() - 1; i++) {
+                Assert.assertEquals("Invalid type.", row.get(i).getType(), read.get(i).getType());
+                Assert.assertEquals("Invalid value.", row.get(i).getValue(), read.get(i).getValue());
+            }
+            Assert.assertSame("Invalid reference.", reference, read.get(9).getValue());
+            Assert.assertNull("Invalid absent value.", read.get(10));
+            Assert.assertFalse("Too many rows.", cursor.next());
+        }
+    }
+
+    /**
+     * Test for reading the rows again.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        try (SpillFile file = new SpillFile()) {
+            for (int i = 0; i < 100; i++) {
+                file.write(Arrays.asList(new FieldValue(i, Types.INTEGER)));
+            }
+            final RowCursor cursor = file.openCursor();
+            int count = 0;
+            while (cursor.next()) {
+                Assert.assertEquals("Invalid row order.", count, cursor.getRow().get(0).getValue());
+                count++;
+            }
+            Assert.assertEquals("Invalid row count.", 100, count);
+            cursor.reset();
+            Assert.assertTrue("No rows after reset.", cursor.next());
+            Assert.assertEquals("Invalid first row.", 0, cursor.getRow().get(0).getValue());
+        }
+    }
+
+    /**
+     * Test for writing after reading.
+     *
+     * @throws SQLException if there are no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testWriteAfterRead() throws SQLException {
+        try (SpillFile file = new SpillFile()) {
+            file.openCursor();
+            file.write(Arrays.asList(new FieldValue(1, Types.INTEGER)));
+        }
+    }
+}
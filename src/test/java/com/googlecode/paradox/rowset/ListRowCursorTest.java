@@ -0,0 +1,61 @@
+/*
+ * ListRowCursorTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link ListRowCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class ListRowCursorTest {
+
+    /**
+     * Test for an empty list.
+     */
+    @Test
+    public void testEmpty() {
+        final ListRowCursor cursor = new ListRowCursor(Collections.<List<FieldValue>>emptyList());
+        Assert.assertFalse("Invalid row.", cursor.next());
+        Assert.assertNull("Invalid row value.", cursor.getRow());
+    }
+
+    /**
+     * Test for navigation and reset.
+     */
+    @Test
+    public void testNavigation() {
+        final List<List<FieldValue>> values = new ArrayList<>();
+        values.add(Collections.singletonList(new FieldValue("1", Types.VARCHAR)));
+        values.add(Collections.singletonList(new FieldValue("2", Types.VARCHAR)));
+
+        final ListRowCursor cursor = new ListRowCursor(values);
+        Assert.assertNull("Row before first.", cursor.getRow());
+        Assert.assertTrue("First row.", cursor.next());
+        Assert.assertEquals("First value.", "1", cursor.getRow().get(0).getValue());
+        Assert.assertTrue("Second row.", cursor.next());
+        Assert.assertFalse("After last.", cursor.next());
+        Assert.assertFalse("After last again.", cursor.next());
+        Assert.assertNull("Row after last.", cursor.getRow());
+
+        cursor.reset();
+        Assert.assertTrue("First row after reset.", cursor.next());
+        Assert.assertEquals("First value after reset.", "1", cursor.getRow().get(0).getValue());
+    }
+}
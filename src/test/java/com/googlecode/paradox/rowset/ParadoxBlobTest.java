@@ -0,0 +1,152 @@
+/*
+ * ParadoxBlobTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.rowset;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link ParadoxBlob} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class ParadoxBlobTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws SQLException in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws SQLException {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws SQLException in case of connection errors.
+     */
+    @Before
+    public void connect() throws SQLException {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Gets the first blob stored in MB file.
+     *
+     * @return the blob descriptor.
+     * @throws SQLException in case of failures.
+     */
+    private BlobDescriptor getDescriptor() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "hercules.db", this.conn)
+                .get(0);
+        for (final List<FieldValue> row : TableData.loadData(table, table.getFields())) {
+            for (final FieldValue value : row) {
+                if ((value.getValue() instanceof BlobDescriptor)
+                        && (((BlobDescriptor) value.getValue()).getOffset() != 0)) {
+                    return (BlobDescriptor) value.getValue();
+                }
+            }
+        }
+        throw new AssertionError("No blob in MB file.");
+    }
+
+    /**
+     * Test for the stream and byte ranges.
+     *
+     * @throws SQLException in case of failures.
+     * @throws IOException  in case of I/O errors.
+     */
+    @Test
+    public void testStream() throws SQLException, IOException {
+        final BlobDescriptor descriptor = this.getDescriptor();
+        final byte[] expected = descriptor.getFile().read(descriptor.getOffset());
+        final ParadoxBlob blob = new ParadoxBlob(descriptor);
+        Assert.assertEquals("Invalid length.", expected.length, blob.length());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = blob.getBinaryStream()) {
+            final byte[] buffer = new byte[10];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+        }
+        Assert.assertArrayEquals("Invalid stream.", expected, out.toByteArray());
+        Assert.assertArrayEquals("Invalid bytes.", Arrays.copyOfRange(expected, 5, 15), blob.getBytes(6, 10));
+
+        try (InputStream in = blob.getBinaryStream(2, 3)) {
+            Assert.assertEquals("Invalid byte.", expected[1] & 0xFF, in.read());
+            Assert.assertEquals("Invalid skip.", 1, in.skip(1));
+            Assert.assertEquals("Invalid byte.", expected[3] & 0xFF, in.read());
+            Assert.assertEquals("Invalid end of stream.", -1, in.read());
+        }
+    }
+
+    /**
+     * Test for truncate.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testTruncate() throws SQLException {
+        final ParadoxBlob blob = new ParadoxBlob(this.getDescriptor());
+        blob.truncate(5);
+        Assert.assertEquals("Invalid length.", 5, blob.length());
+    }
+
+    /**
+     * Test for an invalid range.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidRange() throws SQLException {
+        final ParadoxBlob blob = new ParadoxBlob(this.getDescriptor());
+        blob.getBytes(blob.length(), 2);
+    }
+}
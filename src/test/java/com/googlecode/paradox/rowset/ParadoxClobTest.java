@@ -397,4 +397,75 @@ public class ParadoxClobTest {
             Assert.assertEquals("Testing for truncate.", 0, clob.length());
         }
     }
+
+    /**
+     * Test for a substring read from the middle of a value in MB file.
+     *
+     * @throws SQLException in case of failures.
+     * @throws IOException  in case of I/O errors.
+     */
+    @Test
+    public void testSubStringFromFile() throws SQLException, IOException {
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT html FROM hercules")) {
+            while (rs.next()) {
+                final Clob clob = rs.getClob("html");
+                if ((clob == null) || (clob.length() < 20)) {
+                    continue;
+                }
+
+                final StringBuilder full = new StringBuilder();
+                try (BufferedReader reader = new BufferedReader(clob.getCharacterStream())) {
+                    final char[] buffer = new char[7];
+                    int count;
+                    while ((count = reader.read(buffer)) != -1) {
+                        full.append(buffer, 0, count);
+                    }
+                }
+                Assert.assertEquals("Invalid length.", clob.length(), full.length());
+                Assert.assertEquals("Invalid substring.", full.substring(10, 20), clob.getSubString(11, 10));
+            }
+        }
+    }
+
+    /**
+     * Test for streams over the ResultSet.
+     *
+     * @throws SQLException in case of failures.
+     * @throws IOException  in case of I/O errors.
+     */
+    @Test
+    public void testResultSetStreams() throws SQLException, IOException {
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            Assert.assertTrue("First record not exists", rs.next());
+            try (BufferedReader reader = new BufferedReader(rs.getCharacterStream("comments"))) {
+                Assert.assertEquals("Testing for character stream.", "Sma", reader.readLine().substring(0, 3));
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(rs.getAsciiStream(1)))) {
+                Assert.assertEquals("Testing for ascii stream.", "Sma", reader.readLine().substring(0, 3));
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Clob#free()} keeping the other rows readable.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testFreeSharedTable() throws SQLException {
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT html FROM hercules")) {
+            Assert.assertTrue("First record not exists", rs.next());
+            final Clob first = rs.getClob("html");
+            Assert.assertTrue("Second record not exists", rs.next());
+            final Clob second = rs.getClob("html");
+            Assert.assertNotSame("Same clob in other row.", first, second);
+            final long length = second.length();
+
+            first.free();
+            Assert.assertEquals("Invalid length after free.", length, second.getSubString(1, (int) length).length());
+        }
+    }
 }
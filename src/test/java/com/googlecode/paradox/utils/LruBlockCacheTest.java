@@ -0,0 +1,79 @@
+/*
+ * LruBlockCacheTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Unit test for {@link LruBlockCache} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class LruBlockCacheTest {
+
+    /**
+     * Creates a block.
+     *
+     * @param address the block address.
+     * @param size    the value size.
+     * @return the block.
+     */
+    private static ClobBlock block(final long address, final int size) {
+        return new ClobBlock(2, new BlockOffset(address, 0), new byte[size]);
+    }
+
+    /**
+     * Test for least recently used eviction by bytes.
+     */
+    @Test
+    public void testEviction() {
+        final LruBlockCache cache = new LruBlockCache(100);
+        cache.add(Arrays.asList(block(0x1000, 40), block(0x2000, 40)));
+        Assert.assertNotNull("Block not cached.", cache.get(new BlockOffset(0x1000, 0)));
+
+        cache.add(Collections.singletonList(block(0x3000, 40)));
+        Assert.assertEquals("Invalid cache size.", 80, cache.getSize());
+        Assert.assertNull("Least recently used block not evicted.", cache.get(new BlockOffset(0x2000, 0)));
+        Assert.assertNotNull("Recently used block evicted.", cache.get(new BlockOffset(0x1000, 0)));
+        Assert.assertNotNull("New block evicted.", cache.get(new BlockOffset(0x3000, 0)));
+
+        Assert.assertEquals("Invalid hits.", 3, cache.getHits());
+        Assert.assertEquals("Invalid misses.", 1, cache.getMisses());
+    }
+
+    /**
+     * Test for a block larger than the cache.
+     */
+    @Test
+    public void testLargeBlock() {
+        final LruBlockCache cache = new LruBlockCache(100);
+        cache.add(Collections.singletonList(block(0x1000, 40)));
+        cache.add(Collections.singletonList(block(0x2000, 200)));
+        Assert.assertEquals("Invalid cache size.", 40, cache.getSize());
+        Assert.assertNull("Large block cached.", cache.get(new BlockOffset(0x2000, 0)));
+    }
+
+    /**
+     * Test for cache close.
+     */
+    @Test
+    public void testClose() {
+        final LruBlockCache cache = new LruBlockCache(100);
+        cache.add(Collections.singletonList(block(0x1000, 40)));
+        cache.close();
+        Assert.assertEquals("Invalid cache size.", 0, cache.getSize());
+        Assert.assertNull("Block after close.", cache.get(new BlockOffset(0x1000, 0)));
+    }
+}
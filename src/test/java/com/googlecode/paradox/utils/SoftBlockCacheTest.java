@@ -0,0 +1,55 @@
+/*
+ * SoftBlockCacheTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * Unit test for {@link SoftBlockCache} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class SoftBlockCacheTest {
+
+    /**
+     * Test for cached blocks and counters.
+     */
+    @Test
+    public void testGet() {
+        final SoftBlockCache cache = new SoftBlockCache();
+        final ClobBlock block = new ClobBlock(2, new BlockOffset(0x1000, 0), new byte[10]);
+        cache.add(Collections.singletonList(block));
+
+        Assert.assertSame("Block not cached.", block, cache.get(new BlockOffset(0x1000, 0)));
+        Assert.assertNull("Invalid block.", cache.get(new BlockOffset(0x1000, 1)));
+        Assert.assertEquals("Invalid hits.", 1, cache.getHits());
+        Assert.assertEquals("Invalid misses.", 1, cache.getMisses());
+
+        cache.close();
+        Assert.assertNull("Block after close.", cache.get(new BlockOffset(0x1000, 0)));
+    }
+
+    /**
+     * Test for the cache type names.
+     *
+     * @throws Exception in case of failures.
+     */
+    @Test
+    public void testCacheType() throws Exception {
+        Assert.assertTrue("Invalid cache.", BlobCacheType.fromName(" soft ").create(0) instanceof SoftBlockCache);
+        Assert.assertTrue("Invalid cache.", BlobCacheType.fromName("LRU").create(0) instanceof LruBlockCache);
+        Assert.assertTrue("Invalid cache.", BlobCacheType.fromName("none").create(0) instanceof NoBlockCache);
+        Assert.assertTrue("Invalid cache.", BlobCacheType.fromName("all").create(0) instanceof AllBlockCache);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * StringDecoderTest.java 10/17/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Unit test for {@link StringDecoder}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class StringDecoderTest {
+
+    /**
+     * Test for sanity.
+     *
+     * @throws NoSuchMethodException     in case of errors.
+     * @throws InstantiationException    in case of errors.
+     * @throws IllegalAccessException    in case of errors.
+     * @throws InvocationTargetException in case of errors.
+     */
+    @Test
+    public void testSanity()
+    throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        Assert.assertTrue("Utility class in wrong format.", TestUtil.assertUtilityClassWellDefined(StringDecoder.class));
+    }
+
+    /**
+     * Test if the char tables match the charset decoding for all byte values.
+     */
+    @Test
+    public void testSingleByteTables() {
+        final byte[] all = new byte[256];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = (byte) i;
+        }
+
+        for (final String name : new String[]{"Cp437", "Cp850", "Cp1252", "Cp1251"}) {
+            final Charset charset = Charset.forName(name);
+            Assert.assertNotNull("No table for " + name, StringDecoder.getTable(charset));
+            final String expected = new String(all, 1, 255, charset);
+            final ByteBuffer buffer = ByteBuffer.wrap(all);
+            buffer.get();
+            Assert.assertEquals("Invalid decoding for " + name, expected,
+                    StringDecoder.decode(buffer, 255, charset));
+        }
+    }
+
+    /**
+     * Test for multi byte charsets.
+     */
+    @Test
+    public void testMultiByte() {
+        final Charset charset = Charset.forName("UTF-8");
+        Assert.assertNull("Table for multi byte charset.", StringDecoder.getTable(charset));
+
+        final byte[] value = "ação".getBytes(charset);
+        final ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.put(value);
+        buffer.rewind();
+        Assert.assertEquals("Invalid value.", "ação", StringDecoder.decode(buffer, 20, charset));
+    }
+
+    /**
+     * Test for trailing zeros and buffer position.
+     */
+    @Test
+    public void testTrailingZeros() {
+        final Charset charset = Charset.forName("Cp1252");
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{'a', 0, 'b', 0, 0, 'c'});
+        Assert.assertEquals("Invalid value.", "a\u0000b", StringDecoder.decode(buffer, 5, charset));
+        Assert.assertEquals("Invalid position.", 5, buffer.position());
+        Assert.assertEquals("Invalid empty value.", "", StringDecoder.decode(ByteBuffer.allocate(3), 3, charset));
+    }
+}